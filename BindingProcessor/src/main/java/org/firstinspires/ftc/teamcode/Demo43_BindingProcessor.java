@@ -0,0 +1,323 @@
+/**
+ * ------------------------------------------------------------
+ *  FGC Team Australia 2025  |  FIRST Global Challenge
+ * ------------------------------------------------------------
+ *  Project: FGC101 - Java Demo Series
+ *  File:    Demo43_BindingProcessor.java
+ *
+ *  Description:
+ *  This demo is part of the FGC101 video series created by
+ *  FGC Team Australia 2025. Our goal is to help rookie teams
+ *  understand programming logic and competition strategy
+ *  through short, simple examples.
+ *
+ *  Playlist: https://www.youtube.com/playlist?list=PL-29lId0PJrVEo0yJyprGheyRtR-ReDET
+ *  Author:   Muyao Zhang (from FGC Team Australia)
+ *  Date:     October 2025
+ *
+ *  Notes:
+ *  - We currently provide around 15 demo programs.
+ *  - These Java demos are not continuously updated.
+ *  - For detailed explanations, please refer to the FGC101 videos.
+ *
+ *  © FGC Team Australia 2025 | Educational Use Only
+ * ------------------------------------------------------------
+ */
+
+package org.firstinspires.ftc.teamcode;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.NodeList;
+
+/**
+ * Demo 43 (part 2 of 4, compiler plugin): Hardware Binding Processor
+ *
+ * Knowledge Point: Let the COMPILER write (and check) the init code
+ *
+ * Every demo starts with lines like
+ *
+ *   bl = hardwareMap.get(DcMotor.class, "bl");
+ *   bl.setDirection(DcMotor.Direction.REVERSE);
+ *
+ * Nine devices means nine string lookups and a pile of setter calls,
+ * and a typo in "bl" only shows up when you press INIT on the robot.
+ *
+ * This annotation processor runs INSIDE javac. For every class with
+ * &#64;Demo43_Device fields it:
+ * 1. Checks the fields: not private/static/final, no empty or
+ *    duplicated names, motor-only settings only on DcMotor fields,
+ *    direction only on motors and CR servos
+ * 2. Optionally checks every name against the robot configuration
+ *    XML exported from the Robot Controller (-Aftc.hardwareConfig=FILE):
+ *    a missing name or a servo on a motor field is a COMPILE ERROR
+ * 3. Generates &lt;Class&gt;Binder.java with one straight-line bind()
+ *    method: all lookups first (so a missing device fails before
+ *    anything moves), then only the settings that were written
+ *
+ * The generated code is plain Java - no reflection in bind(), and
+ * nothing to read from annotations at INIT. OpModes call the generated
+ * bind() directly, so TeamCode does not build without this processor:
+ * wiring it in is part of the build, not an option.
+ *
+ * This processor uses javax.annotation.processing, which Android does
+ * not have, so it lives in its OWN Java library module and never goes
+ * into TeamCode. It must be wired into TeamCode's build:
+ *
+ *   BindingProcessor/                   (this module)
+ *   settings.gradle:                    include ':BindingProcessor'
+ *   TeamCode/build.gradle dependencies: annotationProcessor project(':BindingProcessor')
+ *   optional name check, TeamCode/build.gradle android.defaultConfig:
+ *     javaCompileOptions.annotationProcessorOptions.arguments = ['ftc.hardwareConfig': file('robot.xml').path]
+ *
+ * Or on a laptop with plain javac:
+ *
+ *   javac -d proc BindingProcessor/src/main/java/org/firstinspires/ftc/teamcode/Demo43_BindingProcessor.java
+ *   javac -processorpath proc -processor org.firstinspires.ftc.teamcode.Demo43_BindingProcessor \
+ *         -Aftc.hardwareConfig=robot.xml -d out *.java
+ */
+public class Demo43_BindingProcessor extends AbstractProcessor {
+
+    static final String ANNOTATION = "org.firstinspires.ftc.teamcode.Demo43_Device";
+    static final String CONFIG_OPTION = "ftc.hardwareConfig";
+
+    private static final String HARDWARE = "com.qualcomm.robotcore.hardware.";
+    private static final String DC_MOTOR = HARDWARE + "DcMotor";
+    private static final String DC_MOTOR_SIMPLE = HARDWARE + "DcMotorSimple";
+
+    // Config name → XML tag (e.g. "bl" → "goBILDA5202SeriesMotor"), null = no config given
+    private Map<String, String> configuredDevices;
+    private boolean configLoaded = false;
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return java.util.Collections.singleton(ANNOTATION);
+    }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        return java.util.Collections.singleton(CONFIG_OPTION);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        TypeElement annotation = processingEnv.getElementUtils().getTypeElement(ANNOTATION);
+        if (annotation == null) return false;
+        if (!configLoaded) loadConfig();
+
+        // Group annotated fields by their class, in source order
+        Map<TypeElement, List<VariableElement>> byClass = new LinkedHashMap<>();
+        for (Element element : round.getElementsAnnotatedWith(annotation)) {
+            if (element.getKind() != ElementKind.FIELD) continue;
+            TypeElement owner = (TypeElement) element.getEnclosingElement();
+            byClass.computeIfAbsent(owner, k -> new ArrayList<>()).add((VariableElement) element);
+        }
+        for (Map.Entry<TypeElement, List<VariableElement>> entry : byClass.entrySet()) {
+            generateBinder(entry.getKey(), entry.getValue());
+        }
+        return true;
+    }
+
+    /**
+     * Read every element with a name="..." attribute from the robot
+     * configuration XML. No option given = skip the name check.
+     */
+    private void loadConfig() {
+        configLoaded = true;
+        String path = processingEnv.getOptions().get(CONFIG_OPTION);
+        if (path == null) return;
+        try {
+            Document doc = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new File(path));
+            NodeList all = doc.getElementsByTagName("*");
+            configuredDevices = new HashMap<>();
+            for (int i = 0; i < all.getLength(); i++) {
+                org.w3c.dom.Element e = (org.w3c.dom.Element) all.item(i);
+                if (e.hasAttribute("name")) configuredDevices.put(e.getAttribute("name"), e.getTagName());
+            }
+        } catch (Exception e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Can't read hardware config " + path + ": " + e.getMessage());
+        }
+    }
+
+    private void generateBinder(TypeElement owner, List<VariableElement> fields) {
+        Messager messager = processingEnv.getMessager();
+        if (owner.getNestingKind() != NestingKind.TOP_LEVEL) {
+            messager.printMessage(Diagnostic.Kind.ERROR,
+                    "@Demo43_Device fields must be in a top-level class", owner);
+            return;
+        }
+
+        StringBuilder lookups = new StringBuilder();
+        StringBuilder setup = new StringBuilder();
+        StringBuilder names = new StringBuilder();
+        Map<String, VariableElement> seen = new HashMap<>();
+        boolean ok = true;
+
+        for (VariableElement field : fields) {
+            Set<Modifier> modifiers = field.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.STATIC)
+                    || modifiers.contains(Modifier.FINAL)) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                        "@Demo43_Device field must not be private, static or final", field);
+                ok = false;
+                continue;
+            }
+
+            AnnotationMirror mirror = findAnnotation(field);
+            Map<String, AnnotationValue> values = explicitValues(mirror);
+            String name = String.valueOf(values.get("value").getValue());
+            String fieldName = field.getSimpleName().toString();
+            TypeMirror type = processingEnv.getTypeUtils().erasure(field.asType());
+            boolean isMotor = isSubtype(type, DC_MOTOR);
+            boolean isMotorSimple = isSubtype(type, DC_MOTOR_SIMPLE);
+
+            // ═══ Name checks ═══
+            if (name.isEmpty() || !name.trim().equals(name)) {
+                error(field, mirror, "Device name \"" + name + "\" is empty or has extra spaces");
+                ok = false;
+            } else if (seen.containsKey(name)) {
+                error(field, mirror, "Device name \"" + name + "\" is already used by field "
+                        + seen.get(name).getSimpleName());
+                ok = false;
+            } else if (configuredDevices != null && !configuredDevices.containsKey(name)) {
+                error(field, mirror, "No device named \"" + name + "\" in the robot configuration");
+                ok = false;
+            } else if (configuredDevices != null) {
+                boolean configIsServo = configuredDevices.get(name).contains("Servo");
+                boolean fieldIsServo = type.toString().endsWith("Servo");
+                if (isMotor && configIsServo || fieldIsServo && !configIsServo) {
+                    error(field, mirror, "\"" + name + "\" is a " + configuredDevices.get(name)
+                            + " in the robot configuration, but the field is " + type);
+                    ok = false;
+                }
+            }
+            seen.put(name, field);
+
+            // ═══ Setting checks ═══
+            for (String setting : new String[]{"zeroPower", "resetEncoder", "mode"}) {
+                if (values.containsKey(setting) && !isMotor) {
+                    error(field, mirror, setting + " only applies to DcMotor fields, not " + type);
+                    ok = false;
+                }
+            }
+            if (values.containsKey("direction") && !isMotorSimple) {
+                error(field, mirror, "direction only applies to motors and CR servos, not " + type);
+                ok = false;
+            }
+
+            // ═══ Generated lines ═══
+            lookups.append("        robot.").append(fieldName).append(" = hardwareMap.get(")
+                    .append(type).append(".class, \"").append(name).append("\");\n");
+            if (values.containsKey("direction")) {
+                setup.append("        robot.").append(fieldName).append(".setDirection(")
+                        .append(DC_MOTOR_SIMPLE).append(".Direction.").append(enumName(values.get("direction")))
+                        .append(");\n");
+            }
+            if (values.containsKey("zeroPower")) {
+                setup.append("        robot.").append(fieldName).append(".setZeroPowerBehavior(")
+                        .append(DC_MOTOR).append(".ZeroPowerBehavior.").append(enumName(values.get("zeroPower")))
+                        .append(");\n");
+            }
+            if (values.containsKey("resetEncoder") && Boolean.TRUE.equals(values.get("resetEncoder").getValue())) {
+                setup.append("        robot.").append(fieldName).append(".setMode(")
+                        .append(DC_MOTOR).append(".RunMode.STOP_AND_RESET_ENCODER);\n");
+            }
+            if (values.containsKey("mode")) {
+                setup.append("        robot.").append(fieldName).append(".setMode(")
+                        .append(DC_MOTOR).append(".RunMode.").append(enumName(values.get("mode")))
+                        .append(");\n");
+            }
+            names.append(names.length() == 0 ? "" : ", ").append('"').append(name).append('"');
+        }
+        if (!ok) return;
+
+        String packageName = processingEnv.getElementUtils().getPackageOf(owner).getQualifiedName().toString();
+        String ownerName = owner.getSimpleName().toString();
+        String binderName = ownerName + "Binder";
+        String source = "// Generated by Demo43_BindingProcessor from " + ownerName + " - do not edit.\n"
+                + (packageName.isEmpty() ? "" : "package " + packageName + ";\n\n")
+                + "public final class " + binderName + " {\n\n"
+                + "    /** Configuration names, in field order */\n"
+                + "    public static final String[] DEVICE_NAMES = {" + names + "};\n\n"
+                + "    private " + binderName + "() { }\n\n"
+                + "    public static void bind(" + ownerName + " robot, com.qualcomm.robotcore.hardware.HardwareMap hardwareMap) {\n"
+                + "        // Look up every device first: a missing one fails before anything moves\n"
+                + lookups
+                + "\n"
+                + "        // Only the settings written in the annotations\n"
+                + setup
+                + "    }\n"
+                + "}\n";
+
+        String qualified = packageName.isEmpty() ? binderName : packageName + "." + binderName;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualified, owner).openWriter()) {
+            writer.write(source);
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Can't write " + qualified + ": " + e.getMessage(), owner);
+        }
+    }
+
+    private AnnotationMirror findAnnotation(Element field) {
+        for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+            if (mirror.getAnnotationType().toString().equals(ANNOTATION)) return mirror;
+        }
+        throw new IllegalStateException("No @Demo43_Device on " + field);
+    }
+
+    /**
+     * Only the values written in the source - defaults are NOT included,
+     * which is how we know which setters to call
+     */
+    private static Map<String, AnnotationValue> explicitValues(AnnotationMirror mirror) {
+        Map<String, AnnotationValue> values = new HashMap<>();
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> e : mirror.getElementValues().entrySet()) {
+            values.put(e.getKey().getSimpleName().toString(), e.getValue());
+        }
+        return values;
+    }
+
+    private static String enumName(AnnotationValue value) {
+        return ((VariableElement) value.getValue()).getSimpleName().toString();
+    }
+
+    private boolean isSubtype(TypeMirror type, String className) {
+        TypeElement target = processingEnv.getElementUtils().getTypeElement(className);
+        return target != null && processingEnv.getTypeUtils().isAssignable(type, target.asType());
+    }
+
+    private void error(Element field, AnnotationMirror mirror, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, field, mirror);
+    }
+}
@@ -0,0 +1,226 @@
+/**
+ * ------------------------------------------------------------
+ *  FGC Team Australia 2025  |  FIRST Global Challenge
+ * ------------------------------------------------------------
+ *  Project: FGC101 - Java Demo Series
+ *  File:    Demo20_SyncClimb.java
+ *
+ *  Description:
+ *  This demo is part of the FGC101 video series created by
+ *  FGC Team Australia 2025. Our goal is to help rookie teams
+ *  understand programming logic and competition strategy
+ *  through short, simple examples.
+ *
+ *  Playlist: https://www.youtube.com/playlist?list=PL-29lId0PJrVEo0yJyprGheyRtR-ReDET
+ *  Author:   Muyao Zhang (from FGC Team Australia)
+ *  Date:     October 2025
+ *
+ *  Notes:
+ *  - We currently provide around 15 demo programs.
+ *  - These Java demos are not continuously updated.
+ *  - For detailed explanations, please refer to the FGC101 videos.
+ *
+ *  © FGC Team Australia 2025 | Educational Use Only
+ * ------------------------------------------------------------
+ */
+
+package org.firstinspires.ftc.teamcode;
+
+import com.qualcomm.robotcore.eventloop.opmode.TeleOp;
+import com.qualcomm.robotcore.eventloop.opmode.LinearOpMode;
+import com.qualcomm.robotcore.hardware.DcMotor;
+import com.qualcomm.robotcore.util.ElapsedTime;
+
+/**
+ * Demo 20: Synchronized Climb (Cross-Coupled Control)
+ *
+ * Knowledge Point: Keeping two motors together with a cross-coupled controller
+ *
+ * In Demo05 and Demo15 both climb motors get the SAME open-loop power.
+ * Under uneven load one side falls behind and the robot racks (twists).
+ * This demo closes the loop on BOTH encoders:
+ * - A shared target position moves at the driver's commanded speed
+ * - Each side has its own position P + D term towards the shared target
+ * - ⭐ A cross-coupling term pushes the side that is AHEAD back and
+ *   the side that is BEHIND forward, so the sync error goes to zero
+ * - When DPad is released the target freezes and the motors HOLD with
+ *   a small power limit (low current); BRAKE stays set as the passive
+ *   backup for when the power is 0 (e.g. the OpMode stops mid-climb)
+ *
+ * Why This Matters:
+ * - Both hooks reach the bar at the same time
+ * - No racking when one side carries more weight
+ * - Holding with feedback keeps the robot up even if BRAKE slips
+ *
+ * Hardware Required:
+ * - climbleft (left climb motor with encoder)
+ * - climbright (right climb motor with encoder)
+ *
+ * Controls:
+ * - DPad Up: Synchronized climb UP
+ * - DPad Down: Synchronized climb DOWN
+ * - Release: Hold current height (low current)
+ * - Back: Re-zero both encoders (only when robot is on the ground!)
+ *
+ * How to Demonstrate:
+ * 1. Press INIT and START
+ * 2. Hold DPad Up - both sides move at the same speed
+ * 3. Hold one side back with your hand - watch "Sync Error"
+ * 4. The other side slows down to wait for it (cross-coupling)
+ * 5. Release - both sides hold, watch the small "Hold Power"
+ */
+@TeleOp(name="Demo20: Sync Climb", group="Demo")
+public class Demo20_SyncClimb extends LinearOpMode {
+
+    private DcMotor climbleft, climbright;
+
+    // Driver speed command (ticks per second at full DPad)
+    private final double CLIMB_SPEED_UP = 1500.0;
+    private final double CLIMB_SPEED_DOWN = -1500.0;
+
+    // Open-loop feedforward: power needed per tick/sec (1.0 power ≈ 2000 ticks/sec)
+    private final double kV = 1.0 / 2000.0;
+
+    // Position gains towards the shared target (per side)
+    private final double kP = 0.01;
+    private final double kD = 0.0005;
+
+    // ⭐ Cross-coupling gain on the sync error (left - right)
+    private final double kSync = 0.02;
+
+    // Limits
+    private final double HOLD_POWER_LIMIT = 0.35;   // Low current while holding
+    private final double MAX_TARGET_LEAD = 150.0;   // Target can't run away from a stalled climb
+
+    // Controller state
+    private double climbTarget = 0;
+    private int lastLeftPosition = 0;
+    private int lastRightPosition = 0;
+    private boolean holding = true;
+    private boolean lastBackState = false;
+    private ElapsedTime loopTimer = new ElapsedTime();
+
+    @Override
+    public void runOpMode() {
+        // Initialize climb motors (same as Demo05)
+        climbleft = hardwareMap.get(DcMotor.class, "climbleft");
+        climbright = hardwareMap.get(DcMotor.class, "climbright");
+
+        climbleft.setDirection(DcMotor.Direction.FORWARD);
+        climbright.setDirection(DcMotor.Direction.FORWARD);
+
+        // BRAKE only acts at zero power, so it never fights the controller -
+        // but if the OpMode stops while hanging it is all that holds the robot
+        climbleft.setZeroPowerBehavior(DcMotor.ZeroPowerBehavior.BRAKE);
+        climbright.setZeroPowerBehavior(DcMotor.ZeroPowerBehavior.BRAKE);
+
+        resetClimbEncoders();
+
+        telemetry.addData("Status", "Ready");
+        telemetry.addData("Knowledge Point", "Cross-coupled synchronized climb");
+        telemetry.addData("Tip", "Hold one side back and watch the other wait");
+        telemetry.update();
+
+        waitForStart();
+        loopTimer.reset();
+
+        while (opModeIsActive()) {
+            double dt = loopTimer.seconds();
+            loopTimer.reset();
+            if (dt <= 0) dt = 0.001;
+
+            // Back: re-zero encoders (edge detection)
+            boolean currentBackState = gamepad1.back;
+            if (currentBackState && !lastBackState) {
+                resetClimbEncoders();
+            }
+            lastBackState = currentBackState;
+
+            // Read both encoders once per loop
+            int leftPosition = climbleft.getCurrentPosition();
+            int rightPosition = climbright.getCurrentPosition();
+            double leftVelocity = (leftPosition - lastLeftPosition) / dt;
+            double rightVelocity = (rightPosition - lastRightPosition) / dt;
+            lastLeftPosition = leftPosition;
+            lastRightPosition = rightPosition;
+
+            // Driver speed command (same DPad layout as Demo05)
+            boolean dpadUp = gamepad1.dpad_up;
+            boolean dpadDown = gamepad1.dpad_down;
+
+            double speedCommand = 0.0;
+            if (dpadUp && !dpadDown) {
+                speedCommand = CLIMB_SPEED_UP;
+            } else if (dpadDown && !dpadUp) {
+                speedCommand = CLIMB_SPEED_DOWN;
+            }
+
+            if (speedCommand != 0.0) {
+                // Moving: the shared target advances at the commanded speed
+                holding = false;
+                climbTarget += speedCommand * dt;
+
+                // Don't let the target run away if the climb is stalled
+                double average = (leftPosition + rightPosition) / 2.0;
+                climbTarget = Math.max(average - MAX_TARGET_LEAD,
+                        Math.min(average + MAX_TARGET_LEAD, climbTarget));
+            } else if (!holding) {
+                // Just released: freeze the target where the mechanism is now
+                holding = true;
+                climbTarget = (leftPosition + rightPosition) / 2.0;
+            }
+
+            // Per-side position error towards the shared target
+            double leftError = climbTarget - leftPosition;
+            double rightError = climbTarget - rightPosition;
+
+            // ⭐ Sync error: positive means the LEFT side is ahead
+            double syncError = leftPosition - rightPosition;
+
+            double feedforward = kV * speedCommand;
+            double leftPower = feedforward
+                    + kP * leftError - kD * leftVelocity
+                    - kSync * syncError;
+            double rightPower = feedforward
+                    + kP * rightError - kD * rightVelocity
+                    + kSync * syncError;
+
+            // Holding: limit power so the motors hold with low current
+            double limit = holding ? HOLD_POWER_LIMIT : 1.0;
+            leftPower = Math.max(-limit, Math.min(limit, leftPower));
+            rightPower = Math.max(-limit, Math.min(limit, rightPower));
+
+            climbleft.setPower(leftPower);
+            climbright.setPower(rightPower);
+
+            // Display status
+            telemetry.addData("=== SYNC CLIMB ===", "");
+            telemetry.addData("Status", holding ? "HOLDING" : (speedCommand > 0 ? "CLIMBING UP" : "CLIMBING DOWN"));
+            telemetry.addData("Target", "%.0f ticks", climbTarget);
+            telemetry.addData("Left / Right", "%d / %d ticks", leftPosition, rightPosition);
+            telemetry.addData("Sync Error", "%.0f ticks", syncError);
+            telemetry.addData("", "");
+            telemetry.addData(holding ? "Hold Power" : "Power", "L:%.2f R:%.2f", leftPower, rightPower);
+            telemetry.addData("Loop Time", "%.1f ms", dt * 1000);
+            telemetry.addData("", "");
+            telemetry.addData("Gains", "kP=%.3f kD=%.4f kSync=%.3f", kP, kD, kSync);
+            telemetry.addData("Controls", "DPad Up/Down: Climb | Release: Hold");
+            telemetry.update();
+        }
+    }
+
+    /**
+     * Reset both climb encoders and the shared target to zero
+     */
+    private void resetClimbEncoders() {
+        climbleft.setMode(DcMotor.RunMode.STOP_AND_RESET_ENCODER);
+        climbright.setMode(DcMotor.RunMode.STOP_AND_RESET_ENCODER);
+        climbleft.setMode(DcMotor.RunMode.RUN_WITHOUT_ENCODER);
+        climbright.setMode(DcMotor.RunMode.RUN_WITHOUT_ENCODER);
+
+        climbTarget = 0;
+        lastLeftPosition = 0;
+        lastRightPosition = 0;
+        holding = true;
+    }
+}
@@ -0,0 +1,245 @@
+/**
+ * ------------------------------------------------------------
+ *  FGC Team Australia 2025  |  FIRST Global Challenge
+ * ------------------------------------------------------------
+ *  Project: FGC101 - Java Demo Series
+ *  File:    Demo21_IntakeJam.java
+ *
+ *  Description:
+ *  This demo is part of the FGC101 video series created by
+ *  FGC Team Australia 2025. Our goal is to help rookie teams
+ *  understand programming logic and competition strategy
+ *  through short, simple examples.
+ *
+ *  Playlist: https://www.youtube.com/playlist?list=PL-29lId0PJrVEo0yJyprGheyRtR-ReDET
+ *  Author:   Muyao Zhang (from FGC Team Australia)
+ *  Date:     October 2025
+ *
+ *  Notes:
+ *  - We currently provide around 15 demo programs.
+ *  - These Java demos are not continuously updated.
+ *  - For detailed explanations, please refer to the FGC101 videos.
+ *
+ *  © FGC Team Australia 2025 | Educational Use Only
+ * ------------------------------------------------------------
+ */
+
+package org.firstinspires.ftc.teamcode;
+
+import com.qualcomm.robotcore.eventloop.opmode.TeleOp;
+import com.qualcomm.robotcore.eventloop.opmode.LinearOpMode;
+import com.qualcomm.robotcore.hardware.DcMotorEx;
+import com.qualcomm.robotcore.util.ElapsedTime;
+
+import org.firstinspires.ftc.robotcore.external.navigation.CurrentUnit;
+
+/**
+ * Demo 21: Intake Jam Detection (Auto Reverse-and-Retry)
+ *
+ * Knowledge Point: Using motor current + velocity as feedback to detect a jam
+ *
+ * In Demo04 and Demo15 the intake runs at a fixed power with no feedback.
+ * If a game element jams, the motor stalls until the driver notices.
+ * This demo watches the intake and clears jams automatically:
+ * - JAM = high current AND low velocity for a short time (debounce)
+ * - ⭐ Automatic short REVERSE pulse, then resume FORWARD
+ * - Spin-up grace period so starting current isn't seen as a jam
+ * - Retry limit: after too many retries in a row, stop and wait for driver
+ * - Counters in telemetry (jams detected / cleared / gave up)
+ *
+ * Why This Matters:
+ * - A driver takes several seconds to notice and clear a jam by hand
+ * - The robot clears most jams in well under a second by itself
+ *
+ * Hardware Required:
+ * - intake (DcMotorEx intake motor with encoder)
+ *
+ * Controls:
+ * - R1 (Right Bumper): Intake forward (with jam protection)
+ * - R2 (Right Trigger): Intake reverse (manual, no protection)
+ * - Release R1: Clears a "gave up" fault for the next try
+ *
+ * How to Demonstrate:
+ * 1. Press INIT and START
+ * 2. Hold R1 - intake runs forward
+ * 3. Grab the intake roller to stall it
+ * 4. Watch: "JAM!" → short reverse → forward again
+ * 5. Keep it stalled - after 3 retries the intake stops ("GAVE UP")
+ * 6. Release R1 and press again to re-arm
+ */
+@TeleOp(name="Demo21: Intake Jam Detection", group="Demo")
+public class Demo21_IntakeJam extends LinearOpMode {
+
+    // Intake jam states
+    private enum IntakeState {
+        OFF,        // Not running
+        FORWARD,    // Running forward, watching for jams
+        REVERSING,  // Short reverse pulse to clear a jam
+        GAVE_UP     // Retry limit reached, waiting for driver to release R1
+    }
+
+    private DcMotorEx intake;
+
+    // Power settings (same as Demo15)
+    double intakePowerForward = 0.8;
+    double intakePowerReverse = 1.0;
+
+    // Jam detection configuration
+    double jamCurrentAmps = 4.0;        // Above this current...
+    double jamVelocityTicks = 200.0;    // ...and below this speed (ticks/sec) = stalled
+    double jamConfirmTime = 0.15;       // Must stay stalled this long (debounce)
+    double spinUpGraceTime = 0.30;      // Ignore jams right after starting forward
+    double reversePulseTime = 0.25;     // Length of the reverse pulse
+    int maxRetries = 3;                 // Retries in a row before giving up
+    double retryResetTime = 1.5;        // Running clean this long resets the retry count
+
+    // State tracking
+    private IntakeState state = IntakeState.OFF;
+    private ElapsedTime stateTimer = new ElapsedTime();
+    private ElapsedTime stallTimer = new ElapsedTime();
+    private boolean stalled = false;
+    private int retriesInARow = 0;
+
+    // Counters for telemetry
+    private int jamsDetected = 0;
+    private int jamsCleared = 0;
+    private int timesGaveUp = 0;
+
+    @Override
+    public void runOpMode() {
+        // Initialize intake motor (DcMotorEx for current + velocity)
+        intake = hardwareMap.get(DcMotorEx.class, "intake");
+        intake.setDirection(DcMotorEx.Direction.REVERSE);
+        intake.setMode(DcMotorEx.RunMode.STOP_AND_RESET_ENCODER);
+        intake.setMode(DcMotorEx.RunMode.RUN_WITHOUT_ENCODER);
+
+        telemetry.addData("Status", "Ready");
+        telemetry.addData("Knowledge Point", "Jam detection with current + velocity");
+        telemetry.addData("Tip", "Hold R1 and stall the roller by hand");
+        telemetry.update();
+
+        waitForStart();
+
+        while (opModeIsActive()) {
+            boolean r1Pressed = gamepad1.right_bumper;
+            boolean r2Pressed = gamepad1.right_trigger > 0.5;
+
+            // Read feedback once per loop
+            double current = intake.getCurrent(CurrentUnit.AMPS);
+            double velocity = Math.abs(intake.getVelocity());
+
+            double intakePower = 0.0;
+
+            if (r2Pressed && !r1Pressed) {
+                // Manual reverse always wins, no protection needed
+                setState(IntakeState.OFF);
+                intakePower = -intakePowerReverse;
+
+            } else if (r1Pressed && !r2Pressed) {
+                if (state == IntakeState.OFF) {
+                    // Just pressed: start forward with a fresh retry count
+                    retriesInARow = 0;
+                    setState(IntakeState.FORWARD);
+                }
+                intakePower = updateJamProtection(current, velocity);
+
+            } else {
+                // Released: stop and re-arm after a GAVE_UP fault
+                setState(IntakeState.OFF);
+            }
+
+            intake.setPower(intakePower);
+
+            // Display status
+            telemetry.addData("=== INTAKE JAM DETECTION ===", "");
+            telemetry.addData("State", stateName());
+            telemetry.addData("Power", "%.2f", intakePower);
+            telemetry.addData("Current", "%.2f A (jam > %.1f)", current, jamCurrentAmps);
+            telemetry.addData("Velocity", "%.0f ticks/s (jam < %.0f)", velocity, jamVelocityTicks);
+            telemetry.addData("", "");
+            telemetry.addData("Retries", "%d / %d", retriesInARow, maxRetries);
+            telemetry.addData("Jams Detected", "%d", jamsDetected);
+            telemetry.addData("Jams Cleared", "%d", jamsCleared);
+            telemetry.addData("Gave Up", "%d", timesGaveUp);
+            telemetry.addData("", "");
+            telemetry.addData("Controls", "R1: Forward (protected) | R2: Reverse");
+            telemetry.update();
+        }
+    }
+
+    /**
+     * Run one step of the jam protection state machine while R1 is held
+     * @return intake power to apply this loop
+     */
+    private double updateJamProtection(double current, double velocity) {
+        switch (state) {
+            case FORWARD:
+                // Stalled = high current and (almost) not turning
+                boolean stalledNow = current > jamCurrentAmps && velocity < jamVelocityTicks;
+                boolean inGracePeriod = stateTimer.seconds() < spinUpGraceTime;
+
+                if (stalledNow && !inGracePeriod) {
+                    if (!stalled) {
+                        stalled = true;
+                        stallTimer.reset();
+                    } else if (stallTimer.seconds() > jamConfirmTime) {
+                        // ⭐ Jam confirmed
+                        jamsDetected++;
+                        if (retriesInARow >= maxRetries) {
+                            timesGaveUp++;
+                            telemetry.speak("Intake jammed");
+                            setState(IntakeState.GAVE_UP);
+                            return 0.0;
+                        }
+                        retriesInARow++;
+                        setState(IntakeState.REVERSING);
+                        return -intakePowerReverse;
+                    }
+                } else {
+                    stalled = false;
+                }
+
+                // Running clean for a while: the last jam is cleared
+                if (retriesInARow > 0 && stateTimer.seconds() > retryResetTime) {
+                    jamsCleared++;
+                    retriesInARow = 0;
+                }
+                return intakePowerForward;
+
+            case REVERSING:
+                if (stateTimer.seconds() > reversePulseTime) {
+                    // Pulse finished: try forward again
+                    setState(IntakeState.FORWARD);
+                    return intakePowerForward;
+                }
+                return -intakePowerReverse;
+
+            case GAVE_UP:
+            default:
+                return 0.0;
+        }
+    }
+
+    /**
+     * Change state and restart the state timer
+     */
+    private void setState(IntakeState newState) {
+        if (state != newState) {
+            state = newState;
+            stateTimer.reset();
+            stalled = false;
+        }
+    }
+
+    /**
+     * Friendly state name for telemetry
+     */
+    private String stateName() {
+        switch (state) {
+            case FORWARD:   return stalled ? "FORWARD (stall?)" : "FORWARD";
+            case REVERSING: return "JAM! Reversing...";
+            case GAVE_UP:   return "⚠ GAVE UP - release R1";
+            default:        return "OFF";
+        }
+    }
+}
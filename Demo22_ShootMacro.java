@@ -0,0 +1,355 @@
+/**
+ * ------------------------------------------------------------
+ *  FGC Team Australia 2025  |  FIRST Global Challenge
+ * ------------------------------------------------------------
+ *  Project: FGC101 - Java Demo Series
+ *  File:    Demo22_ShootMacro.java
+ *
+ *  Description:
+ *  This demo is part of the FGC101 video series created by
+ *  FGC Team Australia 2025. Our goal is to help rookie teams
+ *  understand programming logic and competition strategy
+ *  through short, simple examples.
+ *
+ *  Playlist: https://www.youtube.com/playlist?list=PL-29lId0PJrVEo0yJyprGheyRtR-ReDET
+ *  Author:   Muyao Zhang (from FGC Team Australia)
+ *  Date:     October 2025
+ *
+ *  Notes:
+ *  - We currently provide around 15 demo programs.
+ *  - These Java demos are not continuously updated.
+ *  - For detailed explanations, please refer to the FGC101 videos.
+ *
+ *  © FGC Team Australia 2025 | Educational Use Only
+ * ------------------------------------------------------------
+ */
+
+package org.firstinspires.ftc.teamcode;
+
+import com.qualcomm.robotcore.eventloop.opmode.TeleOp;
+import com.qualcomm.robotcore.eventloop.opmode.LinearOpMode;
+import com.qualcomm.robotcore.hardware.DcMotor;
+import com.qualcomm.robotcore.hardware.DcMotorEx;
+import com.qualcomm.robotcore.hardware.CRServo;
+import com.qualcomm.robotcore.util.ElapsedTime;
+
+/**
+ * Demo 22: Automated Shoot Sequence (Macro)
+ *
+ * Knowledge Point: Non-blocking state machine that coordinates several mechanisms
+ *
+ * In Demo14/Demo15 the driver spins up the flywheel with L1 while the
+ * operator pulses "block" and "fast" by hand. The timing is guesswork.
+ * This demo runs the whole shot as a macro:
+ *   SPIN_UP  → wait until flywheel velocity is at speed (and stable)
+ *   FEED     → open block + run fast/intake for a short time (one element)
+ *   RECOVER  → close block, wait until flywheel velocity recovers
+ *              (abort if it does not - never feed a slow flywheel)
+ *   ...repeat for N shots, then DONE
+ *
+ * Non-blocking: no sleep() anywhere. Each loop we only check the timer
+ * and the velocity, so drive and telemetry keep running during the macro.
+ *
+ * Hardware Required:
+ * - bl, br (drive motors)
+ * - fly (DcMotorEx flywheel with encoder)
+ * - intake, fast (feed motors)
+ * - block (CRServo gate)
+ *
+ * Controls:
+ * GAMEPAD 1 (Driver):
+ * - Left/Right Stick Y: Tank drive (always active)
+ * - L1: Manual flywheel cycle (when macro idle)
+ * - R1/R2: Manual intake (when macro idle)
+ *
+ * GAMEPAD 2 (Operator):
+ * - Right Bumper: START shoot macro
+ * - DPad Up/Down: Number of shots (1-5)
+ * - A/B/X/Y: Manual fast/block (also CANCELS the macro)
+ * - Left Bumper: Cancel macro
+ *
+ * How to Demonstrate:
+ * 1. Press INIT and START
+ * 2. Load elements, choose shots with GP2 DPad Up/Down
+ * 3. Press GP2 Right Bumper - watch the state change each step
+ * 4. Notice FEED only happens after "at speed"
+ * 5. Press any GP2 face button to cancel instantly
+ */
+@TeleOp(name="Demo22: Shoot Macro", group="Demo")
+public class Demo22_ShootMacro extends LinearOpMode {
+
+    // Shoot macro states
+    private enum ShootState {
+        IDLE,
+        SPIN_UP,
+        FEED,
+        RECOVER,
+        DONE
+    }
+
+    private DcMotor bl, br, intake, fast;
+    private DcMotorEx fly;
+    private CRServo block;
+
+    // Power settings (same as Demo15)
+    double flyPowerLow = 0.8;
+    double flyPowerHigh = 1.0;
+    double intakePowerForward = 0.8;
+    double intakePowerReverse = 1.0;
+    double fastPowerFull = 1.0;
+
+    // Macro configuration
+    double shootFlyPower = 1.0;          // Flywheel power during the macro
+    double flyTargetVelocity = 2000.0;   // Expected velocity at shootFlyPower (ticks/sec)
+    double readyFraction = 0.95;         // "At speed" = 95% of target
+    double readyStableTime = 0.10;       // Must stay at speed this long
+    double spinUpTimeout = 2.5;          // Give up if never at speed
+    double feedTime = 0.25;              // Block open + feed for one element
+    double blockCloseTime = 0.15;        // Block reverse pulse to close the gate
+    double recoverTimeout = 1.0;         // Max wait for velocity recovery, then abort
+    int maxShots = 5;
+
+    // Macro state
+    private ShootState shootState = ShootState.IDLE;
+    private ElapsedTime stateTimer = new ElapsedTime();
+    private ElapsedTime readyTimer = new ElapsedTime();
+    private boolean atSpeed = false;
+    private int shotsRequested = 3;
+    private int shotsFired = 0;
+    private String lastResult = "None";
+
+    // Manual flywheel state (from Demo15)
+    private int flyState = 0;
+
+    // Button state tracking (for edge detection)
+    private boolean lastL1 = false;
+    private boolean lastRB2 = false;
+    private boolean lastDpadUp2 = false;
+    private boolean lastDpadDown2 = false;
+
+    @Override
+    public void runOpMode() {
+        // Initialize hardware (same names as Demo15)
+        bl = hardwareMap.get(DcMotor.class, "bl");
+        br = hardwareMap.get(DcMotor.class, "br");
+        fly = hardwareMap.get(DcMotorEx.class, "fly");
+        intake = hardwareMap.get(DcMotor.class, "intake");
+        fast = hardwareMap.get(DcMotor.class, "fast");
+        block = hardwareMap.get(CRServo.class, "block");
+
+        bl.setDirection(DcMotor.Direction.REVERSE);
+        br.setDirection(DcMotor.Direction.FORWARD);
+        fly.setDirection(DcMotorEx.Direction.REVERSE);
+        intake.setDirection(DcMotor.Direction.REVERSE);
+        fast.setDirection(DcMotor.Direction.FORWARD);
+        fast.setZeroPowerBehavior(DcMotor.ZeroPowerBehavior.BRAKE);
+
+        fly.setMode(DcMotorEx.RunMode.STOP_AND_RESET_ENCODER);
+        fly.setMode(DcMotorEx.RunMode.RUN_WITHOUT_ENCODER);
+
+        telemetry.addData("Status", "Ready");
+        telemetry.addData("Knowledge Point", "Non-blocking shoot macro");
+        telemetry.addData("Tip", "GP2 Right Bumper to shoot");
+        telemetry.update();
+
+        waitForStart();
+
+        while (opModeIsActive()) {
+            // ═══ DRIVE (always active, even during the macro) ═══
+            bl.setPower(-gamepad1.left_stick_y);
+            br.setPower(-gamepad1.right_stick_y);
+
+            // ═══ OPERATOR INPUTS ═══
+            boolean manualOperatorInput = gamepad2.a || gamepad2.b || gamepad2.x || gamepad2.y;
+
+            // Shot count selection (edge detection)
+            boolean dpadUp2 = gamepad2.dpad_up;
+            boolean dpadDown2 = gamepad2.dpad_down;
+            if (dpadUp2 && !lastDpadUp2) {
+                shotsRequested = Math.min(maxShots, shotsRequested + 1);
+            }
+            if (dpadDown2 && !lastDpadDown2) {
+                shotsRequested = Math.max(1, shotsRequested - 1);
+            }
+            lastDpadUp2 = dpadUp2;
+            lastDpadDown2 = dpadDown2;
+
+            // Start macro (edge detection)
+            boolean rb2 = gamepad2.right_bumper;
+            if (rb2 && !lastRB2 && !isMacroRunning()) {
+                shotsFired = 0;
+                readyTimer.reset();   // "at speed" must be proven again for this macro
+                atSpeed = false;
+                setShootState(ShootState.SPIN_UP);
+            }
+            lastRB2 = rb2;
+
+            // Cancel macro instantly on any manual operator input
+            if (isMacroRunning() && (manualOperatorInput || gamepad2.left_bumper)) {
+                lastResult = "Cancelled after " + shotsFired + " shots";
+                setShootState(ShootState.IDLE);
+            }
+
+            // ═══ MECHANISMS ═══
+            double flyVelocity = Math.abs(fly.getVelocity());
+
+            if (isMacroRunning()) {
+                updateShootMacro(flyVelocity);
+            } else {
+                if (shootState == ShootState.DONE) {
+                    setShootState(ShootState.IDLE);
+                }
+                updateManualControls();
+            }
+
+            // Display status
+            telemetry.addData("=== SHOOT MACRO ===", "");
+            telemetry.addData("State", shootState.toString());
+            telemetry.addData("Shots", "%d / %d", shotsFired, shotsRequested);
+            telemetry.addData("Fly Velocity", "%.0f / %.0f ticks/s", flyVelocity, flyTargetVelocity);
+            telemetry.addData("At Speed", atSpeed ? "YES" : "no");
+            telemetry.addData("State Time", "%.2fs", stateTimer.seconds());
+            telemetry.addData("Last Result", lastResult);
+            telemetry.addData("", "");
+            telemetry.addData("Controls (GP2)", "RB: Shoot | DPad: Shots | LB/ABXY: Cancel");
+            telemetry.update();
+        }
+    }
+
+    /**
+     * Run one step of the shoot macro (called every loop, never blocks)
+     */
+    private void updateShootMacro(double flyVelocity) {
+        // Flywheel always runs during the macro
+        fly.setPower(shootFlyPower);
+
+        // "At speed" must be stable for a short time before we feed
+        boolean aboveThreshold = flyVelocity >= flyTargetVelocity * readyFraction;
+        if (!aboveThreshold) {
+            readyTimer.reset();
+        }
+        atSpeed = aboveThreshold && readyTimer.seconds() >= readyStableTime;
+
+        double blockPower = 0.0;
+        double feedPower = 0.0;
+
+        switch (shootState) {
+            case SPIN_UP:
+                if (atSpeed) {
+                    setShootState(ShootState.FEED);
+                } else if (stateTimer.seconds() > spinUpTimeout) {
+                    lastResult = "Spin-up timeout (check flywheel)";
+                    setShootState(ShootState.IDLE);
+                }
+                break;
+
+            case FEED:
+                // Open the gate and push exactly one element
+                blockPower = 1.0;
+                feedPower = 1.0;
+                if (stateTimer.seconds() > feedTime) {
+                    shotsFired++;
+                    setShootState(ShootState.RECOVER);
+                }
+                break;
+
+            case RECOVER:
+                // Close the gate, then wait for the flywheel to recover
+                if (stateTimer.seconds() < blockCloseTime) {
+                    blockPower = -1.0;
+                }
+                boolean recovered = stateTimer.seconds() > blockCloseTime && atSpeed;
+                boolean timedOut = stateTimer.seconds() > recoverTimeout;
+
+                if (shotsFired >= shotsRequested) {
+                    if (stateTimer.seconds() > blockCloseTime) {
+                        lastResult = "Done: " + shotsFired + " shots";
+                        setShootState(ShootState.DONE);
+                    }
+                } else if (recovered) {
+                    setShootState(ShootState.FEED);
+                } else if (timedOut) {
+                    // Never feed into a slow flywheel - that is a weak shot
+                    lastResult = "Recovery timeout after " + shotsFired + " shots (check flywheel)";
+                    setShootState(ShootState.IDLE);
+                }
+                break;
+
+            default:
+                break;
+        }
+
+        block.setPower(blockPower);
+        fast.setPower(feedPower * fastPowerFull);
+        intake.setPower(feedPower * intakePowerForward);
+    }
+
+    /**
+     * Manual controls from Demo15 (only when macro is idle)
+     */
+    private void updateManualControls() {
+        atSpeed = false;
+
+        // Flywheel L1 cycle
+        boolean currentL1 = gamepad1.left_bumper;
+        if (currentL1 && !lastL1) {
+            flyState = (flyState + 1) % 3;
+        }
+        lastL1 = currentL1;
+
+        switch (flyState) {
+            case 0: fly.setPower(0); break;
+            case 1: fly.setPower(flyPowerLow); break;
+            case 2: fly.setPower(flyPowerHigh); break;
+        }
+
+        // Intake R1/R2
+        boolean r1 = gamepad1.right_bumper;
+        boolean r2 = gamepad1.right_trigger > 0.5;
+        if (r1 && !r2) {
+            intake.setPower(intakePowerForward);
+        } else if (r2 && !r1) {
+            intake.setPower(-intakePowerReverse);
+        } else {
+            intake.setPower(0);
+        }
+
+        // Fast motor A/B
+        if (gamepad2.a && !gamepad2.b) {
+            fast.setPower(fastPowerFull);
+        } else if (gamepad2.b && !gamepad2.a) {
+            fast.setPower(-fastPowerFull);
+        } else {
+            fast.setPower(0);
+        }
+
+        // Block servo X/Y
+        double blockPower = 0.0;
+        if (gamepad2.x && !gamepad2.y) {
+            blockPower = 1.0;
+        } else if (gamepad2.y && !gamepad2.x) {
+            blockPower = -1.0;
+        }
+        block.setPower(blockPower);
+    }
+
+    private boolean isMacroRunning() {
+        return shootState == ShootState.SPIN_UP
+                || shootState == ShootState.FEED
+                || shootState == ShootState.RECOVER;
+    }
+
+    /**
+     * Change macro state and restart the state timer
+     */
+    private void setShootState(ShootState newState) {
+        shootState = newState;
+        stateTimer.reset();
+        if (newState == ShootState.IDLE) {
+            // Stop the feed immediately; flywheel returns to manual state
+            block.setPower(0);
+            fast.setPower(0);
+            intake.setPower(0);
+        }
+    }
+}
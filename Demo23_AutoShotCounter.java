@@ -0,0 +1,355 @@
+/**
+ * ------------------------------------------------------------
+ *  FGC Team Australia 2025  |  FIRST Global Challenge
+ * ------------------------------------------------------------
+ *  Project: FGC101 - Java Demo Series
+ *  File:    Demo23_AutoShotCounter.java
+ *
+ *  Description:
+ *  This demo is part of the FGC101 video series created by
+ *  FGC Team Australia 2025. Our goal is to help rookie teams
+ *  understand programming logic and competition strategy
+ *  through short, simple examples.
+ *
+ *  Playlist: https://www.youtube.com/playlist?list=PL-29lId0PJrVEo0yJyprGheyRtR-ReDET
+ *  Author:   Muyao Zhang (from FGC Team Australia)
+ *  Date:     October 2025
+ *
+ *  Notes:
+ *  - We currently provide around 15 demo programs.
+ *  - These Java demos are not continuously updated.
+ *  - For detailed explanations, please refer to the FGC101 videos.
+ *
+ *  © FGC Team Australia 2025 | Educational Use Only
+ * ------------------------------------------------------------
+ */
+
+package org.firstinspires.ftc.teamcode;
+
+import com.qualcomm.robotcore.eventloop.opmode.TeleOp;
+import com.qualcomm.robotcore.eventloop.opmode.LinearOpMode;
+import com.qualcomm.robotcore.hardware.DcMotorEx;
+import com.qualcomm.robotcore.util.ElapsedTime;
+
+import java.util.ArrayList;
+
+/**
+ * Demo 23: Automatic Shot Counting
+ *
+ * Knowledge Point: Detecting events from a sensor signal with sliding windows
+ *
+ * In Demo19 the operator presses A/B/X for every score, which takes
+ * their attention away during the busiest part of the match.
+ * When an element leaves the flywheel, the wheel slows down for a
+ * moment and then recovers. This demo watches for that signature:
+ * - Long window average  = "normal" flywheel speed (baseline)
+ * - Short window average = "right now" speed (smoothed)
+ * - DIP:     short average drops below baseline by dipFraction
+ * - RECOVER: short average comes back within recoverFraction → SHOT!
+ *
+ * Both windows are ring buffers with a running sum, so each loop costs
+ * the same small amount of work no matter how long the window is.
+ *
+ * Detected shots are PROVISIONAL. The operator confirms them into a
+ * basket (A/B/X) or removes a false one with Y (undo).
+ *
+ * Hardware Required:
+ * - fly (DcMotorEx flywheel with encoder)
+ *
+ * Controls:
+ * GAMEPAD 1:
+ * - L1: Flywheel cycle (0% → 80% → 100%)
+ *
+ * GAMEPAD 2:
+ * - A/B/X: Confirm oldest provisional shot into Basket A/B/C
+ *          (no provisional shots: manual +1 like Demo19)
+ * - Y: Undo last operation (also removes a provisional shot)
+ * - Start: Reset all scores and timer
+ *
+ * How to Demonstrate:
+ * 1. Press INIT and START, spin up the flywheel with L1
+ * 2. Feed an element (or briefly touch the wheel)
+ * 3. Watch "Provisional" go up by 1
+ * 4. Press A to confirm it into Basket A
+ * 5. Touch the wheel again and press Y - false shot removed
+ */
+@TeleOp(name="Demo23: Auto Shot Counter", group="Demo")
+public class Demo23_AutoShotCounter extends LinearOpMode {
+
+    /**
+     * Fixed-size sliding window average (ring buffer + running sum).
+     * add() is O(1): subtract the oldest sample, add the newest.
+     */
+    private static class MovingAverage {
+        private final double[] samples;
+        private double sum = 0;
+        private int index = 0;
+        private int count = 0;
+
+        MovingAverage(int size) {
+            samples = new double[size];
+        }
+
+        void add(double value) {
+            sum -= samples[index];
+            samples[index] = value;
+            sum += value;
+            index = (index + 1) % samples.length;
+            if (count < samples.length) count++;
+        }
+
+        double average() {
+            return count == 0 ? 0 : sum / count;
+        }
+
+        boolean isFull() {
+            return count == samples.length;
+        }
+
+        void clear() {
+            for (int i = 0; i < samples.length; i++) samples[i] = 0;
+            sum = 0;
+            index = 0;
+            count = 0;
+        }
+    }
+
+    private DcMotorEx fly;
+
+    // Flywheel state (from Demo03)
+    private int flyState = 0;
+    private boolean lastL1 = false;
+
+    // Shot detector configuration
+    double minBaselineVelocity = 800.0;  // Flywheel must be running (ticks/sec)
+    double dipFraction = 0.10;           // 10% drop below baseline = dip starts
+    double recoverFraction = 0.04;       // Back within 4% of baseline = shot
+    double maxDipTime = 0.6;             // Longer dips are not shots (e.g. wheel stopped)
+    double minShotInterval = 0.15;       // Ignore double-detections
+
+    private MovingAverage baselineWindow = new MovingAverage(40);  // ~0.4-0.8s of loops
+    private MovingAverage shortWindow = new MovingAverage(4);      // Noise smoothing
+    private boolean inDip = false;
+    private double dipBaseline = 0;
+    private double dipMinimum = 0;
+    private double lastDipDepth = 0;
+    private ElapsedTime dipTimer = new ElapsedTime();
+    private ElapsedTime lastShotTimer = new ElapsedTime();
+
+    // Score tracking (same as Demo19)
+    private int basketA = 0;
+    private int basketB = 0;
+    private int basketC = 0;
+    private int provisionalShots = 0;
+    private int totalDetected = 0;
+
+    // Operation history for undo ("A"/"B"/"C" manual, "P" provisional, "PA"/"PB"/"PC" confirmed)
+    private ArrayList<String> operationHistory = new ArrayList<>();
+
+    // Button state tracking (for edge detection)
+    private boolean lastAState = false;
+    private boolean lastBState = false;
+    private boolean lastXState = false;
+    private boolean lastYState = false;
+    private boolean lastStartState = false;
+
+    private ElapsedTime gameTimer = new ElapsedTime();
+
+    @Override
+    public void runOpMode() {
+        fly = hardwareMap.get(DcMotorEx.class, "fly");
+        fly.setDirection(DcMotorEx.Direction.REVERSE);
+        fly.setMode(DcMotorEx.RunMode.STOP_AND_RESET_ENCODER);
+        fly.setMode(DcMotorEx.RunMode.RUN_WITHOUT_ENCODER);
+
+        telemetry.addData("Status", "Ready - Auto Shot Counter");
+        telemetry.addData("Knowledge Point", "Sliding-window dip detection");
+        telemetry.addData("Tip", "Spin up with L1, then feed an element");
+        telemetry.update();
+
+        waitForStart();
+        gameTimer.reset();
+
+        while (opModeIsActive()) {
+            // Flywheel L1 cycle (from Demo03)
+            boolean currentL1 = gamepad1.left_bumper;
+            if (currentL1 && !lastL1) {
+                flyState = (flyState + 1) % 3;
+            }
+            lastL1 = currentL1;
+
+            switch (flyState) {
+                case 0: fly.setPower(0); break;
+                case 1: fly.setPower(0.8); break;
+                case 2: fly.setPower(1.0); break;
+            }
+
+            // ⭐ Shot detection (constant time per loop)
+            double velocity = Math.abs(fly.getVelocity());
+            if (detectShot(velocity)) {
+                provisionalShots++;
+                totalDetected++;
+                operationHistory.add("P");
+                gamepad2.rumble(100);
+            }
+
+            // Read gamepad 2 button states
+            boolean currentAState = gamepad2.a;
+            boolean currentBState = gamepad2.b;
+            boolean currentXState = gamepad2.x;
+            boolean currentYState = gamepad2.y;
+            boolean currentStartState = gamepad2.start;
+
+            if (currentAState && !lastAState) {
+                scoreBasket("A");
+            }
+            lastAState = currentAState;
+
+            if (currentBState && !lastBState) {
+                scoreBasket("B");
+            }
+            lastBState = currentBState;
+
+            if (currentXState && !lastXState) {
+                scoreBasket("C");
+            }
+            lastXState = currentXState;
+
+            if (currentYState && !lastYState) {
+                undoLastOperation();
+            }
+            lastYState = currentYState;
+
+            if (currentStartState && !lastStartState) {
+                resetAll();
+            }
+            lastStartState = currentStartState;
+
+            displayStatus(velocity);
+        }
+    }
+
+    /**
+     * Feed one velocity sample into the detector
+     * @return true when a complete drop-and-recover (one shot) was seen
+     */
+    private boolean detectShot(double velocity) {
+        shortWindow.add(velocity);
+        double now = shortWindow.average();
+
+        if (!inDip) {
+            // Only learn the baseline while NOT in a dip
+            baselineWindow.add(velocity);
+            double baseline = baselineWindow.average();
+
+            boolean running = baselineWindow.isFull() && baseline > minBaselineVelocity;
+            if (running && now < baseline * (1.0 - dipFraction)) {
+                inDip = true;
+                dipBaseline = baseline;
+                dipMinimum = now;
+                dipTimer.reset();
+            }
+            return false;
+        }
+
+        // In a dip: track the lowest point and wait for recovery
+        dipMinimum = Math.min(dipMinimum, now);
+
+        if (dipTimer.seconds() > maxDipTime) {
+            // Too long - flywheel was turned down or stalled, not a shot
+            inDip = false;
+            baselineWindow.clear();
+            return false;
+        }
+
+        if (now > dipBaseline * (1.0 - recoverFraction)) {
+            inDip = false;
+            lastDipDepth = 1.0 - dipMinimum / dipBaseline;
+            if (lastShotTimer.seconds() > minShotInterval) {
+                lastShotTimer.reset();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Confirm the oldest provisional shot into a basket, or manual +1
+     */
+    private void scoreBasket(String basket) {
+        if (provisionalShots > 0) {
+            // Confirm: remove the oldest "P" and record what it became
+            operationHistory.remove("P");
+            provisionalShots--;
+            operationHistory.add("P" + basket);
+        } else {
+            operationHistory.add(basket);
+        }
+        addToBasket(basket, 1);
+    }
+
+    private void addToBasket(String basket, int amount) {
+        switch (basket) {
+            case "A": basketA += amount; break;
+            case "B": basketB += amount; break;
+            case "C": basketC += amount; break;
+        }
+    }
+
+    /**
+     * Undo the last operation (manual score, provisional shot or confirmation)
+     */
+    private void undoLastOperation() {
+        if (operationHistory.isEmpty()) {
+            telemetry.speak("No operations to undo");
+            return;
+        }
+
+        String lastOp = operationHistory.remove(operationHistory.size() - 1);
+
+        if (lastOp.equals("P")) {
+            // False detection: drop the provisional shot
+            provisionalShots--;
+        } else if (lastOp.startsWith("P")) {
+            // Undo a confirmation: the shot goes back to provisional
+            addToBasket(lastOp.substring(1), -1);
+            provisionalShots++;
+            operationHistory.add("P");
+        } else {
+            addToBasket(lastOp, -1);
+        }
+    }
+
+    private void resetAll() {
+        basketA = 0;
+        basketB = 0;
+        basketC = 0;
+        provisionalShots = 0;
+        totalDetected = 0;
+        operationHistory.clear();
+        gameTimer.reset();
+    }
+
+    /**
+     * Display current status on telemetry
+     */
+    private void displayStatus(double velocity) {
+        int totalSeconds = (int) gameTimer.seconds();
+
+        telemetry.addData("=== AUTO SHOT COUNTER ===", "");
+        telemetry.addData("Timer", "%d:%02d", totalSeconds / 60, totalSeconds % 60);
+        telemetry.addData("Fly Velocity", "%.0f (baseline %.0f)", velocity, baselineWindow.average());
+        telemetry.addData("Detector", inDip ? "DIP..." : "Watching");
+        telemetry.addData("Last Dip Depth", "%.0f%%", lastDipDepth * 100);
+        telemetry.addData("", "");
+        telemetry.addData("Provisional", "%d (confirm with A/B/X)", provisionalShots);
+        telemetry.addData("Basket A", "%d", basketA);
+        telemetry.addData("Basket B", "%d", basketB);
+        telemetry.addData("Basket C", "%d", basketC);
+        telemetry.addData("Total Score", "%d (+%d provisional)", basketA + basketB + basketC, provisionalShots);
+        telemetry.addData("Shots Detected", "%d", totalDetected);
+        telemetry.addData("", "");
+        telemetry.addData("Controls (GP2)", "A/B/X: Confirm | Y: Undo | Start: Reset");
+        telemetry.update();
+    }
+}
@@ -0,0 +1,384 @@
+/**
+ * ------------------------------------------------------------
+ *  FGC Team Australia 2025  |  FIRST Global Challenge
+ * ------------------------------------------------------------
+ *  Project: FGC101 - Java Demo Series
+ *  File:    Demo24_RightFeedforward.java
+ *
+ *  Description:
+ *  This demo is part of the FGC101 video series created by
+ *  FGC Team Australia 2025. Our goal is to help rookie teams
+ *  understand programming logic and competition strategy
+ *  through short, simple examples.
+ *
+ *  Playlist: https://www.youtube.com/playlist?list=PL-29lId0PJrVEo0yJyprGheyRtR-ReDET
+ *  Author:   Muyao Zhang (from FGC Team Australia)
+ *  Date:     October 2025
+ *
+ *  Notes:
+ *  - We currently provide around 15 demo programs.
+ *  - These Java demos are not continuously updated.
+ *  - For detailed explanations, please refer to the FGC101 videos.
+ *
+ *  © FGC Team Australia 2025 | Educational Use Only
+ * ------------------------------------------------------------
+ */
+
+package org.firstinspires.ftc.teamcode;
+
+import com.qualcomm.robotcore.eventloop.opmode.TeleOp;
+import com.qualcomm.robotcore.eventloop.opmode.LinearOpMode;
+import com.qualcomm.robotcore.hardware.DcMotorEx;
+import com.qualcomm.robotcore.util.ElapsedTime;
+
+/**
+ * Demo 24: Right Motor Feedforward (kS + kG·cos + kV)
+ *
+ * Knowledge Point: Feedforward = the power we KNOW we need, before any error
+ *
+ * Demo11 uses a fixed ±0.1 power for 1-5 tick errors. That is a rough
+ * guess at "how much power does it take to start moving" (static friction).
+ * This demo replaces the guess with a real model of the mechanism:
+ *
+ *   power = kS·sign(direction)  +  kG·cos(angle)  +  kV·velocity  +  PID
+ *
+ * - kS: static friction - power needed to just START moving
+ * - kG: gravity - power needed to hold the arm level (largest when
+ *       horizontal, zero when straight up, hence the cos(angle) term)
+ * - kV: power per tick/sec of speed
+ *
+ * ⭐ Characterization routine (GP2 Back) MEASURES the constants:
+ * 1. Slowly ramp power UP until the arm moves     → uUp   = kG·cos + kS
+ * 2. Slowly ramp power DOWN until the arm moves   → uDown = kG·cos - kS
+ *    → kS = (uUp - uDown) / 2,  kG·cos = (uUp + uDown) / 2
+ * 3. Constant-power runs each way over most of the allowed travel,
+ *    speed measured over the second half of each run → kV
+ *
+ * With feedforward doing most of the work, the PID only fixes the small
+ * remaining error, so the bang-bang ±0.1 band is gone and holding uses
+ * much less current.
+ *
+ * Hardware Required:
+ * - right (DcMotorEx motor with encoder)
+ *
+ * Controls (GAMEPAD 2):
+ * - DPad Left/Right: Manual move (feedforward speed control)
+ * - Release: Hold with feedforward + PID
+ * - Back: Run characterization (arm must be free to move ±100°, MAX_TRAVEL ticks!)
+ * - Any DPad during characterization: ABORT
+ *
+ * How to Demonstrate:
+ * 1. Start with the arm horizontal (angle 0) and press INIT + START
+ * 2. Press GP2 Back - watch the ramps and the measured kS / kG / kV
+ * 3. Move the arm with DPad, release - it holds with tiny power
+ * 4. Compare "Hold Power" to Demo11/Demo12 at the same position
+ */
+@TeleOp(name="Demo24: Right Feedforward", group="Demo")
+public class Demo24_RightFeedforward extends LinearOpMode {
+
+    // PID Controller class
+    private class PIDController {
+        private double Kp, Ki, Kd;
+        private double integralSum = 0;
+        private double lastError = 0;
+        private ElapsedTime timer = new ElapsedTime();
+
+        public PIDController(double Kp, double Ki, double Kd) {
+            this.Kp = Kp;
+            this.Ki = Ki;
+            this.Kd = Kd;
+        }
+
+        public double update(double target, double current) {
+            double error = target - current;
+            double derivative = (error - lastError) / timer.seconds();
+            integralSum += error * timer.seconds();
+            double output = (Kp * error) + (Ki * integralSum) + (Kd * derivative);
+            lastError = error;
+            timer.reset();
+            return output;
+        }
+
+        public void resetIntegral() {
+            integralSum = 0;
+            lastError = 0;
+            timer.reset();
+        }
+    }
+
+    private DcMotorEx right;
+
+    // Feedforward constants (defaults are guesses until characterized)
+    private double kS = 0.05;
+    private double kG = 0.0;
+    private double kV = 1.0 / 2500.0;
+
+    // Mechanism geometry: encoder ticks per radian, and the angle at encoder 0
+    private final double TICKS_PER_RADIAN = 537.7 / (2 * Math.PI);
+    private final double ZERO_ANGLE = 0.0;   // Arm horizontal at INIT
+
+    // Manual speed (ticks/sec) and hold settings
+    private final double MANUAL_SPEED = 800.0;
+    private final int HOLD_TOLERANCE = 1;   // kS is only added outside this error
+
+    // Characterization settings
+    private final double RAMP_RATE = 0.1;            // Power per second
+    private final double MOVE_THRESHOLD = 20.0;      // ticks/sec counts as "moving"
+    private final double MAX_RAMP_POWER = 0.6;
+    private final double KV_TEST_EXTRA_POWER = 0.15; // Above breakaway for the kV run
+    private final int MAX_TRAVEL = 150;              // Safety limit (ticks from start)
+    private final int KV_RUN_DISTANCE = MAX_TRAVEL * 3 / 4;  // Leave room to brake
+    private final double KV_RUN_TIMEOUT = 3.0;       // Seconds - slower than this is "too slow"
+
+    // PID now only corrects what feedforward misses (smaller gains than Demo10)
+    private PIDController pidController = new PIDController(0.01, 0, 0.0005);
+    private int targetPosition = 0;
+    private boolean holdEnabled = false;
+    private double lastPower = 0;
+    private String characterizationStatus = "Not run (defaults)";
+    private double kvRunMeanCos = 0;   // mean cos(angle) over the last kV measurement window
+    private boolean lastBackState = false;
+
+    @Override
+    public void runOpMode() {
+        right = hardwareMap.get(DcMotorEx.class, "right");
+        right.setDirection(DcMotorEx.Direction.FORWARD);
+        right.setZeroPowerBehavior(DcMotorEx.ZeroPowerBehavior.BRAKE);
+        right.setMode(DcMotorEx.RunMode.STOP_AND_RESET_ENCODER);
+        right.setMode(DcMotorEx.RunMode.RUN_WITHOUT_ENCODER);
+
+        telemetry.addData("Status", "Ready");
+        telemetry.addData("Knowledge Point", "Feedforward: kS + kG·cos + kV");
+        telemetry.addData("Tip", "Start with the arm horizontal, press GP2 Back");
+        telemetry.update();
+
+        waitForStart();
+
+        while (opModeIsActive()) {
+            boolean dpadLeft = gamepad2.dpad_left;
+            boolean dpadRight = gamepad2.dpad_right;
+
+            // Back: characterization (edge detection)
+            boolean currentBackState = gamepad2.back;
+            if (currentBackState && !lastBackState) {
+                runCharacterization();
+                holdEnabled = false;
+            }
+            lastBackState = currentBackState;
+
+            int currentPosition = right.getCurrentPosition();
+            double angle = angleOf(currentPosition);
+            double power;
+
+            if (dpadLeft && !dpadRight) {
+                // Manual: feedforward speed control instead of fixed 0.5 power
+                holdEnabled = false;
+                power = feedforward(-MANUAL_SPEED, angle, -1);
+            } else if (dpadRight && !dpadLeft) {
+                holdEnabled = false;
+                power = feedforward(MANUAL_SPEED, angle, 1);
+            } else {
+                if (!holdEnabled) {
+                    targetPosition = currentPosition;
+                    holdEnabled = true;
+                    pidController.resetIntegral();
+                }
+
+                int error = targetPosition - currentPosition;
+
+                // ⭐ Hold = gravity compensation + kS towards target + small PID
+                // (replaces the Demo11 bang-bang ±0.1 band)
+                int direction = Math.abs(error) > HOLD_TOLERANCE ? (int) Math.signum(error) : 0;
+                power = feedforward(0, angle, direction)
+                        + pidController.update(targetPosition, currentPosition);
+            }
+
+            lastPower = Math.max(-1, Math.min(1, power));
+            right.setPower(lastPower);
+
+            // Display status
+            telemetry.addData("=== RIGHT FEEDFORWARD ===", "");
+            telemetry.addData("Mode", holdEnabled ? "HOLD (FF + PID)" : "Manual (FF speed)");
+            telemetry.addData("Position", "%d ticks (target %d)", currentPosition, targetPosition);
+            telemetry.addData("Angle", "%.1f°", Math.toDegrees(angle));
+            telemetry.addData(holdEnabled ? "Hold Power" : "Power", "%.3f", lastPower);
+            telemetry.addData("Gravity Term", "%.3f", kG * Math.cos(angle));
+            telemetry.addData("", "");
+            telemetry.addData("kS", "%.4f", kS);
+            telemetry.addData("kG", "%.4f", kG);
+            telemetry.addData("kV", "%.6f per tick/s", kV);
+            telemetry.addData("Characterization", characterizationStatus);
+            telemetry.addData("", "");
+            telemetry.addData("Controls (GP2)", "DPad: Move | Back: Characterize");
+            telemetry.update();
+        }
+    }
+
+    /**
+     * Feedforward power for a desired velocity at the current angle
+     * @param direction sign used for the kS term (-1, 0 or 1)
+     */
+    private double feedforward(double velocity, double angle, int direction) {
+        return kS * direction + kG * Math.cos(angle) + kV * velocity;
+    }
+
+    private double angleOf(int position) {
+        return ZERO_ANGLE + position / TICKS_PER_RADIAN;
+    }
+
+    /**
+     * Measure kS, kG and kV with slow ramps and short constant-power runs
+     */
+    private void runCharacterization() {
+        int startPosition = right.getCurrentPosition();
+        double angle = angleOf(startPosition);
+
+        // Steps 1 + 2: breakaway power in both directions
+        double uUp = rampUntilMoving(1, startPosition);
+        if (Double.isNaN(uUp)) return;
+        settle();
+        double uDown = rampUntilMoving(-1, startPosition);
+        if (Double.isNaN(uDown)) return;
+        settle();
+
+        double measuredKS = (uUp - uDown) / 2.0;
+        double gravityTerm = (uUp + uDown) / 2.0;
+
+        // kG only makes sense if the arm is not pointing straight up/down
+        double cosAngle = Math.cos(angle);
+
+        // kS and kG are good now - keep them even if the kV runs fail
+        kS = Math.max(0, measuredKS);
+        kG = Math.abs(cosAngle) > 0.3 ? gravityTerm / cosAngle : kG;
+
+        // Step 3: kV from steady speed in each direction
+        double powerUp = uUp + KV_TEST_EXTRA_POWER;
+        double velocityUp = runConstantPower(powerUp, startPosition);
+        double cosUp = kvRunMeanCos;
+        settle();
+        double velocityDown = Double.NaN;
+        double powerDown = uDown - KV_TEST_EXTRA_POWER;
+        if (!Double.isNaN(velocityUp)) {
+            velocityDown = runConstantPower(powerDown, startPosition);
+            settle();
+        }
+
+        if (Double.isNaN(velocityUp) || Double.isNaN(velocityDown)) {
+            characterizationStatus = "kV run ABORTED (kS, kG measured, kept old kV)";
+            return;
+        }
+
+        // power - kS·sign - gravity = kV·velocity, averaged over both runs.
+        // The runs swing the arm far from the start angle, so the gravity
+        // term is the one over each run's measurement window, not gravityTerm.
+        double kvUp = (powerUp - measuredKS - kG * cosUp) / velocityUp;
+        double kvDown = (powerDown + measuredKS - kG * kvRunMeanCos) / velocityDown;
+
+        if (velocityUp > MOVE_THRESHOLD && velocityDown < -MOVE_THRESHOLD) {
+            kV = (kvUp + kvDown) / 2.0;
+            characterizationStatus = "Done (kS, kG, kV measured)";
+        } else {
+            characterizationStatus = "Done (kV test too slow, kept old kV)";
+        }
+    }
+
+    /**
+     * Ramp power slowly in one direction until the motor starts moving
+     * @return breakaway power, or NaN if aborted
+     */
+    private double rampUntilMoving(int direction, int startPosition) {
+        ElapsedTime rampTimer = new ElapsedTime();
+        double power = 0;
+
+        while (opModeIsActive()) {
+            power = direction * RAMP_RATE * rampTimer.seconds();
+            right.setPower(power);
+
+            if (Math.abs(right.getVelocity()) > MOVE_THRESHOLD) {
+                right.setPower(0);
+                return power;
+            }
+            if (!checkSafe(startPosition) || Math.abs(power) > MAX_RAMP_POWER) {
+                right.setPower(0);
+                characterizationStatus = "ABORTED during ramp";
+                return Double.NaN;
+            }
+
+            telemetry.addData("=== CHARACTERIZING ===", "");
+            telemetry.addData("Step", direction > 0 ? "1/3 Ramp UP" : "2/3 Ramp DOWN");
+            telemetry.addData("Power", "%.3f", power);
+            telemetry.addData("Velocity", "%.1f ticks/s", right.getVelocity());
+            telemetry.addData("Abort", "Press any GP2 DPad");
+            telemetry.update();
+        }
+        right.setPower(0);
+        return Double.NaN;
+    }
+
+    /**
+     * Run a constant power until the arm is KV_RUN_DISTANCE from the start
+     * position. A fixed run TIME would end while the arm is still speeding
+     * up (or hit MAX_TRAVEL on a fast arm), so the run ends on DISTANCE and
+     * the speed is measured over its second half, after acceleration.
+     * Also sets kvRunMeanCos for that window: at steady speed the mean of
+     * cos over angles a0..a1 is (sin a1 - sin a0) / (a1 - a0).
+     * @return average velocity in ticks/sec, 0 if it never got there
+     *         (too slow), or NaN if aborted
+     */
+    private double runConstantPower(double power, int startPosition) {
+        int direction = power > 0 ? 1 : -1;
+        ElapsedTime runTimer = new ElapsedTime();
+        double measureStartTime = Double.NaN;
+        int measureStartPosition = 0;
+
+        while (opModeIsActive() && runTimer.seconds() < KV_RUN_TIMEOUT) {
+            right.setPower(power);
+            if (!checkSafe(startPosition)) break;
+
+            int position = right.getCurrentPosition();
+            int traveled = (position - startPosition) * direction;
+            if (Double.isNaN(measureStartTime) && traveled >= KV_RUN_DISTANCE / 2) {
+                measureStartTime = runTimer.seconds();
+                measureStartPosition = position;
+            }
+            if (traveled >= KV_RUN_DISTANCE) {
+                right.setPower(0);
+                double measureTime = runTimer.seconds() - measureStartTime;
+                double a0 = angleOf(measureStartPosition);
+                double a1 = angleOf(position);
+                kvRunMeanCos = a1 != a0 ? (Math.sin(a1) - Math.sin(a0)) / (a1 - a0) : Math.cos(a0);
+                return measureTime > 0 ? (position - measureStartPosition) / measureTime : 0;
+            }
+
+            telemetry.addData("=== CHARACTERIZING ===", "");
+            telemetry.addData("Step", "3/3 kV run at %.2f", power);
+            telemetry.addData("Travel", "%d / %d ticks", traveled, KV_RUN_DISTANCE);
+            telemetry.addData("Velocity", "%.1f ticks/s", right.getVelocity());
+            telemetry.addData("Abort", "Press any GP2 DPad");
+            telemetry.update();
+        }
+        right.setPower(0);
+
+        // Timed out without covering the distance: too slow to measure
+        if (opModeIsActive() && runTimer.seconds() >= KV_RUN_TIMEOUT) return 0;
+        return Double.NaN;
+    }
+
+    /**
+     * Abort on any DPad press or if the arm travels too far
+     */
+    private boolean checkSafe(int startPosition) {
+        boolean abort = gamepad2.dpad_left || gamepad2.dpad_right
+                || gamepad2.dpad_up || gamepad2.dpad_down;
+        boolean tooFar = Math.abs(right.getCurrentPosition() - startPosition) > MAX_TRAVEL;
+        return !abort && !tooFar;
+    }
+
+    /**
+     * Let the mechanism come to rest between steps
+     */
+    private void settle() {
+        right.setPower(0);
+        sleep(400);
+    }
+}
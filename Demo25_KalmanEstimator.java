@@ -0,0 +1,345 @@
+/**
+ * ------------------------------------------------------------
+ *  FGC Team Australia 2025  |  FIRST Global Challenge
+ * ------------------------------------------------------------
+ *  Project: FGC101 - Java Demo Series
+ *  File:    Demo25_KalmanEstimator.java
+ *
+ *  Description:
+ *  This demo is part of the FGC101 video series created by
+ *  FGC Team Australia 2025. Our goal is to help rookie teams
+ *  understand programming logic and competition strategy
+ *  through short, simple examples.
+ *
+ *  Playlist: https://www.youtube.com/playlist?list=PL-29lId0PJrVEo0yJyprGheyRtR-ReDET
+ *  Author:   Muyao Zhang (from FGC Team Australia)
+ *  Date:     October 2025
+ *
+ *  Notes:
+ *  - We currently provide around 15 demo programs.
+ *  - These Java demos are not continuously updated.
+ *  - For detailed explanations, please refer to the FGC101 videos.
+ *
+ *  © FGC Team Australia 2025 | Educational Use Only
+ * ------------------------------------------------------------
+ */
+
+package org.firstinspires.ftc.teamcode;
+
+import com.qualcomm.robotcore.eventloop.opmode.TeleOp;
+import com.qualcomm.robotcore.eventloop.opmode.LinearOpMode;
+import com.qualcomm.robotcore.hardware.DcMotor;
+import com.qualcomm.robotcore.hardware.DcMotorEx;
+
+/**
+ * Demo 25: Kalman Position + Velocity Estimator
+ *
+ * Knowledge Point: Estimating what we can't measure cleanly (velocity)
+ *
+ * The PID in Demo10-Demo13 computes the derivative from raw integer
+ * encoder ticks. At a fast loop the position often changes by 0 or 1
+ * tick per loop, so (error - lastError) / dt jumps around wildly.
+ *
+ * A Kalman filter keeps a best guess of TWO states per motor:
+ * - position (ticks) and velocity (ticks/sec)
+ * Every loop it does two steps:
+ * 1. PREDICT: use a simple motor model + the power we commanded
+ *    (velocity moves towards maxVelocity·power with time constant tau)
+ * 2. CORRECT: compare the prediction with the encoder reading and
+ *    blend them using how much we trust each one (the Kalman gain)
+ *
+ * The result:
+ * - Smooth filtered velocity (great for the D term)
+ * - ⭐ Latency-compensated position: where the motor WILL be when our
+ *   new power actually reaches it (one loop + hub latency later)
+ *
+ * The estimator only uses double fields (no arrays, no objects created
+ * in update), so it is safe to run every loop for many motors.
+ *
+ * Hardware Required:
+ * - right (DcMotorEx motor with encoder)
+ * - bl, br (drive motors, bl with encoder)
+ * - fly (flywheel motor with encoder)
+ *
+ * Controls:
+ * GAMEPAD 1:
+ * - Left/Right Stick Y: Tank drive
+ * - L2: Hold bl with the estimator-based PD (like Demo13)
+ * - L1: Flywheel cycle (0% → 80% → 100%)
+ * GAMEPAD 2:
+ * - DPad Left/Right: Manual right motor, release: estimator-based PD hold
+ *
+ * How to Demonstrate:
+ * 1. Press INIT and START, spin up the flywheel with L1
+ * 2. Compare "Raw" and "Kalman" velocity for fly - Kalman is steady
+ * 3. Move the right motor and release - the hold is smooth, no D-term chatter
+ */
+@TeleOp(name="Demo25: Kalman Estimator", group="Demo")
+public class Demo25_KalmanEstimator extends LinearOpMode {
+
+    /**
+     * 2-state (position, velocity) Kalman filter for one encoder motor.
+     *
+     * Model:  v' = v + dt·(maxVelocity·power - v) / tau
+     *         p' = p + dt·v
+     * Measurement: encoder position (ticks)
+     *
+     * All math is written out with scalars (2x2 covariance = 3 numbers),
+     * so update() never allocates.
+     */
+    private static class MotorKalmanFilter {
+        // Model parameters
+        private final double maxVelocity;    // ticks/sec at power 1.0
+        private final double tau;            // seconds to reach ~63% of final speed
+        private final double accelNoise;     // process noise (ticks/sec²)²
+        private final double measurementNoise; // encoder noise (ticks²)
+
+        // State estimate
+        private double position = 0;
+        private double velocity = 0;
+        private double acceleration = 0;  // model acceleration from the last predict
+
+        // Covariance (symmetric 2x2): [pp pv; pv vv]
+        private double pp = 1, pv = 0, vv = 1000;
+
+        private long lastTimeNanos = 0;
+
+        MotorKalmanFilter(double maxVelocity, double tau, double accelNoise, double measurementNoise) {
+            this.maxVelocity = maxVelocity;
+            this.tau = tau;
+            this.accelNoise = accelNoise;
+            this.measurementNoise = measurementNoise;
+        }
+
+        /**
+         * Start from a known position at rest
+         */
+        void reset(double startPosition) {
+            position = startPosition;
+            velocity = 0;
+            acceleration = 0;
+            pp = 1;
+            pv = 0;
+            vv = 1000;
+            lastTimeNanos = 0;
+        }
+
+        /**
+         * One predict + correct step
+         * @param measuredPosition encoder reading (ticks)
+         * @param commandedPower   power sent to the motor LAST loop (what acted during dt)
+         */
+        void update(double measuredPosition, double commandedPower) {
+            long now = System.nanoTime();
+            if (lastTimeNanos == 0) {
+                lastTimeNanos = now;
+                position = measuredPosition;
+                return;
+            }
+            double dt = (now - lastTimeNanos) * 1e-9;
+            lastTimeNanos = now;
+            if (dt <= 0) return;
+
+            // ---- PREDICT ----
+            double a = (maxVelocity * commandedPower - velocity) / tau;
+            double f = 1.0 - dt / tau;          // velocity decay term of F
+            position += velocity * dt;
+            velocity += a * dt;
+            acceleration = a;
+
+            // P = F P Fᵀ + Q   with F = [1 dt; 0 f]
+            double newPP = pp + 2 * dt * pv + dt * dt * vv;
+            double newPV = f * (pv + dt * vv);
+            double newVV = f * f * vv;
+
+            // Q from white-noise acceleration
+            double dt2 = dt * dt;
+            newPP += accelNoise * dt2 * dt / 3.0;
+            newPV += accelNoise * dt2 / 2.0;
+            newVV += accelNoise * dt;
+
+            // ---- CORRECT ---- (H = [1 0])
+            double s = newPP + measurementNoise;
+            double kPos = newPP / s;
+            double kVel = newPV / s;
+            double innovation = measuredPosition - position;
+
+            position += kPos * innovation;
+            velocity += kVel * innovation;
+
+            pp = (1 - kPos) * newPP;
+            pv = (1 - kPos) * newPV;
+            vv = newVV - kVel * newPV;
+        }
+
+        double getPosition() {
+            return position;
+        }
+
+        double getVelocity() {
+            return velocity;
+        }
+
+        /**
+         * Where the motor will be after a delay (e.g. until our command takes effect)
+         */
+        double predictPosition(double latencySeconds) {
+            return position + velocity * latencySeconds
+                    + 0.5 * acceleration * latencySeconds * latencySeconds;
+        }
+    }
+
+    private DcMotor bl, br, fly;
+    private DcMotorEx right;
+
+    // One estimator per motor (maxVelocity, tau, accelNoise, measurementNoise)
+    private MotorKalmanFilter rightEstimator = new MotorKalmanFilter(2500, 0.08, 5e6, 0.5);
+    private MotorKalmanFilter blEstimator = new MotorKalmanFilter(2800, 0.15, 5e6, 0.5);
+    private MotorKalmanFilter flyEstimator = new MotorKalmanFilter(2800, 0.40, 2e6, 0.5);
+
+    // Last commanded powers (the model needs what actually acted on the motor)
+    private double rightPower = 0, blPower = 0, flyPower = 0;
+
+    // Actuation latency: about one loop + hub round trip
+    private final double ACTUATION_LATENCY = 0.015;
+
+    // PD gains using FILTERED velocity instead of a raw derivative
+    private final double Kp = 0.01;
+    private final double Kd = 0.0004;
+
+    private int rightTarget = 0;
+    private boolean rightHoldEnabled = false;
+    private int blTarget = 0;
+    private boolean blHoldEnabled = false;
+
+    private int flyState = 0;
+    private boolean lastL1 = false;
+    private int lastFlyPosition = 0;
+    private long lastFlyTime = 0;
+
+    @Override
+    public void runOpMode() {
+        bl = hardwareMap.get(DcMotor.class, "bl");
+        br = hardwareMap.get(DcMotor.class, "br");
+        fly = hardwareMap.get(DcMotor.class, "fly");
+        right = hardwareMap.get(DcMotorEx.class, "right");
+
+        bl.setDirection(DcMotor.Direction.REVERSE);
+        br.setDirection(DcMotor.Direction.FORWARD);
+        fly.setDirection(DcMotor.Direction.REVERSE);
+        right.setDirection(DcMotorEx.Direction.FORWARD);
+        right.setZeroPowerBehavior(DcMotorEx.ZeroPowerBehavior.BRAKE);
+
+        bl.setMode(DcMotor.RunMode.STOP_AND_RESET_ENCODER);
+        bl.setMode(DcMotor.RunMode.RUN_WITHOUT_ENCODER);
+        fly.setMode(DcMotor.RunMode.STOP_AND_RESET_ENCODER);
+        fly.setMode(DcMotor.RunMode.RUN_WITHOUT_ENCODER);
+        right.setMode(DcMotorEx.RunMode.STOP_AND_RESET_ENCODER);
+        right.setMode(DcMotorEx.RunMode.RUN_WITHOUT_ENCODER);
+
+        rightEstimator.reset(0);
+        blEstimator.reset(0);
+        flyEstimator.reset(0);
+
+        telemetry.addData("Status", "Ready");
+        telemetry.addData("Knowledge Point", "Kalman filter: position + velocity");
+        telemetry.addData("Tip", "Compare raw vs Kalman flywheel velocity");
+        telemetry.update();
+
+        waitForStart();
+
+        while (opModeIsActive()) {
+            // ═══ ESTIMATORS: read each encoder once, update with last power ═══
+            int rightPosition = right.getCurrentPosition();
+            int blPosition = bl.getCurrentPosition();
+            int flyPosition = fly.getCurrentPosition();
+
+            rightEstimator.update(rightPosition, rightPower);
+            blEstimator.update(blPosition, blPower);
+            flyEstimator.update(flyPosition, flyPower);
+
+            // ═══ DRIVE + L2 HOLD (bl uses the estimator) ═══
+            blPower = -gamepad1.left_stick_y;
+            double brPower = -gamepad1.right_stick_y;
+
+            if (gamepad1.left_trigger > 0.5) {
+                if (!blHoldEnabled) {
+                    blTarget = blPosition;
+                    blHoldEnabled = true;
+                }
+                blPower = estimatorPD(blTarget, blEstimator);
+                brPower = -0.7;
+            } else {
+                blHoldEnabled = false;
+            }
+
+            bl.setPower(blPower);
+            br.setPower(brPower);
+
+            // ═══ FLYWHEEL ═══
+            boolean currentL1 = gamepad1.left_bumper;
+            if (currentL1 && !lastL1) {
+                flyState = (flyState + 1) % 3;
+            }
+            lastL1 = currentL1;
+
+            flyPower = flyState == 0 ? 0.0 : (flyState == 1 ? 0.8 : 1.0);
+            fly.setPower(flyPower);
+
+            // Raw velocity the old way, just for comparison
+            long now = System.nanoTime();
+            double rawFlyVelocity = 0;
+            if (lastFlyTime != 0) {
+                rawFlyVelocity = (flyPosition - lastFlyPosition) / ((now - lastFlyTime) * 1e-9);
+            }
+            lastFlyPosition = flyPosition;
+            lastFlyTime = now;
+
+            // ═══ RIGHT MOTOR (estimator-based PD hold) ═══
+            boolean dpadLeft = gamepad2.dpad_left;
+            boolean dpadRight = gamepad2.dpad_right;
+
+            if (dpadLeft && !dpadRight) {
+                rightHoldEnabled = false;
+                rightPower = -0.5;
+            } else if (dpadRight && !dpadLeft) {
+                rightHoldEnabled = false;
+                rightPower = 0.5;
+            } else {
+                if (!rightHoldEnabled) {
+                    rightTarget = rightPosition;
+                    rightHoldEnabled = true;
+                }
+                rightPower = estimatorPD(rightTarget, rightEstimator);
+            }
+            right.setPower(rightPower);
+
+            // Display status
+            telemetry.addData("=== KALMAN ESTIMATOR ===", "");
+            telemetry.addData("Right Pos", "raw %d | est %.1f | pred %.1f",
+                    rightPosition, rightEstimator.getPosition(),
+                    rightEstimator.predictPosition(ACTUATION_LATENCY));
+            telemetry.addData("Right Vel", "%.0f ticks/s", rightEstimator.getVelocity());
+            telemetry.addData("Right Power", "%.3f (%s)", rightPower, rightHoldEnabled ? "HOLD" : "Manual");
+            telemetry.addData("", "");
+            telemetry.addData("BL Pos", "raw %d | est %.1f", blPosition, blEstimator.getPosition());
+            telemetry.addData("BL Vel", "%.0f ticks/s", blEstimator.getVelocity());
+            telemetry.addData("", "");
+            telemetry.addData("Fly Vel Raw", "%.0f ticks/s", rawFlyVelocity);
+            telemetry.addData("Fly Vel Kalman", "%.0f ticks/s", flyEstimator.getVelocity());
+            telemetry.addData("", "");
+            telemetry.addData("Controls", "GP1 L1: Fly | L2: BL hold | GP2 DPad: Right");
+            telemetry.update();
+        }
+    }
+
+    /**
+     * PD towards a target using the estimator instead of a raw derivative.
+     * P acts on the latency-compensated position, D on the filtered velocity.
+     */
+    private double estimatorPD(int target, MotorKalmanFilter estimator) {
+        double predicted = estimator.predictPosition(ACTUATION_LATENCY);
+        double power = Kp * (target - predicted) - Kd * estimator.getVelocity();
+        return Math.max(-1, Math.min(1, power));
+    }
+}
@@ -0,0 +1,301 @@
+/**
+ * ------------------------------------------------------------
+ *  FGC Team Australia 2025  |  FIRST Global Challenge
+ * ------------------------------------------------------------
+ *  Project: FGC101 - Java Demo Series
+ *  File:    Demo26_SysIdFitter.java
+ *
+ *  Description:
+ *  This demo is part of the FGC101 video series created by
+ *  FGC Team Australia 2025. Our goal is to help rookie teams
+ *  understand programming logic and competition strategy
+ *  through short, simple examples.
+ *
+ *  Playlist: https://www.youtube.com/playlist?list=PL-29lId0PJrVEo0yJyprGheyRtR-ReDET
+ *  Author:   Muyao Zhang (from FGC Team Australia)
+ *  Date:     October 2025
+ *
+ *  Notes:
+ *  - We currently provide around 15 demo programs.
+ *  - These Java demos are not continuously updated.
+ *  - For detailed explanations, please refer to the FGC101 videos.
+ *
+ *  © FGC Team Australia 2025 | Educational Use Only
+ * ------------------------------------------------------------
+ */
+
+package org.firstinspires.ftc.teamcode;
+
+import java.io.FileInputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+
+/**
+ * Demo 26 (laptop part): System Identification Fitter
+ *
+ * Knowledge Point: Least squares fitting, one sample at a time (streaming)
+ *
+ * This is NOT an OpMode. It runs on a laptop with plain Java:
+ *
+ *   javac -d out Demo26_SysIdFitter.java
+ *   java -cp out org.firstinspires.ftc.teamcode.Demo26_SysIdFitter fly_123.csv [fly_gains.txt]
+ *
+ * It reads the CSV written by Demo26_SysIdLogger and fits:
+ *
+ *   volts = kS·sign(velocity) + kV·velocity + kA·acceleration
+ *
+ * Acceleration is not logged, so we compute it from the velocity of the
+ * samples before and after (central difference).
+ *
+ * How the fit stays fast on multi-million-line logs:
+ * - Least squares only needs the sums XᵀX (3x3) and Xᵀy (3 numbers).
+ *   We add each sample into those sums and throw it away, so memory use
+ *   does not grow with the log size.
+ * - The file is read in big byte blocks and numbers are parsed straight
+ *   from the bytes (no String per line, no split()).
+ * At the end we solve the 3x3 system and write kS/kV/kA to a gains file.
+ */
+public class Demo26_SysIdFitter {
+
+    // Ignore samples slower than this (ticks/sec): sign(velocity) is unreliable near 0
+    private static final double MIN_VELOCITY = 10.0;
+
+    // Normal equation sums (symmetric 3x3 stored as 6 numbers)
+    private double sSS, sSV, sSA, sVV, sVA, sAA;
+    private double sSY, sVY, sAY;
+    private double sY, sYY;
+    private long samplesUsed = 0;
+    private long linesRead = 0;
+
+    // Previous two samples of the current run (for central difference)
+    private int prevRun = -1;
+    private int samplesInRun = 0;
+    private double t1, v1, y1;   // sample i-1
+    private double t2, v2;       // sample i-2
+
+    private String motorName = "unknown";
+
+    // Fitted result
+    private double kS, kV, kA, rSquared;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("Usage: Demo26_SysIdFitter <log.csv> [gains.txt]");
+            return;
+        }
+
+        String logPath = args[0];
+        String gainsPath = args.length > 1 ? args[1]
+                : logPath.replaceAll("\\.csv$", "") + "_gains.txt";
+
+        Demo26_SysIdFitter fitter = new Demo26_SysIdFitter();
+        long start = System.nanoTime();
+        try (InputStream in = new FileInputStream(logPath)) {
+            fitter.readLog(in);
+        }
+        if (!fitter.solve()) {
+            System.out.println("Not enough usable samples (" + fitter.samplesUsed + ") - run more tests");
+            return;
+        }
+        double seconds = (System.nanoTime() - start) * 1e-9;
+
+        fitter.writeGains(gainsPath);
+
+        System.out.println("=== SYSID RESULT (" + fitter.motorName + ") ===");
+        System.out.printf("Lines read:   %d (%d used) in %.2f s%n", fitter.linesRead, fitter.samplesUsed, seconds);
+        System.out.printf("kS = %.5f V%n", fitter.kS);
+        System.out.printf("kV = %.7f V per tick/s%n", fitter.kV);
+        System.out.printf("kA = %.7f V per tick/s^2%n", fitter.kA);
+        System.out.printf("R^2 = %.4f%n", fitter.rSquared);
+        System.out.println("Gains written to " + gainsPath);
+    }
+
+    /**
+     * Stream the whole log through the accumulator
+     */
+    private void readLog(InputStream in) throws IOException {
+        byte[] buffer = new byte[1 << 20];
+        byte[] lineBytes = new byte[256];
+        int lineLength = 0;
+        int read;
+
+        while ((read = in.read(buffer)) > 0) {
+            for (int i = 0; i < read; i++) {
+                byte b = buffer[i];
+                if (b == '\n') {
+                    handleLine(lineBytes, lineLength);
+                    lineLength = 0;
+                } else if (b != '\r' && lineLength < lineBytes.length) {
+                    lineBytes[lineLength++] = b;
+                }
+            }
+        }
+        if (lineLength > 0) {
+            handleLine(lineBytes, lineLength);
+        }
+    }
+
+    // Reusable parse cursor (avoids creating objects per line)
+    private int cursor;
+
+    private void handleLine(byte[] line, int length) {
+        if (length == 0) return;
+        linesRead++;
+
+        if (line[0] == '#') {
+            String comment = new String(line, 0, length);
+            int index = comment.indexOf("motor=");
+            if (index >= 0) motorName = comment.substring(index + 6).trim();
+            return;
+        }
+        if (line[0] == 'r') return;  // header "run,time,..."
+
+        cursor = 0;
+        int run = (int) parseNumber(line, length);
+        double time = parseNumber(line, length);
+        double volts = parseNumber(line, length);
+        parseNumber(line, length);  // position (not needed for the fit)
+        double velocity = parseNumber(line, length);
+
+        addSample(run, time, volts, velocity);
+    }
+
+    /**
+     * Parse the next comma-separated decimal number starting at cursor
+     */
+    private double parseNumber(byte[] line, int length) {
+        boolean negative = false;
+        long mantissa = 0;
+        int fractionDigits = 0;
+        boolean inFraction = false;
+        int exponent = 0;
+
+        int i = cursor;
+        if (i < length && (line[i] == '-' || line[i] == '+')) {
+            negative = line[i] == '-';
+            i++;
+        }
+        for (; i < length; i++) {
+            byte b = line[i];
+            if (b >= '0' && b <= '9') {
+                // Keep 18 significant digits, more don't matter for a double
+                if (mantissa < 100_000_000_000_000_000L) {
+                    mantissa = mantissa * 10 + (b - '0');
+                    if (inFraction) fractionDigits++;
+                } else if (!inFraction) {
+                    exponent++;
+                }
+            } else if (b == '.') {
+                inFraction = true;
+            } else if (b == 'E' || b == 'e') {
+                i++;
+                boolean expNegative = false;
+                if (i < length && (line[i] == '-' || line[i] == '+')) {
+                    expNegative = line[i] == '-';
+                    i++;
+                }
+                int e = 0;
+                for (; i < length && line[i] >= '0' && line[i] <= '9'; i++) {
+                    e = e * 10 + (line[i] - '0');
+                }
+                exponent += expNegative ? -e : e;
+                break;
+            } else {
+                break;  // comma or anything else ends the number
+            }
+        }
+        // Skip to just after the next comma
+        while (i < length && line[i] != ',') i++;
+        cursor = i + 1;
+
+        double value = mantissa * Math.pow(10, exponent - fractionDigits);
+        return negative ? -value : value;
+    }
+
+    /**
+     * Add one logged sample. Samples are delayed by one so that the
+     * acceleration of sample i-1 can use samples i-2 and i.
+     */
+    private void addSample(int run, double time, double volts, double velocity) {
+        if (run != prevRun || time < t1) {
+            // New test run: acceleration can't span two runs
+            prevRun = run;
+            samplesInRun = 0;
+        }
+
+        if (samplesInRun >= 2 && time > t2) {
+            double acceleration = (velocity - v2) / (time - t2);
+            accumulate(v1, acceleration, y1);
+        }
+
+        t2 = t1;
+        v2 = v1;
+        t1 = time;
+        v1 = velocity;
+        y1 = volts;
+        samplesInRun++;
+    }
+
+    private void accumulate(double velocity, double acceleration, double volts) {
+        if (Math.abs(velocity) < MIN_VELOCITY) return;
+
+        double s = Math.signum(velocity);
+        sSS += s * s;
+        sSV += s * velocity;
+        sSA += s * acceleration;
+        sVV += velocity * velocity;
+        sVA += velocity * acceleration;
+        sAA += acceleration * acceleration;
+        sSY += s * volts;
+        sVY += velocity * volts;
+        sAY += acceleration * volts;
+        sY += volts;
+        sYY += volts * volts;
+        samplesUsed++;
+    }
+
+    /**
+     * Solve (XᵀX) β = Xᵀy with Cramer's rule
+     * @return false if the system can't be solved
+     */
+    private boolean solve() {
+        if (samplesUsed < 3) return false;
+
+        double det = determinant(sSS, sSV, sSA, sSV, sVV, sVA, sSA, sVA, sAA);
+        if (Math.abs(det) < 1e-12) return false;
+
+        kS = determinant(sSY, sSV, sSA, sVY, sVV, sVA, sAY, sVA, sAA) / det;
+        kV = determinant(sSS, sSY, sSA, sSV, sVY, sVA, sSA, sAY, sAA) / det;
+        kA = determinant(sSS, sSV, sSY, sSV, sVV, sVY, sSA, sVA, sAY) / det;
+
+        // R² from the sums: residual = yᵀy - βᵀXᵀy, total = yᵀy - n·mean²
+        double meanY = sY / samplesUsed;
+        double residual = sYY - (kS * sSY + kV * sVY + kA * sAY);
+        double total = sYY - samplesUsed * meanY * meanY;
+        rSquared = total > 0 ? 1.0 - residual / total : 0;
+        return true;
+    }
+
+    private static double determinant(double a, double b, double c,
+                                      double d, double e, double f,
+                                      double g, double h, double i) {
+        return a * (e * i - f * h) - b * (d * i - f * g) + c * (d * h - e * g);
+    }
+
+    /**
+     * Write gains as simple "key=value" lines
+     */
+    private void writeGains(String path) throws IOException {
+        try (PrintWriter out = new PrintWriter(new FileWriter(path))) {
+            out.println("# SysId result from Demo26_SysIdFitter");
+            out.println("motor=" + motorName);
+            out.println("kS=" + kS);
+            out.println("kV=" + kV);
+            out.println("kA=" + kA);
+            out.println("rSquared=" + rSquared);
+            out.println("samples=" + samplesUsed);
+        }
+    }
+}
@@ -0,0 +1,302 @@
+/**
+ * ------------------------------------------------------------
+ *  FGC Team Australia 2025  |  FIRST Global Challenge
+ * ------------------------------------------------------------
+ *  Project: FGC101 - Java Demo Series
+ *  File:    Demo26_SysIdLogger.java
+ *
+ *  Description:
+ *  This demo is part of the FGC101 video series created by
+ *  FGC Team Australia 2025. Our goal is to help rookie teams
+ *  understand programming logic and competition strategy
+ *  through short, simple examples.
+ *
+ *  Playlist: https://www.youtube.com/playlist?list=PL-29lId0PJrVEo0yJyprGheyRtR-ReDET
+ *  Author:   Muyao Zhang (from FGC Team Australia)
+ *  Date:     October 2025
+ *
+ *  Notes:
+ *  - We currently provide around 15 demo programs.
+ *  - These Java demos are not continuously updated.
+ *  - For detailed explanations, please refer to the FGC101 videos.
+ *
+ *  © FGC Team Australia 2025 | Educational Use Only
+ * ------------------------------------------------------------
+ */
+
+package org.firstinspires.ftc.teamcode;
+
+import com.qualcomm.robotcore.eventloop.opmode.TeleOp;
+import com.qualcomm.robotcore.eventloop.opmode.LinearOpMode;
+import com.qualcomm.robotcore.hardware.DcMotorEx;
+import com.qualcomm.robotcore.hardware.VoltageSensor;
+import com.qualcomm.robotcore.util.ElapsedTime;
+
+import org.firstinspires.ftc.robotcore.internal.system.AppUtil;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+
+/**
+ * Demo 26: System Identification Logger
+ *
+ * Knowledge Point: Measuring how a motor REALLY behaves (kS, kV, kA)
+ *
+ * Every gain in Demo15 (flyPowerLow, rightMotorPower, PID gains) is a guess.
+ * System identification replaces guesses with numbers. A DC motor
+ * roughly follows:
+ *
+ *   voltage = kS·sign(velocity) + kV·velocity + kA·acceleration
+ *
+ * This OpMode runs two kinds of tests on ONE selected motor and logs
+ * time, voltage, position and velocity to a CSV file:
+ * - QUASISTATIC: voltage ramps up slowly → acceleration ≈ 0 → gives kS, kV
+ * - STEP: voltage jumps to a fixed value → big acceleration → gives kA
+ *
+ * The log is then fitted OFFLINE on a laptop with Demo26_SysIdFitter
+ * (least squares), which writes the gains to a small text file.
+ *
+ * We command VOLTAGE (power × battery voltage) so that results don't
+ * change when the battery drains.
+ *
+ * Hardware Required:
+ * - The selected motor (must have an encoder), e.g. fly, right, bl
+ * - Mechanism must be free to spin (lift the robot for drive motors!)
+ *
+ * Controls (GAMEPAD 1):
+ * - DPad Up/Down: Select motor (only while no test is running)
+ * - A: Quasistatic forward    B: Quasistatic reverse
+ * - X: Step forward           Y: Step reverse
+ * - Back: ABORT test immediately
+ *
+ * How to Demonstrate:
+ * 1. Press INIT and START, select "fly" with DPad
+ * 2. Run A, B, X, Y (one after another, let the wheel stop in between)
+ * 3. Copy the CSV from /sdcard/FIRST/sysid/ to your laptop
+ * 4. Run the fitter (see Demo26_SysIdFitter) to get kS, kV, kA
+ */
+@TeleOp(name="Demo26: SysId Logger", group="Demo")
+public class Demo26_SysIdLogger extends LinearOpMode {
+
+    // Motors that can be tested (names from Demo15)
+    private final String[] MOTOR_NAMES = {
+        "fly", "right", "bl", "br", "intake", "fast", "climbleft", "climbright"
+    };
+
+    // Test settings
+    private final double QUASISTATIC_RAMP = 0.5;   // volts per second
+    private final double STEP_VOLTAGE = 6.0;       // volts
+    private final double MAX_VOLTAGE = 9.0;        // never go above this
+    private final double QUASISTATIC_TIME = 12.0;  // seconds (max)
+    private final double STEP_TIME = 2.0;          // seconds
+
+    private int selectedMotor = 0;
+    private DcMotorEx motor;
+    private VoltageSensor batterySensor;
+
+    // Log file
+    private File logFile;
+    private BufferedWriter logWriter;
+    private int runNumber = 0;
+    private int samplesLogged = 0;
+    private StringBuilder line = new StringBuilder(64);
+
+    private String lastResult = "No test yet";
+
+    // Button state tracking (for edge detection)
+    private boolean lastDpadUp = false;
+    private boolean lastDpadDown = false;
+    private boolean lastA = false;
+    private boolean lastB = false;
+    private boolean lastX = false;
+    private boolean lastY = false;
+
+    @Override
+    public void runOpMode() {
+        batterySensor = hardwareMap.voltageSensor.iterator().next();
+
+        telemetry.addData("Status", "Ready - SysId Logger");
+        telemetry.addData("Knowledge Point", "Measure kS / kV / kA");
+        telemetry.addData("⚠ Warning", "Mechanism must be free to spin!");
+        telemetry.update();
+
+        waitForStart();
+
+        while (opModeIsActive()) {
+            // Select motor (edge detection)
+            boolean dpadUp = gamepad1.dpad_up;
+            boolean dpadDown = gamepad1.dpad_down;
+            if (dpadUp && !lastDpadUp) {
+                selectMotor((selectedMotor + 1) % MOTOR_NAMES.length);
+            }
+            if (dpadDown && !lastDpadDown) {
+                selectMotor((selectedMotor + MOTOR_NAMES.length - 1) % MOTOR_NAMES.length);
+            }
+            lastDpadUp = dpadUp;
+            lastDpadDown = dpadDown;
+
+            // Start a test on the PRESS (edge detection) - holding the button
+            // must not start the same test again as soon as it finishes.
+            // Each test blocks until it finishes or is aborted.
+            boolean a = gamepad1.a;
+            boolean b = gamepad1.b;
+            boolean x = gamepad1.x;
+            boolean y = gamepad1.y;
+            if (a && !lastA) {
+                runTest("quasistatic+", true, 1);
+            } else if (b && !lastB) {
+                runTest("quasistatic-", true, -1);
+            } else if (x && !lastX) {
+                runTest("step+", false, 1);
+            } else if (y && !lastY) {
+                runTest("step-", false, -1);
+            }
+            lastA = a;
+            lastB = b;
+            lastX = x;
+            lastY = y;
+
+            telemetry.addData("=== SYSID LOGGER ===", "");
+            telemetry.addData("Motor", MOTOR_NAMES[selectedMotor]);
+            telemetry.addData("Battery", "%.2f V", batterySensor.getVoltage());
+            telemetry.addData("Log File", logFile == null ? "(created on first test)" : logFile.getName());
+            telemetry.addData("Runs Logged", "%d (%d samples)", runNumber, samplesLogged);
+            telemetry.addData("Last Result", lastResult);
+            telemetry.addData("", "");
+            telemetry.addData("Controls", "DPad: Motor | A/B: Quasi | X/Y: Step");
+            telemetry.update();
+        }
+
+        closeLog();
+    }
+
+    /**
+     * Switch to another motor (starts a new log file on the next test)
+     */
+    private void selectMotor(int index) {
+        closeLog();
+        selectedMotor = index;
+        motor = null;
+        logFile = null;
+    }
+
+    /**
+     * Run one test and log every loop
+     * @param quasistatic true = slow ramp, false = step
+     * @param direction   1 forward, -1 reverse
+     */
+    private void runTest(String testName, boolean quasistatic, int direction) {
+        if (!openLog()) return;
+
+        runNumber++;
+        lastResult = "Running " + testName;
+        double duration = quasistatic ? QUASISTATIC_TIME : STEP_TIME;
+        ElapsedTime testTimer = new ElapsedTime();
+        int samplesThisRun = 0;
+
+        while (opModeIsActive() && testTimer.seconds() < duration) {
+            if (gamepad1.back) {
+                lastResult = "ABORTED " + testName;
+                break;
+            }
+
+            double t = testTimer.seconds();
+            double volts = quasistatic ? QUASISTATIC_RAMP * t : STEP_VOLTAGE;
+            volts = direction * Math.min(volts, MAX_VOLTAGE);
+
+            // Voltage command → power using the current battery voltage
+            double battery = batterySensor.getVoltage();
+            double power = Math.max(-1, Math.min(1, volts / battery));
+            motor.setPower(power);
+
+            // Log what actually reached the motor
+            logSample(t, power * battery, motor.getCurrentPosition(), motor.getVelocity());
+            samplesThisRun++;
+
+            telemetry.addData("=== RUNNING " + testName + " ===", "");
+            telemetry.addData("Time", "%.1f / %.1f s", t, duration);
+            telemetry.addData("Voltage", "%.2f V", power * battery);
+            telemetry.addData("Velocity", "%.0f ticks/s", motor.getVelocity());
+            telemetry.addData("Abort", "Press BACK");
+            telemetry.update();
+        }
+
+        motor.setPower(0);
+        if (!lastResult.startsWith("ABORTED")) {
+            lastResult = testName + ": " + samplesThisRun + " samples";
+        }
+        flushLog();
+
+        // Let the motor spin down before the next test can start
+        sleep(1500);
+    }
+
+    /**
+     * Open the log file for the selected motor (once per motor selection)
+     * @return false if the file can't be written
+     */
+    private boolean openLog() {
+        if (logWriter != null) return true;
+
+        String name = MOTOR_NAMES[selectedMotor];
+        motor = hardwareMap.get(DcMotorEx.class, name);
+        motor.setMode(DcMotorEx.RunMode.STOP_AND_RESET_ENCODER);
+        motor.setMode(DcMotorEx.RunMode.RUN_WITHOUT_ENCODER);
+        motor.setZeroPowerBehavior(DcMotorEx.ZeroPowerBehavior.FLOAT);
+
+        try {
+            File directory = new File(AppUtil.FIRST_FOLDER, "sysid");
+            directory.mkdirs();
+            logFile = new File(directory, name + "_" + System.currentTimeMillis() + ".csv");
+            logWriter = new BufferedWriter(new FileWriter(logFile), 64 * 1024);
+            logWriter.write("# motor=" + name + "\n");
+            logWriter.write("run,time,volts,position,velocity\n");
+            runNumber = 0;
+            samplesLogged = 0;
+            return true;
+        } catch (IOException e) {
+            lastResult = "Can't write log: " + e.getMessage();
+            logWriter = null;
+            return false;
+        }
+    }
+
+    /**
+     * Append one CSV line (reuses one StringBuilder, no String.format)
+     */
+    private void logSample(double time, double volts, int position, double velocity) {
+        line.setLength(0);
+        line.append(runNumber).append(',')
+            .append(time).append(',')
+            .append(volts).append(',')
+            .append(position).append(',')
+            .append(velocity).append('\n');
+        try {
+            logWriter.append(line);
+            samplesLogged++;
+        } catch (IOException e) {
+            lastResult = "Log write failed: " + e.getMessage();
+        }
+    }
+
+    private void flushLog() {
+        if (logWriter == null) return;
+        try {
+            logWriter.flush();
+        } catch (IOException e) {
+            lastResult = "Log flush failed: " + e.getMessage();
+        }
+    }
+
+    private void closeLog() {
+        if (logWriter == null) return;
+        try {
+            logWriter.close();
+        } catch (IOException e) {
+            // Nothing else we can do at this point
+        }
+        logWriter = null;
+    }
+}
@@ -0,0 +1,494 @@
+/**
+ * ------------------------------------------------------------
+ *  FGC Team Australia 2025  |  FIRST Global Challenge
+ * ------------------------------------------------------------
+ *  Project: FGC101 - Java Demo Series
+ *  File:    Demo27_PIDGainSweep.java
+ *
+ *  Description:
+ *  This demo is part of the FGC101 video series created by
+ *  FGC Team Australia 2025. Our goal is to help rookie teams
+ *  understand programming logic and competition strategy
+ *  through short, simple examples.
+ *
+ *  Playlist: https://www.youtube.com/playlist?list=PL-29lId0PJrVEo0yJyprGheyRtR-ReDET
+ *  Author:   Muyao Zhang (from FGC Team Australia)
+ *  Date:     October 2025
+ *
+ *  Notes:
+ *  - We currently provide around 15 demo programs.
+ *  - These Java demos are not continuously updated.
+ *  - For detailed explanations, please refer to the FGC101 videos.
+ *
+ *  © FGC Team Australia 2025 | Educational Use Only
+ * ------------------------------------------------------------
+ */
+
+package org.firstinspires.ftc.teamcode;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Demo 27 (laptop tool): Parallel PID Gain Sweep
+ *
+ * Knowledge Point: Tuning in SIMULATION, using every CPU core
+ *
+ * Tuning rightPIDController and the Demo11 dead zone (5 ticks, 0.1 power)
+ * on the real robot takes whole practice days. This tool tries thousands
+ * of gain sets in a headless simulation of the "right" mechanism instead:
+ *
+ * - MotorModel:  volts = kS·sign(v) + kV·v + kA·a   (numbers from Demo26 SysId)
+ * - Controller:  exactly the Demo12 logic (PID + dead zone + timeout/recovery)
+ * - Scenarios:   release while moving, push disturbance, step, blocked motor
+ * - Score:       settle time + overshoot + energy (+ steady-state error)
+ *
+ * Candidates are split between CPU cores with fork/join: each task
+ * either simulates a small batch itself or splits in half and hands the
+ * halves to other threads.
+ *
+ *   javac -d out Demo27_PIDGainSweep.java
+ *   java -cp out org.firstinspires.ftc.teamcode.Demo27_PIDGainSweep [options]
+ *
+ * Options:
+ *   --random N        N random candidates instead of the default grid
+ *   --seed S          random seed (default 1)
+ *   --gains FILE      motor gains file written by Demo26_SysIdFitter
+ *   --top N           rows in the ranked table (default 20)
+ *   --csv FILE        also write ALL results as CSV
+ *
+ * The simulator (MotorModel, ControlParams, simulate) is package-private
+ * so other laptop tools, like the Demo28 optimizer, can reuse it.
+ */
+public class Demo27_PIDGainSweep {
+
+    /**
+     * DC motor + mechanism model in encoder ticks (from SysId)
+     */
+    static final class MotorModel {
+        double kS = 0.6;              // volts to break static friction
+        double kV = 12.0 / 2500.0;    // volts per tick/sec
+        double kA = 0.0008;           // volts per tick/sec²
+        double batteryVolts = 12.0;
+
+        /**
+         * Load kS/kV/kA from a Demo26_SysIdFitter gains file
+         */
+        static MotorModel load(String path) throws IOException {
+            MotorModel model = new MotorModel();
+            try (BufferedReader in = new BufferedReader(new FileReader(path))) {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    int eq = line.indexOf('=');
+                    if (line.startsWith("#") || eq < 0) continue;
+                    String key = line.substring(0, eq).trim();
+                    String value = line.substring(eq + 1).trim();
+                    switch (key) {
+                        case "kS": model.kS = Double.parseDouble(value); break;
+                        case "kV": model.kV = Double.parseDouble(value); break;
+                        case "kA": model.kA = Double.parseDouble(value); break;
+                    }
+                }
+            }
+            return model;
+        }
+    }
+
+    /**
+     * Everything the Demo12 controller can be tuned with
+     */
+    static final class ControlParams {
+        double kp = 0.1, ki = 0, kd = 0.001;   // Demo12 defaults
+        int deadZoneTicks = 5;
+        double deadZonePower = 0.1;
+        double timeoutSeconds = 3.0;
+        int recoveryTicks = 3;
+
+        // Filled in after simulation
+        double settleTime, overshoot, energy, steadyStateError, score;
+
+        ControlParams copy() {
+            ControlParams c = new ControlParams();
+            c.kp = kp;
+            c.ki = ki;
+            c.kd = kd;
+            c.deadZoneTicks = deadZoneTicks;
+            c.deadZonePower = deadZonePower;
+            c.timeoutSeconds = timeoutSeconds;
+            c.recoveryTicks = recoveryTicks;
+            return c;
+        }
+    }
+
+    // Simulation settings
+    static final double DT = 0.01;            // 100 Hz, similar to a real loop
+    static final double SCENARIO_TIME = 3.0;  // seconds per scenario
+    static final int SETTLE_BAND = 2;         // ticks
+
+    // Score weights (1 second settle ≈ 20 ticks overshoot ≈ 10 power·seconds)
+    static final double W_SETTLE = 1.0;
+    static final double W_OVERSHOOT = 0.05;
+    static final double W_ENERGY = 0.1;
+    static final double W_STEADY_STATE = 0.2;
+
+    private static final int BATCH_SIZE = 16;
+
+    public static void main(String[] args) throws IOException {
+        int randomCount = 0;
+        long seed = 1;
+        int top = 20;
+        String csvPath = null;
+        MotorModel model = new MotorModel();
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--random": randomCount = Integer.parseInt(args[++i]); break;
+                case "--seed":   seed = Long.parseLong(args[++i]); break;
+                case "--gains":  model = MotorModel.load(args[++i]); break;
+                case "--top":    top = Integer.parseInt(args[++i]); break;
+                case "--csv":    csvPath = args[++i]; break;
+                default:
+                    System.out.println("Unknown option: " + args[i]);
+                    return;
+            }
+        }
+
+        String problem = checkOvershootMetric(model);
+        if (problem != null) {
+            System.out.println("Self-check failed: " + problem);
+            return;
+        }
+
+        ControlParams[] candidates = randomCount > 0
+                ? randomCandidates(randomCount, new Random(seed))
+                : gridCandidates();
+
+        // Baseline: the gains the robot uses today
+        ControlParams baseline = new ControlParams();
+        simulate(baseline, model);
+
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool();
+        pool.invoke(new SweepTask(candidates, 0, candidates.length, model));
+        pool.shutdown();
+        double seconds = (System.nanoTime() - start) * 1e-9;
+
+        Arrays.sort(candidates, new Comparator<ControlParams>() {
+            @Override
+            public int compare(ControlParams a, ControlParams b) {
+                return Double.compare(a.score, b.score);
+            }
+        });
+
+        System.out.printf("=== PID GAIN SWEEP: %d candidates, %d threads, %.2f s ===%n",
+                candidates.length, pool.getParallelism(), seconds);
+        printHeader();
+        printRow("today", baseline);
+        for (int i = 0; i < Math.min(top, candidates.length); i++) {
+            printRow("#" + (i + 1), candidates[i]);
+        }
+
+        if (csvPath != null) {
+            writeCsv(csvPath, candidates);
+            System.out.println("All results written to " + csvPath);
+        }
+    }
+
+    /**
+     * Fork/join task: simulate a small batch, or split in two
+     */
+    private static final class SweepTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final ControlParams[] candidates;
+        private final int from, to;
+        private final MotorModel model;
+
+        SweepTask(ControlParams[] candidates, int from, int to, MotorModel model) {
+            this.candidates = candidates;
+            this.from = from;
+            this.to = to;
+            this.model = model;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BATCH_SIZE) {
+                for (int i = from; i < to; i++) {
+                    simulate(candidates[i], model);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new SweepTask(candidates, from, middle, model),
+                      new SweepTask(candidates, middle, to, model));
+        }
+    }
+
+    /**
+     * Default grid around the Demo12 gains
+     */
+    static ControlParams[] gridCandidates() {
+        double[] kps = {0.01, 0.02, 0.03, 0.05, 0.08, 0.1, 0.15, 0.2};
+        double[] kis = {0, 0.001, 0.005, 0.01};
+        double[] kds = {0, 0.0005, 0.001, 0.002, 0.005};
+        int[] deadZones = {0, 2, 3, 5, 8};
+        double[] deadZonePowers = {0.05, 0.08, 0.1, 0.15};
+
+        ControlParams[] grid = new ControlParams[kps.length * kis.length * kds.length
+                * deadZones.length * deadZonePowers.length];
+        int n = 0;
+        for (double kp : kps)
+            for (double ki : kis)
+                for (double kd : kds)
+                    for (int dz : deadZones)
+                        for (double dzp : deadZonePowers) {
+                            ControlParams c = new ControlParams();
+                            c.kp = kp;
+                            c.ki = ki;
+                            c.kd = kd;
+                            c.deadZoneTicks = dz;
+                            c.deadZonePower = dzp;
+                            grid[n++] = c;
+                        }
+        return grid;
+    }
+
+    /**
+     * Random candidates: gains log-uniform, dead zone uniform
+     */
+    static ControlParams[] randomCandidates(int count, Random random) {
+        ControlParams[] result = new ControlParams[count];
+        for (int i = 0; i < count; i++) {
+            ControlParams c = new ControlParams();
+            c.kp = logUniform(random, 0.005, 0.5);
+            c.ki = random.nextDouble() < 0.3 ? 0 : logUniform(random, 0.0001, 0.05);
+            c.kd = random.nextDouble() < 0.2 ? 0 : logUniform(random, 0.0001, 0.01);
+            c.deadZoneTicks = random.nextInt(11);
+            c.deadZonePower = 0.02 + random.nextDouble() * 0.18;
+            result[i] = c;
+        }
+        return result;
+    }
+
+    private static double logUniform(Random random, double min, double max) {
+        return min * Math.pow(max / min, random.nextDouble());
+    }
+
+    /**
+     * Run every scenario for one candidate and fill in its metrics + score
+     */
+    static void simulate(ControlParams p, MotorModel m) {
+        double settle = 0, overshoot = 0, energy = 0, steadyState = 0;
+        double[] r;
+
+        // 1. Driver releases DPad while moving at 0.5 power → hold where released
+        r = runScenario(p, m, releaseSpeed(m), 0, 0);
+        settle += r[0]; overshoot += r[1]; energy += r[2]; steadyState += r[3];
+
+        // 2. Holding, then pushed 40 ticks away (hand push / collision)
+        r = runScenario(p, m, 0, 40, 0);
+        settle += r[0]; overshoot += r[1]; energy += r[2]; steadyState += r[3];
+
+        // 3. Target 150 ticks away (large step)
+        r = runScenario(p, m, 0, 150, 0);
+        settle += r[0]; overshoot += r[1]; energy += r[2]; steadyState += r[3];
+
+        // 4. Pushed 20 ticks away and BLOCKED for 4 s (only energy counts:
+        //    this is what the Demo12 timeout protects against)
+        r = runScenario(p, m, 0, 20, 4.0);
+        energy += r[2];
+
+        p.settleTime = settle / 3;
+        p.overshoot = overshoot / 3;
+        p.energy = energy;
+        p.steadyStateError = steadyState / 3;
+        p.score = W_SETTLE * p.settleTime
+                + W_OVERSHOOT * p.overshoot
+                + W_ENERGY * p.energy
+                + W_STEADY_STATE * p.steadyStateError;
+    }
+
+    /** Steady speed at 0.5 power (the DPad manual power), ticks/sec */
+    private static double releaseSpeed(MotorModel m) {
+        return (0.5 * m.batteryVolts - m.kS) / m.kV;
+    }
+
+    /**
+     * Sanity check of the overshoot metric. In scenario 1 the target is
+     * where the DPad was released, so everything the arm coasts past that
+     * point IS overshoot - the two numbers must be equal.
+     * @return null if fine, otherwise what is wrong
+     */
+    static String checkOvershootMetric(MotorModel m) {
+        double[] r = runScenario(new ControlParams(), m, releaseSpeed(m), 0, 0);
+        double overshoot = r[1];
+        double coast = r[5];
+        if (coast <= 0 || Math.abs(overshoot - coast) > 1e-9) {
+            return String.format("release-while-moving overshoot %.2f ticks, but the arm coasted %.2f ticks",
+                    overshoot, coast);
+        }
+        return null;
+    }
+
+    // Per-thread result buffer for runScenario
+    // (settle, overshoot, energy, steady-state, mean |error|, furthest position)
+    private static final ThreadLocal<double[]> SCRATCH = new ThreadLocal<double[]>() {
+        @Override
+        protected double[] initialValue() {
+            return new double[6];
+        }
+    };
+
+    private static double[] runScenario(ControlParams p, MotorModel m, double startVelocity,
+                                        double startError, double blockedSeconds) {
+        return runScenario(p, m, startVelocity, startError, blockedSeconds, 0, SCENARIO_TIME);
+    }
+
+    /**
+     * Simulate one scenario with the Demo12 controller.
+     * @param startVelocity  ticks/sec when the hold starts
+     * @param startError     ticks between target and position at start
+     * @param blockedSeconds mechanism can't move for this long
+     * @param loadVolts      constant load pulling toward negative ticks (like gravity on an arm)
+     * @param seconds        scenario length (at least blockedSeconds)
+     * @return this thread's result buffer: settle time, overshoot, energy, steady-state error,
+     *         mean |error|, furthest position reached (ticks, positive direction)
+     */
+    static double[] runScenario(ControlParams p, MotorModel m, double startVelocity,
+                                double startError, double blockedSeconds, double loadVolts, double seconds) {
+        double position = 0;
+        double velocity = startVelocity;
+        int target = (int) Math.round(startError);
+        final int goal = target;   // metrics use the ORIGINAL target, even after a timeout adapts it
+
+        // Demo12 controller state
+        double integralSum = 0;
+        double lastError = 0;
+        boolean timeout = false;
+        double pidTimer = 0;
+
+        double settleTime = -1;
+        double maxOvershoot = 0;
+        double energy = 0;
+        double errorSum = 0;
+        double maxPosition = 0;
+        // The far side of the target: where the error points, or where the arm is already moving
+        double initialSign = Math.signum(startError != 0 ? startError : startVelocity);
+
+        int steps = (int) Math.round(Math.max(seconds, blockedSeconds) / DT);
+
+        for (int step = 0; step < steps; step++) {
+            double t = step * DT;
+            int measured = (int) Math.floor(position);
+            int error = target - measured;
+
+            // ---- Demo12 logic ----
+            pidTimer += DT;
+            if (!timeout && pidTimer > p.timeoutSeconds) {
+                target = measured;
+                error = 0;
+                timeout = true;
+                integralSum = 0;
+                lastError = 0;
+                pidTimer = 0;
+            }
+
+            double power = 0;
+            if (timeout) {
+                if (Math.abs(error) > p.recoveryTicks) {
+                    timeout = false;
+                    integralSum = 0;
+                    lastError = 0;
+                    pidTimer = 0;
+                }
+            }
+            if (!timeout) {
+                if (Math.abs(error) > p.deadZoneTicks) {
+                    double derivative = (error - lastError) / DT;
+                    integralSum += error * DT;
+                    double raw = p.kp * error + p.ki * integralSum + p.kd * derivative;
+                    lastError = error;
+                    power = Math.max(-1, Math.min(1, raw));
+                } else if (error != 0) {
+                    power = error > 0 ? p.deadZonePower : -p.deadZonePower;
+                }
+            }
+
+            // ---- Motor physics ----
+            energy += Math.abs(power) * DT;
+            double volts = power * m.batteryVolts - loadVolts;
+
+            if (t < blockedSeconds) {
+                velocity = 0;
+            } else if (velocity == 0 && Math.abs(volts) <= m.kS) {
+                velocity = 0;  // static friction holds
+            } else {
+                double friction = m.kS * (velocity != 0 ? Math.signum(velocity) : Math.signum(volts));
+                double acceleration = (volts - friction - m.kV * velocity) / m.kA;
+                double newVelocity = velocity + acceleration * DT;
+                // Friction can stop the motor but never push it backwards
+                if (velocity != 0 && Math.signum(newVelocity) != Math.signum(velocity)
+                        && Math.abs(volts) <= m.kS) {
+                    newVelocity = 0;
+                }
+                velocity = newVelocity;
+            }
+            position += velocity * DT;
+            if (position > maxPosition) maxPosition = position;
+
+            // ---- Metrics ----
+            double positionError = goal - position;
+            errorSum += Math.abs(positionError);
+            if (Math.abs(positionError) <= SETTLE_BAND) {
+                if (settleTime < 0) settleTime = t;
+            } else {
+                settleTime = -1;
+            }
+            // Overshoot = error on the far side of the target
+            double crossed = -initialSign * positionError;
+            if (crossed > maxOvershoot) maxOvershoot = crossed;
+        }
+
+        double[] scratch = SCRATCH.get();
+        scratch[0] = settleTime < 0 ? SCENARIO_TIME * 2 : settleTime;   // never settled = penalty
+        scratch[1] = maxOvershoot;
+        scratch[2] = energy;
+        scratch[3] = Math.abs(goal - position);
+        scratch[4] = errorSum / steps;
+        scratch[5] = maxPosition;
+        return scratch;
+    }
+
+    private static void printHeader() {
+        System.out.printf("%-6s %7s %7s %7s %4s %5s | %7s %7s %7s %6s | %7s%n",
+                "rank", "Kp", "Ki", "Kd", "DZ", "DZpwr",
+                "settle", "oversht", "energy", "sse", "score");
+    }
+
+    private static void printRow(String label, ControlParams c) {
+        System.out.printf("%-6s %7.4f %7.4f %7.4f %4d %5.2f | %6.2fs %7.1f %7.2f %6.2f | %7.3f%n",
+                label, c.kp, c.ki, c.kd, c.deadZoneTicks, c.deadZonePower,
+                c.settleTime, c.overshoot, c.energy, c.steadyStateError, c.score);
+    }
+
+    private static void writeCsv(String path, ControlParams[] ranked) throws IOException {
+        try (PrintWriter out = new PrintWriter(new FileWriter(path))) {
+            out.println("rank,kp,ki,kd,deadZoneTicks,deadZonePower,settleTime,overshoot,energy,steadyStateError,score");
+            for (int i = 0; i < ranked.length; i++) {
+                ControlParams c = ranked[i];
+                out.println((i + 1) + "," + c.kp + "," + c.ki + "," + c.kd + ","
+                        + c.deadZoneTicks + "," + c.deadZonePower + "," + c.settleTime + ","
+                        + c.overshoot + "," + c.energy + "," + c.steadyStateError + "," + c.score);
+            }
+        }
+    }
+}
@@ -0,0 +1,447 @@
+/**
+ * ------------------------------------------------------------
+ *  FGC Team Australia 2025  |  FIRST Global Challenge
+ * ------------------------------------------------------------
+ *  Project: FGC101 - Java Demo Series
+ *  File:    Demo28_BayesOptimizer.java
+ *
+ *  Description:
+ *  This demo is part of the FGC101 video series created by
+ *  FGC Team Australia 2025. Our goal is to help rookie teams
+ *  understand programming logic and competition strategy
+ *  through short, simple examples.
+ *
+ *  Playlist: https://www.youtube.com/playlist?list=PL-29lId0PJrVEo0yJyprGheyRtR-ReDET
+ *  Author:   Muyao Zhang (from FGC Team Australia)
+ *  Date:     October 2025
+ *
+ *  Notes:
+ *  - We currently provide around 15 demo programs.
+ *  - These Java demos are not continuously updated.
+ *  - For detailed explanations, please refer to the FGC101 videos.
+ *
+ *  © FGC Team Australia 2025 | Educational Use Only
+ * ------------------------------------------------------------
+ */
+
+package org.firstinspires.ftc.teamcode;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Demo 28 (laptop tool): Bayesian Optimizer for Control Parameters
+ *
+ * Knowledge Point: Let the computer choose the NEXT experiment wisely
+ *
+ * The Demo27 grid gets huge once we also tune the Demo12 timeout (3.0 s)
+ * and recovery threshold (3 ticks): 7 parameters × 8 values = 5.7 million.
+ * A Bayesian optimizer learns from every run and proposes the next
+ * parameter set where a good result is most likely.
+ *
+ * We use TPE (Tree-structured Parzen Estimator), the method behind
+ * many hyper-parameter tuners:
+ * 1. Run a few RANDOM parameter sets first
+ * 2. Split all results into "good" (best 25%) and "bad" (the rest)
+ * 3. Build a smooth density around the good points, l(x),
+ *    and one around the bad points, g(x)
+ * 4. Draw candidates near good points, pick the one with the highest
+ *    l(x) / g(x)  →  "looks like the winners, not like the losers"
+ * 5. Simulate it (Demo27 simulator), add the result, repeat
+ *
+ * The Demo27 score alone rewards giving up early: its blocked-motor
+ * scenario only counts energy. So every candidate here also runs two
+ * scenarios where the timeout HURTS:
+ * - LOAD HOLD: hold for 8 s against a steady load (like gravity on an
+ *   arm). After each timeout the load drags the arm away. The average
+ *   error over the whole hold is scored.
+ * - SLOW REACH: a 600-tick move against a heavy load that takes about a
+ *   second. A timeout before arrival stops short of the goal.
+ *
+ * Every evaluation is appended to a checkpoint CSV straight away, so a
+ * long run can be stopped at any time and resumed later with the same
+ * command. The checkpoint header records the motor model and objective;
+ * resuming with different --gains is refused instead of mixing scores.
+ *
+ *   javac -d out Demo27_PIDGainSweep.java Demo28_BayesOptimizer.java
+ *   java -cp out org.firstinspires.ftc.teamcode.Demo28_BayesOptimizer [options]
+ *
+ * Options:
+ *   --iterations N    total evaluations including resumed ones (default 200)
+ *   --checkpoint FILE checkpoint CSV (default tpe_checkpoint.csv)
+ *   --gains FILE      motor gains file from Demo26_SysIdFitter
+ *   --seed S          random seed (default 1)
+ */
+public class Demo28_BayesOptimizer {
+
+    // Search space (each parameter is mapped to 0..1 for the optimizer)
+    private static final String[] NAMES = {
+        "kp", "ki", "kd", "deadZoneTicks", "deadZonePower", "timeoutSeconds", "recoveryTicks"
+    };
+    private static final double[] MIN = {0.005, 0.00001, 0.00005, 0, 0.02, 0.5, 1};
+    private static final double[] MAX = {0.5, 0.05, 0.01, 10, 0.20, 5.0, 10};
+    private static final boolean[] LOG_SCALE = {true, true, true, false, false, false, false};
+    // Log-scale parameters that may also be exactly 0 (today's ki = 0):
+    // the bottom ZERO_FRACTION of 0..1 maps to 0
+    private static final boolean[] ALLOW_ZERO = {false, true, false, false, false, false, false};
+    private static final double ZERO_FRACTION = 0.1;
+    private static final int DIMENSIONS = NAMES.length;
+
+    // Extra scenarios that punish an early timeout
+    private static final double LOAD_HOLD_VOLTS = 3.0;     // steady load while holding
+    private static final double LOAD_HOLD_SECONDS = 8.0;
+    private static final double SLOW_REACH_TICKS = 600;
+    private static final double SLOW_REACH_VOLTS = 7.2;    // heavy load: ~1 s to arrive
+    private static final double W_LOAD_HOLD = 0.05;        // per tick of average error
+    private static final int OBJECTIVE_VERSION = 2;        // bump when the score changes
+
+    // TPE settings
+    private static final int STARTUP_RANDOM = 20;
+    private static final double GOOD_FRACTION = 0.25;
+    private static final int CANDIDATES_PER_STEP = 48;
+    private static final double MIN_BANDWIDTH = 0.02;
+
+    // History (unit-cube points and their scores)
+    private final ArrayList<double[]> points = new ArrayList<>();
+    private final ArrayList<Double> scores = new ArrayList<>();
+
+    public static void main(String[] args) throws IOException {
+        int iterations = 200;
+        String checkpointPath = "tpe_checkpoint.csv";
+        long seed = 1;
+        Demo27_PIDGainSweep.MotorModel model = new Demo27_PIDGainSweep.MotorModel();
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--iterations": iterations = Integer.parseInt(args[++i]); break;
+                case "--checkpoint": checkpointPath = args[++i]; break;
+                case "--gains":      model = Demo27_PIDGainSweep.MotorModel.load(args[++i]); break;
+                case "--seed":       seed = Long.parseLong(args[++i]); break;
+                default:
+                    System.out.println("Unknown option: " + args[i]);
+                    return;
+            }
+        }
+
+        Demo28_BayesOptimizer optimizer = new Demo28_BayesOptimizer();
+        File checkpoint = new File(checkpointPath);
+        String inputs = describeInputs(model);
+        truncateToLastLine(checkpoint);
+        String checkpointInputs = optimizer.loadCheckpoint(checkpoint);
+        if (checkpointInputs != null && !checkpointInputs.equals(inputs)) {
+            System.out.println("Checkpoint " + checkpointPath + " was made with different inputs:");
+            System.out.println("  checkpoint: " + checkpointInputs);
+            System.out.println("  this run:   " + inputs);
+            System.out.println("Use the same --gains, or a new --checkpoint file.");
+            return;
+        }
+        int resumed = optimizer.points.size();
+        if (resumed > 0) {
+            System.out.println("Resumed " + resumed + " evaluations from " + checkpointPath);
+        }
+
+        // Seed depends on history size, so a resumed run continues differently
+        Random random = new Random(seed * 31 + resumed);
+
+        // Today's Demo12 settings for comparison
+        Demo27_PIDGainSweep.ControlParams today = new Demo27_PIDGainSweep.ControlParams();
+        double[] todayExtra = evaluate(today, model);
+
+        long start = System.nanoTime();
+        try (PrintWriter out = optimizer.openCheckpoint(checkpoint, inputs)) {
+            for (int n = resumed; n < iterations; n++) {
+                double[] x = n < STARTUP_RANDOM
+                        ? optimizer.randomPoint(random)
+                        : optimizer.proposeTPE(random);
+
+                Demo27_PIDGainSweep.ControlParams params = toParams(x);
+                evaluate(params, model);
+
+                optimizer.points.add(x);
+                optimizer.scores.add(params.score);
+                appendCheckpoint(out, x, params.score);
+
+                if ((n + 1) % 20 == 0 || n + 1 == iterations) {
+                    int best = optimizer.bestIndex();
+                    System.out.printf("iteration %4d  best score %.4f (found at %d)%n",
+                            n + 1, optimizer.scores.get(best), best + 1);
+                }
+            }
+        }
+        double seconds = (System.nanoTime() - start) * 1e-9;
+
+        if (optimizer.points.isEmpty()) {
+            System.out.println("Nothing evaluated");
+            return;
+        }
+
+        int best = optimizer.bestIndex();
+        Demo27_PIDGainSweep.ControlParams bestParams = toParams(optimizer.points.get(best));
+        double[] bestExtra = evaluate(bestParams, model);
+
+        System.out.printf("=== TPE RESULT: %d evaluations (%.2f s this run) ===%n",
+                optimizer.points.size(), seconds);
+        System.out.printf("%-16s %12s %12s%n", "parameter", "today", "best");
+        printParam("kp", today.kp, bestParams.kp);
+        printParam("ki", today.ki, bestParams.ki);
+        printParam("kd", today.kd, bestParams.kd);
+        printParam("deadZoneTicks", today.deadZoneTicks, bestParams.deadZoneTicks);
+        printParam("deadZonePower", today.deadZonePower, bestParams.deadZonePower);
+        printParam("timeoutSeconds", today.timeoutSeconds, bestParams.timeoutSeconds);
+        printParam("recoveryTicks", today.recoveryTicks, bestParams.recoveryTicks);
+        System.out.printf("%-16s %12s %12s%n", "---", "", "");
+        printParam("settle (s)", today.settleTime, bestParams.settleTime);
+        printParam("overshoot", today.overshoot, bestParams.overshoot);
+        printParam("energy", today.energy, bestParams.energy);
+        printParam("load hold err", todayExtra[0], bestExtra[0]);
+        printParam("slow reach err", todayExtra[1], bestExtra[1]);
+        printParam("score", today.score, bestParams.score);
+    }
+
+    private static void printParam(String name, double today, double best) {
+        System.out.printf("%-16s %12.5f %12.5f%n", name, today, best);
+    }
+
+    /**
+     * Demo27 score plus the early-timeout scenarios.
+     * Returns {load hold mean |error|, slow reach final |error|}.
+     */
+    static double[] evaluate(Demo27_PIDGainSweep.ControlParams p, Demo27_PIDGainSweep.MotorModel m) {
+        Demo27_PIDGainSweep.simulate(p, m);
+
+        double[] r = Demo27_PIDGainSweep.runScenario(p, m, 0, 0, 0, LOAD_HOLD_VOLTS, LOAD_HOLD_SECONDS);
+        double loadHoldError = r[4];
+
+        r = Demo27_PIDGainSweep.runScenario(p, m, 0, SLOW_REACH_TICKS, 0, SLOW_REACH_VOLTS,
+                Demo27_PIDGainSweep.SCENARIO_TIME);
+        double slowSettle = r[0];
+        double slowError = r[3];
+
+        p.score += W_LOAD_HOLD * loadHoldError
+                + Demo27_PIDGainSweep.W_SETTLE * slowSettle
+                + Demo27_PIDGainSweep.W_STEADY_STATE * slowError;
+        return new double[]{loadHoldError, slowError};
+    }
+
+    /**
+     * Everything the scores depend on besides the parameters
+     */
+    private static String describeInputs(Demo27_PIDGainSweep.MotorModel m) {
+        return "objective=" + OBJECTIVE_VERSION + " kS=" + m.kS + " kV=" + m.kV + " kA=" + m.kA
+                + " batteryVolts=" + m.batteryVolts;
+    }
+
+    /**
+     * Map a unit-cube point to real controller parameters
+     */
+    static Demo27_PIDGainSweep.ControlParams toParams(double[] x) {
+        double[] v = new double[DIMENSIONS];
+        for (int d = 0; d < DIMENSIONS; d++) {
+            double u = x[d];
+            if (ALLOW_ZERO[d]) {
+                if (u < ZERO_FRACTION) {
+                    v[d] = 0;
+                    continue;
+                }
+                u = (u - ZERO_FRACTION) / (1 - ZERO_FRACTION);
+            }
+            v[d] = LOG_SCALE[d]
+                    ? MIN[d] * Math.pow(MAX[d] / MIN[d], u)
+                    : MIN[d] + (MAX[d] - MIN[d]) * u;
+        }
+        Demo27_PIDGainSweep.ControlParams p = new Demo27_PIDGainSweep.ControlParams();
+        p.kp = v[0];
+        p.ki = v[1];
+        p.kd = v[2];
+        p.deadZoneTicks = (int) Math.round(v[3]);
+        p.deadZonePower = v[4];
+        p.timeoutSeconds = v[5];
+        p.recoveryTicks = (int) Math.round(v[6]);
+        return p;
+    }
+
+    private double[] randomPoint(Random random) {
+        double[] x = new double[DIMENSIONS];
+        for (int d = 0; d < DIMENSIONS; d++) {
+            x[d] = random.nextDouble();
+        }
+        return x;
+    }
+
+    /**
+     * One TPE step: sample near the good points, keep the best l(x)/g(x)
+     */
+    private double[] proposeTPE(Random random) {
+        // Sort indices by score (lower is better)
+        Integer[] order = new Integer[points.size()];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> Double.compare(scores.get(a), scores.get(b)));
+
+        int goodCount = Math.max(2, (int) Math.ceil(GOOD_FRACTION * order.length));
+        double[][] good = new double[goodCount][];
+        double[][] bad = new double[order.length - goodCount][];
+        for (int i = 0; i < order.length; i++) {
+            if (i < goodCount) good[i] = points.get(order[i]);
+            else bad[i - goodCount] = points.get(order[i]);
+        }
+
+        double[] goodBandwidth = bandwidths(good);
+        double[] badBandwidth = bandwidths(bad);
+
+        double[] bestCandidate = null;
+        double bestRatio = Double.NEGATIVE_INFINITY;
+
+        for (int c = 0; c < CANDIDATES_PER_STEP; c++) {
+            // Sample from l(x): pick a good point and jitter it
+            // (sometimes a fully random point, so we keep exploring)
+            double[] x;
+            if (random.nextInt(good.length + 1) == 0) {
+                x = randomPoint(random);
+            } else {
+                double[] center = good[random.nextInt(good.length)];
+                x = new double[DIMENSIONS];
+                for (int d = 0; d < DIMENSIONS; d++) {
+                    double value = center[d] + random.nextGaussian() * goodBandwidth[d];
+                    x[d] = Math.max(0, Math.min(1, value));
+                }
+            }
+
+            double ratio = logDensity(x, good, goodBandwidth) - logDensity(x, bad, badBandwidth);
+            if (ratio > bestRatio) {
+                bestRatio = ratio;
+                bestCandidate = x;
+            }
+        }
+        return bestCandidate;
+    }
+
+    /**
+     * Per-dimension kernel width (Scott's rule), never too small
+     */
+    private static double[] bandwidths(double[][] set) {
+        double[] h = new double[DIMENSIONS];
+        int n = set.length;
+        double factor = Math.pow(Math.max(n, 1), -1.0 / (DIMENSIONS + 4));
+        for (int d = 0; d < DIMENSIONS; d++) {
+            double mean = 0;
+            for (double[] p : set) mean += p[d];
+            mean /= Math.max(n, 1);
+            double variance = 0;
+            for (double[] p : set) variance += (p[d] - mean) * (p[d] - mean);
+            double std = n > 1 ? Math.sqrt(variance / (n - 1)) : 0.25;
+            h[d] = Math.max(MIN_BANDWIDTH, std * factor);
+        }
+        return h;
+    }
+
+    /**
+     * log of the Parzen (sum of Gaussian kernels) density at x
+     */
+    private static double logDensity(double[] x, double[][] set, double[] h) {
+        if (set.length == 0) return 0;
+
+        // log-sum-exp for numerical safety
+        double[] logK = new double[set.length];
+        double maxLog = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < set.length; i++) {
+            double sum = 0;
+            for (int d = 0; d < DIMENSIONS; d++) {
+                double z = (x[d] - set[i][d]) / h[d];
+                sum += -0.5 * z * z - Math.log(h[d]);
+            }
+            logK[i] = sum;
+            if (sum > maxLog) maxLog = sum;
+        }
+        double total = 0;
+        for (double k : logK) total += Math.exp(k - maxLog);
+        return maxLog + Math.log(total / set.length);
+    }
+
+    private int bestIndex() {
+        int best = 0;
+        for (int i = 1; i < scores.size(); i++) {
+            if (scores.get(i) < scores.get(best)) best = i;
+        }
+        return best;
+    }
+
+    // ═══ Checkpoint: one CSV line per evaluation (unit-cube values + score) ═══
+
+    private static final String INPUTS_PREFIX = "# inputs: ";
+
+    /**
+     * Cut off a half-written last line (run killed mid-write), so the
+     * next append starts on a fresh line
+     */
+    private static void truncateToLastLine(File file) throws IOException {
+        if (!file.exists()) return;
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            long end = raf.length();
+            while (end > 0) {
+                raf.seek(end - 1);
+                if (raf.read() == '\n') break;
+                end--;
+            }
+            raf.setLength(end);
+        }
+    }
+
+    /**
+     * Load the history. Returns the inputs line of the checkpoint,
+     * "unknown" for a checkpoint without one, or null for no checkpoint.
+     */
+    private String loadCheckpoint(File file) throws IOException {
+        if (!file.exists() || file.length() == 0) return null;
+
+        String inputs = "unknown";
+        try (BufferedReader in = new BufferedReader(new FileReader(file))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.startsWith(INPUTS_PREFIX)) {
+                    inputs = line.substring(INPUTS_PREFIX.length());
+                    continue;
+                }
+                if (line.isEmpty() || line.startsWith("#") || line.startsWith(NAMES[0])) continue;
+                String[] parts = line.split(",");
+                if (parts.length != DIMENSIONS + 1) continue;  // half-written last line
+                double[] x = new double[DIMENSIONS];
+                for (int d = 0; d < DIMENSIONS; d++) {
+                    x[d] = Double.parseDouble(parts[d]);
+                }
+                points.add(x);
+                scores.add(Double.parseDouble(parts[DIMENSIONS]));
+            }
+        }
+        return inputs;
+    }
+
+    private PrintWriter openCheckpoint(File file, String inputs) throws IOException {
+        boolean isNew = !file.exists() || file.length() == 0;
+        PrintWriter out = new PrintWriter(new FileWriter(file, true));
+        if (isNew) {
+            out.println("# TPE checkpoint from Demo28_BayesOptimizer (values scaled to 0..1)");
+            out.println(INPUTS_PREFIX + inputs);
+            out.println(String.join(",", NAMES) + ",score");
+            out.flush();
+        }
+        return out;
+    }
+
+    private static void appendCheckpoint(PrintWriter out, double[] x, double score) {
+        StringBuilder line = new StringBuilder();
+        for (int d = 0; d < DIMENSIONS; d++) {
+            line.append(x[d]).append(',');
+        }
+        line.append(score);
+        out.println(line);
+        out.flush();  // every evaluation is safe on disk before the next one starts
+    }
+}
@@ -0,0 +1,419 @@
+/**
+ * ------------------------------------------------------------
+ *  FGC Team Australia 2025  |  FIRST Global Challenge
+ * ------------------------------------------------------------
+ *  Project: FGC101 - Java Demo Series
+ *  File:    Demo29_StateMachine.java
+ *
+ *  Description:
+ *  This demo is part of the FGC101 video series created by
+ *  FGC Team Australia 2025. Our goal is to help rookie teams
+ *  understand programming logic and competition strategy
+ *  through short, simple examples.
+ *
+ *  Playlist: https://www.youtube.com/playlist?list=PL-29lId0PJrVEo0yJyprGheyRtR-ReDET
+ *  Author:   Muyao Zhang (from FGC Team Australia)
+ *  Date:     October 2025
+ *
+ *  Notes:
+ *  - We currently provide around 15 demo programs.
+ *  - These Java demos are not continuously updated.
+ *  - For detailed explanations, please refer to the FGC101 videos.
+ *
+ *  © FGC Team Australia 2025 | Educational Use Only
+ * ------------------------------------------------------------
+ */
+
+package org.firstinspires.ftc.teamcode;
+
+import com.qualcomm.robotcore.eventloop.opmode.TeleOp;
+import com.qualcomm.robotcore.eventloop.opmode.LinearOpMode;
+import com.qualcomm.robotcore.hardware.DcMotor;
+import com.qualcomm.robotcore.hardware.DcMotorEx;
+import com.qualcomm.robotcore.util.ElapsedTime;
+
+/**
+ * Demo 29: Table-Driven State Machine Framework
+ *
+ * Knowledge Point: Describe mechanisms as STATES + TRANSITIONS, not if/else + flags
+ *
+ * Demo03 cycles the flywheel with (flyState + 1) % 3, Demo04 keeps a
+ * reverseMode flag, and Demo12 juggles pidEnabled + pidTimeout + a timer.
+ * Every new mode means more flags and more places for bugs.
+ *
+ * This demo adds a small reusable StateMachine:
+ * - States and events are ENUMS
+ * - Transition TABLE:   [state][event] → next state (+ optional guard)
+ * - Guarded transitions: checked every loop ("when error > 3 go to HOLD")
+ * - Timed transitions:   "after 3.0 s in HOLD go to TIMEOUT"
+ *   (guards are checked first, so a DPad press beats the timer)
+ * - Entry / exit actions run once when a state starts / ends
+ * - During action runs every loop while in a state
+ *
+ * Everything is stored in arrays indexed by enum ordinal and built
+ * ONCE at init. Each loop only reads those arrays: no maps, no new
+ * objects, and the work per loop is the same every time.
+ *
+ * The Demo12 smart protection rewritten as a table:
+ *
+ *   MANUAL  --(no DPad)-------------→ HOLD     (exit: target = position)
+ *   HOLD    --(DPad)----------------→ MANUAL
+ *   HOLD    --(after 3.0 s)---------→ TIMEOUT  (enter: adaptive target)
+ *   TIMEOUT --(DPad)----------------→ MANUAL
+ *   TIMEOUT --(|error| > 3)---------→ HOLD     (enter: reset PID + timer)
+ *
+ * Hardware Required:
+ * - right (DcMotorEx motor with encoder)
+ * - fly (flywheel motor)
+ *
+ * Controls:
+ * - GP1 L1: Flywheel event OFF → LOW → HIGH → OFF
+ * - GP2 DPad Left/Right: Right motor manual, release: protected hold
+ *
+ * How to Demonstrate:
+ * 1. Press INIT and START
+ * 2. Behaviour is the same as Demo12 + Demo03
+ * 3. Watch "State" and "Time in State" in telemetry
+ * 4. Compare the code: the rules are in one table in setupMachines()
+ */
+@TeleOp(name="Demo29: State Machine", group="Demo")
+public class Demo29_StateMachine extends LinearOpMode {
+
+    /** Condition checked for a guarded transition */
+    private interface Guard {
+        boolean test();
+    }
+
+    /** Entry, exit or during action */
+    private interface Action {
+        void run();
+    }
+
+    /**
+     * Array-indexed state machine. Build once with on/when/after/onEnter/
+     * onExit/during, then call start() and update() every loop.
+     */
+    private static final class StateMachine<S extends Enum<S>, E extends Enum<E>> {
+        private static final int NONE = -1;
+        private static final int MAX_GUARDED = 8;   // guarded transitions per state
+
+        private final S[] states;
+
+        // Event table: [state][event]
+        private final int[][] eventTarget;
+        private final Guard[][] eventGuard;
+
+        // Guarded (checked every update) transitions: [state][k]
+        private final int[][] guardedTarget;
+        private final Guard[][] guardedCondition;
+        private final int[] guardedCount;
+
+        // Timed transition per state
+        private final long[] timeoutNanos;
+        private final int[] timeoutTarget;
+
+        // Actions per state
+        private final Action[] enterAction, exitAction, duringAction;
+
+        private int current = NONE;
+        private long enteredAtNanos = 0;
+        private int transitionCount = 0;
+
+        StateMachine(Class<S> stateClass, Class<E> eventClass) {
+            states = stateClass.getEnumConstants();
+            int n = states.length;
+            int events = eventClass.getEnumConstants().length;
+
+            eventTarget = new int[n][events];
+            eventGuard = new Guard[n][events];
+            guardedTarget = new int[n][MAX_GUARDED];
+            guardedCondition = new Guard[n][MAX_GUARDED];
+            guardedCount = new int[n];
+            timeoutNanos = new long[n];
+            timeoutTarget = new int[n];
+            enterAction = new Action[n];
+            exitAction = new Action[n];
+            duringAction = new Action[n];
+
+            for (int s = 0; s < n; s++) {
+                for (int e = 0; e < events; e++) eventTarget[s][e] = NONE;
+                timeoutTarget[s] = NONE;
+            }
+        }
+
+        // ---------- Building the table (init only) ----------
+
+        /** On event in state "from", go to "to" (guard may be null) */
+        StateMachine<S, E> on(S from, E event, S to, Guard guard) {
+            eventTarget[from.ordinal()][event.ordinal()] = to.ordinal();
+            eventGuard[from.ordinal()][event.ordinal()] = guard;
+            return this;
+        }
+
+        /** While in "from", go to "to" as soon as guard is true (checked in order) */
+        StateMachine<S, E> when(S from, Guard guard, S to) {
+            int s = from.ordinal();
+            if (guardedCount[s] == MAX_GUARDED) {
+                throw new IllegalStateException("Too many guarded transitions from " + from);
+            }
+            guardedTarget[s][guardedCount[s]] = to.ordinal();
+            guardedCondition[s][guardedCount[s]] = guard;
+            guardedCount[s]++;
+            return this;
+        }
+
+        /** After "seconds" in "from", go to "to" */
+        StateMachine<S, E> after(S from, double seconds, S to) {
+            timeoutNanos[from.ordinal()] = (long) (seconds * 1e9);
+            timeoutTarget[from.ordinal()] = to.ordinal();
+            return this;
+        }
+
+        StateMachine<S, E> onEnter(S state, Action action) {
+            enterAction[state.ordinal()] = action;
+            return this;
+        }
+
+        StateMachine<S, E> onExit(S state, Action action) {
+            exitAction[state.ordinal()] = action;
+            return this;
+        }
+
+        StateMachine<S, E> during(S state, Action action) {
+            duringAction[state.ordinal()] = action;
+            return this;
+        }
+
+        // ---------- Running (every loop, no allocation) ----------
+
+        void start(S initial) {
+            current = initial.ordinal();
+            enteredAtNanos = System.nanoTime();
+            if (enterAction[current] != null) enterAction[current].run();
+        }
+
+        /** Send an event; returns true if it caused a transition */
+        boolean fire(E event) {
+            checkStarted();
+            int target = eventTarget[current][event.ordinal()];
+            if (target == NONE) return false;
+            Guard guard = eventGuard[current][event.ordinal()];
+            if (guard != null && !guard.test()) return false;
+            transitionTo(target);
+            return true;
+        }
+
+        /**
+         * Check guarded transitions, then the timed one, then run the during
+         * action. Guards go first: if the driver pressed a DPad in the same
+         * loop the HOLD timer ran out, MANUAL must win over TIMEOUT.
+         */
+        void update() {
+            checkStarted();
+            int s = current;
+            boolean moved = false;
+            for (int k = 0; k < guardedCount[s]; k++) {
+                if (guardedCondition[s][k].test()) {
+                    transitionTo(guardedTarget[s][k]);
+                    moved = true;
+                    break;
+                }
+            }
+            if (!moved && timeoutTarget[s] != NONE && System.nanoTime() - enteredAtNanos >= timeoutNanos[s]) {
+                transitionTo(timeoutTarget[s]);
+            }
+            if (duringAction[current] != null) duringAction[current].run();
+        }
+
+        private void checkStarted() {
+            if (current == NONE) throw new IllegalStateException("start() has not been called");
+        }
+
+        private void transitionTo(int target) {
+            if (exitAction[current] != null) exitAction[current].run();
+            current = target;
+            enteredAtNanos = System.nanoTime();
+            transitionCount++;
+            if (enterAction[current] != null) enterAction[current].run();
+        }
+
+        S state() {
+            return states[current];
+        }
+
+        double secondsInState() {
+            return (System.nanoTime() - enteredAtNanos) * 1e-9;
+        }
+
+        int transitions() {
+            return transitionCount;
+        }
+    }
+
+    // PID Controller class
+    private class PIDController {
+        private double Kp, Ki, Kd;
+        private double integralSum = 0;
+        private double lastError = 0;
+        private ElapsedTime timer = new ElapsedTime();
+
+        public PIDController(double Kp, double Ki, double Kd) {
+            this.Kp = Kp;
+            this.Ki = Ki;
+            this.Kd = Kd;
+        }
+
+        public double update(double target, double current) {
+            double error = target - current;
+            double derivative = (error - lastError) / timer.seconds();
+            integralSum += error * timer.seconds();
+            double output = (Kp * error) + (Ki * integralSum) + (Kd * derivative);
+            lastError = error;
+            timer.reset();
+            return output;
+        }
+
+        public void resetIntegral() {
+            integralSum = 0;
+            lastError = 0;
+            timer.reset();
+        }
+    }
+
+    // ═══ States and events ═══
+    private enum RightState { MANUAL, HOLD, TIMEOUT }
+    private enum RightEvent { }   // Demo12 only needs guarded + timed transitions
+
+    private enum FlyState { OFF, LOW, HIGH }
+    private enum FlyEvent { L1_PRESSED }
+
+    private DcMotorEx right;
+    private DcMotor fly;
+
+    private StateMachine<RightState, RightEvent> rightMachine;
+    private StateMachine<FlyState, FlyEvent> flyMachine;
+
+    // Inputs read once per loop, used by guards and actions
+    private boolean dpadLeft, dpadRight;
+    private int currentPosition = 0;
+
+    // Right motor control values
+    private PIDController pidController = new PIDController(0.1, 0, 0.001);
+    private int targetPosition = 0;
+    private double rightPower = 0;
+
+    private boolean lastL1 = false;
+
+    @Override
+    public void runOpMode() {
+        right = hardwareMap.get(DcMotorEx.class, "right");
+        right.setDirection(DcMotorEx.Direction.FORWARD);
+        right.setZeroPowerBehavior(DcMotorEx.ZeroPowerBehavior.BRAKE);
+        right.setMode(DcMotorEx.RunMode.STOP_AND_RESET_ENCODER);
+        right.setMode(DcMotorEx.RunMode.RUN_WITHOUT_ENCODER);
+
+        fly = hardwareMap.get(DcMotor.class, "fly");
+        fly.setDirection(DcMotor.Direction.REVERSE);
+
+        setupMachines();
+
+        telemetry.addData("Status", "Ready");
+        telemetry.addData("Knowledge Point", "Table-driven state machines");
+        telemetry.update();
+
+        waitForStart();
+
+        rightMachine.start(RightState.HOLD);
+        flyMachine.start(FlyState.OFF);
+
+        while (opModeIsActive()) {
+            // Read inputs ONCE; guards and actions use these fields
+            dpadLeft = gamepad2.dpad_left;
+            dpadRight = gamepad2.dpad_right;
+            currentPosition = right.getCurrentPosition();
+
+            // Flywheel: one event per L1 press (edge detection)
+            boolean currentL1 = gamepad1.left_bumper;
+            if (currentL1 && !lastL1) {
+                flyMachine.fire(FlyEvent.L1_PRESSED);
+            }
+            lastL1 = currentL1;
+
+            rightMachine.update();
+            flyMachine.update();
+
+            // Display status
+            telemetry.addData("=== STATE MACHINES ===", "");
+            telemetry.addData("Right State", rightMachine.state().toString());
+            telemetry.addData("Time in State", "%.1fs", rightMachine.secondsInState());
+            telemetry.addData("Position", "%d (target %d)", currentPosition, targetPosition);
+            telemetry.addData("Power", "%.2f", rightPower);
+            telemetry.addData("Transitions", "%d", rightMachine.transitions());
+            telemetry.addData("", "");
+            telemetry.addData("Fly State", flyMachine.state().toString());
+            telemetry.addData("", "");
+            telemetry.addData("Controls", "GP1 L1: Fly | GP2 DPad: Right");
+            telemetry.update();
+        }
+    }
+
+    /**
+     * All mechanism rules in one place (runs once at init)
+     */
+    private void setupMachines() {
+        // ═══ Right motor: Demo12 smart protection ═══
+        Guard dpadActive = () -> dpadLeft != dpadRight;
+        Guard dpadReleased = () -> dpadLeft == dpadRight;
+        Guard pushedAway = () -> Math.abs(targetPosition - currentPosition) > 3;
+
+        rightMachine = new StateMachine<>(RightState.class, RightEvent.class);
+        rightMachine
+            .when(RightState.MANUAL, dpadReleased, RightState.HOLD)
+            .when(RightState.HOLD, dpadActive, RightState.MANUAL)
+            .after(RightState.HOLD, 3.0, RightState.TIMEOUT)
+            .when(RightState.TIMEOUT, dpadActive, RightState.MANUAL)
+            .when(RightState.TIMEOUT, pushedAway, RightState.HOLD)
+
+            // Leaving manual: the release position becomes the target
+            .onExit(RightState.MANUAL, () -> targetPosition = currentPosition)
+            .onEnter(RightState.HOLD, () -> pidController.resetIntegral())
+            // Adaptive target: give up the old target, accept where we are
+            .onEnter(RightState.TIMEOUT, () -> {
+                targetPosition = currentPosition;
+                pidController.resetIntegral();
+            })
+
+            .during(RightState.MANUAL, () -> setRightPower(dpadRight ? 0.5 : -0.5))
+            .during(RightState.HOLD, () -> setRightPower(holdPower()))
+            .during(RightState.TIMEOUT, () -> setRightPower(0));
+
+        // ═══ Flywheel: Demo03 cycling as an event table ═══
+        flyMachine = new StateMachine<>(FlyState.class, FlyEvent.class);
+        flyMachine
+            .on(FlyState.OFF, FlyEvent.L1_PRESSED, FlyState.LOW, null)
+            .on(FlyState.LOW, FlyEvent.L1_PRESSED, FlyState.HIGH, null)
+            .on(FlyState.HIGH, FlyEvent.L1_PRESSED, FlyState.OFF, null)
+            .onEnter(FlyState.OFF, () -> fly.setPower(0))
+            .onEnter(FlyState.LOW, () -> fly.setPower(0.8))
+            .onEnter(FlyState.HIGH, () -> fly.setPower(1.0));
+    }
+
+    /**
+     * PID with dead zone (same as Demo11/Demo12)
+     */
+    private double holdPower() {
+        int error = targetPosition - currentPosition;
+        if (Math.abs(error) > 5) {
+            double rawPID = pidController.update(targetPosition, currentPosition);
+            return Math.max(-1, Math.min(1, rawPID));
+        } else if (Math.abs(error) > 0) {
+            return error > 0 ? 0.1 : -0.1;
+        }
+        return 0;
+    }
+
+    private void setRightPower(double power) {
+        rightPower = power;
+        right.setPower(power);
+    }
+}
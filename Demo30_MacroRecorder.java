@@ -0,0 +1,380 @@
+/**
+ * ------------------------------------------------------------
+ *  FGC Team Australia 2025  |  FIRST Global Challenge
+ * ------------------------------------------------------------
+ *  Project: FGC101 - Java Demo Series
+ *  File:    Demo30_MacroRecorder.java
+ *
+ *  Description:
+ *  This demo is part of the FGC101 video series created by
+ *  FGC Team Australia 2025. Our goal is to help rookie teams
+ *  understand programming logic and competition strategy
+ *  through short, simple examples.
+ *
+ *  Playlist: https://www.youtube.com/playlist?list=PL-29lId0PJrVEo0yJyprGheyRtR-ReDET
+ *  Author:   Muyao Zhang (from FGC Team Australia)
+ *  Date:     October 2025
+ *
+ *  Notes:
+ *  - We currently provide around 15 demo programs.
+ *  - These Java demos are not continuously updated.
+ *  - For detailed explanations, please refer to the FGC101 videos.
+ *
+ *  © FGC Team Australia 2025 | Educational Use Only
+ * ------------------------------------------------------------
+ */
+
+package org.firstinspires.ftc.teamcode;
+
+import com.qualcomm.robotcore.eventloop.opmode.TeleOp;
+import com.qualcomm.robotcore.eventloop.opmode.LinearOpMode;
+import com.qualcomm.robotcore.hardware.DcMotor;
+import com.qualcomm.robotcore.hardware.DcMotorEx;
+import com.qualcomm.robotcore.hardware.CRServo;
+
+import org.firstinspires.ftc.robotcore.internal.system.AppUtil;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Demo 30: Operator Macro Recorder
+ *
+ * Knowledge Point: Record an input sequence once, replay it exactly
+ *
+ * The operator repeats the same fast/block/right button sequence on
+ * gamepad 2 many times per match. This demo records it once and plays
+ * it back with one button:
+ * - RECORD: every time the gamepad-2 buttons CHANGE, store
+ *   (time in microseconds, which buttons are down) - 5 bytes per change
+ * - SAVE: the list is written to a small binary file, loaded again at INIT
+ * - PLAY: outputs change at the recorded times
+ * - ⭐ Sub-loop timing: playback runs on its OWN thread, which parks
+ *   (LockSupport.parkNanos) until each event's exact time and applies
+ *   that event's mask - every event, in order, even two changes that
+ *   were recorded one loop apart. The OpMode loop never waits, and the
+ *   timing does not depend on how long a loop takes ("Worst Late" in
+ *   telemetry shows the thread's wake-up delay, far below one loop)
+ * - ⭐ CANCEL: any manual gamepad-2 input sets a volatile flag and wakes
+ *   the playback thread, which stops before touching the outputs again
+ *
+ * Hardware Required:
+ * - fast (operator motor)
+ * - block (CRServo)
+ * - right (DcMotorEx operator motor)
+ *
+ * Controls (GAMEPAD 2):
+ * - A/B: Fast motor   X/Y: Block servo   DPad Left/Right: Right motor
+ * - Back: Start / stop RECORDING (saved when stopped)
+ * - Left Bumper: PLAY macro (press again to cancel)
+ * - Any A/B/X/Y/DPad during playback: CANCEL
+ *
+ * How to Demonstrate:
+ * 1. Press INIT and START
+ * 2. Press Back, do a sequence (e.g. A for 1s, X for 0.5s), press Back
+ * 3. Press Left Bumper - the robot repeats the sequence
+ * 4. Press A during playback - it stops instantly
+ * 5. Restart the OpMode - the macro is still there (loaded from file)
+ */
+@TeleOp(name="Demo30: Macro Recorder", group="Demo")
+public class Demo30_MacroRecorder extends LinearOpMode {
+
+    // Input bits (one int describes all recorded buttons)
+    private static final int BIT_A = 1;
+    private static final int BIT_B = 2;
+    private static final int BIT_X = 4;
+    private static final int BIT_Y = 8;
+    private static final int BIT_DPAD_LEFT = 16;
+    private static final int BIT_DPAD_RIGHT = 32;
+
+    // Macro storage: parallel arrays, no objects per event
+    private static final int MAX_EVENTS = 4096;
+    private static final int FILE_MAGIC = 0x4D435231;   // "MCR1"
+    private long[] eventMicros = new long[MAX_EVENTS];
+    private byte[] eventMask = new byte[MAX_EVENTS];
+    private int eventCount = 0;
+
+    private DcMotor fast;
+    private DcMotorEx right;
+    private CRServo block;
+
+    private File macroFile = new File(new File(AppUtil.FIRST_FOLDER, "macros"), "gp2_macro.bin");
+
+    // Recorder state (OpMode thread only)
+    private boolean recording = false;
+    private long recordStartNanos = 0;
+    private int lastRecordedMask = 0;
+
+    // Player state, shared with the playback thread. While "playing" is
+    // true the playback thread owns the outputs; the OpMode thread only
+    // reads these fields and may set cancelRequested.
+    private volatile boolean playing = false;
+    private volatile boolean cancelRequested = false;
+    private volatile int playIndex = 0;
+    private volatile long worstLateMicros = 0;
+    private Thread playbackThread;
+
+    // Timing statistics
+    private long loopNanos = 20_000_000;   // running estimate of one loop
+    private long lastLoopStart = 0;
+    private volatile String status = "Idle";
+
+    // Button state tracking (for edge detection)
+    private boolean lastBack = false;
+    private boolean lastLB = false;
+
+    @Override
+    public void runOpMode() {
+        fast = hardwareMap.get(DcMotor.class, "fast");
+        right = hardwareMap.get(DcMotorEx.class, "right");
+        block = hardwareMap.get(CRServo.class, "block");
+
+        fast.setDirection(DcMotor.Direction.FORWARD);
+        fast.setZeroPowerBehavior(DcMotor.ZeroPowerBehavior.BRAKE);
+        right.setDirection(DcMotorEx.Direction.FORWARD);
+        right.setZeroPowerBehavior(DcMotorEx.ZeroPowerBehavior.BRAKE);
+
+        // Load a saved macro at INIT (small file, loads instantly)
+        status = loadMacro() ? "Loaded " + eventCount + " events" : "No saved macro";
+
+        telemetry.addData("Status", "Ready - Macro Recorder");
+        telemetry.addData("Macro", status);
+        telemetry.addData("Controls (GP2)", "Back: Record | LB: Play");
+        telemetry.update();
+
+        waitForStart();
+
+        while (opModeIsActive()) {
+            long now = System.nanoTime();
+            if (lastLoopStart != 0) {
+                // Smooth estimate of the loop period
+                loopNanos = (loopNanos * 7 + (now - lastLoopStart)) / 8;
+            }
+            lastLoopStart = now;
+
+            int manualMask = readOperatorMask();
+
+            // Back: start / stop recording (edge detection)
+            boolean back = gamepad2.back;
+            if (back && !lastBack && !playing) {
+                if (recording) {
+                    stopRecording(now);
+                } else {
+                    startRecording(now);
+                }
+            }
+            lastBack = back;
+
+            // Left bumper: play / cancel (edge detection)
+            boolean lb = gamepad2.left_bumper;
+            if (lb && !lastLB && !recording) {
+                if (playing) {
+                    cancelPlayback("Cancelled (LB)");
+                } else if (eventCount > 0) {
+                    startPlayback(now);
+                }
+            }
+            lastLB = lb;
+
+            if (playing) {
+                // ⭐ Any manual input wins immediately; otherwise the
+                // playback thread drives the outputs
+                if (manualMask != 0) {
+                    cancelPlayback("Cancelled (manual input)");
+                    applyOutputs(manualMask);
+                }
+            } else {
+                if (recording) {
+                    recordIfChanged(manualMask, now);
+                }
+                applyOutputs(manualMask);
+            }
+
+            telemetry.addData("=== MACRO RECORDER ===", "");
+            telemetry.addData("Status", status);
+            telemetry.addData("Events", "%d (%d bytes on disk)", eventCount, 8 + eventCount * 5);
+            if (playing) {
+                telemetry.addData("Progress", "%d / %d", playIndex, eventCount);
+            }
+            telemetry.addData("Loop Time", "%.1f ms", loopNanos / 1e6);
+            telemetry.addData("Worst Late", "%d µs", worstLateMicros);
+            telemetry.addData("", "");
+            telemetry.addData("Controls (GP2)", "Back: Record | LB: Play/Cancel");
+            telemetry.update();
+        }
+
+        if (playing) cancelPlayback("Stopped");
+        applyOutputs(0);
+    }
+
+    /**
+     * Read the recorded gamepad-2 buttons into one bit mask
+     */
+    private int readOperatorMask() {
+        int mask = 0;
+        if (gamepad2.a) mask |= BIT_A;
+        if (gamepad2.b) mask |= BIT_B;
+        if (gamepad2.x) mask |= BIT_X;
+        if (gamepad2.y) mask |= BIT_Y;
+        if (gamepad2.dpad_left) mask |= BIT_DPAD_LEFT;
+        if (gamepad2.dpad_right) mask |= BIT_DPAD_RIGHT;
+        return mask;
+    }
+
+    /**
+     * Same operator controls as Demo14/Demo15, driven by a bit mask
+     */
+    private void applyOutputs(int mask) {
+        boolean a = (mask & BIT_A) != 0, b = (mask & BIT_B) != 0;
+        boolean x = (mask & BIT_X) != 0, y = (mask & BIT_Y) != 0;
+        boolean left = (mask & BIT_DPAD_LEFT) != 0, rightPressed = (mask & BIT_DPAD_RIGHT) != 0;
+
+        fast.setPower(a && !b ? 1.0 : (b && !a ? -1.0 : 0.0));
+        block.setPower(x && !y ? 1.0 : (y && !x ? -1.0 : 0.0));
+        right.setPower(rightPressed && !left ? 0.5 : (left && !rightPressed ? -0.5 : 0.0));
+    }
+
+    // ═══ RECORDING ═══
+
+    private void startRecording(long now) {
+        recording = true;
+        recordStartNanos = now;
+        eventCount = 0;
+        lastRecordedMask = 0;
+        status = "● RECORDING";
+    }
+
+    private void recordIfChanged(int mask, long now) {
+        if (mask == lastRecordedMask) return;
+        if (eventCount == MAX_EVENTS) {
+            stopRecording(now);
+            status = "Recording full - stopped";
+            return;
+        }
+        eventMicros[eventCount] = (now - recordStartNanos) / 1000;
+        eventMask[eventCount] = (byte) mask;
+        eventCount++;
+        lastRecordedMask = mask;
+    }
+
+    private void stopRecording(long now) {
+        recording = false;
+        // Always end with "all released" so playback stops cleanly
+        if (lastRecordedMask != 0 && eventCount < MAX_EVENTS) {
+            eventMicros[eventCount] = (now - recordStartNanos) / 1000;
+            eventMask[eventCount] = 0;
+            eventCount++;
+        }
+        status = saveMacro() ? "Saved " + eventCount + " events" : "Recorded (save FAILED)";
+    }
+
+    // ═══ PLAYBACK ═══
+
+    private void startPlayback(long now) {
+        playIndex = 0;
+        worstLateMicros = 0;
+        cancelRequested = false;
+        playing = true;
+        status = "Playing";
+        playbackThread = new Thread(() -> playEvents(now), "MacroPlayback");
+        playbackThread.setDaemon(true);
+        playbackThread.start();   // start() publishes the event arrays to the thread
+    }
+
+    /**
+     * Playback thread: sleep until each event is due, apply exactly that
+     * mask, repeat. Checks the cancel flag after every wake-up.
+     */
+    private void playEvents(long startNanos) {
+        for (int i = 0; i < eventCount; i++) {
+            long dueNanos = startNanos + eventMicros[i] * 1000;
+            long waitNanos;
+            while (!cancelRequested && (waitNanos = dueNanos - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(waitNanos);   // may wake early - loop and re-check
+            }
+            if (cancelRequested) return;
+
+            long lateMicros = (System.nanoTime() - dueNanos) / 1000;
+            if (lateMicros > worstLateMicros) worstLateMicros = lateMicros;
+            applyOutputs(eventMask[i]);
+            playIndex = i + 1;
+        }
+        applyOutputs(0);
+        status = "Playback done";
+        playing = false;
+    }
+
+    /**
+     * Stop the playback thread and wait for it, so it can't overwrite
+     * the outputs after this returns
+     */
+    private void cancelPlayback(String reason) {
+        cancelRequested = true;
+        Thread thread = playbackThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        playing = false;
+        applyOutputs(0);
+        status = reason;
+    }
+
+    // ═══ FILE (magic, count, then 4-byte delta µs + 1-byte mask per event) ═══
+
+    private boolean saveMacro() {
+        macroFile.getParentFile().mkdirs();
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(macroFile)))) {
+            out.writeInt(FILE_MAGIC);
+            out.writeInt(eventCount);
+            long previous = 0;
+            for (int i = 0; i < eventCount; i++) {
+                out.writeInt((int) (eventMicros[i] - previous));
+                out.writeByte(eventMask[i]);
+                previous = eventMicros[i];
+            }
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private boolean loadMacro() {
+        if (!macroFile.exists()) return false;
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(macroFile)))) {
+            if (in.readInt() != FILE_MAGIC) return false;
+            int count = in.readInt();
+            // A damaged file must not give a negative or oversized count
+            if (count < 0 || count > MAX_EVENTS) return false;
+            long time = 0;
+            for (int i = 0; i < count; i++) {
+                int delta = in.readInt();
+                if (delta < 0) {
+                    eventCount = 0;
+                    return false;
+                }
+                time += delta;
+                eventMicros[i] = time;
+                eventMask[i] = in.readByte();
+            }
+            eventCount = count;
+            return true;
+        } catch (IOException e) {
+            eventCount = 0;
+            return false;
+        }
+    }
+}
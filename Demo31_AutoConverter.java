@@ -0,0 +1,223 @@
+/**
+ * ------------------------------------------------------------
+ *  FGC Team Australia 2025  |  FIRST Global Challenge
+ * ------------------------------------------------------------
+ *  Project: FGC101 - Java Demo Series
+ *  File:    Demo31_AutoConverter.java
+ *
+ *  Description:
+ *  This demo is part of the FGC101 video series created by
+ *  FGC Team Australia 2025. Our goal is to help rookie teams
+ *  understand programming logic and competition strategy
+ *  through short, simple examples.
+ *
+ *  Playlist: https://www.youtube.com/playlist?list=PL-29lId0PJrVEo0yJyprGheyRtR-ReDET
+ *  Author:   Muyao Zhang (from FGC Team Australia)
+ *  Date:     October 2025
+ *
+ *  Notes:
+ *  - We currently provide around 15 demo programs.
+ *  - These Java demos are not continuously updated.
+ *  - For detailed explanations, please refer to the FGC101 videos.
+ *
+ *  © FGC Team Australia 2025 | Educational Use Only
+ * ------------------------------------------------------------
+ */
+
+package org.firstinspires.ftc.teamcode;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * Demo 31 (part 2 of 3, laptop tool): Flight Log → Autonomous Routine
+ *
+ * Knowledge Point: Turning a recording into a compact plan
+ *
+ * A flight log has one 48-byte record per loop (~100 per second).
+ * An autonomous doesn't need all of that. The converter:
+ * 1. Trims the idle time before the first and after the last command
+ * 2. Keeps one KEYFRAME every --interval ms (positions + commands)
+ * 3. Adds an extra keyframe whenever a mechanism command changes,
+ *    so "intake ON" happens exactly when it happened in TeleOp
+ * 4. Packs each keyframe into 24 bytes:
+ *      time ms, bl/br/right target positions   (4 ints)
+ *      bl/br/right feedforward power × 100     (3 bytes)
+ *      fly/intake/fast/block/climb power × 100 (5 bytes)
+ *
+ * The result is usually only a few KB, so Demo31_RecordedAuto can load
+ * it into plain arrays during INIT in a few milliseconds.
+ *
+ *   javac -d out Demo31_AutoConverter.java
+ *   java -cp out org.firstinspires.ftc.teamcode.Demo31_AutoConverter run_123.flt [options]
+ *
+ * Options:
+ *   --out FILE       routine file (default auto_routine.bin)
+ *   --interval MS    keyframe spacing in ms (default 50)
+ *
+ * Copy the routine to /sdcard/FIRST/auto_routine.bin on the Robot Controller.
+ */
+public class Demo31_AutoConverter {
+
+    // Flight log format (written by Demo31_FlightRecorder)
+    static final int LOG_MAGIC = 0x464C5431;       // "FLT1"
+    static final int RECORD_BYTES = 48;
+
+    // Routine file format (read by Demo31_RecordedAuto)
+    static final int ROUTINE_MAGIC = 0x41555431;   // "AUT1"
+    static final int KEYFRAME_BYTES = 24;
+
+    // Log record fields, in file order
+    private static final int T = 0, BL_POS = 1, BR_POS = 2, RIGHT_POS = 3;
+    private static final int BL_POW = 4, BR_POW = 5, RIGHT_POW = 6;
+    private static final int FLY = 7, INTAKE = 8, FAST = 9, BLOCK = 10, CLIMB = 11;
+    private static final int FIELDS = 12;
+
+    private static final double IDLE_POWER = 0.01;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("Usage: Demo31_AutoConverter <flight log> [--out FILE] [--interval MS]");
+            return;
+        }
+        String logPath = args[0];
+        String outPath = "auto_routine.bin";
+        int intervalMs = 50;
+        for (int i = 1; i < args.length; i++) {
+            String option = args[i];
+            if (!option.equals("--out") && !option.equals("--interval")) {
+                System.out.println("Unknown option: " + option);
+                return;
+            }
+            if (i + 1 >= args.length) {
+                System.out.println("Missing value for " + option);
+                return;
+            }
+            String value = args[++i];
+            if (option.equals("--out")) outPath = value;
+            else intervalMs = Integer.parseInt(value);
+        }
+
+        double[][] log = readLog(new File(logPath));
+        int n = log.length;
+        if (n == 0) {
+            System.out.println("Flight log is empty.");
+            return;
+        }
+
+        // ═══ Trim idle time at both ends ═══
+        int first = 0;
+        while (first < n - 1 && isIdle(log[first])) first++;
+        int last = n - 1;
+        while (last > first && isIdle(log[last])) last--;
+        double startMicros = log[first][T];
+
+        // ═══ Pick keyframes ═══
+        boolean[] keep = new boolean[n];
+        int keyframes = 0;
+        double nextKeyMicros = startMicros;
+        for (int i = first; i <= last; i++) {
+            boolean due = log[i][T] >= nextKeyMicros;
+            boolean changed = i > first && mechanismChanged(log[i - 1], log[i]);
+            if (due || changed || i == last) {
+                keep[i] = true;
+                keyframes++;
+                if (due) nextKeyMicros += intervalMs * 1000.0;
+            }
+        }
+
+        // ═══ Write the routine ═══
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(outPath)))) {
+            out.writeInt(ROUTINE_MAGIC);
+            out.writeInt(keyframes);
+            for (int i = first; i <= last; i++) {
+                if (!keep[i]) continue;
+                double[] r = log[i];
+                out.writeInt((int) Math.round((r[T] - startMicros) / 1000.0));
+                // Positions are relative to the first keyframe so replay starts at 0
+                out.writeInt((int) (r[BL_POS] - log[first][BL_POS]));
+                out.writeInt((int) (r[BR_POS] - log[first][BR_POS]));
+                out.writeInt((int) (r[RIGHT_POS] - log[first][RIGHT_POS]));
+                out.writeByte(toPercent(r[BL_POW]));
+                out.writeByte(toPercent(r[BR_POW]));
+                out.writeByte(toPercent(r[RIGHT_POW]));
+                out.writeByte(toPercent(r[FLY]));
+                out.writeByte(toPercent(r[INTAKE]));
+                out.writeByte(toPercent(r[FAST]));
+                out.writeByte(toPercent(r[BLOCK]));
+                out.writeByte(toPercent(r[CLIMB]));
+            }
+        }
+
+        double seconds = (log[last][T] - startMicros) / 1e6;
+        System.out.println("=== AUTO CONVERTER ===");
+        System.out.printf("Log records:  %d (%.1f s trimmed from start, %.1f s from end)%n",
+                n, (startMicros - log[0][T]) / 1e6, (log[n - 1][T] - log[last][T]) / 1e6);
+        System.out.printf("Routine:      %.2f s, %d keyframes%n", seconds, keyframes);
+        System.out.printf("Final target: bl=%d br=%d right=%d%n",
+                (int) (log[last][BL_POS] - log[first][BL_POS]),
+                (int) (log[last][BR_POS] - log[first][BR_POS]),
+                (int) (log[last][RIGHT_POS] - log[first][RIGHT_POS]));
+        System.out.printf("Saved %s (%d bytes, log was %d bytes)%n",
+                outPath, 8 + keyframes * KEYFRAME_BYTES, 8 + n * RECORD_BYTES);
+    }
+
+    /**
+     * Reads all 48-byte records into rows of FIELDS numbers.
+     * A log cut short by a crash just ends at the last complete record.
+     */
+    static double[][] readLog(File file) throws IOException {
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(file), 64 * 1024))) {
+            if (in.readInt() != LOG_MAGIC) {
+                throw new IOException("Not a flight log: " + file);
+            }
+            int recordBytes = in.readInt();
+            if (recordBytes != RECORD_BYTES) {
+                throw new IOException("Unsupported record size " + recordBytes);
+            }
+            int maxRecords = (int) ((file.length() - 8) / recordBytes);
+            double[][] rows = new double[maxRecords][];
+            int count = 0;
+            try {
+                while (count < maxRecords) {
+                    double[] r = new double[FIELDS];
+                    for (int f = T; f <= RIGHT_POS; f++) r[f] = in.readInt();
+                    for (int f = BL_POW; f < FIELDS; f++) r[f] = in.readFloat();
+                    rows[count++] = r;
+                }
+            } catch (EOFException e) {
+                // Partial last record - keep what we have
+            }
+            double[][] result = new double[count][];
+            System.arraycopy(rows, 0, result, 0, count);
+            return result;
+        }
+    }
+
+    private static boolean isIdle(double[] r) {
+        for (int f = BL_POW; f < FIELDS; f++) {
+            if (Math.abs(r[f]) > IDLE_POWER) return false;
+        }
+        return true;
+    }
+
+    private static boolean mechanismChanged(double[] a, double[] b) {
+        for (int f = FLY; f < FIELDS; f++) {
+            if (toPercent(a[f]) != toPercent(b[f])) return true;
+        }
+        return false;
+    }
+
+    private static int toPercent(double power) {
+        return (int) Math.round(Math.max(-1.0, Math.min(1.0, power)) * 100);
+    }
+}
@@ -0,0 +1,416 @@
+/**
+ * ------------------------------------------------------------
+ *  FGC Team Australia 2025  |  FIRST Global Challenge
+ * ------------------------------------------------------------
+ *  Project: FGC101 - Java Demo Series
+ *  File:    Demo31_FlightRecorder.java
+ *
+ *  Description:
+ *  This demo is part of the FGC101 video series created by
+ *  FGC Team Australia 2025. Our goal is to help rookie teams
+ *  understand programming logic and competition strategy
+ *  through short, simple examples.
+ *
+ *  Playlist: https://www.youtube.com/playlist?list=PL-29lId0PJrVEo0yJyprGheyRtR-ReDET
+ *  Author:   Muyao Zhang (from FGC Team Australia)
+ *  Date:     October 2025
+ *
+ *  Notes:
+ *  - We currently provide around 15 demo programs.
+ *  - These Java demos are not continuously updated.
+ *  - For detailed explanations, please refer to the FGC101 videos.
+ *
+ *  © FGC Team Australia 2025 | Educational Use Only
+ * ------------------------------------------------------------
+ */
+
+package org.firstinspires.ftc.teamcode;
+
+import com.qualcomm.robotcore.eventloop.opmode.TeleOp;
+import com.qualcomm.robotcore.eventloop.opmode.LinearOpMode;
+import com.qualcomm.robotcore.hardware.DcMotor;
+import com.qualcomm.robotcore.hardware.DcMotorEx;
+import com.qualcomm.robotcore.hardware.CRServo;
+import com.qualcomm.robotcore.util.ElapsedTime;
+
+import org.firstinspires.ftc.robotcore.internal.system.AppUtil;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * Demo 31 (part 1 of 3): Flight Recorder TeleOp
+ *
+ * Knowledge Point: Recording a TeleOp run so it can become an autonomous
+ *
+ * We don't have an autonomous program, but our drivers already drive
+ * good paths in TeleOp. Step one is to RECORD what happened:
+ * every loop we write one fixed-size binary record with
+ * - time (µs since START)
+ * - encoder positions: bl, br, right
+ * - every command we sent: drive, right, fly, intake, fast, block, climb
+ *
+ * The controls and motor directions are EXACTLY Demo15 (speed toggle,
+ * L2 hold, right motor PID with protection), so the drivers record
+ * with the same robot they practise with. We log the power each motor
+ * actually got, not the stick position.
+ *
+ * Binary records (48 bytes each) are tiny and fast to write - no text
+ * formatting in the loop. The log goes to /sdcard/FIRST/flight/.
+ *
+ * Then:
+ * - Demo31_AutoConverter (laptop) turns the log into a compact routine
+ * - Demo31_RecordedAuto plays the routine back CLOSED-LOOP on encoders
+ *
+ * Hardware Required: same as Demo15 (bl/br need encoders)
+ *
+ * Controls: same as Demo15
+ * GAMEPAD 1: Sticks: Tank drive | X: Speed | L2: Hold | L1: Fly cycle | R1/R2: Intake | DPad Up/Down: Climb
+ * GAMEPAD 2: DPad Left/Right: Right motor (PID hold on release) | A/B: Fast | X/Y: Block
+ *
+ * How to Demonstrate:
+ * 1. Place the robot at the autonomous start position
+ * 2. Press INIT and START, drive the path you want
+ * 3. Press STOP - the log file name is shown in telemetry
+ * 4. Convert it with Demo31_AutoConverter
+ */
+@TeleOp(name="Demo31: Flight Recorder", group="Demo")
+public class Demo31_FlightRecorder extends LinearOpMode {
+
+    // PID Controller class (from Demo15)
+    private class PIDController {
+        private double Kp, Ki, Kd;
+        private double integralSum = 0;
+        private double lastError = 0;
+        private ElapsedTime timer = new ElapsedTime();
+
+        public PIDController(double Kp, double Ki, double Kd) {
+            this.Kp = Kp;
+            this.Ki = Ki;
+            this.Kd = Kd;
+        }
+
+        public double update(double target, double current) {
+            double error = target - current;
+            double derivative = (error - lastError) / timer.seconds();
+            integralSum += error * timer.seconds();
+            double output = (Kp * error) + (Ki * integralSum) + (Kd * derivative);
+            lastError = error;
+            timer.reset();
+            return output;
+        }
+
+        public void resetIntegral() {
+            integralSum = 0;
+            lastError = 0;
+            timer.reset();
+        }
+    }
+
+    private DcMotor bl, br, fly, intake, climbleft, climbright, fast;
+    private DcMotorEx right;
+    private CRServo block;
+
+    // Right motor PID
+    private PIDController rightPIDController = new PIDController(0.1, 0, 0.001);
+    private int rightTargetPosition = 0;
+    private boolean rightPIDEnabled = false;
+    private ElapsedTime rightPIDTimer = new ElapsedTime();
+    private boolean rightPIDTimeout = false;
+
+    // Left wheel hold for L2 mode
+    private PIDController blPIDController = new PIDController(0.1, 0, 0.001);
+    private int blTargetPosition = 0;
+    private boolean blHoldEnabled = false;
+
+    // Speed configuration (same as Demo15)
+    double flyPowerLow = 0.8;
+    double flyPowerHigh = 1.0;
+    double intakePowerForward = 0.8;
+    double intakePowerReverse = 1.0;
+    double rightMotorPower = 0.5;
+    double climbPowerUp = 1.0;
+    double climbPowerDown = -1.0;
+    double fastPowerFull = 1.0;
+
+    double driveSpeedScale = 1.0;
+    boolean lastXState = false;
+
+    int flyState = 0;
+    boolean lastL1FlyState = false;
+
+    private DataOutputStream log;
+    private File logFile;
+    private int recordsWritten = 0;
+    private String logStatus = "Not started";
+
+    @Override
+    public void runOpMode() {
+        bl = hardwareMap.get(DcMotor.class, "bl");
+        br = hardwareMap.get(DcMotor.class, "br");
+        fly = hardwareMap.get(DcMotor.class, "fly");
+        intake = hardwareMap.get(DcMotor.class, "intake");
+        climbleft = hardwareMap.get(DcMotor.class, "climbleft");
+        climbright = hardwareMap.get(DcMotor.class, "climbright");
+        right = hardwareMap.get(DcMotorEx.class, "right");
+        fast = hardwareMap.get(DcMotor.class, "fast");
+        block = hardwareMap.get(CRServo.class, "block");
+
+        bl.setDirection(DcMotor.Direction.REVERSE);
+        br.setDirection(DcMotor.Direction.FORWARD);
+        fly.setDirection(DcMotor.Direction.REVERSE);
+        intake.setDirection(DcMotor.Direction.REVERSE);
+        climbleft.setDirection(DcMotor.Direction.FORWARD);
+        climbright.setDirection(DcMotor.Direction.FORWARD);
+        right.setDirection(DcMotorEx.Direction.FORWARD);
+        fast.setDirection(DcMotor.Direction.FORWARD);
+
+        right.setZeroPowerBehavior(DcMotorEx.ZeroPowerBehavior.BRAKE);
+        fast.setZeroPowerBehavior(DcMotor.ZeroPowerBehavior.BRAKE);
+
+        // Positions must start at 0 so the autonomous can replay them
+        bl.setMode(DcMotor.RunMode.STOP_AND_RESET_ENCODER);
+        br.setMode(DcMotor.RunMode.STOP_AND_RESET_ENCODER);
+        right.setMode(DcMotorEx.RunMode.STOP_AND_RESET_ENCODER);
+        bl.setMode(DcMotor.RunMode.RUN_WITHOUT_ENCODER);
+        br.setMode(DcMotor.RunMode.RUN_WITHOUT_ENCODER);
+        right.setMode(DcMotorEx.RunMode.RUN_WITHOUT_ENCODER);
+
+        openLog();
+
+        telemetry.addData("Status", "Ready - Flight Recorder");
+        telemetry.addData("Log", logStatus);
+        telemetry.addData("Tip", "Put the robot at the AUTO start position!");
+        telemetry.update();
+
+        waitForStart();
+        long startNanos = System.nanoTime();
+
+        while (opModeIsActive()) {
+            // ═══ Demo15 controls, unchanged ═══
+            // Tank drive with speed toggle
+            double leftPower = -gamepad1.left_stick_y;
+            double rightPower = -gamepad1.right_stick_y;
+
+            boolean currentXState = gamepad1.x;
+            if (currentXState && !lastXState) {
+                driveSpeedScale = (driveSpeedScale == 1.0) ? 0.5 : 1.0;
+            }
+            lastXState = currentXState;
+
+            bl.setPower(leftPower * driveSpeedScale);
+            br.setPower(rightPower * driveSpeedScale);
+
+            // L2 special mode
+            boolean l2HoldPressed = gamepad1.left_trigger > 0.5;
+            if (l2HoldPressed) {
+                if (!blHoldEnabled) {
+                    blTargetPosition = bl.getCurrentPosition();
+                    blHoldEnabled = true;
+                    blPIDController.resetIntegral();
+                }
+
+                int blCurrentPosition = bl.getCurrentPosition();
+                double blError = blTargetPosition - blCurrentPosition;
+                double raw = blPIDController.update(blTargetPosition, blCurrentPosition);
+
+                double blPower;
+                if (Math.abs(blError) > 5) {
+                    blPower = Math.max(-1, Math.min(1, raw));
+                } else if (Math.abs(blError) > 0) {
+                    blPower = blError > 0 ? 0.1 : -0.1;
+                } else {
+                    blPower = 0;
+                }
+
+                bl.setPower(blPower);
+                br.setPower(-0.7);
+            } else {
+                blHoldEnabled = false;
+            }
+
+            // Intake
+            boolean r1Pressed = gamepad1.right_bumper;
+            boolean r2Pressed = gamepad1.right_trigger > 0.5;
+            if (r1Pressed && !r2Pressed) {
+                intake.setPower(intakePowerForward);
+            } else if (r2Pressed && !r1Pressed) {
+                intake.setPower(-intakePowerReverse);
+            } else {
+                intake.setPower(0);
+            }
+
+            // Flywheel L1
+            boolean currentL1FlyState = gamepad1.left_bumper;
+            if (currentL1FlyState && !lastL1FlyState) {
+                flyState = (flyState + 1) % 3;
+            }
+            lastL1FlyState = currentL1FlyState;
+
+            switch (flyState) {
+                case 0: fly.setPower(0); break;
+                case 1: fly.setPower(flyPowerLow); break;
+                case 2: fly.setPower(flyPowerHigh); break;
+            }
+
+            // Gamepad 2 fast motor
+            if (gamepad2.a && !gamepad2.b) {
+                fast.setPower(fastPowerFull);
+            } else if (gamepad2.b && !gamepad2.a) {
+                fast.setPower(-fastPowerFull);
+            } else {
+                fast.setPower(0);
+            }
+
+            // Gamepad 2 block servo
+            double blockPower = 0.0;
+            if (gamepad2.x && !gamepad2.y) {
+                blockPower = 1.0;
+            } else if (gamepad2.y && !gamepad2.x) {
+                blockPower = -1.0;
+            }
+            block.setPower(blockPower);
+
+            // Climb motors
+            double climbPower = 0.0;
+            if (gamepad1.dpad_up && !gamepad1.dpad_down) {
+                climbPower = climbPowerUp;
+            } else if (gamepad1.dpad_down && !gamepad1.dpad_up) {
+                climbPower = climbPowerDown;
+            }
+            climbleft.setPower(climbPower);
+            climbright.setPower(climbPower);
+
+            // Right motor with SMART PROTECTION (Demo15)
+            boolean dpadLeft = gamepad2.dpad_left;
+            boolean dpadRight = gamepad2.dpad_right;
+
+            if (dpadLeft && !dpadRight) {
+                rightPIDEnabled = false;
+                rightPIDTimeout = false;
+                right.setPower(-rightMotorPower);
+            } else if (dpadRight && !dpadLeft) {
+                rightPIDEnabled = false;
+                rightPIDTimeout = false;
+                right.setPower(rightMotorPower);
+            } else {
+                if (!rightPIDEnabled) {
+                    rightTargetPosition = right.getCurrentPosition();
+                    rightPIDEnabled = true;
+                    rightPIDTimeout = false;
+                    rightPIDController.resetIntegral();
+                    rightPIDTimer.reset();
+                }
+
+                int currentPosition = right.getCurrentPosition();
+                double error = rightTargetPosition - currentPosition;
+
+                if (!rightPIDTimeout && rightPIDTimer.seconds() > 3.0) {
+                    rightTargetPosition = currentPosition;
+                    rightPIDTimeout = true;
+                    rightPIDController.resetIntegral();
+                    rightPIDTimer.reset();
+                }
+
+                double power = 0;
+
+                if (rightPIDTimeout) {
+                    if (Math.abs(error) > 3) {
+                        rightPIDTimeout = false;
+                        rightPIDController.resetIntegral();
+                        rightPIDTimer.reset();
+                    }
+                }
+
+                if (!rightPIDTimeout) {
+                    power = rightPIDController.update(rightTargetPosition, currentPosition);
+
+                    if (Math.abs(error) > 5) {
+                        power = Math.max(-1, Math.min(1, power));
+                    } else if (Math.abs(error) > 0) {
+                        power = error > 0 ? 0.1 : -0.1;
+                    } else {
+                        power = 0;
+                    }
+                }
+
+                right.setPower(power);
+            }
+
+
+            // ═══ RECORD this loop ═══
+            // Record what was actually sent (L2 hold and the right motor
+            // PID change the powers after the sticks/buttons are read)
+            writeRecord((System.nanoTime() - startNanos) / 1000,
+                    bl.getCurrentPosition(), br.getCurrentPosition(), right.getCurrentPosition(),
+                    bl.getPower(), br.getPower(), right.getPower(),
+                    fly.getPower(), intake.getPower(), fast.getPower(), block.getPower(), climbleft.getPower());
+
+            telemetry.addData("=== FLIGHT RECORDER ===", "");
+            telemetry.addData("Log", logStatus);
+            telemetry.addData("Records", "%d (%d KB)", recordsWritten, recordsWritten * Demo31_AutoConverter.RECORD_BYTES / 1024);
+            telemetry.addData("Drive", "L:%.1f R:%.1f", leftPower, rightPower);
+            telemetry.addData("Right PID", rightPIDEnabled ? (rightPIDTimeout ? "TIMEOUT" : "HOLD") : "Manual");
+            telemetry.update();
+        }
+
+        closeLog();
+    }
+
+    private void openLog() {
+        try {
+            File directory = new File(AppUtil.FIRST_FOLDER, "flight");
+            directory.mkdirs();
+            logFile = new File(directory, "run_" + System.currentTimeMillis() + ".flt");
+            log = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(logFile), 64 * 1024));
+            log.writeInt(Demo31_AutoConverter.LOG_MAGIC);
+            log.writeInt(Demo31_AutoConverter.RECORD_BYTES);
+            logStatus = "Recording to " + logFile.getName();
+        } catch (IOException e) {
+            log = null;
+            logStatus = "Can't open log: " + e.getMessage();
+        }
+    }
+
+    /**
+     * One fixed-size record: 4 ints + 8 floats = 48 bytes
+     */
+    private void writeRecord(long timeMicros, int blPos, int brPos, int rightPos,
+                             double blPower, double brPower, double rightPower,
+                             double flyPower, double intakePower, double fastPower,
+                             double blockPower, double climbPower) {
+        if (log == null) return;
+        try {
+            log.writeInt((int) timeMicros);
+            log.writeInt(blPos);
+            log.writeInt(brPos);
+            log.writeInt(rightPos);
+            log.writeFloat((float) blPower);
+            log.writeFloat((float) brPower);
+            log.writeFloat((float) rightPower);
+            log.writeFloat((float) flyPower);
+            log.writeFloat((float) intakePower);
+            log.writeFloat((float) fastPower);
+            log.writeFloat((float) blockPower);
+            log.writeFloat((float) climbPower);
+            recordsWritten++;
+        } catch (IOException e) {
+            logStatus = "Write failed: " + e.getMessage();
+            log = null;
+        }
+    }
+
+    private void closeLog() {
+        if (log == null) return;
+        try {
+            log.close();
+            logStatus = "Saved " + logFile.getName();
+        } catch (IOException e) {
+            logStatus = "Close failed: " + e.getMessage();
+        }
+        log = null;
+    }
+}
@@ -0,0 +1,293 @@
+/**
+ * ------------------------------------------------------------
+ *  FGC Team Australia 2025  |  FIRST Global Challenge
+ * ------------------------------------------------------------
+ *  Project: FGC101 - Java Demo Series
+ *  File:    Demo31_RecordedAuto.java
+ *
+ *  Description:
+ *  This demo is part of the FGC101 video series created by
+ *  FGC Team Australia 2025. Our goal is to help rookie teams
+ *  understand programming logic and competition strategy
+ *  through short, simple examples.
+ *
+ *  Playlist: https://www.youtube.com/playlist?list=PL-29lId0PJrVEo0yJyprGheyRtR-ReDET
+ *  Author:   Muyao Zhang (from FGC Team Australia)
+ *  Date:     October 2025
+ *
+ *  Notes:
+ *  - We currently provide around 15 demo programs.
+ *  - These Java demos are not continuously updated.
+ *  - For detailed explanations, please refer to the FGC101 videos.
+ *
+ *  © FGC Team Australia 2025 | Educational Use Only
+ * ------------------------------------------------------------
+ */
+
+package org.firstinspires.ftc.teamcode;
+
+import com.qualcomm.robotcore.eventloop.opmode.Autonomous;
+import com.qualcomm.robotcore.eventloop.opmode.LinearOpMode;
+import com.qualcomm.robotcore.hardware.DcMotor;
+import com.qualcomm.robotcore.hardware.DcMotorEx;
+import com.qualcomm.robotcore.hardware.CRServo;
+import com.qualcomm.robotcore.util.ElapsedTime;
+import com.qualcomm.robotcore.util.Range;
+
+import org.firstinspires.ftc.robotcore.internal.system.AppUtil;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+/**
+ * Demo 31 (part 3 of 3): Recorded Autonomous
+ *
+ * Knowledge Point: Replaying a TeleOp path CLOSED-LOOP
+ *
+ * Simply replaying the recorded stick values never works twice: battery
+ * voltage, wheel slip and a slightly different start all add up.
+ * Instead we replay the recorded ENCODER POSITIONS:
+ *
+ *   target = position the robot HAD at this time (interpolated)
+ *   power  = recorded power (feedforward) + kP × (target - position)
+ *
+ * The recorded power does most of the work, the P term pulls the robot
+ * back onto the recorded path. If the drive falls too far behind
+ * (MAX_LAG_TICKS) the routine clock PAUSES until it catches up, so the
+ * mechanisms stay in step with where the robot actually is.
+ *
+ * Mechanisms (fly, intake, fast, block, climb) just replay their
+ * recorded commands. The right motor tracks its recorded position too.
+ *
+ * The routine (from Demo31_AutoConverter) is loaded into plain int/byte
+ * arrays during INIT - nothing is read or allocated during the match.
+ *
+ * Hardware Required: same as Demo15 (bl/br need encoders)
+ *
+ * Controls: none - Autonomous
+ *
+ * How to Demonstrate:
+ * 1. Record a run with Demo31_FlightRecorder, convert it on a laptop
+ * 2. Copy auto_routine.bin to /sdcard/FIRST/
+ * 3. Place the robot at the SAME start position, press INIT
+ * 4. Check "Routine" in telemetry, press START and watch the replay
+ * 5. Push the robot a little - it catches up instead of drifting
+ */
+@Autonomous(name="Demo31: Recorded Auto", group="Demo")
+public class Demo31_RecordedAuto extends LinearOpMode {
+
+    private static final String ROUTINE_FILE = "auto_routine.bin";
+
+    // Drive position tracking
+    private static final double DRIVE_KP = 0.004;        // power per tick of error
+    private static final double MAX_LAG_TICKS = 150;     // pause the routine clock beyond this
+
+    // Right motor position tracking
+    private static final double RIGHT_KP = 0.01;
+    private static final double RIGHT_KD = 0.0005;
+    private static final double RIGHT_MAX_POWER = 0.6;
+
+    private DcMotor bl, br, fly, intake, climbleft, climbright, fast;
+    private DcMotorEx right;
+    private CRServo block;
+
+    // Routine, one array per field (loaded at INIT)
+    private int keyframes = 0;
+    private int[] timeMs, blTarget, brTarget, rightTarget;
+    private byte[] blFF, brFF, rightFF, flyCmd, intakeCmd, fastCmd, blockCmd, climbCmd;
+    private String loadStatus = "Not loaded";
+
+    // Playback state
+    private int index = 0;
+    private double routineMs = 0;
+    private int pausedLoops = 0;
+    private double lastRightError = 0;
+
+    @Override
+    public void runOpMode() {
+        bl = hardwareMap.get(DcMotor.class, "bl");
+        br = hardwareMap.get(DcMotor.class, "br");
+        fly = hardwareMap.get(DcMotor.class, "fly");
+        intake = hardwareMap.get(DcMotor.class, "intake");
+        climbleft = hardwareMap.get(DcMotor.class, "climbleft");
+        climbright = hardwareMap.get(DcMotor.class, "climbright");
+        right = hardwareMap.get(DcMotorEx.class, "right");
+        fast = hardwareMap.get(DcMotor.class, "fast");
+        block = hardwareMap.get(CRServo.class, "block");
+
+        // Must match Demo31_FlightRecorder exactly
+        bl.setDirection(DcMotor.Direction.REVERSE);   // same as Demo15 / the recorder
+        br.setDirection(DcMotor.Direction.FORWARD);
+        fly.setDirection(DcMotor.Direction.REVERSE);
+        intake.setDirection(DcMotor.Direction.REVERSE);
+        climbleft.setDirection(DcMotor.Direction.FORWARD);
+        climbright.setDirection(DcMotor.Direction.FORWARD);
+        right.setDirection(DcMotorEx.Direction.FORWARD);
+        fast.setDirection(DcMotor.Direction.FORWARD);
+
+        right.setZeroPowerBehavior(DcMotorEx.ZeroPowerBehavior.BRAKE);
+        fast.setZeroPowerBehavior(DcMotor.ZeroPowerBehavior.BRAKE);
+        bl.setZeroPowerBehavior(DcMotor.ZeroPowerBehavior.BRAKE);
+        br.setZeroPowerBehavior(DcMotor.ZeroPowerBehavior.BRAKE);
+
+        bl.setMode(DcMotor.RunMode.STOP_AND_RESET_ENCODER);
+        br.setMode(DcMotor.RunMode.STOP_AND_RESET_ENCODER);
+        right.setMode(DcMotorEx.RunMode.STOP_AND_RESET_ENCODER);
+        bl.setMode(DcMotor.RunMode.RUN_WITHOUT_ENCODER);
+        br.setMode(DcMotor.RunMode.RUN_WITHOUT_ENCODER);
+        right.setMode(DcMotorEx.RunMode.RUN_WITHOUT_ENCODER);
+
+        ElapsedTime loadTimer = new ElapsedTime();
+        loadRoutine(new File(AppUtil.FIRST_FOLDER, ROUTINE_FILE));
+        double loadMs = loadTimer.milliseconds();
+
+        telemetry.addData("Status", keyframes > 0 ? "Ready - Recorded Auto" : "NO ROUTINE");
+        telemetry.addData("Routine", loadStatus);
+        telemetry.addData("Load Time", "%.1f ms", loadMs);
+        telemetry.update();
+
+        waitForStart();
+        if (keyframes == 0) return;
+
+        long lastNanos = System.nanoTime();
+
+        while (opModeIsActive()) {
+            long now = System.nanoTime();
+            double dtMs = (now - lastNanos) / 1e6;
+            lastNanos = now;
+
+            int blPos = bl.getCurrentPosition();
+            int brPos = br.getCurrentPosition();
+            int rightPos = right.getCurrentPosition();
+
+            // Advance to the keyframe pair around routineMs
+            while (index < keyframes - 1 && timeMs[index + 1] <= routineMs) index++;
+            boolean finished = index >= keyframes - 1;
+
+            int next = finished ? index : index + 1;
+            double span = timeMs[next] - timeMs[index];
+            double f = span > 0 ? Range.clip((routineMs - timeMs[index]) / span, 0, 1) : 0;
+
+            double blGoal = lerp(blTarget[index], blTarget[next], f);
+            double brGoal = lerp(brTarget[index], brTarget[next], f);
+            double rightGoal = lerp(rightTarget[index], rightTarget[next], f);
+
+            // ═══ DRIVE: feedforward + position correction ═══
+            double blError = blGoal - blPos;
+            double brError = brGoal - brPos;
+            double blPower = finished ? 0 : blFF[index] / 100.0;
+            double brPower = finished ? 0 : brFF[index] / 100.0;
+            bl.setPower(Range.clip(blPower + DRIVE_KP * blError, -1, 1));
+            br.setPower(Range.clip(brPower + DRIVE_KP * brError, -1, 1));
+
+            // ═══ RIGHT MOTOR: hold recorded position ═══
+            double rightError = rightGoal - rightPos;
+            double rightD = dtMs > 0 ? (rightError - lastRightError) / (dtMs / 1000.0) : 0;
+            lastRightError = rightError;
+            double rightPower = (finished ? 0 : rightFF[index] / 100.0)
+                    + RIGHT_KP * rightError + RIGHT_KD * rightD;
+            right.setPower(Range.clip(rightPower, -RIGHT_MAX_POWER, RIGHT_MAX_POWER));
+
+            // ═══ MECHANISMS: replay recorded commands ═══
+            if (finished) {
+                fly.setPower(0);
+                intake.setPower(0);
+                fast.setPower(0);
+                block.setPower(0);
+                climbleft.setPower(0);
+                climbright.setPower(0);
+            } else {
+                fly.setPower(flyCmd[index] / 100.0);
+                intake.setPower(intakeCmd[index] / 100.0);
+                fast.setPower(fastCmd[index] / 100.0);
+                block.setPower(blockCmd[index] / 100.0);
+                climbleft.setPower(climbCmd[index] / 100.0);
+                climbright.setPower(climbCmd[index] / 100.0);
+            }
+
+            // ═══ ROUTINE CLOCK: pause while the drive is too far behind ═══
+            boolean lagging = Math.max(Math.abs(blError), Math.abs(brError)) > MAX_LAG_TICKS;
+            if (lagging) {
+                pausedLoops++;
+            } else if (!finished) {
+                routineMs += dtMs;
+            }
+
+            telemetry.addData("=== RECORDED AUTO ===", "");
+            telemetry.addData("Progress", "%.1f / %.1f s  (keyframe %d/%d)",
+                    routineMs / 1000.0, timeMs[keyframes - 1] / 1000.0, index + 1, keyframes);
+            telemetry.addData("State", finished ? "DONE - holding" : (lagging ? "CATCHING UP" : "REPLAYING"));
+            telemetry.addData("", "");
+            telemetry.addData("BL", "target:%.0f pos:%d err:%.0f", blGoal, blPos, blError);
+            telemetry.addData("BR", "target:%.0f pos:%d err:%.0f", brGoal, brPos, brError);
+            telemetry.addData("Right", "target:%.0f pos:%d err:%.0f", rightGoal, rightPos, rightError);
+            telemetry.addData("Paused Loops", pausedLoops);
+            telemetry.update();
+        }
+    }
+
+    /**
+     * Reads the whole routine into arrays. Any problem leaves keyframes = 0
+     * and the robot simply does nothing.
+     */
+    private void loadRoutine(File file) {
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(file), 16 * 1024))) {
+            if (in.readInt() != Demo31_AutoConverter.ROUTINE_MAGIC) {
+                loadStatus = "Not a routine file: " + file.getName();
+                return;
+            }
+            int count = in.readInt();
+            if (count <= 0) {
+                loadStatus = "Routine is empty";
+                return;
+            }
+            // A corrupt count must not allocate huge arrays: it can't be more
+            // keyframes than the file holds after its 8-byte header
+            long available = (file.length() - 8) / Demo31_AutoConverter.KEYFRAME_BYTES;
+            if (count > available) {
+                loadStatus = String.format("Routine damaged: %d keyframes, file holds %d", count, available);
+                return;
+            }
+            timeMs = new int[count];
+            blTarget = new int[count];
+            brTarget = new int[count];
+            rightTarget = new int[count];
+            blFF = new byte[count];
+            brFF = new byte[count];
+            rightFF = new byte[count];
+            flyCmd = new byte[count];
+            intakeCmd = new byte[count];
+            fastCmd = new byte[count];
+            blockCmd = new byte[count];
+            climbCmd = new byte[count];
+            for (int i = 0; i < count; i++) {
+                timeMs[i] = in.readInt();
+                blTarget[i] = in.readInt();
+                brTarget[i] = in.readInt();
+                rightTarget[i] = in.readInt();
+                blFF[i] = in.readByte();
+                brFF[i] = in.readByte();
+                rightFF[i] = in.readByte();
+                flyCmd[i] = in.readByte();
+                intakeCmd[i] = in.readByte();
+                fastCmd[i] = in.readByte();
+                blockCmd[i] = in.readByte();
+                climbCmd[i] = in.readByte();
+            }
+            keyframes = count;
+            loadStatus = String.format("%s: %d keyframes, %.1f s",
+                    file.getName(), count, timeMs[count - 1] / 1000.0);
+        } catch (IOException e) {
+            keyframes = 0;
+            loadStatus = "Can't load " + file.getName() + ": " + e.getMessage();
+        }
+    }
+
+    private static double lerp(double a, double b, double f) {
+        return a + (b - a) * f;
+    }
+}
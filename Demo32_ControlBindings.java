@@ -0,0 +1,535 @@
+/**
+ * ------------------------------------------------------------
+ *  FGC Team Australia 2025  |  FIRST Global Challenge
+ * ------------------------------------------------------------
+ *  Project: FGC101 - Java Demo Series
+ *  File:    Demo32_ControlBindings.java
+ *
+ *  Description:
+ *  This demo is part of the FGC101 video series created by
+ *  FGC Team Australia 2025. Our goal is to help rookie teams
+ *  understand programming logic and competition strategy
+ *  through short, simple examples.
+ *
+ *  Playlist: https://www.youtube.com/playlist?list=PL-29lId0PJrVEo0yJyprGheyRtR-ReDET
+ *  Author:   Muyao Zhang (from FGC Team Australia)
+ *  Date:     October 2025
+ *
+ *  Notes:
+ *  - We currently provide around 15 demo programs.
+ *  - These Java demos are not continuously updated.
+ *  - For detailed explanations, please refer to the FGC101 videos.
+ *
+ *  © FGC Team Australia 2025 | Educational Use Only
+ * ------------------------------------------------------------
+ */
+
+package org.firstinspires.ftc.teamcode;
+
+import com.qualcomm.robotcore.eventloop.opmode.TeleOp;
+import com.qualcomm.robotcore.eventloop.opmode.LinearOpMode;
+import com.qualcomm.robotcore.hardware.DcMotor;
+import com.qualcomm.robotcore.hardware.DcMotorEx;
+import com.qualcomm.robotcore.hardware.CRServo;
+import com.qualcomm.robotcore.hardware.Gamepad;
+import com.qualcomm.robotcore.util.ElapsedTime;
+
+import org.firstinspires.ftc.robotcore.internal.system.AppUtil;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Demo 32: Configurable Control Bindings
+ *
+ * Knowledge Point: Data-driven controls with a dispatch table
+ *
+ * In Demo15 every button is hardcoded: L1 = flywheel, R1/R2 = intake...
+ * When drivers swap, someone has to edit code. Here the layout lives in
+ * a text file on the robot:
+ *
+ *   /sdcard/FIRST/bindings.txt
+ *   gp1.left_bumper  = fly_cycle
+ *   gp2.a            = fast_forward
+ *
+ * At INIT the file is COMPILED into three plain arrays:
+ *   bindInput[i]  → which button (an index, not a string)
+ *   bindAction[i] → which action (an index, not a string)
+ *   bindEdge[i]   → fire once per press, or while held
+ * Every loop we copy the buttons into a boolean array and walk the
+ * table once - no map lookups, no string comparisons in the loop.
+ *
+ * Conflict detection (shown during INIT):
+ * - The same button bound to two actions → second binding dropped
+ * - The same action on gamepad 1 AND gamepad 2 → the two drivers would
+ *   fight over it, so the gamepad 2 binding is dropped
+ *
+ * If the file is missing, the Demo15 layout is used and written to the
+ * file, so it can be edited and reloaded with the next INIT.
+ *
+ * Only the BUTTONS move - the behaviour is Demo15's: the right motor
+ * holds its position with PID (and the 3 s timeout protection) whenever
+ * neither right_* action is active, and left_hold is the L2 mode
+ * (PID hold on bl, br at -0.7).
+ *
+ * Hardware Required: ALL motors and servos (same as Demo15)
+ *
+ * Controls:
+ * GAMEPAD 1 Sticks: Tank drive (always)
+ * Everything else: from bindings.txt (default = Demo15 layout)
+ *
+ * How to Demonstrate:
+ * 1. Run once - bindings.txt is created with the Demo15 layout
+ * 2. Edit it, e.g. "gp1.a = fly_cycle", and add "gp2.a = fly_cycle"
+ * 3. INIT again - telemetry shows the gamepad 1 vs 2 conflict
+ * 4. START and check that the new buttons work
+ */
+@TeleOp(name="Demo32: Control Bindings", group="Demo")
+public class Demo32_ControlBindings extends LinearOpMode {
+
+    private static final String BINDINGS_FILE = "bindings.txt";
+
+    // Buttons we can bind, the same list for both gamepads
+    private enum Button {
+        A, B, X, Y, LEFT_BUMPER, RIGHT_BUMPER, LEFT_TRIGGER, RIGHT_TRIGGER,
+        DPAD_UP, DPAD_DOWN, DPAD_LEFT, DPAD_RIGHT, BACK, START,
+        LEFT_STICK_BUTTON, RIGHT_STICK_BUTTON
+    }
+
+    // Actions a button can trigger (edge = once per press)
+    private enum Action {
+        SPEED_TOGGLE(true), FLY_CYCLE(true),
+        INTAKE_FORWARD(false), INTAKE_REVERSE(false),
+        CLIMB_UP(false), CLIMB_DOWN(false),
+        RIGHT_NEGATIVE(false), RIGHT_POSITIVE(false),
+        FAST_FORWARD(false), FAST_REVERSE(false),
+        BLOCK_FORWARD(false), BLOCK_REVERSE(false),
+        LEFT_HOLD(false);
+
+        final boolean edge;
+
+        Action(boolean edge) {
+            this.edge = edge;
+        }
+    }
+
+    // Demo15 layout, also written out as the starting bindings.txt
+    private static final String[] DEFAULT_BINDINGS = {
+        "gp1.x             = speed_toggle",
+        "gp1.left_bumper   = fly_cycle",
+        "gp1.right_bumper  = intake_forward",
+        "gp1.right_trigger = intake_reverse",
+        "gp1.dpad_up       = climb_up",
+        "gp1.dpad_down     = climb_down",
+        "gp1.left_trigger  = left_hold",
+        "gp2.dpad_left     = right_negative",
+        "gp2.dpad_right    = right_positive",
+        "gp2.a             = fast_forward",
+        "gp2.b             = fast_reverse",
+        "gp2.x             = block_forward",
+        "gp2.y             = block_reverse"
+    };
+
+    private static final int BUTTONS = Button.values().length;
+    private static final int ACTIONS = Action.values().length;
+
+    // PID Controller class (from Demo15)
+    private class PIDController {
+        private double Kp, Ki, Kd;
+        private double integralSum = 0;
+        private double lastError = 0;
+        private ElapsedTime timer = new ElapsedTime();
+
+        public PIDController(double Kp, double Ki, double Kd) {
+            this.Kp = Kp;
+            this.Ki = Ki;
+            this.Kd = Kd;
+        }
+
+        public double update(double target, double current) {
+            double error = target - current;
+            double derivative = (error - lastError) / timer.seconds();
+            integralSum += error * timer.seconds();
+            double output = (Kp * error) + (Ki * integralSum) + (Kd * derivative);
+            lastError = error;
+            timer.reset();
+            return output;
+        }
+
+        public void resetIntegral() {
+            integralSum = 0;
+            lastError = 0;
+            timer.reset();
+        }
+    }
+
+    private DcMotor bl, br, fly, intake, climbleft, climbright, fast;
+    private DcMotorEx right;
+    private CRServo block;
+
+    // Right motor PID
+    private PIDController rightPIDController = new PIDController(0.1, 0, 0.001);
+    private int rightTargetPosition = 0;
+    private boolean rightPIDEnabled = false;
+    private ElapsedTime rightPIDTimer = new ElapsedTime();
+    private boolean rightPIDTimeout = false;
+
+    // Left wheel hold for L2 mode
+    private PIDController blPIDController = new PIDController(0.1, 0, 0.001);
+    private int blTargetPosition = 0;
+    private boolean blHoldEnabled = false;
+
+    // Speed configuration (same as Demo15)
+    double flyPowerLow = 0.8;
+    double flyPowerHigh = 1.0;
+    double intakePowerForward = 0.8;
+    double intakePowerReverse = 1.0;
+    double rightMotorPower = 0.5;
+    double climbPowerUp = 1.0;
+    double climbPowerDown = -1.0;
+    double fastPowerFull = 1.0;
+
+    // Compiled dispatch table
+    private int bindingCount = 0;
+    private final int[] bindInput = new int[2 * BUTTONS];
+    private final int[] bindAction = new int[2 * BUTTONS];
+    private final boolean[] bindEdge = new boolean[2 * BUTTONS];
+
+    // Per-loop state, indexed by pad * BUTTONS + button / by action
+    private final boolean[] pressed = new boolean[2 * BUTTONS];
+    private final boolean[] lastPressed = new boolean[2 * BUTTONS];
+    private final boolean[] active = new boolean[ACTIONS];
+
+    // Compile report
+    private final List<String> conflicts = new ArrayList<>();
+    private final List<String> errors = new ArrayList<>();
+    private String source = "";
+
+    double driveSpeedScale = 1.0;
+    int flyState = 0;
+
+    @Override
+    public void runOpMode() {
+        bl = hardwareMap.get(DcMotor.class, "bl");
+        br = hardwareMap.get(DcMotor.class, "br");
+        fly = hardwareMap.get(DcMotor.class, "fly");
+        intake = hardwareMap.get(DcMotor.class, "intake");
+        climbleft = hardwareMap.get(DcMotor.class, "climbleft");
+        climbright = hardwareMap.get(DcMotor.class, "climbright");
+        right = hardwareMap.get(DcMotorEx.class, "right");
+        fast = hardwareMap.get(DcMotor.class, "fast");
+        block = hardwareMap.get(CRServo.class, "block");
+
+        bl.setDirection(DcMotor.Direction.REVERSE);
+        br.setDirection(DcMotor.Direction.FORWARD);
+        fly.setDirection(DcMotor.Direction.REVERSE);
+        intake.setDirection(DcMotor.Direction.REVERSE);
+        climbleft.setDirection(DcMotor.Direction.FORWARD);
+        climbright.setDirection(DcMotor.Direction.FORWARD);
+        right.setDirection(DcMotorEx.Direction.FORWARD);
+        fast.setDirection(DcMotor.Direction.FORWARD);
+
+        right.setZeroPowerBehavior(DcMotorEx.ZeroPowerBehavior.BRAKE);
+        fast.setZeroPowerBehavior(DcMotor.ZeroPowerBehavior.BRAKE);
+
+        right.setMode(DcMotorEx.RunMode.STOP_AND_RESET_ENCODER);
+        right.setMode(DcMotorEx.RunMode.RUN_WITHOUT_ENCODER);
+
+        compileBindings(new File(AppUtil.FIRST_FOLDER, BINDINGS_FILE));
+
+        telemetry.addData("Status", "Ready - Control Bindings");
+        telemetry.addData("Bindings", "%d from %s", bindingCount, source);
+        for (String c : conflicts) telemetry.addData("CONFLICT", c);
+        for (String e : errors) telemetry.addData("ERROR", e);
+        telemetry.addData("", "");
+        for (int i = 0; i < bindingCount; i++) {
+            telemetry.addData(inputName(bindInput[i]), Action.values()[bindAction[i]].name());
+        }
+        telemetry.update();
+
+        waitForStart();
+
+        while (opModeIsActive()) {
+            // ═══ READ BUTTONS into the input array ═══
+            System.arraycopy(pressed, 0, lastPressed, 0, pressed.length);
+            readButtons(gamepad1, 0);
+            readButtons(gamepad2, BUTTONS);
+
+            // ═══ DISPATCH: one walk over the compiled table ═══
+            for (int a = 0; a < ACTIONS; a++) active[a] = false;
+            for (int i = 0; i < bindingCount; i++) {
+                int input = bindInput[i];
+                boolean fire = bindEdge[i]
+                        ? pressed[input] && !lastPressed[input]
+                        : pressed[input];
+                if (fire) active[bindAction[i]] = true;
+            }
+
+            // ═══ APPLY ACTIONS (same behaviour as Demo15) ═══
+            if (active[Action.SPEED_TOGGLE.ordinal()]) {
+                driveSpeedScale = driveSpeedScale == 1.0 ? 0.5 : 1.0;
+            }
+            bl.setPower(-gamepad1.left_stick_y * driveSpeedScale);
+            br.setPower(-gamepad1.right_stick_y * driveSpeedScale);
+
+            // L2 special mode (Demo15), now on the left_hold action
+            if (active[Action.LEFT_HOLD.ordinal()]) {
+                if (!blHoldEnabled) {
+                    blTargetPosition = bl.getCurrentPosition();
+                    blHoldEnabled = true;
+                    blPIDController.resetIntegral();
+                }
+
+                int blCurrentPosition = bl.getCurrentPosition();
+                double blError = blTargetPosition - blCurrentPosition;
+                double raw = blPIDController.update(blTargetPosition, blCurrentPosition);
+
+                double blPower;
+                if (Math.abs(blError) > 5) {
+                    blPower = Math.max(-1, Math.min(1, raw));
+                } else if (Math.abs(blError) > 0) {
+                    blPower = blError > 0 ? 0.1 : -0.1;
+                } else {
+                    blPower = 0;
+                }
+
+                bl.setPower(blPower);
+                br.setPower(-0.7);
+            } else {
+                blHoldEnabled = false;
+            }
+
+            if (active[Action.FLY_CYCLE.ordinal()]) {
+                flyState = (flyState + 1) % 3;
+            }
+            fly.setPower(flyState == 0 ? 0 : (flyState == 1 ? flyPowerLow : flyPowerHigh));
+
+            intake.setPower(pair(Action.INTAKE_FORWARD, Action.INTAKE_REVERSE,
+                    intakePowerForward, -intakePowerReverse));
+
+            double climbPower = pair(Action.CLIMB_UP, Action.CLIMB_DOWN, climbPowerUp, climbPowerDown);
+            climbleft.setPower(climbPower);
+            climbright.setPower(climbPower);
+
+            // Right motor with SMART PROTECTION (Demo15)
+            boolean rightNegative = active[Action.RIGHT_NEGATIVE.ordinal()];
+            boolean rightPositive = active[Action.RIGHT_POSITIVE.ordinal()];
+
+            if (rightNegative && !rightPositive) {
+                rightPIDEnabled = false;
+                rightPIDTimeout = false;
+                right.setPower(-rightMotorPower);
+            } else if (rightPositive && !rightNegative) {
+                rightPIDEnabled = false;
+                rightPIDTimeout = false;
+                right.setPower(rightMotorPower);
+            } else {
+                if (!rightPIDEnabled) {
+                    rightTargetPosition = right.getCurrentPosition();
+                    rightPIDEnabled = true;
+                    rightPIDTimeout = false;
+                    rightPIDController.resetIntegral();
+                    rightPIDTimer.reset();
+                }
+
+                int currentPosition = right.getCurrentPosition();
+                double error = rightTargetPosition - currentPosition;
+
+                if (!rightPIDTimeout && rightPIDTimer.seconds() > 3.0) {
+                    rightTargetPosition = currentPosition;
+                    rightPIDTimeout = true;
+                    rightPIDController.resetIntegral();
+                    rightPIDTimer.reset();
+                }
+
+                double power = 0;
+
+                if (rightPIDTimeout) {
+                    if (Math.abs(error) > 3) {
+                        rightPIDTimeout = false;
+                        rightPIDController.resetIntegral();
+                        rightPIDTimer.reset();
+                    }
+                }
+
+                if (!rightPIDTimeout) {
+                    power = rightPIDController.update(rightTargetPosition, currentPosition);
+
+                    if (Math.abs(error) > 5) {
+                        power = Math.max(-1, Math.min(1, power));
+                    } else if (Math.abs(error) > 0) {
+                        power = error > 0 ? 0.1 : -0.1;
+                    } else {
+                        power = 0;
+                    }
+                }
+
+                right.setPower(power);
+            }
+
+            fast.setPower(pair(Action.FAST_FORWARD, Action.FAST_REVERSE, fastPowerFull, -fastPowerFull));
+            block.setPower(pair(Action.BLOCK_FORWARD, Action.BLOCK_REVERSE, 1.0, -1.0));
+
+            telemetry.addData("=== CONTROL BINDINGS ===", "");
+            telemetry.addData("Bindings", "%d from %s", bindingCount, source);
+            telemetry.addData("Conflicts", conflicts.size());
+            telemetry.addData("", "");
+            telemetry.addData("Speed", driveSpeedScale == 1.0 ? "FULL" : "HALF");
+            telemetry.addData("Flywheel", flyState == 0 ? "OFF" : (flyState == 1 ? "80%" : "100%"));
+            telemetry.addData("Climb", "%.1f", climbPower);
+            telemetry.addData("Right PID", rightPIDEnabled ? (rightPIDTimeout ? "TIMEOUT" : "HOLD") : "Manual");
+            telemetry.addData("L2 Hold", blHoldEnabled ? "ON" : "OFF");
+            telemetry.addData("", "");
+            telemetry.addData("Controls", "GP1 sticks drive | buttons from " + BINDINGS_FILE);
+            telemetry.update();
+        }
+    }
+
+    /**
+     * Two opposite actions: first only → a, second only → b, else 0
+     */
+    private double pair(Action first, Action second, double a, double b) {
+        boolean f = active[first.ordinal()];
+        boolean s = active[second.ordinal()];
+        if (f && !s) return a;
+        if (s && !f) return b;
+        return 0;
+    }
+
+    /**
+     * Copies one gamepad into pressed[offset .. offset + BUTTONS - 1]
+     */
+    private void readButtons(Gamepad pad, int offset) {
+        pressed[offset + Button.A.ordinal()] = pad.a;
+        pressed[offset + Button.B.ordinal()] = pad.b;
+        pressed[offset + Button.X.ordinal()] = pad.x;
+        pressed[offset + Button.Y.ordinal()] = pad.y;
+        pressed[offset + Button.LEFT_BUMPER.ordinal()] = pad.left_bumper;
+        pressed[offset + Button.RIGHT_BUMPER.ordinal()] = pad.right_bumper;
+        pressed[offset + Button.LEFT_TRIGGER.ordinal()] = pad.left_trigger > 0.5;
+        pressed[offset + Button.RIGHT_TRIGGER.ordinal()] = pad.right_trigger > 0.5;
+        pressed[offset + Button.DPAD_UP.ordinal()] = pad.dpad_up;
+        pressed[offset + Button.DPAD_DOWN.ordinal()] = pad.dpad_down;
+        pressed[offset + Button.DPAD_LEFT.ordinal()] = pad.dpad_left;
+        pressed[offset + Button.DPAD_RIGHT.ordinal()] = pad.dpad_right;
+        pressed[offset + Button.BACK.ordinal()] = pad.back;
+        pressed[offset + Button.START.ordinal()] = pad.start;
+        pressed[offset + Button.LEFT_STICK_BUTTON.ordinal()] = pad.left_stick_button;
+        pressed[offset + Button.RIGHT_STICK_BUTTON.ordinal()] = pad.right_stick_button;
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // INIT: read the file and compile it into the dispatch table
+    // ═══════════════════════════════════════════════════════════
+
+    private void compileBindings(File file) {
+        List<String> lines = new ArrayList<>();
+        if (file.exists()) {
+            try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+                String line;
+                while ((line = reader.readLine()) != null) lines.add(line);
+                source = file.getName();
+            } catch (IOException e) {
+                errors.add("Can't read " + file.getName() + ": " + e.getMessage());
+            }
+        }
+        if (lines.isEmpty()) {
+            for (String line : DEFAULT_BINDINGS) lines.add(line);
+            source = "defaults (Demo15)";
+            writeDefaults(file);
+        }
+
+        // inputOwner[input] = action bound to it, actionPad[action] = pad that owns it
+        int[] inputOwner = new int[2 * BUTTONS];
+        int[] actionPad = new int[ACTIONS];
+        Arrays.fill(inputOwner, -1);
+        Arrays.fill(actionPad, -1);
+
+        for (int n = 0; n < lines.size(); n++) {
+            String line = lines.get(n).trim();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+
+            String[] parts = line.split("=");
+            if (parts.length != 2) {
+                errors.add("Line " + (n + 1) + ": expected gpN.button = action");
+                continue;
+            }
+            int input = parseInput(parts[0].trim().toLowerCase());
+            Action action = parseAction(parts[1].trim().toLowerCase());
+            if (input < 0) {
+                errors.add("Line " + (n + 1) + ": unknown button '" + parts[0].trim() + "'");
+                continue;
+            }
+            if (action == null) {
+                errors.add("Line " + (n + 1) + ": unknown action '" + parts[1].trim() + "'");
+                continue;
+            }
+
+            int pad = input / BUTTONS;
+            if (inputOwner[input] >= 0) {
+                conflicts.add(inputName(input) + " already " + Action.values()[inputOwner[input]]
+                        + ", ignoring " + action);
+                continue;
+            }
+            if (actionPad[action.ordinal()] >= 0 && actionPad[action.ordinal()] != pad) {
+                conflicts.add(action + " on gp1 AND gp2, ignoring " + inputName(input));
+                continue;
+            }
+
+            inputOwner[input] = action.ordinal();
+            actionPad[action.ordinal()] = pad;
+            bindInput[bindingCount] = input;
+            bindAction[bindingCount] = action.ordinal();
+            bindEdge[bindingCount] = action.edge;
+            bindingCount++;
+        }
+    }
+
+    /**
+     * "gp2.dpad_left" → BUTTONS + DPAD_LEFT, or -1
+     */
+    private int parseInput(String text) {
+        int pad;
+        if (text.startsWith("gp1.")) pad = 0;
+        else if (text.startsWith("gp2.")) pad = 1;
+        else return -1;
+        String name = text.substring(4);
+        for (Button b : Button.values()) {
+            if (b.name().toLowerCase().equals(name)) return pad * BUTTONS + b.ordinal();
+        }
+        return -1;
+    }
+
+    private Action parseAction(String text) {
+        for (Action a : Action.values()) {
+            if (a.name().toLowerCase().equals(text)) return a;
+        }
+        return null;
+    }
+
+    private String inputName(int input) {
+        return "gp" + (input / BUTTONS + 1) + "." + Button.values()[input % BUTTONS].name().toLowerCase();
+    }
+
+    private void writeDefaults(File file) {
+        try (PrintWriter out = new PrintWriter(new FileWriter(file))) {
+            out.println("# Demo32 control bindings: gpN.button = action");
+            out.print("# Buttons:");
+            for (Button b : Button.values()) out.print(" " + b.name().toLowerCase());
+            out.println();
+            out.print("# Actions:");
+            for (Action a : Action.values()) out.print(" " + a.name().toLowerCase());
+            out.println();
+            for (String line : DEFAULT_BINDINGS) out.println(line);
+        } catch (IOException e) {
+            errors.add("Can't write " + file.getName() + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,555 @@
+/**
+ * ------------------------------------------------------------
+ *  FGC Team Australia 2025  |  FIRST Global Challenge
+ * ------------------------------------------------------------
+ *  Project: FGC101 - Java Demo Series
+ *  File:    Demo33_HotTuning.java
+ *
+ *  Description:
+ *  This demo is part of the FGC101 video series created by
+ *  FGC Team Australia 2025. Our goal is to help rookie teams
+ *  understand programming logic and competition strategy
+ *  through short, simple examples.
+ *
+ *  Playlist: https://www.youtube.com/playlist?list=PL-29lId0PJrVEo0yJyprGheyRtR-ReDET
+ *  Author:   Muyao Zhang (from FGC Team Australia)
+ *  Date:     October 2025
+ *
+ *  Notes:
+ *  - We currently provide around 15 demo programs.
+ *  - These Java demos are not continuously updated.
+ *  - For detailed explanations, please refer to the FGC101 videos.
+ *
+ *  © FGC Team Australia 2025 | Educational Use Only
+ * ------------------------------------------------------------
+ */
+
+package org.firstinspires.ftc.teamcode;
+
+import com.qualcomm.robotcore.eventloop.opmode.TeleOp;
+import com.qualcomm.robotcore.eventloop.opmode.LinearOpMode;
+import com.qualcomm.robotcore.hardware.DcMotor;
+import com.qualcomm.robotcore.hardware.DcMotorEx;
+import com.qualcomm.robotcore.hardware.CRServo;
+import com.qualcomm.robotcore.util.ElapsedTime;
+
+import org.firstinspires.ftc.robotcore.internal.system.AppUtil;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Demo 33: Hot-Reloadable Tuning Constants
+ *
+ * Knowledge Point: Change constants WITHOUT redeploying
+ *
+ * In Demo15 every constant (flyPowerLow, intakePowerForward, PID gains...)
+ * is a field in the code. Changing 0.8 to 0.75 means: edit, build,
+ * deploy, restart - about a minute each time.
+ *
+ * Here the constants live in /sdcard/FIRST/tuning.txt:
+ *
+ *   flyPowerLow = 0.75
+ *   rightKp     = 0.08
+ *
+ * How it stays fast and safe:
+ * 1. A background thread checks the file every 250 ms
+ * 2. When it changes, the thread reads it into a NEW Tuning object
+ *    whose fields are all final (an immutable snapshot)
+ * 3. It publishes the snapshot with ONE volatile write
+ * 4. The main loop reads the volatile ONCE at the top of each loop
+ *    and then uses plain fields - no locks in the hot path
+ *
+ * So a loop always sees ONE complete set of constants - never half old,
+ * half new - and a change shows up in well under a second.
+ * If the file has a bad value - unknown key, not a number, a power
+ * outside [-1, 1], a negative gain - the whole update is rejected and
+ * the previous snapshot stays active.
+ *
+ * Hardware Required: ALL motors and servos (same as Demo15)
+ *
+ * Controls: same as Demo15
+ *
+ * How to Demonstrate:
+ * 1. Run once - tuning.txt is created with the Demo15 values
+ * 2. Turn the flywheel on (L1), note its speed
+ * 3. Edit flyPowerLow in tuning.txt (e.g. with adb or a file app)
+ * 4. Watch "Version" count up and the flywheel change within a second
+ */
+@TeleOp(name="Demo33: Hot Tuning", group="Demo")
+public class Demo33_HotTuning extends LinearOpMode {
+
+    private static final String TUNING_FILE = "tuning.txt";
+    private static final long POLL_MS = 250;
+
+    /**
+     * One immutable set of constants. Never changed after construction,
+     * so it can be shared between threads without locks.
+     */
+    static final class Tuning {
+        final int version;
+        final double flyPowerLow, flyPowerHigh;
+        final double intakePowerForward, intakePowerReverse;
+        final double rightMotorPower;
+        final double climbPowerUp, climbPowerDown;
+        final double fastPowerFull;
+        final double rightKp, rightKi, rightKd;
+        final double blKp, blKi, blKd;
+        final double rightTimeoutSeconds;
+
+        Tuning(int version, Map<String, Double> v) {
+            this.version = version;
+            flyPowerLow = v.get("flyPowerLow");
+            flyPowerHigh = v.get("flyPowerHigh");
+            intakePowerForward = v.get("intakePowerForward");
+            intakePowerReverse = v.get("intakePowerReverse");
+            rightMotorPower = v.get("rightMotorPower");
+            climbPowerUp = v.get("climbPowerUp");
+            climbPowerDown = v.get("climbPowerDown");
+            fastPowerFull = v.get("fastPowerFull");
+            rightKp = v.get("rightKp");
+            rightKi = v.get("rightKi");
+            rightKd = v.get("rightKd");
+            blKp = v.get("blKp");
+            blKi = v.get("blKi");
+            blKd = v.get("blKd");
+            rightTimeoutSeconds = v.get("rightTimeoutSeconds");
+        }
+    }
+
+    // Demo15 values - also the contents of a fresh tuning.txt
+    private static final String[][] DEFAULTS = {
+        {"flyPowerLow", "0.8"}, {"flyPowerHigh", "1.0"},
+        {"intakePowerForward", "0.8"}, {"intakePowerReverse", "1.0"},
+        {"rightMotorPower", "0.5"},
+        {"climbPowerUp", "1.0"}, {"climbPowerDown", "-1.0"},
+        {"fastPowerFull", "1.0"},
+        {"rightKp", "0.1"}, {"rightKi", "0"}, {"rightKd", "0.001"},
+        {"blKp", "0.1"}, {"blKi", "0"}, {"blKd", "0.001"},
+        {"rightTimeoutSeconds", "3.0"}
+    };
+
+    /**
+     * Loads tuning.txt and keeps the newest good snapshot.
+     * Only the watcher thread writes; the OpMode reads current().
+     */
+    private static class TuningStore {
+        private final File file;
+        private volatile Tuning current;
+        private volatile String status = "";
+        private volatile int rejected = 0;
+        private long lastModified = -1;
+        private long lastLength = -1;
+        private Thread watcher;
+
+        TuningStore(File file) {
+            this.file = file;
+            Map<String, Double> values = new HashMap<>();
+            for (String[] d : DEFAULTS) values.put(d[0], Double.parseDouble(d[1]));
+            current = new Tuning(0, values);
+            if (!file.exists()) writeDefaults();
+            reloadIfChanged();
+        }
+
+        Tuning current() {
+            return current;
+        }
+
+        String status() {
+            return status;
+        }
+
+        int rejected() {
+            return rejected;
+        }
+
+        void startWatching() {
+            watcher = new Thread(() -> {
+                while (!Thread.currentThread().isInterrupted()) {
+                    reloadIfChanged();
+                    try {
+                        Thread.sleep(POLL_MS);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }, "TuningWatcher");
+            watcher.setDaemon(true);
+            watcher.start();
+        }
+
+        void stopWatching() {
+            if (watcher != null) watcher.interrupt();
+        }
+
+        private void reloadIfChanged() {
+            long modified = file.lastModified();
+            long length = file.length();
+            if (modified == lastModified && length == lastLength) return;
+            lastModified = modified;
+            lastLength = length;
+
+            // Start from the current values so the file may list only some keys
+            Tuning old = current;
+            Map<String, Double> values = toMap(old);
+            try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+                String line;
+                int lineNumber = 0;
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    line = line.trim();
+                    if (line.isEmpty() || line.startsWith("#")) continue;
+                    String[] parts = line.split("=");
+                    String key = parts[0].trim();
+                    if (parts.length != 2 || !values.containsKey(key)) {
+                        rejected++;
+                        status = "Line " + lineNumber + " rejected: " + line;
+                        return;
+                    }
+                    double value = Double.parseDouble(parts[1].trim());
+                    String problem = checkValue(key, value);
+                    if (problem != null) {
+                        rejected++;
+                        status = "Line " + lineNumber + " rejected: " + key + " " + problem;
+                        return;
+                    }
+                    values.put(key, value);
+                }
+            } catch (IOException | NumberFormatException e) {
+                rejected++;
+                status = "Reload rejected: " + e.getMessage();
+                return;
+            }
+
+            current = new Tuning(old.version + 1, values);   // the atomic swap
+            status = "Loaded v" + (old.version + 1);
+        }
+
+        /**
+         * Range check for one value, or null if it is fine. Powers go
+         * straight to setPower() so they must be in [-1, 1]; gains and the
+         * timeout must be finite and not negative (parseDouble happily
+         * accepts "NaN" and "Infinity").
+         */
+        private static String checkValue(String key, double value) {
+            if (Double.isNaN(value) || Double.isInfinite(value)) return "must be a finite number";
+            if (key.contains("Power")) {
+                if (value < -1 || value > 1) return "must be between -1 and 1";
+            } else if (value < 0) {
+                return "must not be negative";
+            }
+            return null;
+        }
+
+        private static Map<String, Double> toMap(Tuning t) {
+            Map<String, Double> v = new HashMap<>();
+            v.put("flyPowerLow", t.flyPowerLow);
+            v.put("flyPowerHigh", t.flyPowerHigh);
+            v.put("intakePowerForward", t.intakePowerForward);
+            v.put("intakePowerReverse", t.intakePowerReverse);
+            v.put("rightMotorPower", t.rightMotorPower);
+            v.put("climbPowerUp", t.climbPowerUp);
+            v.put("climbPowerDown", t.climbPowerDown);
+            v.put("fastPowerFull", t.fastPowerFull);
+            v.put("rightKp", t.rightKp);
+            v.put("rightKi", t.rightKi);
+            v.put("rightKd", t.rightKd);
+            v.put("blKp", t.blKp);
+            v.put("blKi", t.blKi);
+            v.put("blKd", t.blKd);
+            v.put("rightTimeoutSeconds", t.rightTimeoutSeconds);
+            return v;
+        }
+
+        private void writeDefaults() {
+            try (PrintWriter out = new PrintWriter(new FileWriter(file))) {
+                out.println("# Demo33 tuning constants - edit while the OpMode runs");
+                for (String[] d : DEFAULTS) out.println(d[0] + " = " + d[1]);
+            } catch (IOException e) {
+                status = "Can't write " + file.getName() + ": " + e.getMessage();
+            }
+        }
+    }
+
+    // PID Controller class (from Demo15, plus setGains for live tuning)
+    private class PIDController {
+        private double Kp, Ki, Kd;
+        private double integralSum = 0;
+        private double lastError = 0;
+        private ElapsedTime timer = new ElapsedTime();
+
+        public PIDController(double Kp, double Ki, double Kd) {
+            this.Kp = Kp;
+            this.Ki = Ki;
+            this.Kd = Kd;
+        }
+
+        public void setGains(double Kp, double Ki, double Kd) {
+            this.Kp = Kp;
+            this.Ki = Ki;
+            this.Kd = Kd;
+        }
+
+        public double update(double target, double current) {
+            double error = target - current;
+            double derivative = (error - lastError) / timer.seconds();
+            integralSum += error * timer.seconds();
+            double output = (Kp * error) + (Ki * integralSum) + (Kd * derivative);
+            lastError = error;
+            timer.reset();
+            return output;
+        }
+
+        public void resetIntegral() {
+            integralSum = 0;
+            lastError = 0;
+            timer.reset();
+        }
+    }
+
+    private DcMotor bl, br, fly, intake, climbleft, climbright, fast;
+    private DcMotorEx right;
+    private CRServo block;
+
+    // Right motor PID
+    private PIDController rightPIDController = new PIDController(0.1, 0, 0.001);
+    private int rightTargetPosition = 0;
+    private boolean rightPIDEnabled = false;
+    private ElapsedTime rightPIDTimer = new ElapsedTime();
+    private boolean rightPIDTimeout = false;
+
+    // Left wheel hold for L2 mode
+    private PIDController blPIDController = new PIDController(0.1, 0, 0.001);
+    private int blTargetPosition = 0;
+    private boolean blHoldEnabled = false;
+
+    double driveSpeedScale = 1.0;
+    boolean lastXState = false;
+
+    int flyState = 0;
+    boolean lastL1FlyState = false;
+
+    @Override
+    public void runOpMode() {
+        bl = hardwareMap.get(DcMotor.class, "bl");
+        br = hardwareMap.get(DcMotor.class, "br");
+        fly = hardwareMap.get(DcMotor.class, "fly");
+        intake = hardwareMap.get(DcMotor.class, "intake");
+        climbleft = hardwareMap.get(DcMotor.class, "climbleft");
+        climbright = hardwareMap.get(DcMotor.class, "climbright");
+        right = hardwareMap.get(DcMotorEx.class, "right");
+        fast = hardwareMap.get(DcMotor.class, "fast");
+        block = hardwareMap.get(CRServo.class, "block");
+
+        bl.setDirection(DcMotor.Direction.REVERSE);
+        br.setDirection(DcMotor.Direction.FORWARD);
+        fly.setDirection(DcMotor.Direction.REVERSE);
+        intake.setDirection(DcMotor.Direction.REVERSE);
+        climbleft.setDirection(DcMotor.Direction.FORWARD);
+        climbright.setDirection(DcMotor.Direction.FORWARD);
+        right.setDirection(DcMotorEx.Direction.FORWARD);
+        fast.setDirection(DcMotor.Direction.FORWARD);
+
+        right.setZeroPowerBehavior(DcMotorEx.ZeroPowerBehavior.BRAKE);
+        fast.setZeroPowerBehavior(DcMotor.ZeroPowerBehavior.BRAKE);
+
+        right.setMode(DcMotorEx.RunMode.STOP_AND_RESET_ENCODER);
+        right.setMode(DcMotorEx.RunMode.RUN_WITHOUT_ENCODER);
+
+        TuningStore store = new TuningStore(new File(AppUtil.FIRST_FOLDER, TUNING_FILE));
+        store.startWatching();
+
+        try {
+            telemetry.addData("Status", "Ready - Hot Tuning");
+            telemetry.addData("Tuning", store.status());
+            telemetry.addData("File", "/sdcard/FIRST/" + TUNING_FILE);
+            telemetry.update();
+
+            waitForStart();
+
+            Tuning applied = null;
+
+            while (opModeIsActive()) {
+                // ═══ ONE volatile read per loop: a consistent snapshot ═══
+                Tuning t = store.current();
+                if (t != applied) {
+                    rightPIDController.setGains(t.rightKp, t.rightKi, t.rightKd);
+                    blPIDController.setGains(t.blKp, t.blKi, t.blKd);
+                    applied = t;
+                }
+
+                // Tank drive with speed toggle
+                double leftPower = -gamepad1.left_stick_y;
+                double rightPower = -gamepad1.right_stick_y;
+
+                boolean currentXState = gamepad1.x;
+                if (currentXState && !lastXState) {
+                    driveSpeedScale = (driveSpeedScale == 1.0) ? 0.5 : 1.0;
+                }
+                lastXState = currentXState;
+
+                bl.setPower(leftPower * driveSpeedScale);
+                br.setPower(rightPower * driveSpeedScale);
+
+                // L2 special mode
+                boolean l2HoldPressed = gamepad1.left_trigger > 0.5;
+                if (l2HoldPressed) {
+                    if (!blHoldEnabled) {
+                        blTargetPosition = bl.getCurrentPosition();
+                        blHoldEnabled = true;
+                        blPIDController.resetIntegral();
+                    }
+
+                    int blCurrentPosition = bl.getCurrentPosition();
+                    double blError = blTargetPosition - blCurrentPosition;
+                    double raw = blPIDController.update(blTargetPosition, blCurrentPosition);
+
+                    double blPower;
+                    if (Math.abs(blError) > 5) {
+                        blPower = Math.max(-1, Math.min(1, raw));
+                    } else if (Math.abs(blError) > 0) {
+                        blPower = blError > 0 ? 0.1 : -0.1;
+                    } else {
+                        blPower = 0;
+                    }
+
+                    bl.setPower(blPower);
+                    br.setPower(-0.7);
+                } else {
+                    blHoldEnabled = false;
+                }
+
+                // Intake
+                boolean r1Pressed = gamepad1.right_bumper;
+                boolean r2Pressed = gamepad1.right_trigger > 0.5;
+                if (r1Pressed && !r2Pressed) {
+                    intake.setPower(t.intakePowerForward);
+                } else if (r2Pressed && !r1Pressed) {
+                    intake.setPower(-t.intakePowerReverse);
+                } else {
+                    intake.setPower(0);
+                }
+
+                // Flywheel L1
+                boolean currentL1FlyState = gamepad1.left_bumper;
+                if (currentL1FlyState && !lastL1FlyState) {
+                    flyState = (flyState + 1) % 3;
+                }
+                lastL1FlyState = currentL1FlyState;
+
+                switch (flyState) {
+                    case 0: fly.setPower(0); break;
+                    case 1: fly.setPower(t.flyPowerLow); break;
+                    case 2: fly.setPower(t.flyPowerHigh); break;
+                }
+
+                // Gamepad 2 fast motor
+                if (gamepad2.a && !gamepad2.b) {
+                    fast.setPower(t.fastPowerFull);
+                } else if (gamepad2.b && !gamepad2.a) {
+                    fast.setPower(-t.fastPowerFull);
+                } else {
+                    fast.setPower(0);
+                }
+
+                // Gamepad 2 block servo
+                double blockPower = 0.0;
+                if (gamepad2.x && !gamepad2.y) {
+                    blockPower = 1.0;
+                } else if (gamepad2.y && !gamepad2.x) {
+                    blockPower = -1.0;
+                }
+                block.setPower(blockPower);
+
+                // Climb motors
+                double climbPower = 0.0;
+                if (gamepad1.dpad_up && !gamepad1.dpad_down) {
+                    climbPower = t.climbPowerUp;
+                } else if (gamepad1.dpad_down && !gamepad1.dpad_up) {
+                    climbPower = t.climbPowerDown;
+                }
+                climbleft.setPower(climbPower);
+                climbright.setPower(climbPower);
+
+                // Right motor with SMART PROTECTION (Demo15)
+                boolean dpadLeft = gamepad2.dpad_left;
+                boolean dpadRight = gamepad2.dpad_right;
+
+                if (dpadLeft && !dpadRight) {
+                    rightPIDEnabled = false;
+                    rightPIDTimeout = false;
+                    right.setPower(-t.rightMotorPower);
+                } else if (dpadRight && !dpadLeft) {
+                    rightPIDEnabled = false;
+                    rightPIDTimeout = false;
+                    right.setPower(t.rightMotorPower);
+                } else {
+                    if (!rightPIDEnabled) {
+                        rightTargetPosition = right.getCurrentPosition();
+                        rightPIDEnabled = true;
+                        rightPIDTimeout = false;
+                        rightPIDController.resetIntegral();
+                        rightPIDTimer.reset();
+                    }
+
+                    int currentPosition = right.getCurrentPosition();
+                    double error = rightTargetPosition - currentPosition;
+
+                    if (!rightPIDTimeout && rightPIDTimer.seconds() > t.rightTimeoutSeconds) {
+                        rightTargetPosition = currentPosition;
+                        rightPIDTimeout = true;
+                        rightPIDController.resetIntegral();
+                        rightPIDTimer.reset();
+                    }
+
+                    double power = 0;
+
+                    if (rightPIDTimeout) {
+                        if (Math.abs(error) > 3) {
+                            rightPIDTimeout = false;
+                            rightPIDController.resetIntegral();
+                            rightPIDTimer.reset();
+                        }
+                    }
+
+                    if (!rightPIDTimeout) {
+                        power = rightPIDController.update(rightTargetPosition, currentPosition);
+
+                        if (Math.abs(error) > 5) {
+                            power = Math.max(-1, Math.min(1, power));
+                        } else if (Math.abs(error) > 0) {
+                            power = error > 0 ? 0.1 : -0.1;
+                        } else {
+                            power = 0;
+                        }
+                    }
+
+                    right.setPower(power);
+                }
+
+                telemetry.addData("=== HOT TUNING ===", "");
+                telemetry.addData("Version", t.version);
+                telemetry.addData("Tuning", store.status());
+                telemetry.addData("Rejected Reloads", store.rejected());
+                telemetry.addData("", "");
+                telemetry.addData("Fly", "%s (low %.2f / high %.2f)",
+                        flyState == 0 ? "OFF" : (flyState == 1 ? "LOW" : "HIGH"), t.flyPowerLow, t.flyPowerHigh);
+                telemetry.addData("Right PID", "Kp:%.3f Ki:%.4f Kd:%.4f  %s", t.rightKp, t.rightKi, t.rightKd,
+                        rightPIDEnabled ? (rightPIDTimeout ? "TIMEOUT" : "HOLD") : "Manual");
+                telemetry.addData("Speed", (int)(driveSpeedScale * 100) + "%");
+                telemetry.addData("", "");
+                telemetry.addData("Controls", "Same as Demo15 | edit " + TUNING_FILE + " live");
+                telemetry.update();
+            }
+        } finally {
+            // Also runs if the OpMode is stopped by an exception
+            store.stopWatching();
+        }
+    }
+}
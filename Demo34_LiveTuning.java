@@ -0,0 +1,208 @@
+/**
+ * ------------------------------------------------------------
+ *  FGC Team Australia 2025  |  FIRST Global Challenge
+ * ------------------------------------------------------------
+ *  Project: FGC101 - Java Demo Series
+ *  File:    Demo34_LiveTuning.java
+ *
+ *  Description:
+ *  This demo is part of the FGC101 video series created by
+ *  FGC Team Australia 2025. Our goal is to help rookie teams
+ *  understand programming logic and competition strategy
+ *  through short, simple examples.
+ *
+ *  Playlist: https://www.youtube.com/playlist?list=PL-29lId0PJrVEo0yJyprGheyRtR-ReDET
+ *  Author:   Muyao Zhang (from FGC Team Australia)
+ *  Date:     October 2025
+ *
+ *  Notes:
+ *  - We currently provide around 15 demo programs.
+ *  - These Java demos are not continuously updated.
+ *  - For detailed explanations, please refer to the FGC101 videos.
+ *
+ *  © FGC Team Australia 2025 | Educational Use Only
+ * ------------------------------------------------------------
+ */
+
+package org.firstinspires.ftc.teamcode;
+
+import com.qualcomm.robotcore.eventloop.opmode.TeleOp;
+import com.qualcomm.robotcore.eventloop.opmode.LinearOpMode;
+import com.qualcomm.robotcore.hardware.DcMotorEx;
+import com.qualcomm.robotcore.util.ElapsedTime;
+
+import java.io.IOException;
+
+/**
+ * Demo 34 (part 2 of 2): Live PID Tuning in the Browser
+ *
+ * Knowledge Point: See the PID response as a graph, change gains live
+ *
+ * Driver Station telemetry only shows numbers. Here the robot runs
+ * Demo34_PlotServer and every loop publishes:
+ *   time, target, position, error, PID output, velocity, loop time
+ *
+ * Connect a laptop to the robot Wi-Fi and open
+ *   http://192.168.43.1:8090/
+ * The page draws the last 10 seconds and has Kp/Ki/Kd boxes -
+ * press Send and the new gains are used from the next loop.
+ *
+ * publish() never blocks and never allocates, so the loop runs at the
+ * same speed with or without a browser connected.
+ *
+ * Hardware Required: right motor with encoder
+ *
+ * Controls:
+ * GAMEPAD 2:
+ * - DPad Left/Right: Move target -/+ STEP_TICKS (a step response to look at)
+ * - Back: Target back to 0
+ *
+ * How to Demonstrate:
+ * 1. Start the OpMode, open the page on a laptop
+ * 2. Press DPad Right - watch the position curve follow the step
+ * 3. Raise Kp until it overshoots, add Kd until it settles cleanly
+ * 4. Copy the final gains into Demo15
+ */
+@TeleOp(name="Demo34: Live Tuning", group="Demo")
+public class Demo34_LiveTuning extends LinearOpMode {
+
+    private static final int STEP_TICKS = 200;
+
+    // PID Controller class (from Demo15, plus setGains for live tuning)
+    private class PIDController {
+        private double Kp, Ki, Kd;
+        private double integralSum = 0;
+        private double lastError = 0;
+        private ElapsedTime timer = new ElapsedTime();
+
+        public PIDController(double Kp, double Ki, double Kd) {
+            this.Kp = Kp;
+            this.Ki = Ki;
+            this.Kd = Kd;
+        }
+
+        public void setGains(double Kp, double Ki, double Kd) {
+            this.Kp = Kp;
+            this.Ki = Ki;
+            this.Kd = Kd;
+        }
+
+        public double update(double target, double current) {
+            double error = target - current;
+            double derivative = (error - lastError) / timer.seconds();
+            integralSum += error * timer.seconds();
+            double output = (Kp * error) + (Ki * integralSum) + (Kd * derivative);
+            lastError = error;
+            timer.reset();
+            return output;
+        }
+
+        public void resetIntegral() {
+            integralSum = 0;
+            lastError = 0;
+            timer.reset();
+        }
+    }
+
+    private DcMotorEx right;
+
+    private double kp = 0.1, ki = 0, kd = 0.001;   // Demo15 gains
+    private PIDController rightPID = new PIDController(kp, ki, kd);
+    private int targetPosition = 0;
+
+    private boolean lastDpadLeft = false;
+    private boolean lastDpadRight = false;
+
+    @Override
+    public void runOpMode() {
+        right = hardwareMap.get(DcMotorEx.class, "right");
+        right.setDirection(DcMotorEx.Direction.FORWARD);
+        right.setZeroPowerBehavior(DcMotorEx.ZeroPowerBehavior.BRAKE);
+        right.setMode(DcMotorEx.RunMode.STOP_AND_RESET_ENCODER);
+        right.setMode(DcMotorEx.RunMode.RUN_WITHOUT_ENCODER);
+
+        Demo34_PlotServer server = null;
+        String serverStatus;
+        try {
+            server = new Demo34_PlotServer("0.0.0.0", Demo34_PlotServer.PORT, kp, ki, kd);
+            server.start();
+            serverStatus = "http://192.168.43.1:" + Demo34_PlotServer.PORT + "/";
+        } catch (IOException e) {
+            serverStatus = "Server failed: " + e.getMessage();
+        }
+
+        try {
+            telemetry.addData("Status", "Ready - Live Tuning");
+            telemetry.addData("Plot Page", serverStatus);
+            telemetry.update();
+
+            waitForStart();
+
+            ElapsedTime runtime = new ElapsedTime();
+            long lastNanos = System.nanoTime();
+
+            while (opModeIsActive()) {
+                long now = System.nanoTime();
+                double loopMs = (now - lastNanos) / 1e6;
+                lastNanos = now;
+
+                // New gains from the browser?
+                if (server != null) {
+                    double[] g = server.takeGains();
+                    if (g != null) {
+                        kp = g[0];
+                        ki = g[1];
+                        kd = g[2];
+                        rightPID.setGains(kp, ki, kd);
+                        rightPID.resetIntegral();
+                    }
+                }
+
+                // Step the target
+                boolean dpadLeft = gamepad2.dpad_left;
+                boolean dpadRight = gamepad2.dpad_right;
+                if (dpadLeft && !lastDpadLeft) targetPosition -= STEP_TICKS;
+                if (dpadRight && !lastDpadRight) targetPosition += STEP_TICKS;
+                if (gamepad2.back) targetPosition = 0;
+                lastDpadLeft = dpadLeft;
+                lastDpadRight = dpadRight;
+
+                // Demo15 PID with dead zone
+                int position = right.getCurrentPosition();
+                double error = targetPosition - position;
+                double power = rightPID.update(targetPosition, position);
+                if (Math.abs(error) > 5) {
+                    power = Math.max(-1, Math.min(1, power));
+                } else if (Math.abs(error) > 0) {
+                    power = error > 0 ? 0.1 : -0.1;
+                } else {
+                    power = 0;
+                }
+                right.setPower(power);
+
+                double velocity = right.getVelocity();
+                if (server != null) {
+                    server.publish(runtime.seconds(), targetPosition, position, error, power, velocity, loopMs);
+                }
+
+                telemetry.addData("=== LIVE TUNING ===", "");
+                telemetry.addData("Plot Page", serverStatus);
+                telemetry.addData("Browser", server != null && server.hasClient() ? "CONNECTED" : "waiting");
+                telemetry.addData("Gains", "Kp:%.4f Ki:%.5f Kd:%.5f", kp, ki, kd);
+                telemetry.addData("", "");
+                telemetry.addData("Target", targetPosition);
+                telemetry.addData("Position", position);
+                telemetry.addData("Error", "%.0f", error);
+                telemetry.addData("Loop", "%.1f ms", loopMs);
+                if (server != null) telemetry.addData("Dropped Samples", server.droppedSamples());
+                telemetry.addData("", "");
+                telemetry.addData("Controls", "GP2 DPad L/R: Step target | Back: Target 0");
+                telemetry.update();
+            }
+        } finally {
+            // Also after an exception: free port 8090 for the next run
+            right.setPower(0);
+            if (server != null) server.stop();
+        }
+    }
+}
@@ -0,0 +1,428 @@
+/**
+ * ------------------------------------------------------------
+ *  FGC Team Australia 2025  |  FIRST Global Challenge
+ * ------------------------------------------------------------
+ *  Project: FGC101 - Java Demo Series
+ *  File:    Demo34_PlotServer.java
+ *
+ *  Description:
+ *  This demo is part of the FGC101 video series created by
+ *  FGC Team Australia 2025. Our goal is to help rookie teams
+ *  understand programming logic and competition strategy
+ *  through short, simple examples.
+ *
+ *  Playlist: https://www.youtube.com/playlist?list=PL-29lId0PJrVEo0yJyprGheyRtR-ReDET
+ *  Author:   Muyao Zhang (from FGC Team Australia)
+ *  Date:     October 2025
+ *
+ *  Notes:
+ *  - We currently provide around 15 demo programs.
+ *  - These Java demos are not continuously updated.
+ *  - For detailed explanations, please refer to the FGC101 videos.
+ *
+ *  © FGC Team Australia 2025 | Educational Use Only
+ * ------------------------------------------------------------
+ */
+
+package org.firstinspires.ftc.teamcode;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Demo 34 (part 1 of 2): Live Plot Server
+ *
+ * Knowledge Point: Streaming loop data to a browser WITHOUT slowing the loop
+ *
+ * A tiny HTTP server, no libraries:
+ *   GET /          → a web page with live plots and PID gain boxes
+ *   GET /stream    → never-ending binary stream, 7 floats per sample
+ *   GET /gains     → current gains as "kp ki kd"
+ *   GET /gains?kp=0.1&ki=0&kd=0.001 → send new gains to the robot
+ *                  (400 if any gain is not a finite number ≥ 0)
+ *
+ * The control loop must NEVER wait for the network. So:
+ *
+ *   control loop ──publish()──▶ [ RING BUFFER ] ──▶ publisher thread ──▶ browser
+ *
+ * - publish() writes 7 floats into a fixed array and then bumps ONE
+ *   volatile counter. No locks, no allocation, never blocks.
+ * - The publisher thread wakes every 20 ms, copies everything new and
+ *   sends it. If it falls a whole buffer behind, old samples are simply
+ *   skipped - the robot is never slowed down by a slow laptop.
+ * - Gain updates come back the other way as one immutable double[]
+ *   handed over atomically; the loop picks them up with takeGains().
+ *
+ * Test on a laptop with a simulated right motor (Demo27 motor model):
+ *
+ *   javac -d out Demo27_PIDGainSweep.java Demo34_PlotServer.java
+ *   java -cp out org.firstinspires.ftc.teamcode.Demo34_PlotServer
+ *   open http://localhost:8090/
+ *
+ * On the robot, Demo34_LiveTuning starts the server on port 8090:
+ *   http://192.168.43.1:8090/ (Control Hub Wi-Fi)
+ */
+public class Demo34_PlotServer {
+
+    public static final int PORT = 8090;
+
+    // Sample layout: time, target, position, error, output, velocity, loopMs
+    public static final int FIELDS = 7;
+    private static final int CAPACITY = 4096;        // samples, ~40 s at 100 Hz
+    private static final long PUBLISH_MS = 20;
+    private static final int READ_TIMEOUT_MS = 2000;  // an idle connection can't block the others
+
+    // ═══ Lock-free single-producer ring buffer ═══
+    private final float[] ring = new float[CAPACITY * FIELDS];
+    private volatile long written = 0;               // only the control loop writes this
+    private long sent = 0;                           // only the publisher thread uses this
+    private volatile long dropped = 0;
+
+    // ═══ Gains (browser → robot) ═══
+    private volatile double[] gains;                 // never modified after publishing
+    private final AtomicReference<double[]> pendingGains = new AtomicReference<>();
+
+    private final ServerSocket serverSocket;
+    private volatile Socket streamClient = null;
+    private volatile boolean running = true;
+    private Thread acceptThread, publishThread;
+
+    /**
+     * @param bindAddress 127.0.0.1 for localhost-only tests, 0.0.0.0 on the robot
+     */
+    public Demo34_PlotServer(String bindAddress, int port, double kp, double ki, double kd) throws IOException {
+        gains = new double[] {kp, ki, kd};
+        serverSocket = new ServerSocket();
+        serverSocket.setReuseAddress(true);
+        serverSocket.bind(new InetSocketAddress(InetAddress.getByName(bindAddress), port));
+    }
+
+    public void start() {
+        acceptThread = new Thread(this::acceptLoop, "PlotServerAccept");
+        publishThread = new Thread(this::publishLoop, "PlotServerPublish");
+        acceptThread.setDaemon(true);
+        publishThread.setDaemon(true);
+        acceptThread.start();
+        publishThread.start();
+    }
+
+    public void stop() {
+        running = false;
+        closeQuietly(streamClient);
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            // Already closed
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // CONTROL LOOP SIDE - called every loop, never blocks
+    // ═══════════════════════════════════════════════════════════
+
+    public void publish(double time, double target, double position, double error,
+                        double output, double velocity, double loopMs) {
+        long w = written;
+        int base = (int) (w % CAPACITY) * FIELDS;
+        ring[base] = (float) time;
+        ring[base + 1] = (float) target;
+        ring[base + 2] = (float) position;
+        ring[base + 3] = (float) error;
+        ring[base + 4] = (float) output;
+        ring[base + 5] = (float) velocity;
+        ring[base + 6] = (float) loopMs;
+        written = w + 1;                             // volatile write publishes the sample
+    }
+
+    /**
+     * New {kp, ki, kd} from the browser, or null if nothing changed
+     */
+    public double[] takeGains() {
+        return pendingGains.getAndSet(null);
+    }
+
+    public boolean hasClient() {
+        return streamClient != null;
+    }
+
+    public long droppedSamples() {
+        return dropped;
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // PUBLISHER THREAD - copies new samples and streams them
+    // ═══════════════════════════════════════════════════════════
+
+    private void publishLoop() {
+        byte[] batch = new byte[CAPACITY * FIELDS * 4];
+        while (running) {
+            try {
+                Thread.sleep(PUBLISH_MS);
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            long end = written;
+            long start = Math.max(sent, end - CAPACITY);
+            if (start > sent) dropped += start - sent;
+
+            int bytes = 0;
+            for (long i = start; i < end; i++) {
+                int base = (int) (i % CAPACITY) * FIELDS;
+                for (int f = 0; f < FIELDS; f++) {
+                    bytes = putFloat(batch, bytes, ring[base + f]);
+                }
+            }
+
+            // The loop may have lapped us while copying - drop anything overwritten
+            // (slot "written" may be half-written right now, so its old sample is gone too)
+            long oldestValid = written - CAPACITY + 1;
+            if (oldestValid > start) {
+                int skip = (int) Math.min(oldestValid - start, end - start);
+                dropped += skip;
+                System.arraycopy(batch, skip * FIELDS * 4, batch, 0, bytes - skip * FIELDS * 4);
+                bytes -= skip * FIELDS * 4;
+            }
+            sent = end;
+
+            Socket client = streamClient;
+            if (client == null || bytes == 0) continue;
+            try {
+                client.getOutputStream().write(batch, 0, bytes);
+                client.getOutputStream().flush();
+            } catch (IOException e) {
+                closeQuietly(client);
+                if (streamClient == client) streamClient = null;
+            }
+        }
+    }
+
+    private static int putFloat(byte[] out, int offset, float value) {
+        int bits = Float.floatToIntBits(value);   // big-endian, read with DataView in the page
+        out[offset] = (byte) (bits >>> 24);
+        out[offset + 1] = (byte) (bits >>> 16);
+        out[offset + 2] = (byte) (bits >>> 8);
+        out[offset + 3] = (byte) bits;
+        return offset + 4;
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // ACCEPT THREAD - tiny HTTP request handling
+    // ═══════════════════════════════════════════════════════════
+
+    private void acceptLoop() {
+        while (running) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (IOException e) {
+                return;   // server closed
+            }
+            try {
+                socket.setSoTimeout(READ_TIMEOUT_MS);
+                handle(socket);
+            } catch (IOException e) {
+                closeQuietly(socket);
+            }
+        }
+    }
+
+    private void handle(Socket socket) throws IOException {
+        BufferedReader in = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+        String requestLine = in.readLine();
+        if (requestLine == null) {
+            socket.close();
+            return;
+        }
+        String line;
+        while ((line = in.readLine()) != null && !line.isEmpty()) {
+            // Skip headers
+        }
+
+        String[] parts = requestLine.split(" ");
+        String path = parts.length > 1 ? parts[1] : "/";
+        OutputStream out = socket.getOutputStream();
+
+        if (path.equals("/stream")) {
+            out.write(("HTTP/1.0 200 OK\r\n"
+                    + "Content-Type: application/octet-stream\r\n"
+                    + "Cache-Control: no-cache\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            Socket old = streamClient;
+            streamClient = socket;                   // publisher takes over this socket
+            closeQuietly(old);
+            return;
+        }
+
+        String body;
+        String type = "text/plain";
+        String status = "200 OK";
+        if (path.startsWith("/gains")) {
+            int q = path.indexOf('?');
+            String error = q >= 0 ? updateGains(path.substring(q + 1)) : null;
+            if (error != null) {
+                status = "400 Bad Request";
+                body = error;
+            } else {
+                double[] g = gains;
+                body = g[0] + " " + g[1] + " " + g[2];
+            }
+        } else if (path.equals("/")) {
+            body = PAGE;
+            type = "text/html";
+        } else {
+            status = "404 Not Found";
+            body = "Not found";
+        }
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        out.write(("HTTP/1.0 " + status + "\r\nContent-Type: " + type + "\r\nContent-Length: " + bytes.length
+                + "\r\nConnection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.write(bytes);
+        out.flush();
+        socket.close();
+    }
+
+    /**
+     * Apply "kp=..&ki=..&kd=.." - all or nothing. A NaN, infinite or
+     * negative gain would go straight into right.setPower(), so any bad
+     * value rejects the whole update. Returns an error message, or null.
+     */
+    private String updateGains(String query) {
+        double[] g = gains.clone();
+        for (String pair : query.split("&")) {
+            String[] kv = pair.split("=");
+            int index = kv.length != 2 ? -1
+                    : kv[0].equals("kp") ? 0 : kv[0].equals("ki") ? 1 : kv[0].equals("kd") ? 2 : -1;
+            if (index < 0) return "Bad parameter: " + pair;
+            double v;
+            try {
+                v = Double.parseDouble(kv[1]);
+            } catch (NumberFormatException e) {
+                return "Not a number: " + pair;
+            }
+            if (Double.isNaN(v) || Double.isInfinite(v) || v < 0) {
+                return "Gain must be a finite number >= 0: " + pair;
+            }
+            g[index] = v;
+        }
+        gains = g;
+        pendingGains.set(g);
+        return null;
+    }
+
+    private static void closeQuietly(Socket socket) {
+        if (socket == null) return;
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // Nothing else to do
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // THE WEB PAGE - plots the last 10 s, sends gains back
+    // ═══════════════════════════════════════════════════════════
+
+    private static final String PAGE = "<!DOCTYPE html><html><head><title>FGC Live Tuning</title>"
+        + "<style>body{font-family:sans-serif;background:#111;color:#eee}canvas{background:#000;"
+        + "display:block;margin:6px 0}input{width:70px}</style></head><body>"
+        + "<h3>Right motor PID - live</h3>"
+        + "Kp <input id=kp> Ki <input id=ki> Kd <input id=kd> <button onclick=send()>Send</button>"
+        + " <span id=info></span>"
+        + "<canvas id=pos width=900 height=220></canvas>"
+        + "<canvas id=out width=900 height=150></canvas>"
+        + "<canvas id=vel width=900 height=150></canvas>"
+        + "<script>"
+        + "const F=7,WINDOW=10,data=[];let buf=new Uint8Array(0);"
+        + "fetch('/gains').then(r=>r.text()).then(t=>{const g=t.split(' ');"
+        + "kp.value=g[0];ki.value=g[1];kd.value=g[2];});"
+        + "function send(){fetch('/gains?kp='+kp.value+'&ki='+ki.value+'&kd='+kd.value)"
+        + ".then(r=>{if(!r.ok)r.text().then(t=>alert(t));});}"
+        + "async function stream(){const r=await fetch('/stream');const rd=r.body.getReader();"
+        + "for(;;){const {value,done}=await rd.read();if(done)break;"
+        + "const b=new Uint8Array(buf.length+value.length);b.set(buf);b.set(value,buf.length);"
+        + "const n=Math.floor(b.length/(F*4));const dv=new DataView(b.buffer);"
+        + "for(let i=0;i<n;i++){const s=[];for(let f=0;f<F;f++)s.push(dv.getFloat32((i*F+f)*4));data.push(s);}"
+        + "buf=b.slice(n*F*4);"
+        + "while(data.length&&data[data.length-1][0]-data[0][0]>WINDOW)data.shift();}}"
+        + "function plot(c,series,colors){const x=c.getContext('2d');x.clearRect(0,0,c.width,c.height);"
+        + "if(data.length<2)return;let lo=1e9,hi=-1e9;"
+        + "for(const s of data)for(const k of series){lo=Math.min(lo,s[k]);hi=Math.max(hi,s[k]);}"
+        + "if(hi-lo<1e-6){hi+=1;lo-=1;}const t0=data[data.length-1][0]-WINDOW;"
+        + "series.forEach((k,j)=>{x.strokeStyle=colors[j];x.beginPath();"
+        + "data.forEach((s,i)=>{const px=(s[0]-t0)/WINDOW*c.width;"
+        + "const py=c.height-(s[k]-lo)/(hi-lo)*(c.height-10)-5;i?x.lineTo(px,py):x.moveTo(px,py);});"
+        + "x.stroke();});x.fillStyle='#888';x.fillText(hi.toFixed(2),2,10);"
+        + "x.fillText(lo.toFixed(2),2,c.height-2);}"
+        + "function draw(){plot(pos,[1,2],['#4a4','#fc3']);plot(out,[4],['#f55']);plot(vel,[5],['#5af']);"
+        + "if(data.length){const s=data[data.length-1];"
+        + "info.textContent='error '+s[3].toFixed(0)+'  loop '+s[6].toFixed(1)+' ms';}"
+        + "requestAnimationFrame(draw);}"
+        + "stream();draw();"
+        + "</script>"
+        + "<p>Green: target, yellow: position | red: PID output | blue: velocity</p>"
+        + "</body></html>";
+
+    // ═══════════════════════════════════════════════════════════
+    // LAPTOP TEST - simulated right motor on localhost only
+    // ═══════════════════════════════════════════════════════════
+
+    public static void main(String[] args) throws Exception {
+        Demo27_PIDGainSweep.MotorModel m = new Demo27_PIDGainSweep.MotorModel();
+        Demo34_PlotServer server = new Demo34_PlotServer("127.0.0.1", PORT, 0.1, 0, 0.001);
+        server.start();
+        System.out.println("Open http://localhost:" + PORT + "/  (Ctrl+C to quit)");
+
+        double kp = 0.1, ki = 0, kd = 0.001;
+        double position = 0, velocity = 0, integral = 0, lastError = 0;
+        final double dt = 0.01;
+        long startNanos = System.nanoTime();
+
+        for (long step = 0; ; step++) {
+            double t = step * dt;
+            double target = ((step / 300) % 2 == 0) ? 500 : 0;   // a new step every 3 s
+
+            double[] g = server.takeGains();
+            if (g != null) {
+                kp = g[0];
+                ki = g[1];
+                kd = g[2];
+                System.out.printf("New gains kp=%.4f ki=%.5f kd=%.5f%n", kp, ki, kd);
+            }
+
+            double error = target - Math.floor(position);
+            integral += error * dt;
+            double output = Math.max(-1, Math.min(1, kp * error + ki * integral + kd * (error - lastError) / dt));
+            lastError = error;
+
+            double volts = output * m.batteryVolts;
+            if (velocity != 0 || Math.abs(volts) > m.kS) {
+                double friction = m.kS * (velocity != 0 ? Math.signum(velocity) : Math.signum(volts));
+                double newVelocity = velocity + (volts - friction - m.kV * velocity) / m.kA * dt;
+                if (velocity != 0 && Math.signum(newVelocity) != Math.signum(velocity)
+                        && Math.abs(volts) <= m.kS) {
+                    newVelocity = 0;
+                }
+                velocity = newVelocity;
+            }
+            position += velocity * dt;
+
+            server.publish(t, target, position, error, output, velocity, dt * 1000);
+
+            // Run in real time so the plot looks like the robot
+            long wakeNanos = startNanos + (long) ((step + 1) * dt * 1e9);
+            long sleepMs = (wakeNanos - System.nanoTime()) / 1_000_000;
+            if (sleepMs > 0) Thread.sleep(sleepMs);
+        }
+    }
+}
@@ -0,0 +1,518 @@
+/**
+ * ------------------------------------------------------------
+ *  FGC Team Australia 2025  |  FIRST Global Challenge
+ * ------------------------------------------------------------
+ *  Project: FGC101 - Java Demo Series
+ *  File:    Demo35_LoopProfiler.java
+ *
+ *  Description:
+ *  This demo is part of the FGC101 video series created by
+ *  FGC Team Australia 2025. Our goal is to help rookie teams
+ *  understand programming logic and competition strategy
+ *  through short, simple examples.
+ *
+ *  Playlist: https://www.youtube.com/playlist?list=PL-29lId0PJrVEo0yJyprGheyRtR-ReDET
+ *  Author:   Muyao Zhang (from FGC Team Australia)
+ *  Date:     October 2025
+ *
+ *  Notes:
+ *  - We currently provide around 15 demo programs.
+ *  - These Java demos are not continuously updated.
+ *  - For detailed explanations, please refer to the FGC101 videos.
+ *
+ *  © FGC Team Australia 2025 | Educational Use Only
+ * ------------------------------------------------------------
+ */
+
+package org.firstinspires.ftc.teamcode;
+
+import com.qualcomm.robotcore.eventloop.opmode.TeleOp;
+import com.qualcomm.robotcore.eventloop.opmode.LinearOpMode;
+import com.qualcomm.robotcore.hardware.DcMotor;
+import com.qualcomm.robotcore.hardware.DcMotorEx;
+import com.qualcomm.robotcore.hardware.CRServo;
+import com.qualcomm.robotcore.util.ElapsedTime;
+
+import org.firstinspires.ftc.robotcore.internal.system.AppUtil;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Demo 35: Loop-Time Histograms per Section
+ *
+ * Knowledge Point: Measure WHERE the loop time goes
+ *
+ * Demo15 sometimes feels sluggish. Instead of guessing, we time every
+ * section of the loop with System.nanoTime():
+ *   INPUT → DRIVE → L2 → INTAKE → FLY → OPERATOR → RIGHT PID → TELEMETRY
+ *
+ * An average hides the slow loops that drivers actually feel, so each
+ * section gets a HISTOGRAM and we look at percentiles:
+ *   p50 = a normal loop, p99 = the slow 1%, max = the worst one
+ *
+ * The histogram uses log-linear buckets (the HdrHistogram idea):
+ * - every power of two (1-2 µs, 2-4 µs, 4-8 µs ...) is split into
+ *   16 equal sub-buckets, so every value is stored within ~3%
+ * - 976 fixed buckets cover every possible nanoTime difference
+ * - recording is a few bit operations and one array increment -
+ *   no allocation, no sorting
+ *
+ * During INIT the demo measures its own cost per section (should be
+ * far below 1 µs). At STOP the full table is written to
+ * /sdcard/FIRST/loop_profile_<time>.txt.
+ *
+ * Hardware Required: ALL motors and servos (same as Demo15)
+ *
+ * Controls: same as Demo15, plus
+ * GAMEPAD 1 Back: Reset all histograms
+ *
+ * How to Demonstrate:
+ * 1. Drive normally for a minute
+ * 2. Compare p99 of each section - the biggest one is the culprit
+ *    (often TELEMETRY or a section that reads many encoders)
+ * 3. Press STOP and open the profile file for the full table
+ */
+@TeleOp(name="Demo35: Loop Profiler", group="Demo")
+public class Demo35_LoopProfiler extends LinearOpMode {
+
+    /**
+     * Fixed-size log-linear histogram of nanosecond values.
+     * Values below 32 get their own bucket; above that, each power of
+     * two is split into 16 sub-buckets.
+     */
+    static final class LogLinearHistogram {
+        private static final int SUB_BITS = 5;
+        private static final int HALF = 1 << (SUB_BITS - 1);    // 16 sub-buckets per power of two
+        private static final int BUCKETS = (64 - SUB_BITS) * HALF + 2 * HALF;
+
+        private final long[] counts = new long[BUCKETS];
+        private long total = 0;
+        private long max = 0;
+        private long sum = 0;
+
+        void record(long value) {
+            if (value < 0) value = 0;
+            counts[indexOf(value)]++;
+            total++;
+            sum += value;
+            if (value > max) max = value;
+        }
+
+        static int indexOf(long value) {
+            if (value < 2 * HALF) return (int) value;
+            int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BITS - 1);
+            return shift * HALF + (int) (value >>> shift);
+        }
+
+        /**
+         * Middle of a bucket, the value we report for it
+         */
+        static long valueOf(int index) {
+            if (index < 2 * HALF) return index;
+            int shift = index / HALF - 1;
+            long low = (long) (index - shift * HALF) << shift;
+            return low + ((1L << shift) >> 1);
+        }
+
+        /**
+         * @param p 0..1, e.g. 0.99 for p99
+         */
+        long percentile(double p) {
+            if (total == 0) return 0;
+            long rank = Math.max(1, (long) Math.ceil(p * total));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= rank) return Math.min(valueOf(i), max);
+            }
+            return max;
+        }
+
+        long count() {
+            return total;
+        }
+
+        long max() {
+            return max;
+        }
+
+        double mean() {
+            return total == 0 ? 0 : (double) sum / total;
+        }
+
+        void reset() {
+            for (int i = 0; i < BUCKETS; i++) counts[i] = 0;
+            total = 0;
+            max = 0;
+            sum = 0;
+        }
+
+        void writeBuckets(PrintWriter out) {
+            for (int i = 0; i < BUCKETS; i++) {
+                if (counts[i] > 0) out.printf("  %10.1f us  %d%n", valueOf(i) / 1000.0, counts[i]);
+            }
+        }
+    }
+
+    // Loop sections, in loop order
+    private static final String[] SECTIONS = {
+        "INPUT", "DRIVE", "L2", "INTAKE", "FLY", "OPERATOR", "RIGHT PID", "TELEMETRY"
+    };
+    private static final int INPUT = 0, DRIVE = 1, L2 = 2, INTAKE = 3, FLY = 4,
+            OPERATOR = 5, RIGHT_PID = 6, TELEMETRY = 7;
+
+    private final LogLinearHistogram[] sectionTimes = new LogLinearHistogram[SECTIONS.length];
+    private final LogLinearHistogram loopTimes = new LogLinearHistogram();
+    private long mark = 0;
+
+    // PID Controller class (from Demo15)
+    private class PIDController {
+        private double Kp, Ki, Kd;
+        private double integralSum = 0;
+        private double lastError = 0;
+        private ElapsedTime timer = new ElapsedTime();
+
+        public PIDController(double Kp, double Ki, double Kd) {
+            this.Kp = Kp;
+            this.Ki = Ki;
+            this.Kd = Kd;
+        }
+
+        public double update(double target, double current) {
+            double error = target - current;
+            double derivative = (error - lastError) / timer.seconds();
+            integralSum += error * timer.seconds();
+            double output = (Kp * error) + (Ki * integralSum) + (Kd * derivative);
+            lastError = error;
+            timer.reset();
+            return output;
+        }
+
+        public void resetIntegral() {
+            integralSum = 0;
+            lastError = 0;
+            timer.reset();
+        }
+    }
+
+    private DcMotor bl, br, fly, intake, climbleft, climbright, fast;
+    private DcMotorEx right;
+    private CRServo block;
+
+    // Right motor PID
+    private PIDController rightPIDController = new PIDController(0.1, 0, 0.001);
+    private int rightTargetPosition = 0;
+    private boolean rightPIDEnabled = false;
+    private ElapsedTime rightPIDTimer = new ElapsedTime();
+    private boolean rightPIDTimeout = false;
+
+    // Left wheel hold for L2 mode
+    private PIDController blPIDController = new PIDController(0.1, 0, 0.001);
+    private int blTargetPosition = 0;
+    private boolean blHoldEnabled = false;
+
+    // Speed configuration (same as Demo15)
+    double flyPowerLow = 0.8;
+    double flyPowerHigh = 1.0;
+    double intakePowerForward = 0.8;
+    double intakePowerReverse = 1.0;
+    double rightMotorPower = 0.5;
+    double climbPowerUp = 1.0;
+    double climbPowerDown = -1.0;
+    double fastPowerFull = 1.0;
+
+    double driveSpeedScale = 1.0;
+    boolean lastXState = false;
+
+    int flyState = 0;
+    boolean lastL1FlyState = false;
+
+    @Override
+    public void runOpMode() {
+        bl = hardwareMap.get(DcMotor.class, "bl");
+        br = hardwareMap.get(DcMotor.class, "br");
+        fly = hardwareMap.get(DcMotor.class, "fly");
+        intake = hardwareMap.get(DcMotor.class, "intake");
+        climbleft = hardwareMap.get(DcMotor.class, "climbleft");
+        climbright = hardwareMap.get(DcMotor.class, "climbright");
+        right = hardwareMap.get(DcMotorEx.class, "right");
+        fast = hardwareMap.get(DcMotor.class, "fast");
+        block = hardwareMap.get(CRServo.class, "block");
+
+        bl.setDirection(DcMotor.Direction.REVERSE);
+        br.setDirection(DcMotor.Direction.FORWARD);
+        fly.setDirection(DcMotor.Direction.REVERSE);
+        intake.setDirection(DcMotor.Direction.REVERSE);
+        climbleft.setDirection(DcMotor.Direction.FORWARD);
+        climbright.setDirection(DcMotor.Direction.FORWARD);
+        right.setDirection(DcMotorEx.Direction.FORWARD);
+        fast.setDirection(DcMotor.Direction.FORWARD);
+
+        right.setZeroPowerBehavior(DcMotorEx.ZeroPowerBehavior.BRAKE);
+        fast.setZeroPowerBehavior(DcMotor.ZeroPowerBehavior.BRAKE);
+
+        right.setMode(DcMotorEx.RunMode.STOP_AND_RESET_ENCODER);
+        right.setMode(DcMotorEx.RunMode.RUN_WITHOUT_ENCODER);
+
+        for (int i = 0; i < SECTIONS.length; i++) sectionTimes[i] = new LogLinearHistogram();
+        double overheadNs = measureOverhead();
+
+        telemetry.addData("Status", "Ready - Loop Profiler");
+        telemetry.addData("Profiler Cost", "%.0f ns per section", overheadNs);
+        telemetry.update();
+
+        waitForStart();
+
+        long loopStart = System.nanoTime();
+        boolean lastBack = false;
+
+        while (opModeIsActive()) {
+            mark = System.nanoTime();
+            loopTimes.record(mark - loopStart);
+            loopStart = mark;
+
+            // ═══ INPUT ═══
+            double leftPower = -gamepad1.left_stick_y;
+            double rightPower = -gamepad1.right_stick_y;
+            boolean currentXState = gamepad1.x;
+            boolean l2HoldPressed = gamepad1.left_trigger > 0.5;
+            boolean r1Pressed = gamepad1.right_bumper;
+            boolean r2Pressed = gamepad1.right_trigger > 0.5;
+            boolean currentL1FlyState = gamepad1.left_bumper;
+            boolean dpadUp = gamepad1.dpad_up;
+            boolean dpadDown = gamepad1.dpad_down;
+            boolean back = gamepad1.back;
+            boolean a2Pressed = gamepad2.a;
+            boolean b2Pressed = gamepad2.b;
+            boolean x2Pressed = gamepad2.x;
+            boolean y2Pressed = gamepad2.y;
+            boolean dpadLeft = gamepad2.dpad_left;
+            boolean dpadRight = gamepad2.dpad_right;
+
+            if (back && !lastBack) {
+                for (LogLinearHistogram h : sectionTimes) h.reset();
+                loopTimes.reset();
+            }
+            lastBack = back;
+            lap(INPUT);
+
+            // ═══ DRIVE ═══
+            if (currentXState && !lastXState) {
+                driveSpeedScale = (driveSpeedScale == 1.0) ? 0.5 : 1.0;
+            }
+            lastXState = currentXState;
+            bl.setPower(leftPower * driveSpeedScale);
+            br.setPower(rightPower * driveSpeedScale);
+            lap(DRIVE);
+
+            // ═══ L2 SPECIAL MODE ═══
+            if (l2HoldPressed) {
+                if (!blHoldEnabled) {
+                    blTargetPosition = bl.getCurrentPosition();
+                    blHoldEnabled = true;
+                    blPIDController.resetIntegral();
+                }
+
+                int blCurrentPosition = bl.getCurrentPosition();
+                double blError = blTargetPosition - blCurrentPosition;
+                double raw = blPIDController.update(blTargetPosition, blCurrentPosition);
+
+                double blPower;
+                if (Math.abs(blError) > 5) {
+                    blPower = Math.max(-1, Math.min(1, raw));
+                } else if (Math.abs(blError) > 0) {
+                    blPower = blError > 0 ? 0.1 : -0.1;
+                } else {
+                    blPower = 0;
+                }
+
+                bl.setPower(blPower);
+                br.setPower(-0.7);
+            } else {
+                blHoldEnabled = false;
+            }
+            lap(L2);
+
+            // ═══ INTAKE ═══
+            if (r1Pressed && !r2Pressed) {
+                intake.setPower(intakePowerForward);
+            } else if (r2Pressed && !r1Pressed) {
+                intake.setPower(-intakePowerReverse);
+            } else {
+                intake.setPower(0);
+            }
+            lap(INTAKE);
+
+            // ═══ FLYWHEEL ═══
+            if (currentL1FlyState && !lastL1FlyState) {
+                flyState = (flyState + 1) % 3;
+            }
+            lastL1FlyState = currentL1FlyState;
+
+            switch (flyState) {
+                case 0: fly.setPower(0); break;
+                case 1: fly.setPower(flyPowerLow); break;
+                case 2: fly.setPower(flyPowerHigh); break;
+            }
+            lap(FLY);
+
+            // ═══ OPERATOR: fast motor, block servo, climb ═══
+            if (a2Pressed && !b2Pressed) {
+                fast.setPower(fastPowerFull);
+            } else if (b2Pressed && !a2Pressed) {
+                fast.setPower(-fastPowerFull);
+            } else {
+                fast.setPower(0);
+            }
+
+            double blockPower = 0.0;
+            if (x2Pressed && !y2Pressed) {
+                blockPower = 1.0;
+            } else if (y2Pressed && !x2Pressed) {
+                blockPower = -1.0;
+            }
+            block.setPower(blockPower);
+
+            double climbPower = 0.0;
+            if (dpadUp && !dpadDown) {
+                climbPower = climbPowerUp;
+            } else if (dpadDown && !dpadUp) {
+                climbPower = climbPowerDown;
+            }
+            climbleft.setPower(climbPower);
+            climbright.setPower(climbPower);
+            lap(OPERATOR);
+
+            // ═══ RIGHT MOTOR PID (Demo15 smart protection) ═══
+            if (dpadLeft && !dpadRight) {
+                rightPIDEnabled = false;
+                rightPIDTimeout = false;
+                right.setPower(-rightMotorPower);
+            } else if (dpadRight && !dpadLeft) {
+                rightPIDEnabled = false;
+                rightPIDTimeout = false;
+                right.setPower(rightMotorPower);
+            } else {
+                if (!rightPIDEnabled) {
+                    rightTargetPosition = right.getCurrentPosition();
+                    rightPIDEnabled = true;
+                    rightPIDTimeout = false;
+                    rightPIDController.resetIntegral();
+                    rightPIDTimer.reset();
+                }
+
+                int currentPosition = right.getCurrentPosition();
+                double error = rightTargetPosition - currentPosition;
+
+                if (!rightPIDTimeout && rightPIDTimer.seconds() > 3.0) {
+                    rightTargetPosition = currentPosition;
+                    rightPIDTimeout = true;
+                    rightPIDController.resetIntegral();
+                    rightPIDTimer.reset();
+                }
+
+                double power = 0;
+
+                if (rightPIDTimeout) {
+                    if (Math.abs(error) > 3) {
+                        rightPIDTimeout = false;
+                        rightPIDController.resetIntegral();
+                        rightPIDTimer.reset();
+                    }
+                }
+
+                if (!rightPIDTimeout) {
+                    power = rightPIDController.update(rightTargetPosition, currentPosition);
+
+                    if (Math.abs(error) > 5) {
+                        power = Math.max(-1, Math.min(1, power));
+                    } else if (Math.abs(error) > 0) {
+                        power = error > 0 ? 0.1 : -0.1;
+                    } else {
+                        power = 0;
+                    }
+                }
+
+                right.setPower(power);
+            }
+            lap(RIGHT_PID);
+
+            // ═══ TELEMETRY ═══
+            telemetry.addData("=== LOOP PROFILER ===", "");
+            telemetry.addData("Loop", "p50:%.2f p99:%.2f max:%.2f ms (%d)",
+                    loopTimes.percentile(0.50) / 1e6, loopTimes.percentile(0.99) / 1e6,
+                    loopTimes.max() / 1e6, loopTimes.count());
+            telemetry.addData("", "");
+            telemetry.addData("Section", "p50 / p99 / max  (µs)");
+            for (int i = 0; i < SECTIONS.length; i++) {
+                LogLinearHistogram h = sectionTimes[i];
+                telemetry.addData(SECTIONS[i], "%.0f / %.0f / %.0f",
+                        h.percentile(0.50) / 1000.0, h.percentile(0.99) / 1000.0, h.max() / 1000.0);
+            }
+            telemetry.addData("", "");
+            telemetry.addData("Controls", "Same as Demo15 | GP1 Back: Reset histograms");
+            telemetry.update();
+            lap(TELEMETRY);
+        }
+
+        String saved = dumpProfile(overheadNs);
+        telemetry.addData("Profile", saved);
+        telemetry.update();
+    }
+
+    /**
+     * Records the time since the last lap into one section
+     */
+    private void lap(int section) {
+        long now = System.nanoTime();
+        sectionTimes[section].record(now - mark);
+        mark = now;
+    }
+
+    /**
+     * Average cost of one lap() call, measured on a scratch histogram
+     */
+    private double measureOverhead() {
+        final int calls = 20000;
+        LogLinearHistogram scratch = new LogLinearHistogram();
+        long start = System.nanoTime();
+        long previous = start;
+        for (int i = 0; i < calls; i++) {
+            long now = System.nanoTime();
+            scratch.record(now - previous);
+            previous = now;
+        }
+        return (System.nanoTime() - start) / (double) calls;
+    }
+
+    private String dumpProfile(double overheadNs) {
+        File file = new File(AppUtil.FIRST_FOLDER, "loop_profile_" + System.currentTimeMillis() + ".txt");
+        try (PrintWriter out = new PrintWriter(new FileWriter(file))) {
+            out.printf("# Demo35 loop profile, profiler cost %.0f ns per section%n", overheadNs);
+            out.printf("%-10s %8s %10s %10s %10s %10s%n", "section", "count", "mean_us", "p50_us", "p99_us", "max_us");
+            for (int i = 0; i < SECTIONS.length; i++) {
+                writeRow(out, SECTIONS[i], sectionTimes[i]);
+            }
+            writeRow(out, "LOOP", loopTimes);
+            for (int i = 0; i < SECTIONS.length; i++) {
+                out.println();
+                out.println("# " + SECTIONS[i] + " buckets");
+                sectionTimes[i].writeBuckets(out);
+            }
+            out.println();
+            out.println("# LOOP buckets");
+            loopTimes.writeBuckets(out);
+            return "Saved " + file.getName();
+        } catch (IOException e) {
+            return "Save failed: " + e.getMessage();
+        }
+    }
+
+    private static void writeRow(PrintWriter out, String name, LogLinearHistogram h) {
+        out.printf("%-10s %8d %10.1f %10.1f %10.1f %10.1f%n", name, h.count(), h.mean() / 1000.0,
+                h.percentile(0.50) / 1000.0, h.percentile(0.99) / 1000.0, h.max() / 1000.0);
+    }
+}
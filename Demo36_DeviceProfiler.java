@@ -0,0 +1,511 @@
+/**
+ * ------------------------------------------------------------
+ *  FGC Team Australia 2025  |  FIRST Global Challenge
+ * ------------------------------------------------------------
+ *  Project: FGC101 - Java Demo Series
+ *  File:    Demo36_DeviceProfiler.java
+ *
+ *  Description:
+ *  This demo is part of the FGC101 video series created by
+ *  FGC Team Australia 2025. Our goal is to help rookie teams
+ *  understand programming logic and competition strategy
+ *  through short, simple examples.
+ *
+ *  Playlist: https://www.youtube.com/playlist?list=PL-29lId0PJrVEo0yJyprGheyRtR-ReDET
+ *  Author:   Muyao Zhang (from FGC Team Australia)
+ *  Date:     October 2025
+ *
+ *  Notes:
+ *  - We currently provide around 15 demo programs.
+ *  - These Java demos are not continuously updated.
+ *  - For detailed explanations, please refer to the FGC101 videos.
+ *
+ *  © FGC Team Australia 2025 | Educational Use Only
+ * ------------------------------------------------------------
+ */
+
+package org.firstinspires.ftc.teamcode;
+
+import com.qualcomm.robotcore.eventloop.opmode.TeleOp;
+import com.qualcomm.robotcore.eventloop.opmode.LinearOpMode;
+import com.qualcomm.robotcore.hardware.DcMotor;
+import com.qualcomm.robotcore.hardware.DcMotorEx;
+import com.qualcomm.robotcore.hardware.CRServo;
+import com.qualcomm.robotcore.hardware.HardwareMap;
+import com.qualcomm.robotcore.util.ElapsedTime;
+
+import org.firstinspires.ftc.robotcore.internal.system.AppUtil;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Demo 36: Hardware Call Profiler
+ *
+ * Knowledge Point: Which hardware calls eat the loop time?
+ *
+ * Every getCurrentPosition(), getVelocity() or setPower() talks to the
+ * Expansion Hub - often the slowest part of the loop. Demo35 tells us
+ * which SECTION is slow; this demo tells us which DEVICE and METHOD.
+ *
+ * How it works:
+ * - ProfilingHardwareMap.get() looks like hardwareMap.get()
+ * - With profiling OFF it returns the real device → zero cost
+ * - With profiling ON it returns a WRAPPER (a java.lang.reflect.Proxy)
+ *   that implements the same interface (DcMotorEx, DcMotor, CRServo),
+ *   times each call with nanoTime and then calls the real device
+ * - The loop code is exactly Demo15 and doesn't know the difference
+ *   (so the table shows only the calls Demo15 itself makes)
+ * - The wrapper is not free: every proxied call allocates an Object[]
+ *   for its arguments and boxes primitives (setPower's double, the int
+ *   from getCurrentPosition), so profiling adds GC pressure of its own -
+ *   compare loop times with profiling OFF, not just the table
+ *
+ * The summary table (telemetry top 6, full table in a file at STOP):
+ *   device.method   calls/loop   mean µs   max µs   % of all device time
+ *
+ * Hardware Required: ALL motors and servos (same as Demo15)
+ *
+ * Controls: same as Demo15
+ * During INIT: GAMEPAD 1 A toggles profiling ON/OFF
+ *
+ * How to Demonstrate:
+ * 1. INIT, press A until "Profiling: ON", press START
+ * 2. Drive and use every mechanism for a minute
+ * 3. Look at the top rows - the right motor reads and the drive
+ *    setPower calls usually dominate
+ * 4. Run again with profiling OFF and compare loop times
+ */
+@TeleOp(name="Demo36: Device Profiler", group="Demo")
+public class Demo36_DeviceProfiler extends LinearOpMode {
+
+    /**
+     * Timing for one device + method
+     */
+    static final class CallStats {
+        final String device, method;
+        long calls = 0;
+        long totalNs = 0;
+        long maxNs = 0;
+
+        CallStats(String device, String method) {
+            this.device = device;
+            this.method = method;
+        }
+    }
+
+    /**
+     * hardwareMap.get() replacement. Profiling is decided once, when
+     * the devices are fetched.
+     */
+    static final class ProfilingHardwareMap {
+        private final HardwareMap hardwareMap;
+        private final boolean enabled;
+        private final List<CallStats> allStats = new ArrayList<>();
+
+        ProfilingHardwareMap(HardwareMap hardwareMap, boolean enabled) {
+            this.hardwareMap = hardwareMap;
+            this.enabled = enabled;
+        }
+
+        <T> T get(Class<T> type, String name) {
+            T device = hardwareMap.get(type, name);
+            if (!enabled || !type.isInterface()) return device;   // OFF: the real device
+            Object proxy = Proxy.newProxyInstance(type.getClassLoader(),
+                    new Class<?>[] {type}, new TimingHandler(device, name));
+            return type.cast(proxy);
+        }
+
+        boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * All stats, slowest total first
+         */
+        List<CallStats> summary() {
+            List<CallStats> sorted;
+            synchronized (allStats) {
+                sorted = new ArrayList<>(allStats);
+            }
+            Collections.sort(sorted, (a, b) -> Long.compare(b.totalNs, a.totalNs));
+            return sorted;
+        }
+
+        long totalNs() {
+            long total = 0;
+            synchronized (allStats) {
+                for (CallStats s : allStats) total += s.totalNs;
+            }
+            return total;
+        }
+
+        /**
+         * Times every call on one device, one CallStats per method
+         */
+        private final class TimingHandler implements InvocationHandler {
+            private final Object device;
+            private final String name;
+            private final Map<Method, CallStats> stats = new HashMap<>();
+
+            TimingHandler(Object device, String name) {
+                this.device = device;
+                this.name = name;
+            }
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                if (method.getDeclaringClass() == Object.class) {
+                    return method.invoke(device, args);   // toString, equals, hashCode
+                }
+                CallStats s = stats.get(method);
+                if (s == null) {
+                    s = new CallStats(name, method.getName());
+                    stats.put(method, s);
+                    synchronized (allStats) {
+                        allStats.add(s);
+                    }
+                }
+                long start = System.nanoTime();
+                try {
+                    return method.invoke(device, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                } finally {
+                    long elapsed = System.nanoTime() - start;
+                    s.calls++;
+                    s.totalNs += elapsed;
+                    if (elapsed > s.maxNs) s.maxNs = elapsed;
+                }
+            }
+        }
+    }
+
+    // PID Controller class (from Demo15)
+    private class PIDController {
+        private double Kp, Ki, Kd;
+        private double integralSum = 0;
+        private double lastError = 0;
+        private ElapsedTime timer = new ElapsedTime();
+
+        public PIDController(double Kp, double Ki, double Kd) {
+            this.Kp = Kp;
+            this.Ki = Ki;
+            this.Kd = Kd;
+        }
+
+        public double update(double target, double current) {
+            double error = target - current;
+            double derivative = (error - lastError) / timer.seconds();
+            integralSum += error * timer.seconds();
+            double output = (Kp * error) + (Ki * integralSum) + (Kd * derivative);
+            lastError = error;
+            timer.reset();
+            return output;
+        }
+
+        public void resetIntegral() {
+            integralSum = 0;
+            lastError = 0;
+            timer.reset();
+        }
+    }
+
+    private ProfilingHardwareMap devices;
+
+    private DcMotor bl, br, fly, intake, climbleft, climbright, fast;
+    private DcMotorEx right;
+    private CRServo block;
+
+    // Right motor PID
+    private PIDController rightPIDController = new PIDController(0.1, 0, 0.001);
+    private int rightTargetPosition = 0;
+    private boolean rightPIDEnabled = false;
+    private ElapsedTime rightPIDTimer = new ElapsedTime();
+    private boolean rightPIDTimeout = false;
+
+    // Left wheel hold for L2 mode
+    private PIDController blPIDController = new PIDController(0.1, 0, 0.001);
+    private int blTargetPosition = 0;
+    private boolean blHoldEnabled = false;
+
+    // Speed configuration (same as Demo15)
+    double flyPowerLow = 0.8;
+    double flyPowerHigh = 1.0;
+    double intakePowerForward = 0.8;
+    double intakePowerReverse = 1.0;
+    double rightMotorPower = 0.5;
+    double climbPowerUp = 1.0;
+    double climbPowerDown = -1.0;
+    double fastPowerFull = 1.0;
+
+    double driveSpeedScale = 1.0;
+    boolean lastXState = false;
+
+    int flyState = 0;
+    boolean lastL1FlyState = false;
+
+    @Override
+    public void runOpMode() {
+        boolean profiling = true;
+        boolean lastA = false;
+        initHardware(profiling);
+
+        // ═══ INIT: choose profiling ON/OFF ═══
+        while (!isStarted() && !isStopRequested()) {
+            boolean a = gamepad1.a;
+            if (a && !lastA) {
+                profiling = !profiling;
+                initHardware(profiling);   // fetch the devices again, wrapped or not
+            }
+            lastA = a;
+
+            telemetry.addData("Status", "Ready - Device Profiler");
+            telemetry.addData("Profiling", profiling ? "ON" : "OFF (zero cost)");
+            telemetry.addData("Controls", "GP1 A: Toggle profiling");
+            telemetry.update();
+            idle();
+        }
+
+        long loops = 0;
+        ElapsedTime runtime = new ElapsedTime();
+
+        while (opModeIsActive()) {
+            loops++;
+
+            // Tank drive with speed toggle
+            double leftPower = -gamepad1.left_stick_y;
+            double rightPower = -gamepad1.right_stick_y;
+
+            boolean currentXState = gamepad1.x;
+            if (currentXState && !lastXState) {
+                driveSpeedScale = (driveSpeedScale == 1.0) ? 0.5 : 1.0;
+            }
+            lastXState = currentXState;
+
+            bl.setPower(leftPower * driveSpeedScale);
+            br.setPower(rightPower * driveSpeedScale);
+
+            // L2 special mode
+            boolean l2HoldPressed = gamepad1.left_trigger > 0.5;
+            if (l2HoldPressed) {
+                if (!blHoldEnabled) {
+                    blTargetPosition = bl.getCurrentPosition();
+                    blHoldEnabled = true;
+                    blPIDController.resetIntegral();
+                }
+
+                int blCurrentPosition = bl.getCurrentPosition();
+                double blError = blTargetPosition - blCurrentPosition;
+                double raw = blPIDController.update(blTargetPosition, blCurrentPosition);
+
+                double blPower;
+                if (Math.abs(blError) > 5) {
+                    blPower = Math.max(-1, Math.min(1, raw));
+                } else if (Math.abs(blError) > 0) {
+                    blPower = blError > 0 ? 0.1 : -0.1;
+                } else {
+                    blPower = 0;
+                }
+
+                bl.setPower(blPower);
+                br.setPower(-0.7);
+            } else {
+                blHoldEnabled = false;
+            }
+
+            // Intake
+            boolean r1Pressed = gamepad1.right_bumper;
+            boolean r2Pressed = gamepad1.right_trigger > 0.5;
+            if (r1Pressed && !r2Pressed) {
+                intake.setPower(intakePowerForward);
+            } else if (r2Pressed && !r1Pressed) {
+                intake.setPower(-intakePowerReverse);
+            } else {
+                intake.setPower(0);
+            }
+
+            // Flywheel L1
+            boolean currentL1FlyState = gamepad1.left_bumper;
+            if (currentL1FlyState && !lastL1FlyState) {
+                flyState = (flyState + 1) % 3;
+            }
+            lastL1FlyState = currentL1FlyState;
+
+            switch (flyState) {
+                case 0: fly.setPower(0); break;
+                case 1: fly.setPower(flyPowerLow); break;
+                case 2: fly.setPower(flyPowerHigh); break;
+            }
+
+            // Gamepad 2 fast motor
+            if (gamepad2.a && !gamepad2.b) {
+                fast.setPower(fastPowerFull);
+            } else if (gamepad2.b && !gamepad2.a) {
+                fast.setPower(-fastPowerFull);
+            } else {
+                fast.setPower(0);
+            }
+
+            // Gamepad 2 block servo
+            double blockPower = 0.0;
+            if (gamepad2.x && !gamepad2.y) {
+                blockPower = 1.0;
+            } else if (gamepad2.y && !gamepad2.x) {
+                blockPower = -1.0;
+            }
+            block.setPower(blockPower);
+
+            // Climb motors
+            double climbPower = 0.0;
+            if (gamepad1.dpad_up && !gamepad1.dpad_down) {
+                climbPower = climbPowerUp;
+            } else if (gamepad1.dpad_down && !gamepad1.dpad_up) {
+                climbPower = climbPowerDown;
+            }
+            climbleft.setPower(climbPower);
+            climbright.setPower(climbPower);
+
+            // Right motor with SMART PROTECTION (Demo15)
+            boolean dpadLeft = gamepad2.dpad_left;
+            boolean dpadRight = gamepad2.dpad_right;
+
+            if (dpadLeft && !dpadRight) {
+                rightPIDEnabled = false;
+                rightPIDTimeout = false;
+                right.setPower(-rightMotorPower);
+            } else if (dpadRight && !dpadLeft) {
+                rightPIDEnabled = false;
+                rightPIDTimeout = false;
+                right.setPower(rightMotorPower);
+            } else {
+                if (!rightPIDEnabled) {
+                    rightTargetPosition = right.getCurrentPosition();
+                    rightPIDEnabled = true;
+                    rightPIDTimeout = false;
+                    rightPIDController.resetIntegral();
+                    rightPIDTimer.reset();
+                }
+
+                int currentPosition = right.getCurrentPosition();
+                double error = rightTargetPosition - currentPosition;
+
+                if (!rightPIDTimeout && rightPIDTimer.seconds() > 3.0) {
+                    rightTargetPosition = currentPosition;
+                    rightPIDTimeout = true;
+                    rightPIDController.resetIntegral();
+                    rightPIDTimer.reset();
+                }
+
+                double power = 0;
+
+                if (rightPIDTimeout) {
+                    if (Math.abs(error) > 3) {
+                        rightPIDTimeout = false;
+                        rightPIDController.resetIntegral();
+                        rightPIDTimer.reset();
+                    }
+                }
+
+                if (!rightPIDTimeout) {
+                    power = rightPIDController.update(rightTargetPosition, currentPosition);
+
+                    if (Math.abs(error) > 5) {
+                        power = Math.max(-1, Math.min(1, power));
+                    } else if (Math.abs(error) > 0) {
+                        power = error > 0 ? 0.1 : -0.1;
+                    } else {
+                        power = 0;
+                    }
+                }
+
+                right.setPower(power);
+            }
+
+            // ═══ TELEMETRY: the hardest-hit devices ═══
+            telemetry.addData("=== DEVICE PROFILER ===", "");
+            telemetry.addData("Loop", "%.1f ms avg", runtime.milliseconds() / loops);
+            if (devices.isEnabled()) {
+                long allNs = Math.max(1, devices.totalNs());
+                telemetry.addData("Device time", "%.2f ms per loop", allNs / 1e6 / loops);
+                telemetry.addData("", "");
+                List<CallStats> top = devices.summary();
+                for (int i = 0; i < Math.min(6, top.size()); i++) {
+                    CallStats s = top.get(i);
+                    telemetry.addData(s.device + "." + s.method, "%.1f/loop  %.0f µs  max %.0f  %d%%",
+                            (double) s.calls / loops, s.totalNs / 1000.0 / s.calls,
+                            s.maxNs / 1000.0, (int) (100 * s.totalNs / allNs));
+                }
+            } else {
+                telemetry.addData("Profiling", "OFF");
+            }
+            telemetry.addData("", "");
+            telemetry.addData("Controls", "Same as Demo15");
+            telemetry.update();
+        }
+
+        if (devices.isEnabled()) {
+            telemetry.addData("Profile", writeSummary(loops));
+            telemetry.update();
+        }
+    }
+
+    private void initHardware(boolean profiling) {
+        devices = new ProfilingHardwareMap(hardwareMap, profiling);
+
+        bl = devices.get(DcMotor.class, "bl");
+        br = devices.get(DcMotor.class, "br");
+        fly = devices.get(DcMotor.class, "fly");
+        intake = devices.get(DcMotor.class, "intake");
+        climbleft = devices.get(DcMotor.class, "climbleft");
+        climbright = devices.get(DcMotor.class, "climbright");
+        right = devices.get(DcMotorEx.class, "right");
+        fast = devices.get(DcMotor.class, "fast");
+        block = devices.get(CRServo.class, "block");
+
+        bl.setDirection(DcMotor.Direction.REVERSE);
+        br.setDirection(DcMotor.Direction.FORWARD);
+        fly.setDirection(DcMotor.Direction.REVERSE);
+        intake.setDirection(DcMotor.Direction.REVERSE);
+        climbleft.setDirection(DcMotor.Direction.FORWARD);
+        climbright.setDirection(DcMotor.Direction.FORWARD);
+        right.setDirection(DcMotorEx.Direction.FORWARD);
+        fast.setDirection(DcMotor.Direction.FORWARD);
+
+        right.setZeroPowerBehavior(DcMotorEx.ZeroPowerBehavior.BRAKE);
+        fast.setZeroPowerBehavior(DcMotor.ZeroPowerBehavior.BRAKE);
+
+        right.setMode(DcMotorEx.RunMode.STOP_AND_RESET_ENCODER);
+        right.setMode(DcMotorEx.RunMode.RUN_WITHOUT_ENCODER);
+    }
+
+    private String writeSummary(long loops) {
+        File file = new File(AppUtil.FIRST_FOLDER, "device_profile_" + System.currentTimeMillis() + ".txt");
+        long allNs = Math.max(1, devices.totalNs());
+        try (PrintWriter out = new PrintWriter(new FileWriter(file))) {
+            out.printf("# Demo36 device profile, %d loops, %.2f ms device time per loop%n",
+                    loops, allNs / 1e6 / Math.max(1, loops));
+            out.printf("%-12s %-28s %10s %10s %10s %10s %6s%n",
+                    "device", "method", "calls", "per_loop", "mean_us", "max_us", "pct");
+            for (CallStats s : devices.summary()) {
+                out.printf("%-12s %-28s %10d %10.2f %10.1f %10.1f %5.1f%%%n",
+                        s.device, s.method, s.calls, (double) s.calls / Math.max(1, loops),
+                        s.totalNs / 1000.0 / s.calls, s.maxNs / 1000.0, 100.0 * s.totalNs / allNs);
+            }
+            return "Saved " + file.getName();
+        } catch (IOException e) {
+            return "Save failed: " + e.getMessage();
+        }
+    }
+}
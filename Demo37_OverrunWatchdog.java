@@ -0,0 +1,433 @@
+/**
+ * ------------------------------------------------------------
+ *  FGC Team Australia 2025  |  FIRST Global Challenge
+ * ------------------------------------------------------------
+ *  Project: FGC101 - Java Demo Series
+ *  File:    Demo37_OverrunWatchdog.java
+ *
+ *  Description:
+ *  This demo is part of the FGC101 video series created by
+ *  FGC Team Australia 2025. Our goal is to help rookie teams
+ *  understand programming logic and competition strategy
+ *  through short, simple examples.
+ *
+ *  Playlist: https://www.youtube.com/playlist?list=PL-29lId0PJrVEo0yJyprGheyRtR-ReDET
+ *  Author:   Muyao Zhang (from FGC Team Australia)
+ *  Date:     October 2025
+ *
+ *  Notes:
+ *  - We currently provide around 15 demo programs.
+ *  - These Java demos are not continuously updated.
+ *  - For detailed explanations, please refer to the FGC101 videos.
+ *
+ *  © FGC Team Australia 2025 | Educational Use Only
+ * ------------------------------------------------------------
+ */
+
+package org.firstinspires.ftc.teamcode;
+
+import com.qualcomm.robotcore.eventloop.opmode.TeleOp;
+import com.qualcomm.robotcore.eventloop.opmode.LinearOpMode;
+import com.qualcomm.robotcore.hardware.DcMotor;
+import com.qualcomm.robotcore.hardware.DcMotorEx;
+import com.qualcomm.robotcore.hardware.CRServo;
+import com.qualcomm.robotcore.util.ElapsedTime;
+
+import org.firstinspires.ftc.robotcore.internal.system.AppUtil;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Demo 37: Loop Overrun Watchdog with Degraded Mode
+ *
+ * Knowledge Point: Protect the important controllers when the loop is slow
+ *
+ * Sometimes one loop takes 60 ms instead of 15 ms (garbage collection,
+ * a big telemetry update...). The right motor PID and the L2 hold then
+ * act on old positions and can overshoot.
+ *
+ * The watchdog measures every loop period:
+ * - Period > OVERRUN_MS      → count it, log it, enter DEGRADED mode
+ * - In DEGRADED mode:
+ *     CRITICAL  (every loop):  drive, L2 hold, right motor PID
+ *     NON-CRITICAL (every NON_CRITICAL_DIVIDER loops): intake, fly,
+ *                              fast, block, climb
+ *     TELEMETRY (once per second, one short line)
+ * - RECOVERY_LOOPS fast loops in a row (< RECOVERY_MS) → back to NORMAL
+ *
+ * Every overrun is stored in a preallocated array (time, period, mode)
+ * and written to /sdcard/FIRST/overruns_<time>.csv at STOP.
+ *
+ * Hardware Required: ALL motors and servos (same as Demo15)
+ *
+ * Controls: same as Demo15, plus
+ * GAMEPAD 1 Back (hold): Simulate a load spike (sleeps 50 ms per loop)
+ *
+ * How to Demonstrate:
+ * 1. Drive normally - mode stays NORMAL, overruns stay at 0
+ * 2. Hold GP1 Back - telemetry drops to one line: DEGRADED
+ * 3. Hold the right motor with PID while Back is held - it still holds
+ * 4. Release Back - after a moment the mode returns to NORMAL
+ */
+@TeleOp(name="Demo37: Overrun Watchdog", group="Demo")
+public class Demo37_OverrunWatchdog extends LinearOpMode {
+
+    // Watchdog settings
+    private static final double OVERRUN_MS = 40.0;        // a loop slower than this is an overrun
+    private static final double RECOVERY_MS = 25.0;       // a loop faster than this counts toward recovery
+    private static final int RECOVERY_LOOPS = 50;         // fast loops in a row to leave DEGRADED
+    private static final int NON_CRITICAL_DIVIDER = 4;    // run non-critical every Nth loop when DEGRADED
+    private static final double DEGRADED_TELEMETRY_MS = 1000;
+    private static final int MAX_LOGGED_OVERRUNS = 2000;
+    private static final long SPIKE_SLEEP_MS = 50;
+
+    private enum LoopMode { NORMAL, DEGRADED }
+
+    // PID Controller class (from Demo15)
+    private class PIDController {
+        private double Kp, Ki, Kd;
+        private double integralSum = 0;
+        private double lastError = 0;
+        private ElapsedTime timer = new ElapsedTime();
+
+        public PIDController(double Kp, double Ki, double Kd) {
+            this.Kp = Kp;
+            this.Ki = Ki;
+            this.Kd = Kd;
+        }
+
+        public double update(double target, double current) {
+            double error = target - current;
+            double derivative = (error - lastError) / timer.seconds();
+            integralSum += error * timer.seconds();
+            double output = (Kp * error) + (Ki * integralSum) + (Kd * derivative);
+            lastError = error;
+            timer.reset();
+            return output;
+        }
+
+        public void resetIntegral() {
+            integralSum = 0;
+            lastError = 0;
+            timer.reset();
+        }
+    }
+
+    private DcMotor bl, br, fly, intake, climbleft, climbright, fast;
+    private DcMotorEx right;
+    private CRServo block;
+
+    // Right motor PID
+    private PIDController rightPIDController = new PIDController(0.1, 0, 0.001);
+    private int rightTargetPosition = 0;
+    private boolean rightPIDEnabled = false;
+    private ElapsedTime rightPIDTimer = new ElapsedTime();
+    private boolean rightPIDTimeout = false;
+
+    // Left wheel hold for L2 mode
+    private PIDController blPIDController = new PIDController(0.1, 0, 0.001);
+    private int blTargetPosition = 0;
+    private boolean blHoldEnabled = false;
+
+    // Speed configuration (same as Demo15)
+    double flyPowerLow = 0.8;
+    double flyPowerHigh = 1.0;
+    double intakePowerForward = 0.8;
+    double intakePowerReverse = 1.0;
+    double rightMotorPower = 0.5;
+    double climbPowerUp = 1.0;
+    double climbPowerDown = -1.0;
+    double fastPowerFull = 1.0;
+
+    double driveSpeedScale = 1.0;
+    boolean lastXState = false;
+
+    int flyState = 0;
+    boolean lastL1FlyState = false;
+
+    // Watchdog state
+    private LoopMode mode = LoopMode.NORMAL;
+    private int overruns = 0;
+    private int degradedEntries = 0;
+    private int fastLoopsInRow = 0;
+    private double worstPeriodMs = 0;
+    private long loopCount = 0;
+
+    // Overrun log, preallocated so logging never allocates in the loop
+    private final double[] overrunTime = new double[MAX_LOGGED_OVERRUNS];
+    private final double[] overrunPeriod = new double[MAX_LOGGED_OVERRUNS];
+    private final boolean[] overrunWasDegraded = new boolean[MAX_LOGGED_OVERRUNS];
+
+    @Override
+    public void runOpMode() {
+        bl = hardwareMap.get(DcMotor.class, "bl");
+        br = hardwareMap.get(DcMotor.class, "br");
+        fly = hardwareMap.get(DcMotor.class, "fly");
+        intake = hardwareMap.get(DcMotor.class, "intake");
+        climbleft = hardwareMap.get(DcMotor.class, "climbleft");
+        climbright = hardwareMap.get(DcMotor.class, "climbright");
+        right = hardwareMap.get(DcMotorEx.class, "right");
+        fast = hardwareMap.get(DcMotor.class, "fast");
+        block = hardwareMap.get(CRServo.class, "block");
+
+        bl.setDirection(DcMotor.Direction.REVERSE);
+        br.setDirection(DcMotor.Direction.FORWARD);
+        fly.setDirection(DcMotor.Direction.REVERSE);
+        intake.setDirection(DcMotor.Direction.REVERSE);
+        climbleft.setDirection(DcMotor.Direction.FORWARD);
+        climbright.setDirection(DcMotor.Direction.FORWARD);
+        right.setDirection(DcMotorEx.Direction.FORWARD);
+        fast.setDirection(DcMotor.Direction.FORWARD);
+
+        right.setZeroPowerBehavior(DcMotorEx.ZeroPowerBehavior.BRAKE);
+        fast.setZeroPowerBehavior(DcMotor.ZeroPowerBehavior.BRAKE);
+
+        right.setMode(DcMotorEx.RunMode.STOP_AND_RESET_ENCODER);
+        right.setMode(DcMotorEx.RunMode.RUN_WITHOUT_ENCODER);
+
+        telemetry.addData("Status", "Ready - Overrun Watchdog");
+        telemetry.addData("Overrun", "> %.0f ms", OVERRUN_MS);
+        telemetry.update();
+
+        waitForStart();
+
+        ElapsedTime runtime = new ElapsedTime();
+        ElapsedTime telemetryTimer = new ElapsedTime();
+        long lastLoopNanos = System.nanoTime();
+
+        while (opModeIsActive()) {
+            // ═══ WATCHDOG: check the period of the loop that just finished ═══
+            long now = System.nanoTime();
+            double periodMs = (now - lastLoopNanos) / 1e6;
+            lastLoopNanos = now;
+            loopCount++;
+            checkPeriod(periodMs, runtime.seconds());
+
+            boolean degraded = mode == LoopMode.DEGRADED;
+            boolean runNonCritical = !degraded || loopCount % NON_CRITICAL_DIVIDER == 0;
+
+            // ═══ CRITICAL: drive ═══
+            double leftPower = -gamepad1.left_stick_y;
+            double rightPower = -gamepad1.right_stick_y;
+
+            boolean currentXState = gamepad1.x;
+            if (currentXState && !lastXState) {
+                driveSpeedScale = (driveSpeedScale == 1.0) ? 0.5 : 1.0;
+            }
+            lastXState = currentXState;
+
+            bl.setPower(leftPower * driveSpeedScale);
+            br.setPower(rightPower * driveSpeedScale);
+
+            // ═══ CRITICAL: L2 special mode ═══
+            boolean l2HoldPressed = gamepad1.left_trigger > 0.5;
+            if (l2HoldPressed) {
+                if (!blHoldEnabled) {
+                    blTargetPosition = bl.getCurrentPosition();
+                    blHoldEnabled = true;
+                    blPIDController.resetIntegral();
+                }
+
+                int blCurrentPosition = bl.getCurrentPosition();
+                double blError = blTargetPosition - blCurrentPosition;
+                double raw = blPIDController.update(blTargetPosition, blCurrentPosition);
+
+                double blPower;
+                if (Math.abs(blError) > 5) {
+                    blPower = Math.max(-1, Math.min(1, raw));
+                } else if (Math.abs(blError) > 0) {
+                    blPower = blError > 0 ? 0.1 : -0.1;
+                } else {
+                    blPower = 0;
+                }
+
+                bl.setPower(blPower);
+                br.setPower(-0.7);
+            } else {
+                blHoldEnabled = false;
+            }
+
+            // ═══ CRITICAL: right motor with SMART PROTECTION (Demo15) ═══
+            boolean dpadLeft = gamepad2.dpad_left;
+            boolean dpadRight = gamepad2.dpad_right;
+
+            if (dpadLeft && !dpadRight) {
+                rightPIDEnabled = false;
+                rightPIDTimeout = false;
+                right.setPower(-rightMotorPower);
+            } else if (dpadRight && !dpadLeft) {
+                rightPIDEnabled = false;
+                rightPIDTimeout = false;
+                right.setPower(rightMotorPower);
+            } else {
+                if (!rightPIDEnabled) {
+                    rightTargetPosition = right.getCurrentPosition();
+                    rightPIDEnabled = true;
+                    rightPIDTimeout = false;
+                    rightPIDController.resetIntegral();
+                    rightPIDTimer.reset();
+                }
+
+                int currentPosition = right.getCurrentPosition();
+                double error = rightTargetPosition - currentPosition;
+
+                if (!rightPIDTimeout && rightPIDTimer.seconds() > 3.0) {
+                    rightTargetPosition = currentPosition;
+                    rightPIDTimeout = true;
+                    rightPIDController.resetIntegral();
+                    rightPIDTimer.reset();
+                }
+
+                double power = 0;
+
+                if (rightPIDTimeout) {
+                    if (Math.abs(error) > 3) {
+                        rightPIDTimeout = false;
+                        rightPIDController.resetIntegral();
+                        rightPIDTimer.reset();
+                    }
+                }
+
+                if (!rightPIDTimeout) {
+                    power = rightPIDController.update(rightTargetPosition, currentPosition);
+
+                    if (Math.abs(error) > 5) {
+                        power = Math.max(-1, Math.min(1, power));
+                    } else if (Math.abs(error) > 0) {
+                        power = error > 0 ? 0.1 : -0.1;
+                    } else {
+                        power = 0;
+                    }
+                }
+
+                right.setPower(power);
+            }
+
+            // ═══ NON-CRITICAL: mechanisms (reduced rate when DEGRADED) ═══
+            if (runNonCritical) {
+                boolean r1Pressed = gamepad1.right_bumper;
+                boolean r2Pressed = gamepad1.right_trigger > 0.5;
+                if (r1Pressed && !r2Pressed) {
+                    intake.setPower(intakePowerForward);
+                } else if (r2Pressed && !r1Pressed) {
+                    intake.setPower(-intakePowerReverse);
+                } else {
+                    intake.setPower(0);
+                }
+
+                boolean currentL1FlyState = gamepad1.left_bumper;
+                if (currentL1FlyState && !lastL1FlyState) {
+                    flyState = (flyState + 1) % 3;
+                }
+                lastL1FlyState = currentL1FlyState;
+
+                switch (flyState) {
+                    case 0: fly.setPower(0); break;
+                    case 1: fly.setPower(flyPowerLow); break;
+                    case 2: fly.setPower(flyPowerHigh); break;
+                }
+
+                if (gamepad2.a && !gamepad2.b) {
+                    fast.setPower(fastPowerFull);
+                } else if (gamepad2.b && !gamepad2.a) {
+                    fast.setPower(-fastPowerFull);
+                } else {
+                    fast.setPower(0);
+                }
+
+                double blockPower = 0.0;
+                if (gamepad2.x && !gamepad2.y) {
+                    blockPower = 1.0;
+                } else if (gamepad2.y && !gamepad2.x) {
+                    blockPower = -1.0;
+                }
+                block.setPower(blockPower);
+
+                double climbPower = 0.0;
+                if (gamepad1.dpad_up && !gamepad1.dpad_down) {
+                    climbPower = climbPowerUp;
+                } else if (gamepad1.dpad_down && !gamepad1.dpad_up) {
+                    climbPower = climbPowerDown;
+                }
+                climbleft.setPower(climbPower);
+                climbright.setPower(climbPower);
+            }
+
+            // ═══ TELEMETRY: full when NORMAL, one line per second when DEGRADED ═══
+            if (!degraded) {
+                telemetry.addData("=== OVERRUN WATCHDOG ===", "");
+                telemetry.addData("Mode", mode);
+                telemetry.addData("Loop", "%.1f ms (worst %.1f)", periodMs, worstPeriodMs);
+                telemetry.addData("Overruns", "%d (degraded %d times)", overruns, degradedEntries);
+                telemetry.addData("", "");
+                telemetry.addData("Speed", (int)(driveSpeedScale * 100) + "%");
+                telemetry.addData("Fly", flyState == 0 ? "OFF" : (flyState == 1 ? "80%" : "100%"));
+                telemetry.addData("Right PID", rightPIDEnabled ? (rightPIDTimeout ? "TIMEOUT" : "HOLD") : "Manual");
+                telemetry.addData("", "");
+                telemetry.addData("Controls", "Same as Demo15 | GP1 Back: Simulate load spike");
+                telemetry.update();
+            } else if (telemetryTimer.milliseconds() > DEGRADED_TELEMETRY_MS) {
+                telemetry.addData("DEGRADED", "overruns:%d worst:%.0f ms", overruns, worstPeriodMs);
+                telemetry.update();
+                telemetryTimer.reset();
+            }
+
+            // Test load: a deliberately slow loop
+            if (gamepad1.back) {
+                sleep(SPIKE_SLEEP_MS);
+            }
+        }
+
+        telemetry.addData("Overrun Log", writeOverrunLog());
+        telemetry.update();
+    }
+
+    /**
+     * Counts and logs overruns and switches between NORMAL and DEGRADED
+     */
+    private void checkPeriod(double periodMs, double timeSeconds) {
+        if (loopCount == 1) return;   // the first period includes START latency
+
+        if (periodMs > worstPeriodMs) worstPeriodMs = periodMs;
+
+        if (periodMs > OVERRUN_MS) {
+            if (overruns < MAX_LOGGED_OVERRUNS) {
+                overrunTime[overruns] = timeSeconds;
+                overrunPeriod[overruns] = periodMs;
+                overrunWasDegraded[overruns] = mode == LoopMode.DEGRADED;
+            }
+            overruns++;
+            fastLoopsInRow = 0;
+            if (mode == LoopMode.NORMAL) {
+                mode = LoopMode.DEGRADED;
+                degradedEntries++;
+            }
+        } else if (periodMs < RECOVERY_MS) {
+            fastLoopsInRow++;
+            if (mode == LoopMode.DEGRADED && fastLoopsInRow >= RECOVERY_LOOPS) {
+                mode = LoopMode.NORMAL;
+            }
+        } else {
+            fastLoopsInRow = 0;   // in between: not an overrun, not good enough to recover
+        }
+    }
+
+    private String writeOverrunLog() {
+        File file = new File(AppUtil.FIRST_FOLDER, "overruns_" + System.currentTimeMillis() + ".csv");
+        try (PrintWriter out = new PrintWriter(new FileWriter(file))) {
+            out.printf("# loops=%d overruns=%d degraded_entries=%d worst_ms=%.2f%n",
+                    loopCount, overruns, degradedEntries, worstPeriodMs);
+            out.println("time_s,period_ms,already_degraded");
+            int logged = Math.min(overruns, MAX_LOGGED_OVERRUNS);
+            for (int i = 0; i < logged; i++) {
+                out.printf("%.3f,%.2f,%b%n", overrunTime[i], overrunPeriod[i], overrunWasDegraded[i]);
+            }
+            return "Saved " + file.getName() + " (" + overruns + " overruns)";
+        } catch (IOException e) {
+            return "Save failed: " + e.getMessage();
+        }
+    }
+}
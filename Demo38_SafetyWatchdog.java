@@ -0,0 +1,467 @@
+/**
+ * ------------------------------------------------------------
+ *  FGC Team Australia 2025  |  FIRST Global Challenge
+ * ------------------------------------------------------------
+ *  Project: FGC101 - Java Demo Series
+ *  File:    Demo38_SafetyWatchdog.java
+ *
+ *  Description:
+ *  This demo is part of the FGC101 video series created by
+ *  FGC Team Australia 2025. Our goal is to help rookie teams
+ *  understand programming logic and competition strategy
+ *  through short, simple examples.
+ *
+ *  Playlist: https://www.youtube.com/playlist?list=PL-29lId0PJrVEo0yJyprGheyRtR-ReDET
+ *  Author:   Muyao Zhang (from FGC Team Australia)
+ *  Date:     October 2025
+ *
+ *  Notes:
+ *  - We currently provide around 15 demo programs.
+ *  - These Java demos are not continuously updated.
+ *  - For detailed explanations, please refer to the FGC101 videos.
+ *
+ *  © FGC Team Australia 2025 | Educational Use Only
+ * ------------------------------------------------------------
+ */
+
+package org.firstinspires.ftc.teamcode;
+
+import com.qualcomm.robotcore.eventloop.opmode.TeleOp;
+import com.qualcomm.robotcore.eventloop.opmode.LinearOpMode;
+import com.qualcomm.robotcore.hardware.DcMotor;
+import com.qualcomm.robotcore.hardware.DcMotorEx;
+import com.qualcomm.robotcore.hardware.CRServo;
+import com.qualcomm.robotcore.util.ElapsedTime;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Demo 38: Safety Watchdog Thread
+ *
+ * Knowledge Point: A second thread that stops the robot if the loop hangs
+ *
+ * A motor keeps its last power until someone changes it. If the Demo15
+ * loop gets stuck (a blocking call, an endless retry...) with the climb
+ * motors at 1.0, nothing will ever set them back to 0.
+ *
+ * The fix is a WATCHDOG - a separate thread that expects a "heartbeat":
+ * - Every loop, the main loop writes System.nanoTime() into an
+ *   AtomicLong with lazySet() - one ordered store, a few nanoseconds
+ * - The watchdog wakes every CHECK_MS and reads it
+ * - No heartbeat for TIMEOUT_MS → TRIP: every motor and the block
+ *   servo are set to 0 FROM THE WATCHDOG THREAD
+ * - The trip is LATCHED: even if the loop comes back, the robot stays
+ *   stopped until the driver re-arms it (GP1 Start + Back)
+ *
+ * No locks anywhere: one AtomicLong for the heartbeat, one volatile
+ * boolean for the trip flag.
+ *
+ * Hardware Required: ALL motors and servos (same as Demo15)
+ *
+ * Controls: same as Demo15, plus
+ * GAMEPAD 1:
+ * - Left Stick Button (hold): Simulate a hung loop (blocks for 1 s)
+ * - Start + Back: Re-arm after a trip
+ *
+ * How to Demonstrate:
+ * 1. Raise the robot on a stand, run the climb motors (DPad Up)
+ * 2. While climbing, press the left stick button
+ * 3. The loop freezes, but after TIMEOUT_MS the watchdog stops everything
+ * 4. Telemetry shows "TRIPPED" - press Start + Back to drive again
+ */
+@TeleOp(name="Demo38: Safety Watchdog", group="Demo")
+public class Demo38_SafetyWatchdog extends LinearOpMode {
+
+    private static final long TIMEOUT_MS = 250;
+    private static final long CHECK_MS = 20;
+    private static final long HANG_MS = 1000;
+
+    /**
+     * Independent thread that runs stopAction once when heartbeats stop.
+     */
+    static final class SafetyWatchdog {
+        private final AtomicLong lastBeatNanos = new AtomicLong(0);   // 0 = not armed yet
+        private final long timeoutNanos;
+        private final Runnable stopAction;
+        private volatile boolean tripped = false;
+        private volatile boolean running = true;
+        private volatile double lastGapMs = 0;
+        private volatile int trips = 0;
+        private Thread thread;
+
+        SafetyWatchdog(long timeoutMs, Runnable stopAction) {
+            this.timeoutNanos = timeoutMs * 1_000_000L;
+            this.stopAction = stopAction;
+        }
+
+        void start() {
+            thread = new Thread(() -> {
+                while (running) {
+                    long beat = lastBeatNanos.get();
+                    if (beat != 0 && !tripped) {
+                        long gap = System.nanoTime() - beat;
+                        if (gap > timeoutNanos) {
+                            tripped = true;
+                            trips++;
+                            lastGapMs = gap / 1e6;
+                            stopAction.run();
+                        }
+                    }
+                    try {
+                        Thread.sleep(CHECK_MS);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }, "SafetyWatchdog");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MAX_PRIORITY);
+            thread.start();
+        }
+
+        /**
+         * Called once per loop from the main thread - an ordered store, no lock
+         */
+        void heartbeat() {
+            lastBeatNanos.lazySet(System.nanoTime());
+        }
+
+        boolean isTripped() {
+            return tripped;
+        }
+
+        /**
+         * Clear a trip. The fresh heartbeat stops it tripping again at once.
+         */
+        void rearm() {
+            heartbeat();
+            tripped = false;
+        }
+
+        int trips() {
+            return trips;
+        }
+
+        double lastGapMs() {
+            return lastGapMs;
+        }
+
+        void stop() {
+            running = false;
+            if (thread != null) thread.interrupt();
+        }
+    }
+
+    // PID Controller class (from Demo15)
+    private class PIDController {
+        private double Kp, Ki, Kd;
+        private double integralSum = 0;
+        private double lastError = 0;
+        private ElapsedTime timer = new ElapsedTime();
+
+        public PIDController(double Kp, double Ki, double Kd) {
+            this.Kp = Kp;
+            this.Ki = Ki;
+            this.Kd = Kd;
+        }
+
+        public double update(double target, double current) {
+            double error = target - current;
+            double derivative = (error - lastError) / timer.seconds();
+            integralSum += error * timer.seconds();
+            double output = (Kp * error) + (Ki * integralSum) + (Kd * derivative);
+            lastError = error;
+            timer.reset();
+            return output;
+        }
+
+        public void resetIntegral() {
+            integralSum = 0;
+            lastError = 0;
+            timer.reset();
+        }
+    }
+
+    private DcMotor bl, br, fly, intake, climbleft, climbright, fast;
+    private DcMotorEx right;
+    private CRServo block;
+
+    // Right motor PID
+    private PIDController rightPIDController = new PIDController(0.1, 0, 0.001);
+    private int rightTargetPosition = 0;
+    private boolean rightPIDEnabled = false;
+    private ElapsedTime rightPIDTimer = new ElapsedTime();
+    private boolean rightPIDTimeout = false;
+
+    // Left wheel hold for L2 mode
+    private PIDController blPIDController = new PIDController(0.1, 0, 0.001);
+    private int blTargetPosition = 0;
+    private boolean blHoldEnabled = false;
+
+    // Speed configuration (same as Demo15)
+    double flyPowerLow = 0.8;
+    double flyPowerHigh = 1.0;
+    double intakePowerForward = 0.8;
+    double intakePowerReverse = 1.0;
+    double rightMotorPower = 0.5;
+    double climbPowerUp = 1.0;
+    double climbPowerDown = -1.0;
+    double fastPowerFull = 1.0;
+
+    double driveSpeedScale = 1.0;
+    boolean lastXState = false;
+
+    int flyState = 0;
+    boolean lastL1FlyState = false;
+
+    @Override
+    public void runOpMode() {
+        bl = hardwareMap.get(DcMotor.class, "bl");
+        br = hardwareMap.get(DcMotor.class, "br");
+        fly = hardwareMap.get(DcMotor.class, "fly");
+        intake = hardwareMap.get(DcMotor.class, "intake");
+        climbleft = hardwareMap.get(DcMotor.class, "climbleft");
+        climbright = hardwareMap.get(DcMotor.class, "climbright");
+        right = hardwareMap.get(DcMotorEx.class, "right");
+        fast = hardwareMap.get(DcMotor.class, "fast");
+        block = hardwareMap.get(CRServo.class, "block");
+
+        bl.setDirection(DcMotor.Direction.REVERSE);
+        br.setDirection(DcMotor.Direction.FORWARD);
+        fly.setDirection(DcMotor.Direction.REVERSE);
+        intake.setDirection(DcMotor.Direction.REVERSE);
+        climbleft.setDirection(DcMotor.Direction.FORWARD);
+        climbright.setDirection(DcMotor.Direction.FORWARD);
+        right.setDirection(DcMotorEx.Direction.FORWARD);
+        fast.setDirection(DcMotor.Direction.FORWARD);
+
+        right.setZeroPowerBehavior(DcMotorEx.ZeroPowerBehavior.BRAKE);
+        fast.setZeroPowerBehavior(DcMotor.ZeroPowerBehavior.BRAKE);
+
+        right.setMode(DcMotorEx.RunMode.STOP_AND_RESET_ENCODER);
+        right.setMode(DcMotorEx.RunMode.RUN_WITHOUT_ENCODER);
+
+        SafetyWatchdog watchdog = new SafetyWatchdog(TIMEOUT_MS, this::stopAllActuators);
+
+        telemetry.addData("Status", "Ready - Safety Watchdog");
+        telemetry.addData("Timeout", "%d ms without heartbeat", TIMEOUT_MS);
+        telemetry.update();
+
+        try {
+            waitForStart();
+            watchdog.start();
+
+            while (opModeIsActive()) {
+                watchdog.heartbeat();
+
+                // ═══ TRIPPED: keep everything at 0 until re-armed ═══
+                if (watchdog.isTripped()) {
+                    stopAllActuators();
+                    if (gamepad1.start && gamepad1.back) {
+                        watchdog.rearm();
+                        rightPIDEnabled = false;
+                        blHoldEnabled = false;
+                    }
+
+                    telemetry.addData("=== SAFETY WATCHDOG ===", "");
+                    telemetry.addData("State", "TRIPPED - all actuators stopped");
+                    telemetry.addData("Missed Heartbeat", "%.0f ms", watchdog.lastGapMs());
+                    telemetry.addData("Trips", watchdog.trips());
+                    telemetry.addData("", "");
+                    telemetry.addData("Controls", "GP1 Start + Back: Re-arm");
+                    telemetry.update();
+                    continue;
+                }
+
+                // Tank drive with speed toggle
+                double leftPower = -gamepad1.left_stick_y;
+                double rightPower = -gamepad1.right_stick_y;
+
+                boolean currentXState = gamepad1.x;
+                if (currentXState && !lastXState) {
+                    driveSpeedScale = (driveSpeedScale == 1.0) ? 0.5 : 1.0;
+                }
+                lastXState = currentXState;
+
+                bl.setPower(leftPower * driveSpeedScale);
+                br.setPower(rightPower * driveSpeedScale);
+
+                // L2 special mode
+                boolean l2HoldPressed = gamepad1.left_trigger > 0.5;
+                if (l2HoldPressed) {
+                    if (!blHoldEnabled) {
+                        blTargetPosition = bl.getCurrentPosition();
+                        blHoldEnabled = true;
+                        blPIDController.resetIntegral();
+                    }
+
+                    int blCurrentPosition = bl.getCurrentPosition();
+                    double blError = blTargetPosition - blCurrentPosition;
+                    double raw = blPIDController.update(blTargetPosition, blCurrentPosition);
+
+                    double blPower;
+                    if (Math.abs(blError) > 5) {
+                        blPower = Math.max(-1, Math.min(1, raw));
+                    } else if (Math.abs(blError) > 0) {
+                        blPower = blError > 0 ? 0.1 : -0.1;
+                    } else {
+                        blPower = 0;
+                    }
+
+                    bl.setPower(blPower);
+                    br.setPower(-0.7);
+                } else {
+                    blHoldEnabled = false;
+                }
+
+                // Intake
+                boolean r1Pressed = gamepad1.right_bumper;
+                boolean r2Pressed = gamepad1.right_trigger > 0.5;
+                if (r1Pressed && !r2Pressed) {
+                    intake.setPower(intakePowerForward);
+                } else if (r2Pressed && !r1Pressed) {
+                    intake.setPower(-intakePowerReverse);
+                } else {
+                    intake.setPower(0);
+                }
+
+                // Flywheel L1
+                boolean currentL1FlyState = gamepad1.left_bumper;
+                if (currentL1FlyState && !lastL1FlyState) {
+                    flyState = (flyState + 1) % 3;
+                }
+                lastL1FlyState = currentL1FlyState;
+
+                switch (flyState) {
+                    case 0: fly.setPower(0); break;
+                    case 1: fly.setPower(flyPowerLow); break;
+                    case 2: fly.setPower(flyPowerHigh); break;
+                }
+
+                // Gamepad 2 fast motor
+                if (gamepad2.a && !gamepad2.b) {
+                    fast.setPower(fastPowerFull);
+                } else if (gamepad2.b && !gamepad2.a) {
+                    fast.setPower(-fastPowerFull);
+                } else {
+                    fast.setPower(0);
+                }
+
+                // Gamepad 2 block servo
+                double blockPower = 0.0;
+                if (gamepad2.x && !gamepad2.y) {
+                    blockPower = 1.0;
+                } else if (gamepad2.y && !gamepad2.x) {
+                    blockPower = -1.0;
+                }
+                block.setPower(blockPower);
+
+                // Climb motors
+                double climbPower = 0.0;
+                if (gamepad1.dpad_up && !gamepad1.dpad_down) {
+                    climbPower = climbPowerUp;
+                } else if (gamepad1.dpad_down && !gamepad1.dpad_up) {
+                    climbPower = climbPowerDown;
+                }
+                climbleft.setPower(climbPower);
+                climbright.setPower(climbPower);
+
+                // Right motor with SMART PROTECTION (Demo15)
+                boolean dpadLeft = gamepad2.dpad_left;
+                boolean dpadRight = gamepad2.dpad_right;
+
+                if (dpadLeft && !dpadRight) {
+                    rightPIDEnabled = false;
+                    rightPIDTimeout = false;
+                    right.setPower(-rightMotorPower);
+                } else if (dpadRight && !dpadLeft) {
+                    rightPIDEnabled = false;
+                    rightPIDTimeout = false;
+                    right.setPower(rightMotorPower);
+                } else {
+                    if (!rightPIDEnabled) {
+                        rightTargetPosition = right.getCurrentPosition();
+                        rightPIDEnabled = true;
+                        rightPIDTimeout = false;
+                        rightPIDController.resetIntegral();
+                        rightPIDTimer.reset();
+                    }
+
+                    int currentPosition = right.getCurrentPosition();
+                    double error = rightTargetPosition - currentPosition;
+
+                    if (!rightPIDTimeout && rightPIDTimer.seconds() > 3.0) {
+                        rightTargetPosition = currentPosition;
+                        rightPIDTimeout = true;
+                        rightPIDController.resetIntegral();
+                        rightPIDTimer.reset();
+                    }
+
+                    double power = 0;
+
+                    if (rightPIDTimeout) {
+                        if (Math.abs(error) > 3) {
+                            rightPIDTimeout = false;
+                            rightPIDController.resetIntegral();
+                            rightPIDTimer.reset();
+                        }
+                    }
+
+                    if (!rightPIDTimeout) {
+                        power = rightPIDController.update(rightTargetPosition, currentPosition);
+
+                        if (Math.abs(error) > 5) {
+                            power = Math.max(-1, Math.min(1, power));
+                        } else if (Math.abs(error) > 0) {
+                            power = error > 0 ? 0.1 : -0.1;
+                        } else {
+                            power = 0;
+                        }
+                    }
+
+                    right.setPower(power);
+                }
+
+                // Test: a hung loop
+                if (gamepad1.left_stick_button) {
+                    sleep(HANG_MS);
+                }
+
+                // A trip during this loop must win over the powers set above
+                if (watchdog.isTripped()) {
+                    stopAllActuators();
+                    continue;
+                }
+
+                telemetry.addData("=== SAFETY WATCHDOG ===", "");
+                telemetry.addData("State", "ARMED");
+                telemetry.addData("Trips", watchdog.trips());
+                telemetry.addData("", "");
+                telemetry.addData("Speed", (int)(driveSpeedScale * 100) + "%");
+                telemetry.addData("Fly", flyState == 0 ? "OFF" : (flyState == 1 ? "80%" : "100%"));
+                telemetry.addData("Right PID", rightPIDEnabled ? (rightPIDTimeout ? "TIMEOUT" : "HOLD") : "Manual");
+                telemetry.addData("", "");
+                telemetry.addData("Controls", "Same as Demo15 | GP1 Left Stick Btn: Simulate hang");
+                telemetry.update();
+            }
+        } finally {
+            // A crashed loop must not leave the watchdog thread running
+            watchdog.stop();
+        }
+    }
+
+    /**
+     * Zero every actuator. Safe to call from the watchdog thread.
+     */
+    private void stopAllActuators() {
+        bl.setPower(0);
+        br.setPower(0);
+        fly.setPower(0);
+        intake.setPower(0);
+        climbleft.setPower(0);
+        climbright.setPower(0);
+        right.setPower(0);
+        fast.setPower(0);
+        block.setPower(0);
+    }
+}
@@ -0,0 +1,340 @@
+/**
+ * ------------------------------------------------------------
+ *  FGC Team Australia 2025  |  FIRST Global Challenge
+ * ------------------------------------------------------------
+ *  Project: FGC101 - Java Demo Series
+ *  File:    Demo39_GcMonitor.java
+ *
+ *  Description:
+ *  This demo is part of the FGC101 video series created by
+ *  FGC Team Australia 2025. Our goal is to help rookie teams
+ *  understand programming logic and competition strategy
+ *  through short, simple examples.
+ *
+ *  Playlist: https://www.youtube.com/playlist?list=PL-29lId0PJrVEo0yJyprGheyRtR-ReDET
+ *  Author:   Muyao Zhang (from FGC Team Australia)
+ *  Date:     October 2025
+ *
+ *  Notes:
+ *  - We currently provide around 15 demo programs.
+ *  - These Java demos are not continuously updated.
+ *  - For detailed explanations, please refer to the FGC101 videos.
+ *
+ *  © FGC Team Australia 2025 | Educational Use Only
+ * ------------------------------------------------------------
+ */
+
+package org.firstinspires.ftc.teamcode;
+
+import android.os.Debug;
+
+import com.qualcomm.robotcore.eventloop.opmode.TeleOp;
+import com.qualcomm.robotcore.eventloop.opmode.LinearOpMode;
+import com.qualcomm.robotcore.hardware.DcMotor;
+import com.qualcomm.robotcore.util.ElapsedTime;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * Demo 39: Allocation Rate and GC Pause Monitor
+ *
+ * Knowledge Point: Garbage collection can cause stutters
+ *
+ * Every "new" object (a String from String.format, a new int[] from
+ * calculateMorePoints() in Demo19, a boxed Integer for telemetry...)
+ * is garbage a moment later. When enough piles up, Android's runtime
+ * (ART) runs the garbage collector - and a loop can stall.
+ *
+ * This monitor answers three questions:
+ * 1. How many BYTES does one loop allocate?
+ *    → art.gc.bytes-allocated, sampled once per second
+ * 2. How often does GC run and for how long?
+ *    → art.gc.gc-count, art.gc.gc-time, art.gc.blocking-gc-time
+ * 3. Did a GC cause THIS slow loop?
+ *    → a WeakReference "sentinel": the GC clears it, so checking
+ *      sentinel.get() == null every loop tells us a GC just ran.
+ *      If that loop was also an overrun → WARNING
+ *
+ * The per-loop check allocates nothing. The once-per-second sample
+ * reads the runtime stats as Strings, so it allocates a little itself.
+ *
+ * To compare, the demo runs the Demo19 score display in two versions:
+ * - DEMO19 STYLE: String.format, new int[], boxed values every loop
+ * - LOW ALLOCATION: cached strings, reused array, telemetry at 10 Hz
+ *
+ * Hardware Required: bl, br (tank drive)
+ *
+ * Controls:
+ * GAMEPAD 1: Sticks: Tank drive | Y: Switch display version | B (hold): Allocate 1 MB per loop
+ * GAMEPAD 2: A/B/X: Score (as in Demo19)
+ *
+ * How to Demonstrate:
+ * 1. Watch "Alloc/Loop" with the DEMO19 STYLE display
+ * 2. Press Y - bytes per loop and GC count drop
+ * 3. Hold B - GCs happen every second; look for the GC + overrun warning
+ */
+@TeleOp(name="Demo39: GC Monitor", group="Demo")
+public class Demo39_GcMonitor extends LinearOpMode {
+
+    private static final double OVERRUN_MS = 40.0;
+
+    /**
+     * Samples ART runtime stats once per second and detects GCs per loop
+     */
+    static final class GcMonitor {
+        private static final int RECENT = 3;
+
+        private final boolean available;
+        private long lastSampleNanos;
+        private long lastBytes, lastGcCount, lastGcTimeMs, lastBlockingMs;
+        private long loopsInWindow = 0;
+
+        // Results of the last 1 s window
+        double bytesPerLoop = 0;
+        double allocKBPerSecond = 0;
+        long gcCount = 0;
+
+        // Recent windows that contained a GC
+        private final double[] recentTime = new double[RECENT];
+        private final long[] recentCount = new long[RECENT];
+        private final long[] recentGcMs = new long[RECENT];
+        private final long[] recentBlockingMs = new long[RECENT];
+        private int recentNext = 0, recentSize = 0;
+
+        // Per-loop GC detection
+        private WeakReference<Object> sentinel = new WeakReference<>(new Object());
+        int gcLoops = 0;
+        int overrunsWithGc = 0;
+        int overrunsWithoutGc = 0;
+        double lastWarningTime = -1;
+        double lastWarningPeriodMs = 0;
+
+        GcMonitor() {
+            available = stat("art.gc.gc-count") >= 0;
+            lastSampleNanos = System.nanoTime();
+            lastBytes = stat("art.gc.bytes-allocated");
+            lastGcCount = stat("art.gc.gc-count");
+            lastGcTimeMs = stat("art.gc.gc-time");
+            lastBlockingMs = stat("art.gc.blocking-gc-time");
+        }
+
+        /**
+         * Once per loop: detect a GC, check it against the loop period.
+         * Allocates only right after a GC (the new sentinel).
+         */
+        void onLoop(double periodMs, double timeSeconds) {
+            loopsInWindow++;
+            boolean gcRan = sentinel.get() == null;
+            if (gcRan) {
+                gcLoops++;
+                sentinel = new WeakReference<>(new Object());
+            }
+            if (periodMs > OVERRUN_MS) {
+                if (gcRan) {
+                    overrunsWithGc++;
+                    lastWarningTime = timeSeconds;
+                    lastWarningPeriodMs = periodMs;
+                } else {
+                    overrunsWithoutGc++;
+                }
+            }
+
+            long now = System.nanoTime();
+            if (now - lastSampleNanos >= 1_000_000_000L) {
+                sample(now, timeSeconds);
+            }
+        }
+
+        private void sample(long now, double timeSeconds) {
+            double seconds = (now - lastSampleNanos) / 1e9;
+            lastSampleNanos = now;
+            if (!available) {
+                loopsInWindow = 0;
+                return;
+            }
+
+            long bytes = stat("art.gc.bytes-allocated");
+            long count = stat("art.gc.gc-count");
+            long gcTime = stat("art.gc.gc-time");
+            long blocking = stat("art.gc.blocking-gc-time");
+
+            bytesPerLoop = loopsInWindow > 0 ? (double) (bytes - lastBytes) / loopsInWindow : 0;
+            allocKBPerSecond = (bytes - lastBytes) / 1024.0 / seconds;
+            gcCount = count;
+
+            if (count > lastGcCount) {
+                recentTime[recentNext] = timeSeconds;
+                recentCount[recentNext] = count - lastGcCount;
+                recentGcMs[recentNext] = gcTime - lastGcTimeMs;
+                recentBlockingMs[recentNext] = blocking - lastBlockingMs;
+                recentNext = (recentNext + 1) % RECENT;
+                if (recentSize < RECENT) recentSize++;
+            }
+
+            lastBytes = bytes;
+            lastGcCount = count;
+            lastGcTimeMs = gcTime;
+            lastBlockingMs = blocking;
+            loopsInWindow = 0;
+        }
+
+        boolean isAvailable() {
+            return available;
+        }
+
+        int recentSize() {
+            return recentSize;
+        }
+
+        /**
+         * @param age 0 = newest
+         */
+        String recent(int age) {
+            int i = (recentNext - 1 - age + RECENT) % RECENT;
+            return String.format("t=%.0fs  %d GC  %d ms (blocking %d ms)",
+                    recentTime[i], recentCount[i], recentGcMs[i], recentBlockingMs[i]);
+        }
+
+        /**
+         * A runtime stat as a number, -1 if this runtime doesn't have it
+         */
+        private static long stat(String name) {
+            try {
+                String value = Debug.getRuntimeStat(name);
+                return value == null ? -1 : Long.parseLong(value);
+            } catch (RuntimeException e) {
+                return -1;
+            }
+        }
+    }
+
+    private DcMotor bl, br;
+
+    // Demo19 score state
+    private int basketA = 0, basketB = 0, basketC = 0;
+    private boolean lastA2 = false, lastB2 = false, lastX2 = false;
+    private ElapsedTime gameTimer = new ElapsedTime();
+
+    // Low-allocation display state
+    private final int[] morePoints = new int[3];
+    private int cachedSecond = -1;
+    private String cachedTimer = "0:00";
+    private ElapsedTime telemetryTimer = new ElapsedTime();
+
+    private boolean demo19Style = true;
+    private boolean lastY1 = false;
+    private Object allocationSink;
+
+    @Override
+    public void runOpMode() {
+        bl = hardwareMap.get(DcMotor.class, "bl");
+        br = hardwareMap.get(DcMotor.class, "br");
+        bl.setDirection(DcMotor.Direction.REVERSE);
+        br.setDirection(DcMotor.Direction.FORWARD);
+
+        GcMonitor monitor = new GcMonitor();
+
+        telemetry.addData("Status", "Ready - GC Monitor");
+        telemetry.addData("Runtime Stats", monitor.isAvailable() ? "available" : "NOT available on this runtime");
+        telemetry.update();
+
+        waitForStart();
+        gameTimer.reset();
+        ElapsedTime runtime = new ElapsedTime();
+        long lastLoopNanos = System.nanoTime();
+
+        while (opModeIsActive()) {
+            long now = System.nanoTime();
+            double periodMs = (now - lastLoopNanos) / 1e6;
+            lastLoopNanos = now;
+            monitor.onLoop(periodMs, runtime.seconds());
+
+            // Drive
+            bl.setPower(-gamepad1.left_stick_y);
+            br.setPower(-gamepad1.right_stick_y);
+
+            // Switch display version
+            boolean y1 = gamepad1.y;
+            if (y1 && !lastY1) demo19Style = !demo19Style;
+            lastY1 = y1;
+
+            // Stress test: lots of garbage
+            if (gamepad1.b) allocationSink = new byte[1024 * 1024];
+
+            // Demo19 scoring
+            if (gamepad2.a && !lastA2) basketA++;
+            if (gamepad2.b && !lastB2) basketB++;
+            if (gamepad2.x && !lastX2) basketC++;
+            lastA2 = gamepad2.a;
+            lastB2 = gamepad2.b;
+            lastX2 = gamepad2.x;
+
+            if (demo19Style) {
+                displayDemo19Style(monitor, periodMs);
+            } else if (telemetryTimer.milliseconds() >= 100) {
+                telemetryTimer.reset();
+                displayLowAllocation(monitor, periodMs);
+            }
+        }
+    }
+
+    /**
+     * Demo19's way: new String and new int[] every loop
+     */
+    private void displayDemo19Style(GcMonitor monitor, double periodMs) {
+        int totalSeconds = (int) gameTimer.seconds();
+        String timerDisplay = String.format("%d:%02d", totalSeconds / 60, totalSeconds % 60);
+        int maxScore = Math.max(Math.max(basketA, basketB), basketC);
+        int[] more = new int[] {maxScore - basketA, maxScore - basketB, maxScore - basketC};
+
+        telemetry.addData("Timer", timerDisplay);
+        telemetry.addData("Scores", "A:%d B:%d C:%d  (more %d/%d/%d)",
+                basketA, basketB, basketC, more[0], more[1], more[2]);
+        showMonitor(monitor, periodMs, "DEMO19 STYLE");
+    }
+
+    /**
+     * Same information: cached timer string, reused array, 10 Hz updates
+     */
+    private void displayLowAllocation(GcMonitor monitor, double periodMs) {
+        int totalSeconds = (int) gameTimer.seconds();
+        if (totalSeconds != cachedSecond) {
+            cachedSecond = totalSeconds;
+            cachedTimer = (totalSeconds / 60) + ":" + (totalSeconds % 60 < 10 ? "0" : "") + (totalSeconds % 60);
+        }
+        int maxScore = Math.max(Math.max(basketA, basketB), basketC);
+        morePoints[0] = maxScore - basketA;
+        morePoints[1] = maxScore - basketB;
+        morePoints[2] = maxScore - basketC;
+
+        telemetry.addData("Timer", cachedTimer);
+        telemetry.addData("Scores", "A:%d B:%d C:%d  (more %d/%d/%d)",
+                basketA, basketB, basketC, morePoints[0], morePoints[1], morePoints[2]);
+        showMonitor(monitor, periodMs, "LOW ALLOCATION");
+    }
+
+    private void showMonitor(GcMonitor monitor, double periodMs, String version) {
+        telemetry.addData("=== GC MONITOR ===", "");
+        telemetry.addData("Display", version);
+        telemetry.addData("Loop", "%.1f ms", periodMs);
+        if (monitor.isAvailable()) {
+            telemetry.addData("Alloc/Loop", "%.0f bytes", monitor.bytesPerLoop);
+            telemetry.addData("Alloc Rate", "%.0f KB/s", monitor.allocKBPerSecond);
+            telemetry.addData("GC Count", monitor.gcCount);
+        } else {
+            telemetry.addData("Runtime Stats", "not available");
+        }
+        telemetry.addData("GC Loops", monitor.gcLoops);
+        for (int i = 0; i < monitor.recentSize(); i++) {
+            telemetry.addData("Recent GC", monitor.recent(i));
+        }
+        telemetry.addData("Overruns", "%d with GC, %d without", monitor.overrunsWithGc, monitor.overrunsWithoutGc);
+        if (monitor.lastWarningTime >= 0) {
+            telemetry.addData("⚠ WARNING", "GC during a %.0f ms loop at t=%.0fs",
+                    monitor.lastWarningPeriodMs, monitor.lastWarningTime);
+        }
+        telemetry.addData("", "");
+        telemetry.addData("Controls", "GP1 Y: Switch display | B: Allocate | GP2 A/B/X: Score");
+        telemetry.update();
+    }
+}
@@ -0,0 +1,455 @@
+/**
+ * ------------------------------------------------------------
+ *  FGC Team Australia 2025  |  FIRST Global Challenge
+ * ------------------------------------------------------------
+ *  Project: FGC101 - Java Demo Series
+ *  File:    Demo40_BenchMetrics.java
+ *
+ *  Description:
+ *  This demo is part of the FGC101 video series created by
+ *  FGC Team Australia 2025. Our goal is to help rookie teams
+ *  understand programming logic and competition strategy
+ *  through short, simple examples.
+ *
+ *  Playlist: https://www.youtube.com/playlist?list=PL-29lId0PJrVEo0yJyprGheyRtR-ReDET
+ *  Author:   Muyao Zhang (from FGC Team Australia)
+ *  Date:     October 2025
+ *
+ *  Notes:
+ *  - We currently provide around 15 demo programs.
+ *  - These Java demos are not continuously updated.
+ *  - For detailed explanations, please refer to the FGC101 videos.
+ *
+ *  © FGC Team Australia 2025 | Educational Use Only
+ * ------------------------------------------------------------
+ */
+
+package org.firstinspires.ftc.teamcode;
+
+import com.qualcomm.robotcore.eventloop.opmode.TeleOp;
+import com.qualcomm.robotcore.eventloop.opmode.LinearOpMode;
+import com.qualcomm.robotcore.hardware.DcMotor;
+import com.qualcomm.robotcore.hardware.DcMotorEx;
+import com.qualcomm.robotcore.hardware.CRServo;
+import com.qualcomm.robotcore.util.ElapsedTime;
+
+import org.firstinspires.ftc.robotcore.external.navigation.CurrentUnit;
+import org.firstinspires.ftc.robotcore.internal.system.AppUtil;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Demo 40 (part 2 of 2): Bench Soak Test with Metrics
+ *
+ * Knowledge Point: Long-running tests need numbers you can graph
+ *
+ * This is Demo15 plus a Demo40_MetricsRegistry and the Demo38 safety
+ * watchdog. While it runs for hours on the bench, Prometheus (or just
+ * a browser) can read http://192.168.43.1:9464/metrics and a snapshot
+ * is appended to /sdcard/FIRST/metrics.prom every minute.
+ *
+ * Metrics:
+ * - fgc_loops_total, fgc_loop_overruns_total, fgc_loop_rate_hz
+ * - fgc_loop_time_ms (histogram)
+ * - fgc_motor_current_amps{motor="..."} for every motor
+ *   (read every CURRENT_EVERY_LOOPS loops - current reads are slow)
+ * - fgc_pid_error_ticks and fgc_pid_abs_error_ticks (histogram)
+ * - fgc_watchdog_trips_total
+ *
+ * Every update in the loop is one single-writer volatile write
+ * (counter, gauge, histogram sum) or lazySet (histogram bucket) - no
+ * locks, no allocation. The HTTP and snapshot threads do all the
+ * formatting.
+ *
+ * Hardware Required: ALL motors and servos (same as Demo15)
+ *
+ * Controls: same as Demo15
+ *
+ * How to Demonstrate:
+ * 1. Start the OpMode, open http://192.168.43.1:9464/metrics
+ * 2. Refresh while driving - loops and currents change
+ * 3. Point a Prometheus server at it for a soak test
+ */
+@TeleOp(name="Demo40: Bench Metrics", group="Demo")
+public class Demo40_BenchMetrics extends LinearOpMode {
+
+    private static final double OVERRUN_MS = 40.0;
+    private static final int CURRENT_EVERY_LOOPS = 10;
+    private static final double SNAPSHOT_SECONDS = 60;
+    private static final long WATCHDOG_TIMEOUT_MS = 250;
+
+    // PID Controller class (from Demo15)
+    private class PIDController {
+        private double Kp, Ki, Kd;
+        private double integralSum = 0;
+        private double lastError = 0;
+        private ElapsedTime timer = new ElapsedTime();
+
+        public PIDController(double Kp, double Ki, double Kd) {
+            this.Kp = Kp;
+            this.Ki = Ki;
+            this.Kd = Kd;
+        }
+
+        public double update(double target, double current) {
+            double error = target - current;
+            double derivative = (error - lastError) / timer.seconds();
+            integralSum += error * timer.seconds();
+            double output = (Kp * error) + (Ki * integralSum) + (Kd * derivative);
+            lastError = error;
+            timer.reset();
+            return output;
+        }
+
+        public void resetIntegral() {
+            integralSum = 0;
+            lastError = 0;
+            timer.reset();
+        }
+    }
+
+    private DcMotorEx bl, br, fly, intake, climbleft, climbright, fast, right;
+    private CRServo block;
+
+    // Right motor PID
+    private PIDController rightPIDController = new PIDController(0.1, 0, 0.001);
+    private int rightTargetPosition = 0;
+    private boolean rightPIDEnabled = false;
+    private ElapsedTime rightPIDTimer = new ElapsedTime();
+    private boolean rightPIDTimeout = false;
+    private double lastRightError = 0;
+
+    // Left wheel hold for L2 mode
+    private PIDController blPIDController = new PIDController(0.1, 0, 0.001);
+    private int blTargetPosition = 0;
+    private boolean blHoldEnabled = false;
+
+    // Speed configuration (same as Demo15)
+    double flyPowerLow = 0.8;
+    double flyPowerHigh = 1.0;
+    double intakePowerForward = 0.8;
+    double intakePowerReverse = 1.0;
+    double rightMotorPower = 0.5;
+    double climbPowerUp = 1.0;
+    double climbPowerDown = -1.0;
+    double fastPowerFull = 1.0;
+
+    double driveSpeedScale = 1.0;
+    boolean lastXState = false;
+
+    int flyState = 0;
+    boolean lastL1FlyState = false;
+
+    @Override
+    public void runOpMode() {
+        bl = hardwareMap.get(DcMotorEx.class, "bl");
+        br = hardwareMap.get(DcMotorEx.class, "br");
+        fly = hardwareMap.get(DcMotorEx.class, "fly");
+        intake = hardwareMap.get(DcMotorEx.class, "intake");
+        climbleft = hardwareMap.get(DcMotorEx.class, "climbleft");
+        climbright = hardwareMap.get(DcMotorEx.class, "climbright");
+        right = hardwareMap.get(DcMotorEx.class, "right");
+        fast = hardwareMap.get(DcMotorEx.class, "fast");
+        block = hardwareMap.get(CRServo.class, "block");
+
+        bl.setDirection(DcMotor.Direction.REVERSE);
+        br.setDirection(DcMotor.Direction.FORWARD);
+        fly.setDirection(DcMotor.Direction.REVERSE);
+        intake.setDirection(DcMotor.Direction.REVERSE);
+        climbleft.setDirection(DcMotor.Direction.FORWARD);
+        climbright.setDirection(DcMotor.Direction.FORWARD);
+        right.setDirection(DcMotorEx.Direction.FORWARD);
+        fast.setDirection(DcMotor.Direction.FORWARD);
+
+        right.setZeroPowerBehavior(DcMotorEx.ZeroPowerBehavior.BRAKE);
+        fast.setZeroPowerBehavior(DcMotor.ZeroPowerBehavior.BRAKE);
+
+        right.setMode(DcMotorEx.RunMode.STOP_AND_RESET_ENCODER);
+        right.setMode(DcMotorEx.RunMode.RUN_WITHOUT_ENCODER);
+
+        // ═══ Register every metric during INIT ═══
+        Demo40_MetricsRegistry registry = new Demo40_MetricsRegistry();
+        Demo40_MetricsRegistry.Counter loops =
+                registry.counter("fgc_loops_total", "Control loop iterations", "");
+        Demo40_MetricsRegistry.Counter overruns =
+                registry.counter("fgc_loop_overruns_total", "Loops slower than " + OVERRUN_MS + " ms", "");
+        Demo40_MetricsRegistry.Counter trips =
+                registry.counter("fgc_watchdog_trips_total", "Safety watchdog trips", "");
+        Demo40_MetricsRegistry.Gauge loopRate =
+                registry.gauge("fgc_loop_rate_hz", "Loops per second over the last second", "");
+        Demo40_MetricsRegistry.Histogram loopTime = registry.histogram("fgc_loop_time_ms",
+                "Loop period", "", 5, 10, 15, 20, 30, 40, 60, 100);
+        Demo40_MetricsRegistry.Gauge pidError =
+                registry.gauge("fgc_pid_error_ticks", "Right motor PID error", "motor=\"right\"");
+        Demo40_MetricsRegistry.Histogram pidAbsError = registry.histogram("fgc_pid_abs_error_ticks",
+                "Right motor |PID error| while holding", "motor=\"right\"", 2, 5, 10, 25, 50, 100, 250);
+
+        DcMotorEx[] motors = {bl, br, fly, intake, climbleft, climbright, fast, right};
+        String[] motorNames = {"bl", "br", "fly", "intake", "climbleft", "climbright", "fast", "right"};
+        Demo40_MetricsRegistry.Gauge[] currents = new Demo40_MetricsRegistry.Gauge[motors.length];
+        for (int i = 0; i < motors.length; i++) {
+            currents[i] = registry.gauge("fgc_motor_current_amps", "Motor current",
+                    "motor=\"" + motorNames[i] + "\"");
+        }
+
+        String exportStatus;
+        try {
+            registry.startHttp("0.0.0.0", Demo40_MetricsRegistry.PORT);
+            exportStatus = "http://192.168.43.1:" + Demo40_MetricsRegistry.PORT + "/metrics";
+        } catch (IOException e) {
+            exportStatus = "HTTP failed: " + e.getMessage();
+        }
+        registry.startSnapshots(new File(AppUtil.FIRST_FOLDER, "metrics.prom"), SNAPSHOT_SECONDS);
+
+        Demo38_SafetyWatchdog.SafetyWatchdog watchdog =
+                new Demo38_SafetyWatchdog.SafetyWatchdog(WATCHDOG_TIMEOUT_MS, this::stopAllActuators);
+
+        try {
+            telemetry.addData("Status", "Ready - Bench Metrics");
+            telemetry.addData("Metrics", exportStatus);
+            telemetry.update();
+
+            waitForStart();
+            watchdog.start();
+
+            long lastLoopNanos = System.nanoTime();
+            long secondStart = lastLoopNanos;
+            long loopsThisSecond = 0;
+            long loopNumber = 0;
+            int reportedTrips = 0;
+
+            while (opModeIsActive()) {
+                watchdog.heartbeat();
+
+                // ═══ METRICS: loop timing ═══
+                long now = System.nanoTime();
+                double periodMs = (now - lastLoopNanos) / 1e6;
+                lastLoopNanos = now;
+                loopNumber++;
+                loops.inc();
+                if (loopNumber > 1) {
+                    loopTime.observe(periodMs);
+                    if (periodMs > OVERRUN_MS) overruns.inc();
+                }
+                loopsThisSecond++;
+                if (now - secondStart >= 1_000_000_000L) {
+                    loopRate.set(loopsThisSecond * 1e9 / (now - secondStart));
+                    loopsThisSecond = 0;
+                    secondStart = now;
+                }
+
+                if (watchdog.trips() > reportedTrips) {
+                    trips.add(watchdog.trips() - reportedTrips);
+                    reportedTrips = watchdog.trips();
+                }
+                if (watchdog.isTripped()) {
+                    stopAllActuators();
+                    if (gamepad1.start && gamepad1.back) {
+                        watchdog.rearm();
+                        rightPIDEnabled = false;
+                        blHoldEnabled = false;
+                    }
+                    telemetry.addData("=== BENCH METRICS ===", "");
+                    telemetry.addData("State", "WATCHDOG TRIPPED");
+                    telemetry.addData("Controls", "GP1 Start + Back: Re-arm");
+                    telemetry.update();
+                    continue;
+                }
+
+                // Tank drive with speed toggle
+                double leftPower = -gamepad1.left_stick_y;
+                double rightPower = -gamepad1.right_stick_y;
+
+                boolean currentXState = gamepad1.x;
+                if (currentXState && !lastXState) {
+                    driveSpeedScale = (driveSpeedScale == 1.0) ? 0.5 : 1.0;
+                }
+                lastXState = currentXState;
+
+                bl.setPower(leftPower * driveSpeedScale);
+                br.setPower(rightPower * driveSpeedScale);
+
+                // L2 special mode
+                boolean l2HoldPressed = gamepad1.left_trigger > 0.5;
+                if (l2HoldPressed) {
+                    if (!blHoldEnabled) {
+                        blTargetPosition = bl.getCurrentPosition();
+                        blHoldEnabled = true;
+                        blPIDController.resetIntegral();
+                    }
+
+                    int blCurrentPosition = bl.getCurrentPosition();
+                    double blError = blTargetPosition - blCurrentPosition;
+                    double raw = blPIDController.update(blTargetPosition, blCurrentPosition);
+
+                    double blPower;
+                    if (Math.abs(blError) > 5) {
+                        blPower = Math.max(-1, Math.min(1, raw));
+                    } else if (Math.abs(blError) > 0) {
+                        blPower = blError > 0 ? 0.1 : -0.1;
+                    } else {
+                        blPower = 0;
+                    }
+
+                    bl.setPower(blPower);
+                    br.setPower(-0.7);
+                } else {
+                    blHoldEnabled = false;
+                }
+
+                // Intake
+                boolean r1Pressed = gamepad1.right_bumper;
+                boolean r2Pressed = gamepad1.right_trigger > 0.5;
+                if (r1Pressed && !r2Pressed) {
+                    intake.setPower(intakePowerForward);
+                } else if (r2Pressed && !r1Pressed) {
+                    intake.setPower(-intakePowerReverse);
+                } else {
+                    intake.setPower(0);
+                }
+
+                // Flywheel L1
+                boolean currentL1FlyState = gamepad1.left_bumper;
+                if (currentL1FlyState && !lastL1FlyState) {
+                    flyState = (flyState + 1) % 3;
+                }
+                lastL1FlyState = currentL1FlyState;
+
+                switch (flyState) {
+                    case 0: fly.setPower(0); break;
+                    case 1: fly.setPower(flyPowerLow); break;
+                    case 2: fly.setPower(flyPowerHigh); break;
+                }
+
+                // Gamepad 2 fast motor
+                if (gamepad2.a && !gamepad2.b) {
+                    fast.setPower(fastPowerFull);
+                } else if (gamepad2.b && !gamepad2.a) {
+                    fast.setPower(-fastPowerFull);
+                } else {
+                    fast.setPower(0);
+                }
+
+                // Gamepad 2 block servo
+                double blockPower = 0.0;
+                if (gamepad2.x && !gamepad2.y) {
+                    blockPower = 1.0;
+                } else if (gamepad2.y && !gamepad2.x) {
+                    blockPower = -1.0;
+                }
+                block.setPower(blockPower);
+
+                // Climb motors
+                double climbPower = 0.0;
+                if (gamepad1.dpad_up && !gamepad1.dpad_down) {
+                    climbPower = climbPowerUp;
+                } else if (gamepad1.dpad_down && !gamepad1.dpad_up) {
+                    climbPower = climbPowerDown;
+                }
+                climbleft.setPower(climbPower);
+                climbright.setPower(climbPower);
+
+                // Right motor with SMART PROTECTION (Demo15)
+                boolean dpadLeft = gamepad2.dpad_left;
+                boolean dpadRight = gamepad2.dpad_right;
+
+                if (dpadLeft && !dpadRight) {
+                    rightPIDEnabled = false;
+                    rightPIDTimeout = false;
+                    right.setPower(-rightMotorPower);
+                } else if (dpadRight && !dpadLeft) {
+                    rightPIDEnabled = false;
+                    rightPIDTimeout = false;
+                    right.setPower(rightMotorPower);
+                } else {
+                    if (!rightPIDEnabled) {
+                        rightTargetPosition = right.getCurrentPosition();
+                        rightPIDEnabled = true;
+                        rightPIDTimeout = false;
+                        rightPIDController.resetIntegral();
+                        rightPIDTimer.reset();
+                    }
+
+                    int currentPosition = right.getCurrentPosition();
+                    double error = rightTargetPosition - currentPosition;
+                    lastRightError = error;
+
+                    if (!rightPIDTimeout && rightPIDTimer.seconds() > 3.0) {
+                        rightTargetPosition = currentPosition;
+                        rightPIDTimeout = true;
+                        rightPIDController.resetIntegral();
+                        rightPIDTimer.reset();
+                    }
+
+                    double power = 0;
+
+                    if (rightPIDTimeout) {
+                        if (Math.abs(error) > 3) {
+                            rightPIDTimeout = false;
+                            rightPIDController.resetIntegral();
+                            rightPIDTimer.reset();
+                        }
+                    }
+
+                    if (!rightPIDTimeout) {
+                        power = rightPIDController.update(rightTargetPosition, currentPosition);
+
+                        if (Math.abs(error) > 5) {
+                            power = Math.max(-1, Math.min(1, power));
+                        } else if (Math.abs(error) > 0) {
+                            power = error > 0 ? 0.1 : -0.1;
+                        } else {
+                            power = 0;
+                        }
+                    }
+
+                    right.setPower(power);
+                }
+
+                // ═══ METRICS: PID error and motor currents ═══
+                if (rightPIDEnabled && !rightPIDTimeout) {
+                    pidError.set(lastRightError);
+                    pidAbsError.observe(Math.abs(lastRightError));
+                } else {
+                    pidError.set(0);
+                }
+                if (loopNumber % CURRENT_EVERY_LOOPS == 0) {
+                    for (int i = 0; i < motors.length; i++) {
+                        currents[i].set(motors[i].getCurrent(CurrentUnit.AMPS));
+                    }
+                }
+
+                telemetry.addData("=== BENCH METRICS ===", "");
+                telemetry.addData("Metrics", exportStatus);
+                telemetry.addData("Loop", "%.1f ms", periodMs);
+                telemetry.addData("", "");
+                telemetry.addData("Speed", (int)(driveSpeedScale * 100) + "%");
+                telemetry.addData("Fly", flyState == 0 ? "OFF" : (flyState == 1 ? "80%" : "100%"));
+                telemetry.addData("Right PID", rightPIDEnabled ? (rightPIDTimeout ? "TIMEOUT" : "HOLD") : "Manual");
+                telemetry.addData("", "");
+                telemetry.addData("Controls", "Same as Demo15");
+                telemetry.update();
+            }
+        } finally {
+            // Even after a crash: no watchdog or HTTP thread may outlive the OpMode
+            watchdog.stop();
+            registry.stop();
+        }
+    }
+
+    /**
+     * Zero every actuator. Called by the watchdog thread on a trip.
+     */
+    private void stopAllActuators() {
+        bl.setPower(0);
+        br.setPower(0);
+        fly.setPower(0);
+        intake.setPower(0);
+        climbleft.setPower(0);
+        climbright.setPower(0);
+        right.setPower(0);
+        fast.setPower(0);
+        block.setPower(0);
+    }
+}
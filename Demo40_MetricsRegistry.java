@@ -0,0 +1,402 @@
+/**
+ * ------------------------------------------------------------
+ *  FGC Team Australia 2025  |  FIRST Global Challenge
+ * ------------------------------------------------------------
+ *  Project: FGC101 - Java Demo Series
+ *  File:    Demo40_MetricsRegistry.java
+ *
+ *  Description:
+ *  This demo is part of the FGC101 video series created by
+ *  FGC Team Australia 2025. Our goal is to help rookie teams
+ *  understand programming logic and competition strategy
+ *  through short, simple examples.
+ *
+ *  Playlist: https://www.youtube.com/playlist?list=PL-29lId0PJrVEo0yJyprGheyRtR-ReDET
+ *  Author:   Muyao Zhang (from FGC Team Australia)
+ *  Date:     October 2025
+ *
+ *  Notes:
+ *  - We currently provide around 15 demo programs.
+ *  - These Java demos are not continuously updated.
+ *  - For detailed explanations, please refer to the FGC101 videos.
+ *
+ *  © FGC Team Australia 2025 | Educational Use Only
+ * ------------------------------------------------------------
+ */
+
+package org.firstinspires.ftc.teamcode;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Demo 40 (part 1 of 2): Metrics Registry with Prometheus Export
+ *
+ * Knowledge Point: Watching a robot for HOURS, not seconds
+ *
+ * For a long soak test we want numbers over time: loop rate, motor
+ * current, PID error, watchdog trips. Prometheus (a free monitoring
+ * tool) can collect them if we serve plain text like:
+ *
+ *   # TYPE fgc_loops_total counter
+ *   fgc_loops_total 123456
+ *   fgc_motor_current_amps{motor="right"} 1.25
+ *
+ * Three kinds of metric:
+ * - Counter:   only goes up (loops, overruns, trips)
+ * - Gauge:     any value right now (current, error)
+ * - Histogram: how values are spread (loop time, |error|),
+ *              fixed buckets, cumulative counts
+ *
+ * The control loop is the ONLY writer of every metric, so it needs no
+ * locks or compare-and-set: it reads the old value and publishes the
+ * new one with a volatile write (lazySet for histogram buckets). The
+ * exporter thread reads without locks. Volatile matters here: a plain
+ * long or double may be written in two 32-bit halves on a 32-bit CPU,
+ * and without it the reader thread is not guaranteed to ever see the
+ * update. Each value in a scrape is whole and at most one loop old, but
+ * different metrics - or a histogram's sum and buckets - may come from
+ * neighbouring loops, which is fine for monitoring.
+ *
+ * Export options:
+ * - HTTP: GET /metrics on port 9464
+ * - File: a timestamped snapshot appended every N seconds
+ *
+ * Soak test on a laptop (simulated right motor, Demo27 motor model):
+ *
+ *   javac -d out Demo27_PIDGainSweep.java Demo40_MetricsRegistry.java
+ *   java -cp out org.firstinspires.ftc.teamcode.Demo40_MetricsRegistry [--fast] [--snapshot FILE]
+ *   curl http://localhost:9464/metrics
+ *
+ * --fast runs the simulation as fast as possible instead of real time.
+ */
+public class Demo40_MetricsRegistry {
+
+    public static final int PORT = 9464;
+    private static final int MAX_METRICS = 64;
+    private static final int READ_TIMEOUT_MS = 2000;   // a silent client can't block later scrapes
+
+    /**
+     * Common part: name, help text, optional labels like motor="bl"
+     */
+    abstract static class Metric {
+        final String name, help, labels;
+
+        Metric(String name, String help, String labels) {
+            this.name = name;
+            this.help = help;
+            this.labels = labels;
+        }
+
+        abstract String type();
+
+        abstract void write(StringBuilder out);
+
+        String series(String suffix, String extraLabel) {
+            String all = labels.isEmpty() ? extraLabel
+                    : (extraLabel.isEmpty() ? labels : labels + "," + extraLabel);
+            return name + suffix + (all.isEmpty() ? "" : "{" + all + "}");
+        }
+    }
+
+    static final class Counter extends Metric {
+        private volatile long value = 0;
+
+        Counter(String name, String help, String labels) {
+            super(name, help, labels);
+        }
+
+        // Single writer: read-then-write is safe without an atomic increment
+        void inc() {
+            value = value + 1;
+        }
+
+        void add(long n) {
+            value = value + n;
+        }
+
+        @Override
+        String type() {
+            return "counter";
+        }
+
+        @Override
+        void write(StringBuilder out) {
+            out.append(series("", "")).append(' ').append(value).append('\n');
+        }
+    }
+
+    static final class Gauge extends Metric {
+        private volatile double value = 0;
+
+        Gauge(String name, String help, String labels) {
+            super(name, help, labels);
+        }
+
+        void set(double v) {
+            value = v;
+        }
+
+        @Override
+        String type() {
+            return "gauge";
+        }
+
+        @Override
+        void write(StringBuilder out) {
+            out.append(series("", "")).append(' ').append(value).append('\n');
+        }
+    }
+
+    static final class Histogram extends Metric {
+        private final double[] bounds;     // upper bounds, ascending
+        private final AtomicLongArray counts;  // one per bound + one for +Inf
+        private volatile double sum = 0;
+
+        Histogram(String name, String help, String labels, double... bounds) {
+            super(name, help, labels);
+            this.bounds = bounds.clone();
+            this.counts = new AtomicLongArray(bounds.length + 1);
+        }
+
+        void observe(double v) {
+            int i = 0;
+            while (i < bounds.length && v > bounds[i]) i++;
+            counts.lazySet(i, counts.get(i) + 1);   // single writer, ordered store
+            sum = sum + v;
+        }
+
+        @Override
+        String type() {
+            return "histogram";
+        }
+
+        @Override
+        void write(StringBuilder out) {
+            long cumulative = 0;
+            for (int i = 0; i < bounds.length; i++) {
+                cumulative += counts.get(i);
+                out.append(series("_bucket", "le=\"" + bounds[i] + "\"")).append(' ')
+                        .append(cumulative).append('\n');
+            }
+            cumulative += counts.get(bounds.length);
+            out.append(series("_bucket", "le=\"+Inf\"")).append(' ').append(cumulative).append('\n');
+            out.append(series("_sum", "")).append(' ').append(sum).append('\n');
+            // _count is the +Inf bucket by definition - reuse it so the two always agree
+            out.append(series("_count", "")).append(' ').append(cumulative).append('\n');
+        }
+    }
+
+    // ═══ The registry: metrics are added during INIT, read by the exporters ═══
+    private final Metric[] metrics = new Metric[MAX_METRICS];
+    private volatile int size = 0;
+
+    private ServerSocket serverSocket;
+    private volatile boolean running = true;
+
+    Counter counter(String name, String help, String labels) {
+        return register(new Counter(name, help, labels));
+    }
+
+    Gauge gauge(String name, String help, String labels) {
+        return register(new Gauge(name, help, labels));
+    }
+
+    Histogram histogram(String name, String help, String labels, double... bounds) {
+        return register(new Histogram(name, help, labels, bounds));
+    }
+
+    private synchronized <M extends Metric> M register(M metric) {
+        if (size == MAX_METRICS) throw new IllegalStateException("Too many metrics");
+        metrics[size] = metric;
+        size = size + 1;   // volatile write publishes the new metric
+        return metric;
+    }
+
+    /**
+     * Prometheus text format: HELP/TYPE once per name, followed by
+     * every labelled series with that name
+     */
+    String scrape() {
+        StringBuilder out = new StringBuilder(4096);
+        int n = size;
+        for (int i = 0; i < n; i++) {
+            Metric m = metrics[i];
+            boolean firstOfName = true;
+            for (int j = 0; j < i; j++) {
+                if (metrics[j].name.equals(m.name)) firstOfName = false;
+            }
+            if (!firstOfName) continue;   // already written with its first series
+
+            out.append("# HELP ").append(m.name).append(' ').append(m.help).append('\n');
+            out.append("# TYPE ").append(m.name).append(' ').append(m.type()).append('\n');
+            for (int j = i; j < n; j++) {
+                if (metrics[j].name.equals(m.name)) metrics[j].write(out);
+            }
+        }
+        return out.toString();
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // EXPORTERS - background threads, never touch the control loop
+    // ═══════════════════════════════════════════════════════════
+
+    /**
+     * @param bindAddress 127.0.0.1 for localhost only, 0.0.0.0 on the robot
+     */
+    void startHttp(String bindAddress, int port) throws IOException {
+        serverSocket = new ServerSocket();
+        serverSocket.setReuseAddress(true);
+        serverSocket.bind(new InetSocketAddress(InetAddress.getByName(bindAddress), port));
+        Thread thread = new Thread(() -> {
+            while (running) {
+                try (Socket socket = serverSocket.accept()) {
+                    socket.setSoTimeout(READ_TIMEOUT_MS);
+                    BufferedReader in = new BufferedReader(
+                            new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+                    String requestLine = in.readLine();
+                    String line;
+                    while ((line = in.readLine()) != null && !line.isEmpty()) {
+                        // Skip headers
+                    }
+                    boolean found = requestLine != null && requestLine.startsWith("GET /metrics");
+                    byte[] body = (found ? scrape() : "Try /metrics\n").getBytes(StandardCharsets.UTF_8);
+                    OutputStream out = socket.getOutputStream();
+                    out.write(((found ? "HTTP/1.0 200 OK" : "HTTP/1.0 404 Not Found")
+                            + "\r\nContent-Type: text/plain; version=0.0.4\r\nContent-Length: "
+                            + body.length + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+                    out.write(body);
+                    out.flush();
+                } catch (IOException e) {
+                    if (!running) return;   // server closed
+                }
+            }
+        }, "MetricsHttp");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Appends a timestamped snapshot to the file every periodSeconds
+     */
+    void startSnapshots(File file, double periodSeconds) {
+        Thread thread = new Thread(() -> {
+            while (running) {
+                try {
+                    Thread.sleep((long) (periodSeconds * 1000));
+                } catch (InterruptedException e) {
+                    return;
+                }
+                try (PrintWriter out = new PrintWriter(new FileWriter(file, true))) {
+                    out.println("# snapshot " + System.currentTimeMillis());
+                    out.print(scrape());
+                } catch (IOException e) {
+                    // Try again next period
+                }
+            }
+        }, "MetricsSnapshot");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void stop() {
+        running = false;
+        if (serverSocket != null) {
+            try {
+                serverSocket.close();
+            } catch (IOException e) {
+                // Already closed
+            }
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════
+    // LAPTOP SOAK TEST - simulated right motor PID on localhost
+    // ═══════════════════════════════════════════════════════════
+
+    public static void main(String[] args) throws Exception {
+        boolean fast = false;
+        String snapshotPath = null;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--fast")) fast = true;
+            else if (args[i].equals("--snapshot") && i + 1 < args.length) snapshotPath = args[++i];
+        }
+
+        Demo40_MetricsRegistry registry = new Demo40_MetricsRegistry();
+        Counter loops = registry.counter("fgc_loops_total", "Control loop iterations", "");
+        Counter steps = registry.counter("fgc_target_steps_total", "Right motor target changes", "");
+        registry.counter("fgc_watchdog_trips_total", "Safety watchdog trips (none in simulation)", "");
+        Gauge loopRate = registry.gauge("fgc_loop_rate_hz", "Loops per second over the last second", "");
+        Gauge error = registry.gauge("fgc_pid_error_ticks", "Right motor PID error", "motor=\"right\"");
+        Gauge current = registry.gauge("fgc_motor_current_amps", "Estimated motor current", "motor=\"right\"");
+        Histogram errorHist = registry.histogram("fgc_pid_abs_error_ticks", "Right motor |PID error|",
+                "motor=\"right\"", 2, 5, 10, 25, 50, 100, 250);
+
+        registry.startHttp("127.0.0.1", PORT);
+        if (snapshotPath != null) registry.startSnapshots(new File(snapshotPath), 10);
+        System.out.println("Serving http://localhost:" + PORT + "/metrics  (Ctrl+C to quit)");
+
+        Demo27_PIDGainSweep.MotorModel m = new Demo27_PIDGainSweep.MotorModel();
+        final double dt = Demo27_PIDGainSweep.DT;
+        final double windingOhms = 1.5;             // rough estimate for current
+        Random random = new Random(1);
+        double position = 0, velocity = 0, lastError = 0, target = 0;
+        long loopsThisSecond = 0;
+        long secondStart = System.nanoTime();
+        long startNanos = System.nanoTime();
+
+        for (long step = 0; ; step++) {
+            if (step % 200 == 0) {                     // new target every 2 s of robot time
+                target = Math.round(random.nextDouble() * 1000 - 500);   // Demo15 PD gains below
+                steps.inc();
+            }
+
+            double e = target - Math.floor(position);
+            double power = Math.max(-1, Math.min(1, 0.1 * e + 0.001 * (e - lastError) / dt));
+            lastError = e;
+
+            double volts = power * m.batteryVolts;
+            if (velocity != 0 || Math.abs(volts) > m.kS) {
+                double friction = m.kS * (velocity != 0 ? Math.signum(velocity) : Math.signum(volts));
+                double newVelocity = velocity + (volts - friction - m.kV * velocity) / m.kA * dt;
+                if (velocity != 0 && Math.signum(newVelocity) != Math.signum(velocity)
+                        && Math.abs(volts) <= m.kS) {
+                    newVelocity = 0;
+                }
+                velocity = newVelocity;
+            }
+            position += velocity * dt;
+
+            // ═══ Hot path: single-writer volatile writes / lazySet, no locks ═══
+            loops.inc();
+            error.set(e);
+            errorHist.observe(Math.abs(e));
+            current.set(Math.abs(volts - m.kV * velocity) / windingOhms);
+            loopsThisSecond++;
+
+            long now = System.nanoTime();
+            if (now - secondStart >= 1_000_000_000L) {
+                loopRate.set(loopsThisSecond * 1e9 / (now - secondStart));
+                loopsThisSecond = 0;
+                secondStart = now;
+            }
+
+            if (!fast) {
+                long sleepMs = (startNanos + (long) ((step + 1) * dt * 1e9) - System.nanoTime()) / 1_000_000;
+                if (sleepMs > 0) Thread.sleep(sleepMs);
+            }
+        }
+    }
+}
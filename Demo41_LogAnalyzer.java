@@ -0,0 +1,442 @@
+/**
+ * ------------------------------------------------------------
+ *  FGC Team Australia 2025  |  FIRST Global Challenge
+ * ------------------------------------------------------------
+ *  Project: FGC101 - Java Demo Series
+ *  File:    Demo41_LogAnalyzer.java
+ *
+ *  Description:
+ *  This demo is part of the FGC101 video series created by
+ *  FGC Team Australia 2025. Our goal is to help rookie teams
+ *  understand programming logic and competition strategy
+ *  through short, simple examples.
+ *
+ *  Playlist: https://www.youtube.com/playlist?list=PL-29lId0PJrVEo0yJyprGheyRtR-ReDET
+ *  Author:   Muyao Zhang (from FGC Team Australia)
+ *  Date:     October 2025
+ *
+ *  Notes:
+ *  - We currently provide around 15 demo programs.
+ *  - These Java demos are not continuously updated.
+ *  - For detailed explanations, please refer to the FGC101 videos.
+ *
+ *  © FGC Team Australia 2025 | Educational Use Only
+ * ------------------------------------------------------------
+ */
+
+package org.firstinspires.ftc.teamcode;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Demo 41 (part 2 of 2, laptop tool): Match Log Analyzer
+ *
+ * Knowledge Point: Turning gigabytes of log into a few numbers
+ *
+ * Reads the binary logs written by Demo41_MatchLogger and reports:
+ * - Loop time: mean, p50/p90/p99/p99.9, max and overruns (> 40 ms)
+ * - Right motor PID: one "hold episode" per target; settle time
+ *   (error stays within 10 ticks), overshoot and steady-state error
+ * - Time spent in the Demo12 TIMEOUT state
+ * - Flywheel spin-up: time from a power step until the velocity
+ *   reaches 95% of the expected speed (Demo22: 2000 ticks/s at 100%)
+ * - Energy per motor: battery volts × |current| × time
+ *
+ * How it stays fast on multi-gigabyte soak-test logs:
+ * - The file is MEMORY-MAPPED (FileChannel.map) in 256 MB windows,
+ *   so the OS pages it in and nothing is copied into Java arrays
+ * - Records are fixed size, so every field is read with an absolute
+ *   get at a known offset - no parsing, no objects per record
+ * - Everything is computed in ONE streaming pass; loop-time
+ *   percentiles come from a 10 µs bucket histogram, not a sorted list
+ *
+ *   javac -d out Demo41_LogAnalyzer.java
+ *   java -cp out org.firstinspires.ftc.teamcode.Demo41_LogAnalyzer match_123.mlg [more logs] [options]
+ *
+ * Options:
+ *   --csv FILE        one summary row per log (default log_summary.csv)
+ *   --episodes FILE   one row per PID hold episode (not written by default)
+ */
+public class Demo41_LogAnalyzer {
+
+    // Match log format (written by Demo41_MatchLogger)
+    static final int LOG_MAGIC = 0x4D4C4731;       // "MLG1"
+    static final int HEADER_BYTES = 8;
+    static final int RECORD_BYTES = 80;
+
+    // Right motor state byte
+    static final int STATE_MANUAL = 0, STATE_HOLD = 1, STATE_TIMEOUT = 2;
+
+    // Record field offsets (big-endian, DataOutputStream order)
+    static final int OFF_TIME_MICROS = 0;     // long
+    static final int OFF_PERIOD_MICROS = 8;   // int
+    static final int OFF_RIGHT_POS = 12;      // int
+    static final int OFF_RIGHT_TARGET = 16;   // int
+    static final int OFF_RIGHT_STATE = 20;    // byte
+    static final int OFF_FLY_STATE = 21;      // byte
+    static final int OFF_SCORE = 22;          // short
+    static final int OFF_BL_POW = 24;         // floats from here on
+    static final int OFF_BR_POW = 28;
+    static final int OFF_RIGHT_POW = 32;
+    static final int OFF_FLY_POW = 36;
+    static final int OFF_FLY_VELOCITY = 40;
+    static final int OFF_BATTERY_VOLTS = 44;
+    static final int OFF_AMPS = 48;           // 8 floats, in MOTOR_NAMES order
+
+    static final String[] MOTOR_NAMES = {"bl", "br", "right", "fly", "intake", "fast", "climbleft", "climbright"};
+
+    // Analysis settings
+    private static final double OVERRUN_MS = 40.0;
+    private static final int SETTLE_TICKS = 10;
+    private static final double FLY_FULL_VELOCITY = 2000.0;
+    private static final double READY_FRACTION = 0.95;
+    private static final double POWER_STEP = 0.05;
+    private static final double MAX_GAP_SECONDS = 0.5;   // don't integrate over logging gaps
+    private static final int LOOP_BUCKET_MICROS = 10;
+    private static final int LOOP_BUCKETS = 100_000;     // up to 1 s, the last bucket holds the rest
+
+    private static final long WINDOW_BYTES = (256L << 20) / RECORD_BYTES * RECORD_BYTES;
+
+    /**
+     * Called once per record; read fields with buffer.getX(at + OFF_...)
+     */
+    interface RecordVisitor {
+        void record(ByteBuffer buffer, int at);
+    }
+
+    /**
+     * Memory-map the log window by window and hand every complete
+     * record to the visitor. Returns the number of records.
+     */
+    static long forEachRecord(File file, RecordVisitor visitor) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (header.hasRemaining() && channel.read(header, header.position()) > 0) { }
+            if (header.position() < HEADER_BYTES || header.getInt(0) != LOG_MAGIC) {
+                throw new IOException("Not a match log: " + file);
+            }
+            if (header.getInt(4) != RECORD_BYTES) {
+                throw new IOException("Unsupported record size " + header.getInt(4));
+            }
+
+            // A log cut short by a crash just ends at the last complete record
+            long records = (channel.size() - HEADER_BYTES) / RECORD_BYTES;
+            long dataBytes = records * RECORD_BYTES;
+            for (long offset = 0; offset < dataBytes; offset += WINDOW_BYTES) {
+                long length = Math.min(WINDOW_BYTES, dataBytes - offset);
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES + offset, length);
+                for (int at = 0; at < length; at += RECORD_BYTES) {
+                    visitor.record(window, at);
+                }
+            }
+            return records;
+        }
+    }
+
+    // Loop time
+    private final long[] loopBuckets = new long[LOOP_BUCKETS];
+    private long loopCount = 0;
+    private double loopSumMs = 0;
+    private double loopMaxMs = 0;
+    private long overruns = 0;
+
+    // Record-to-record state
+    private long records = 0;
+    private double firstT, lastT;
+    private int lastState = STATE_MANUAL;
+    private double lastFlyPower = 0;
+    private int finalScore = 0;
+
+    // Right motor PID episodes: {start s, step ticks, overshoot ticks, settle s (-1 = never), ss error ticks, duration s}
+    private final List<double[]> episodes = new ArrayList<>();
+    private final List<String> episodeEnds = new ArrayList<>();
+    private boolean inEpisode = false;
+    private double episodeStart, episodeSettleT;
+    private int episodeTarget, episodeStep;
+    private double episodeOvershoot, steadySum;
+    private long steadyCount;
+
+    // TIMEOUT state
+    private double timeoutSeconds = 0;
+    private int timeoutEntries = 0;
+
+    // Flywheel spin-up
+    private final List<Double> spinUps = new ArrayList<>();
+    private boolean spinning = false;
+    private double spinStart, spinTargetVelocity;
+
+    // Energy per motor (joules)
+    private final double[] energy = new double[MOTOR_NAMES.length];
+
+    public static void main(String[] args) throws IOException {
+        List<String> logs = new ArrayList<>();
+        String csvPath = "log_summary.csv";
+        String episodesPath = null;
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (!arg.startsWith("--")) {
+                logs.add(arg);
+                continue;
+            }
+            if (!arg.equals("--csv") && !arg.equals("--episodes")) {
+                System.out.println("Unknown option: " + arg);
+                return;
+            }
+            if (i + 1 >= args.length) {
+                System.out.println("Missing value for " + arg);
+                return;
+            }
+            if (arg.equals("--csv")) csvPath = args[++i];
+            else episodesPath = args[++i];
+        }
+        if (logs.isEmpty()) {
+            System.out.println("Usage: Demo41_LogAnalyzer <match log> [more logs] [--csv FILE] [--episodes FILE]");
+            return;
+        }
+
+        try (PrintWriter csv = new PrintWriter(new FileWriter(csvPath));
+             PrintWriter episodesCsv = episodesPath == null ? null : new PrintWriter(new FileWriter(episodesPath))) {
+            csv.print("file,records,duration_s,loop_mean_ms,loop_p50_ms,loop_p90_ms,loop_p99_ms,loop_p999_ms,"
+                    + "loop_max_ms,overruns,pid_episodes,pid_settled,settle_median_s,settle_p90_s,"
+                    + "overshoot_mean_ticks,overshoot_max_ticks,ss_error_mean_ticks,timeout_s,timeout_entries,"
+                    + "spinups,spinup_mean_s,spinup_max_s");
+            for (String motor : MOTOR_NAMES) csv.print(",energy_" + motor + "_j");
+            csv.println(",final_score");
+            if (episodesCsv != null) {
+                episodesCsv.println("file,start_s,step_ticks,overshoot_ticks,settle_s,ss_error_ticks,duration_s,end");
+            }
+
+            for (String path : logs) {
+                File file = new File(path);
+                Demo41_LogAnalyzer analyzer = new Demo41_LogAnalyzer();
+                long start = System.nanoTime();
+                forEachRecord(file, analyzer::visit);
+                analyzer.finish();
+                double seconds = (System.nanoTime() - start) * 1e-9;
+
+                analyzer.printSummary(file, seconds);
+                analyzer.writeCsvRow(csv, file.getName());
+                if (episodesCsv != null) analyzer.writeEpisodes(episodesCsv, file.getName());
+            }
+        }
+        System.out.println("Summary written to " + csvPath
+                + (episodesPath != null ? ", episodes to " + episodesPath : ""));
+    }
+
+    private void visit(ByteBuffer b, int at) {
+        double t = b.getLong(at + OFF_TIME_MICROS) * 1e-6;
+        int state = b.get(at + OFF_RIGHT_STATE);
+        int position = b.getInt(at + OFF_RIGHT_POS);
+        int target = b.getInt(at + OFF_RIGHT_TARGET);
+        double flyPower = b.getFloat(at + OFF_FLY_POW);
+        double flyVelocity = Math.abs(b.getFloat(at + OFF_FLY_VELOCITY));
+
+        double dt = 0;
+        if (records == 0) {
+            firstT = t;
+        } else {
+            dt = Math.min(t - lastT, MAX_GAP_SECONDS);
+
+            // ═══ Loop time (the first period is START → first loop, skip it) ═══
+            int periodMicros = b.getInt(at + OFF_PERIOD_MICROS);
+            double periodMs = periodMicros / 1000.0;
+            loopBuckets[Math.min(periodMicros / LOOP_BUCKET_MICROS, LOOP_BUCKETS - 1)]++;
+            loopCount++;
+            loopSumMs += periodMs;
+            if (periodMs > loopMaxMs) loopMaxMs = periodMs;
+            if (periodMs > OVERRUN_MS) overruns++;
+        }
+
+        // ═══ TIMEOUT state (time counts for the state we were in) ═══
+        if (lastState == STATE_TIMEOUT) timeoutSeconds += dt;
+        if (state == STATE_TIMEOUT && lastState != STATE_TIMEOUT) timeoutEntries++;
+
+        // ═══ PID hold episodes ═══
+        if (inEpisode && (state != STATE_HOLD || target != episodeTarget)) {
+            endEpisode(t, state == STATE_TIMEOUT ? "timeout" : (state == STATE_MANUAL ? "manual" : "retarget"));
+        }
+        if (!inEpisode && state == STATE_HOLD) {
+            inEpisode = true;
+            episodeStart = t;
+            episodeTarget = target;
+            episodeStep = target - position;
+            episodeOvershoot = 0;
+            steadySum = 0;
+            steadyCount = 0;
+        }
+        if (inEpisode) {
+            int error = target - position;
+            int absError = Math.abs(error);
+            // A real step: how far we went PAST the target.
+            // A hold started where we are: how far we coasted away from it.
+            double excursion = Math.abs(episodeStep) > SETTLE_TICKS
+                    ? -error * Math.signum(episodeStep) : absError;
+            if (excursion > episodeOvershoot) episodeOvershoot = excursion;
+            if (absError > SETTLE_TICKS) {
+                steadySum = 0;
+                steadyCount = 0;
+            } else {
+                if (steadyCount == 0) episodeSettleT = t;
+                steadySum += absError;
+                steadyCount++;
+            }
+        }
+
+        // ═══ Flywheel spin-up ═══
+        if (flyPower > lastFlyPower + POWER_STEP) {
+            spinning = true;
+            spinStart = t;
+            spinTargetVelocity = FLY_FULL_VELOCITY * flyPower;
+        } else if (flyPower < lastFlyPower - POWER_STEP) {
+            spinning = false;
+        }
+        if (spinning && flyVelocity >= READY_FRACTION * spinTargetVelocity) {
+            spinUps.add(t - spinStart);
+            spinning = false;
+        }
+
+        // ═══ Energy ═══
+        double volts = b.getFloat(at + OFF_BATTERY_VOLTS);
+        for (int m = 0; m < energy.length; m++) {
+            energy[m] += volts * Math.abs(b.getFloat(at + OFF_AMPS + 4 * m)) * dt;
+        }
+
+        lastT = t;
+        lastState = state;
+        lastFlyPower = flyPower;
+        finalScore = b.getShort(at + OFF_SCORE);
+        records++;
+    }
+
+    private void endEpisode(double t, String end) {
+        double settle = steadyCount > 0 ? episodeSettleT - episodeStart : -1;
+        double steadyError = steadyCount > 0 ? steadySum / steadyCount : Double.NaN;
+        episodes.add(new double[]{episodeStart, episodeStep, episodeOvershoot, settle, steadyError, t - episodeStart});
+        episodeEnds.add(end);
+        inEpisode = false;
+    }
+
+    private void finish() {
+        if (inEpisode) endEpisode(lastT, "end");
+    }
+
+    /**
+     * Loop time (ms) below which the given fraction of loops fall
+     */
+    private double loopPercentile(double fraction) {
+        if (loopCount == 0) return 0;
+        long rank = (long) Math.ceil(fraction * loopCount);
+        long seen = 0;
+        for (int i = 0; i < LOOP_BUCKETS; i++) {
+            seen += loopBuckets[i];
+            if (seen >= rank) {
+                return Math.min((i + 0.5) * LOOP_BUCKET_MICROS / 1000.0, loopMaxMs);
+            }
+        }
+        return loopMaxMs;
+    }
+
+    private static double percentile(double[] sorted, double fraction) {
+        if (sorted.length == 0) return Double.NaN;
+        int index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private double[] settleTimes() {
+        double[] settled = new double[episodes.size()];
+        int n = 0;
+        for (double[] e : episodes) {
+            if (e[3] >= 0) settled[n++] = e[3];
+        }
+        settled = Arrays.copyOf(settled, n);
+        Arrays.sort(settled);
+        return settled;
+    }
+
+    private double meanOf(int column, boolean max) {
+        double sum = 0, best = 0;
+        int n = 0;
+        for (double[] e : episodes) {
+            if (Double.isNaN(e[column])) continue;
+            sum += e[column];
+            best = Math.max(best, e[column]);
+            n++;
+        }
+        if (n == 0) return Double.NaN;
+        return max ? best : sum / n;
+    }
+
+    private double spinUpStat(boolean max) {
+        if (spinUps.isEmpty()) return Double.NaN;
+        double sum = 0, best = 0;
+        for (double s : spinUps) {
+            sum += s;
+            best = Math.max(best, s);
+        }
+        return max ? best : sum / spinUps.size();
+    }
+
+    private void printSummary(File file, double seconds) {
+        double[] settled = settleTimes();
+        System.out.println("=== LOG ANALYSIS: " + file.getName() + " ===");
+        System.out.printf("Records:      %d (%.1f MB) in %.2f s, match length %.1f s%n",
+                records, file.length() / 1e6, seconds, lastT - firstT);
+        System.out.println();
+        System.out.printf("Loop time:    mean %.2f | p50 %.2f | p90 %.2f | p99 %.2f | p99.9 %.2f | max %.2f ms%n",
+                loopCount > 0 ? loopSumMs / loopCount : 0, loopPercentile(0.50), loopPercentile(0.90),
+                loopPercentile(0.99), loopPercentile(0.999), loopMaxMs);
+        System.out.printf("Overruns:     %d loops > %.0f ms%n", overruns, OVERRUN_MS);
+        System.out.println();
+        System.out.printf("Right PID:    %d hold episodes, %d settled within %d ticks%n",
+                episodes.size(), settled.length, SETTLE_TICKS);
+        System.out.printf("Settle time:  median %.3f s | p90 %.3f s%n",
+                percentile(settled, 0.5), percentile(settled, 0.9));
+        System.out.printf("Overshoot:    mean %.1f | max %.1f ticks%n", meanOf(2, false), meanOf(2, true));
+        System.out.printf("Steady error: mean %.2f ticks%n", meanOf(4, false));
+        System.out.printf("TIMEOUT:      %.1f s in %d timeouts%n", timeoutSeconds, timeoutEntries);
+        System.out.println();
+        System.out.printf("Fly spin-up:  %d spin-ups, mean %.2f s | max %.2f s%n",
+                spinUps.size(), spinUpStat(false), spinUpStat(true));
+        System.out.println();
+        System.out.printf("%-12s %10s %8s%n", "Motor", "Energy J", "Wh");
+        for (int m = 0; m < MOTOR_NAMES.length; m++) {
+            System.out.printf("%-12s %10.1f %8.3f%n", MOTOR_NAMES[m], energy[m], energy[m] / 3600);
+        }
+        System.out.println();
+        System.out.printf("Final score:  %d%n", finalScore);
+        System.out.println();
+    }
+
+    private void writeCsvRow(PrintWriter csv, String fileName) {
+        double[] settled = settleTimes();
+        csv.printf(Locale.ROOT,
+                "%s,%d,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%d,%d,%d,%.4f,%.4f,%.2f,%.2f,%.3f,%.3f,%d,%d,%.4f,%.4f",
+                fileName, records, lastT - firstT,
+                loopCount > 0 ? loopSumMs / loopCount : 0, loopPercentile(0.50), loopPercentile(0.90),
+                loopPercentile(0.99), loopPercentile(0.999), loopMaxMs, overruns,
+                episodes.size(), settled.length, percentile(settled, 0.5), percentile(settled, 0.9),
+                meanOf(2, false), meanOf(2, true), meanOf(4, false), timeoutSeconds, timeoutEntries,
+                spinUps.size(), spinUpStat(false), spinUpStat(true));
+        for (double e : energy) csv.printf(Locale.ROOT, ",%.2f", e);
+        csv.printf(Locale.ROOT, ",%d%n", finalScore);
+    }
+
+    private void writeEpisodes(PrintWriter out, String fileName) {
+        for (int i = 0; i < episodes.size(); i++) {
+            double[] e = episodes.get(i);
+            out.printf(Locale.ROOT, "%s,%.4f,%d,%.1f,%.4f,%.3f,%.4f,%s%n",
+                    fileName, e[0] - firstT, (int) e[1], e[2], e[3], e[4], e[5], episodeEnds.get(i));
+        }
+    }
+}
@@ -0,0 +1,450 @@
+/**
+ * ------------------------------------------------------------
+ *  FGC Team Australia 2025  |  FIRST Global Challenge
+ * ------------------------------------------------------------
+ *  Project: FGC101 - Java Demo Series
+ *  File:    Demo41_MatchLogger.java
+ *
+ *  Description:
+ *  This demo is part of the FGC101 video series created by
+ *  FGC Team Australia 2025. Our goal is to help rookie teams
+ *  understand programming logic and competition strategy
+ *  through short, simple examples.
+ *
+ *  Playlist: https://www.youtube.com/playlist?list=PL-29lId0PJrVEo0yJyprGheyRtR-ReDET
+ *  Author:   Muyao Zhang (from FGC Team Australia)
+ *  Date:     October 2025
+ *
+ *  Notes:
+ *  - We currently provide around 15 demo programs.
+ *  - These Java demos are not continuously updated.
+ *  - For detailed explanations, please refer to the FGC101 videos.
+ *
+ *  © FGC Team Australia 2025 | Educational Use Only
+ * ------------------------------------------------------------
+ */
+
+package org.firstinspires.ftc.teamcode;
+
+import com.qualcomm.robotcore.eventloop.opmode.TeleOp;
+import com.qualcomm.robotcore.eventloop.opmode.LinearOpMode;
+import com.qualcomm.robotcore.hardware.DcMotor;
+import com.qualcomm.robotcore.hardware.DcMotorEx;
+import com.qualcomm.robotcore.hardware.CRServo;
+import com.qualcomm.robotcore.hardware.VoltageSensor;
+import com.qualcomm.robotcore.util.ElapsedTime;
+
+import org.firstinspires.ftc.robotcore.external.navigation.CurrentUnit;
+import org.firstinspires.ftc.robotcore.internal.system.AppUtil;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * Demo 41 (part 1 of 2): Match Logger
+ *
+ * Knowledge Point: Log everything you will want to analyse later
+ *
+ * Demo31 records what the DRIVERS did. To judge how well the ROBOT
+ * did, we also need loop timing, the right motor target and PID state,
+ * flywheel speed and motor currents. This is Demo15 plus a binary
+ * match log with one 80-byte record per loop:
+ * - time (µs since START) and loop period (µs)
+ * - right motor position, target and state (MANUAL / HOLD / TIMEOUT)
+ * - flywheel state and the Demo19-style score counter
+ * - bl, br, right, fly powers and the flywheel velocity
+ * - battery voltage and the current of all 8 motors
+ *
+ * Current and voltage reads are slow, so they are refreshed every
+ * SENSOR_EVERY_LOOPS loops; the other records repeat the last value.
+ *
+ * Logs go to /sdcard/FIRST/matchlog/. Analyse them on a laptop with
+ * Demo41_LogAnalyzer.
+ *
+ * Hardware Required: ALL motors and servos (same as Demo15)
+ *
+ * Controls: same as Demo15, plus
+ * GAMEPAD 2: DPad Up: Score +1 | DPad Down: Undo score
+ *
+ * How to Demonstrate:
+ * 1. Run a practice match with this OpMode
+ * 2. Press DPad Up on gamepad 2 every time we score
+ * 3. Press STOP - the log file name is shown in telemetry
+ * 4. Copy the log to a laptop and run Demo41_LogAnalyzer
+ */
+@TeleOp(name="Demo41: Match Logger", group="Demo")
+public class Demo41_MatchLogger extends LinearOpMode {
+
+    private static final int SENSOR_EVERY_LOOPS = 10;
+
+    // PID Controller class (from Demo15)
+    private class PIDController {
+        private double Kp, Ki, Kd;
+        private double integralSum = 0;
+        private double lastError = 0;
+        private ElapsedTime timer = new ElapsedTime();
+
+        public PIDController(double Kp, double Ki, double Kd) {
+            this.Kp = Kp;
+            this.Ki = Ki;
+            this.Kd = Kd;
+        }
+
+        public double update(double target, double current) {
+            double error = target - current;
+            double derivative = (error - lastError) / timer.seconds();
+            integralSum += error * timer.seconds();
+            double output = (Kp * error) + (Ki * integralSum) + (Kd * derivative);
+            lastError = error;
+            timer.reset();
+            return output;
+        }
+
+        public void resetIntegral() {
+            integralSum = 0;
+            lastError = 0;
+            timer.reset();
+        }
+    }
+
+    private DcMotorEx bl, br, fly, intake, climbleft, climbright, fast, right;
+    private CRServo block;
+
+    // Right motor PID
+    private PIDController rightPIDController = new PIDController(0.1, 0, 0.001);
+    private int rightTargetPosition = 0;
+    private boolean rightPIDEnabled = false;
+    private ElapsedTime rightPIDTimer = new ElapsedTime();
+    private boolean rightPIDTimeout = false;
+
+    // Left wheel hold for L2 mode
+    private PIDController blPIDController = new PIDController(0.1, 0, 0.001);
+    private int blTargetPosition = 0;
+    private boolean blHoldEnabled = false;
+
+    // Speed configuration (same as Demo15)
+    double flyPowerLow = 0.8;
+    double flyPowerHigh = 1.0;
+    double intakePowerForward = 0.8;
+    double intakePowerReverse = 1.0;
+    double rightMotorPower = 0.5;
+    double climbPowerUp = 1.0;
+    double climbPowerDown = -1.0;
+    double fastPowerFull = 1.0;
+
+    double driveSpeedScale = 1.0;
+    boolean lastXState = false;
+
+    int flyState = 0;
+    boolean lastL1FlyState = false;
+
+
+    private VoltageSensor batterySensor;
+
+    // Score counter (Demo19 style, one total)
+    private int score = 0;
+    private boolean lastScoreUp = false;
+    private boolean lastScoreDown = false;
+
+    private DataOutputStream log;
+    private File logFile;
+    private int recordsWritten = 0;
+    private String logStatus = "Not started";
+
+    @Override
+    public void runOpMode() {
+        bl = hardwareMap.get(DcMotorEx.class, "bl");
+        br = hardwareMap.get(DcMotorEx.class, "br");
+        fly = hardwareMap.get(DcMotorEx.class, "fly");
+        intake = hardwareMap.get(DcMotorEx.class, "intake");
+        climbleft = hardwareMap.get(DcMotorEx.class, "climbleft");
+        climbright = hardwareMap.get(DcMotorEx.class, "climbright");
+        right = hardwareMap.get(DcMotorEx.class, "right");
+        fast = hardwareMap.get(DcMotorEx.class, "fast");
+        block = hardwareMap.get(CRServo.class, "block");
+        batterySensor = hardwareMap.voltageSensor.iterator().next();
+
+        bl.setDirection(DcMotor.Direction.REVERSE);
+        br.setDirection(DcMotor.Direction.FORWARD);
+        fly.setDirection(DcMotor.Direction.REVERSE);
+        intake.setDirection(DcMotor.Direction.REVERSE);
+        climbleft.setDirection(DcMotor.Direction.FORWARD);
+        climbright.setDirection(DcMotor.Direction.FORWARD);
+        right.setDirection(DcMotorEx.Direction.FORWARD);
+        fast.setDirection(DcMotor.Direction.FORWARD);
+
+        right.setZeroPowerBehavior(DcMotorEx.ZeroPowerBehavior.BRAKE);
+        fast.setZeroPowerBehavior(DcMotor.ZeroPowerBehavior.BRAKE);
+
+        right.setMode(DcMotorEx.RunMode.STOP_AND_RESET_ENCODER);
+        right.setMode(DcMotorEx.RunMode.RUN_WITHOUT_ENCODER);
+
+        DcMotorEx[] currentMotors = {bl, br, right, fly, intake, fast, climbleft, climbright};
+        float[] amps = new float[currentMotors.length];
+        float batteryVolts = (float) batterySensor.getVoltage();
+
+        openLog();
+
+        telemetry.addData("Status", "Ready - Match Logger");
+        telemetry.addData("Log", logStatus);
+        telemetry.update();
+
+        waitForStart();
+        long startNanos = System.nanoTime();
+        long lastLoopNanos = startNanos;
+        long loopNumber = 0;
+
+        while (opModeIsActive()) {
+            long now = System.nanoTime();
+            long periodMicros = (now - lastLoopNanos) / 1000;
+            lastLoopNanos = now;
+
+            // Tank drive with speed toggle
+            double leftPower = -gamepad1.left_stick_y;
+            double rightPower = -gamepad1.right_stick_y;
+
+            boolean currentXState = gamepad1.x;
+            if (currentXState && !lastXState) {
+                driveSpeedScale = (driveSpeedScale == 1.0) ? 0.5 : 1.0;
+            }
+            lastXState = currentXState;
+
+            bl.setPower(leftPower * driveSpeedScale);
+            br.setPower(rightPower * driveSpeedScale);
+
+            // L2 special mode
+            boolean l2HoldPressed = gamepad1.left_trigger > 0.5;
+            if (l2HoldPressed) {
+                if (!blHoldEnabled) {
+                    blTargetPosition = bl.getCurrentPosition();
+                    blHoldEnabled = true;
+                    blPIDController.resetIntegral();
+                }
+
+                int blCurrentPosition = bl.getCurrentPosition();
+                double blError = blTargetPosition - blCurrentPosition;
+                double raw = blPIDController.update(blTargetPosition, blCurrentPosition);
+
+                double blPower;
+                if (Math.abs(blError) > 5) {
+                    blPower = Math.max(-1, Math.min(1, raw));
+                } else if (Math.abs(blError) > 0) {
+                    blPower = blError > 0 ? 0.1 : -0.1;
+                } else {
+                    blPower = 0;
+                }
+
+                bl.setPower(blPower);
+                br.setPower(-0.7);
+            } else {
+                blHoldEnabled = false;
+            }
+
+            // Intake
+            boolean r1Pressed = gamepad1.right_bumper;
+            boolean r2Pressed = gamepad1.right_trigger > 0.5;
+            if (r1Pressed && !r2Pressed) {
+                intake.setPower(intakePowerForward);
+            } else if (r2Pressed && !r1Pressed) {
+                intake.setPower(-intakePowerReverse);
+            } else {
+                intake.setPower(0);
+            }
+
+            // Flywheel L1
+            boolean currentL1FlyState = gamepad1.left_bumper;
+            if (currentL1FlyState && !lastL1FlyState) {
+                flyState = (flyState + 1) % 3;
+            }
+            lastL1FlyState = currentL1FlyState;
+
+            switch (flyState) {
+                case 0: fly.setPower(0); break;
+                case 1: fly.setPower(flyPowerLow); break;
+                case 2: fly.setPower(flyPowerHigh); break;
+            }
+
+            // Gamepad 2 fast motor
+            if (gamepad2.a && !gamepad2.b) {
+                fast.setPower(fastPowerFull);
+            } else if (gamepad2.b && !gamepad2.a) {
+                fast.setPower(-fastPowerFull);
+            } else {
+                fast.setPower(0);
+            }
+
+            // Gamepad 2 block servo
+            double blockPower = 0.0;
+            if (gamepad2.x && !gamepad2.y) {
+                blockPower = 1.0;
+            } else if (gamepad2.y && !gamepad2.x) {
+                blockPower = -1.0;
+            }
+            block.setPower(blockPower);
+
+            // Climb motors
+            double climbPower = 0.0;
+            if (gamepad1.dpad_up && !gamepad1.dpad_down) {
+                climbPower = climbPowerUp;
+            } else if (gamepad1.dpad_down && !gamepad1.dpad_up) {
+                climbPower = climbPowerDown;
+            }
+            climbleft.setPower(climbPower);
+            climbright.setPower(climbPower);
+
+            // Right motor with SMART PROTECTION (Demo15)
+            boolean dpadLeft = gamepad2.dpad_left;
+            boolean dpadRight = gamepad2.dpad_right;
+
+            if (dpadLeft && !dpadRight) {
+                rightPIDEnabled = false;
+                rightPIDTimeout = false;
+                right.setPower(-rightMotorPower);
+            } else if (dpadRight && !dpadLeft) {
+                rightPIDEnabled = false;
+                rightPIDTimeout = false;
+                right.setPower(rightMotorPower);
+            } else {
+                if (!rightPIDEnabled) {
+                    rightTargetPosition = right.getCurrentPosition();
+                    rightPIDEnabled = true;
+                    rightPIDTimeout = false;
+                    rightPIDController.resetIntegral();
+                    rightPIDTimer.reset();
+                }
+
+                int currentPosition = right.getCurrentPosition();
+                double error = rightTargetPosition - currentPosition;
+
+                if (!rightPIDTimeout && rightPIDTimer.seconds() > 3.0) {
+                    rightTargetPosition = currentPosition;
+                    rightPIDTimeout = true;
+                    rightPIDController.resetIntegral();
+                    rightPIDTimer.reset();
+                }
+
+                double power = 0;
+
+                if (rightPIDTimeout) {
+                    if (Math.abs(error) > 3) {
+                        rightPIDTimeout = false;
+                        rightPIDController.resetIntegral();
+                        rightPIDTimer.reset();
+                    }
+                }
+
+                if (!rightPIDTimeout) {
+                    power = rightPIDController.update(rightTargetPosition, currentPosition);
+
+                    if (Math.abs(error) > 5) {
+                        power = Math.max(-1, Math.min(1, power));
+                    } else if (Math.abs(error) > 0) {
+                        power = error > 0 ? 0.1 : -0.1;
+                    } else {
+                        power = 0;
+                    }
+                }
+
+                right.setPower(power);
+            }
+
+            // Score counter (gamepad 2 DPad Up/Down)
+            boolean scoreUp = gamepad2.dpad_up;
+            boolean scoreDown = gamepad2.dpad_down;
+            if (scoreUp && !lastScoreUp) score++;
+            if (scoreDown && !lastScoreDown && score > 0) score--;
+            lastScoreUp = scoreUp;
+            lastScoreDown = scoreDown;
+
+            // ═══ RECORD this loop ═══
+            if (loopNumber % SENSOR_EVERY_LOOPS == 0) {
+                batteryVolts = (float) batterySensor.getVoltage();
+                for (int i = 0; i < currentMotors.length; i++) {
+                    amps[i] = (float) currentMotors[i].getCurrent(CurrentUnit.AMPS);
+                }
+            }
+            loopNumber++;
+
+            int rightState = !rightPIDEnabled ? Demo41_LogAnalyzer.STATE_MANUAL
+                    : (rightPIDTimeout ? Demo41_LogAnalyzer.STATE_TIMEOUT : Demo41_LogAnalyzer.STATE_HOLD);
+            writeRecord((now - startNanos) / 1000, periodMicros,
+                    right.getCurrentPosition(), rightTargetPosition, rightState,
+                    bl.getPower(), br.getPower(), right.getPower(), fly.getPower(),
+                    fly.getVelocity(), batteryVolts, amps);
+
+            telemetry.addData("=== MATCH LOGGER ===", "");
+            telemetry.addData("Log", logStatus);
+            telemetry.addData("Records", "%d (%d KB)", recordsWritten,
+                    (long) recordsWritten * Demo41_LogAnalyzer.RECORD_BYTES / 1024);
+            telemetry.addData("", "");
+            telemetry.addData("Score", score);
+            telemetry.addData("Speed", (int)(driveSpeedScale * 100) + "%");
+            telemetry.addData("Fly", flyState == 0 ? "OFF" : (flyState == 1 ? "80%" : "100%"));
+            telemetry.addData("Right PID", rightPIDEnabled ? (rightPIDTimeout ? "TIMEOUT" : "HOLD") : "Manual");
+            telemetry.addData("", "");
+            telemetry.addData("Controls", "Demo15 | GP2 DPad Up/Down: Score +1/-1");
+            telemetry.update();
+        }
+
+        closeLog();
+    }
+
+    private void openLog() {
+        try {
+            File directory = new File(AppUtil.FIRST_FOLDER, "matchlog");
+            directory.mkdirs();
+            logFile = new File(directory, "match_" + System.currentTimeMillis() + ".mlg");
+            log = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(logFile), 64 * 1024));
+            log.writeInt(Demo41_LogAnalyzer.LOG_MAGIC);
+            log.writeInt(Demo41_LogAnalyzer.RECORD_BYTES);
+            logStatus = "Recording to " + logFile.getName();
+        } catch (IOException e) {
+            log = null;
+            logStatus = "Can't open log: " + e.getMessage();
+        }
+    }
+
+    /**
+     * One fixed-size record, layout in Demo41_LogAnalyzer (80 bytes)
+     */
+    private void writeRecord(long timeMicros, long periodMicros,
+                             int rightPos, int rightTarget, int rightState,
+                             double blPower, double brPower, double rightPower, double flyPower,
+                             double flyVelocity, float batteryVolts, float[] amps) {
+        if (log == null) return;
+        try {
+            log.writeLong(timeMicros);
+            log.writeInt((int) periodMicros);
+            log.writeInt(rightPos);
+            log.writeInt(rightTarget);
+            log.writeByte(rightState);
+            log.writeByte(flyState);
+            log.writeShort(score);
+            log.writeFloat((float) blPower);
+            log.writeFloat((float) brPower);
+            log.writeFloat((float) rightPower);
+            log.writeFloat((float) flyPower);
+            log.writeFloat((float) flyVelocity);
+            log.writeFloat(batteryVolts);
+            for (float a : amps) log.writeFloat(a);
+            recordsWritten++;
+        } catch (IOException e) {
+            logStatus = "Write failed: " + e.getMessage();
+            log = null;
+        }
+    }
+
+    private void closeLog() {
+        if (log == null) return;
+        try {
+            log.close();
+            logStatus = "Saved " + logFile.getName();
+        } catch (IOException e) {
+            logStatus = "Close failed: " + e.getMessage();
+        }
+        log = null;
+    }
+}
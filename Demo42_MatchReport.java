@@ -0,0 +1,385 @@
+/**
+ * ------------------------------------------------------------
+ *  FGC Team Australia 2025  |  FIRST Global Challenge
+ * ------------------------------------------------------------
+ *  Project: FGC101 - Java Demo Series
+ *  File:    Demo42_MatchReport.java
+ *
+ *  Description:
+ *  This demo is part of the FGC101 video series created by
+ *  FGC Team Australia 2025. Our goal is to help rookie teams
+ *  understand programming logic and competition strategy
+ *  through short, simple examples.
+ *
+ *  Playlist: https://www.youtube.com/playlist?list=PL-29lId0PJrVEo0yJyprGheyRtR-ReDET
+ *  Author:   Muyao Zhang (from FGC Team Australia)
+ *  Date:     October 2025
+ *
+ *  Notes:
+ *  - We currently provide around 15 demo programs.
+ *  - These Java demos are not continuously updated.
+ *  - For detailed explanations, please refer to the FGC101 videos.
+ *
+ *  © FGC Team Australia 2025 | Educational Use Only
+ * ------------------------------------------------------------
+ */
+
+package org.firstinspires.ftc.teamcode;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Demo 42 (laptop tool): Match Report
+ *
+ * Knowledge Point: Downsampling that keeps the spikes
+ *
+ * Turns a Demo41_MatchLogger log into ONE self-contained HTML file
+ * (no scripts, no internet) with SVG plots:
+ * - Drive powers (bl, br)
+ * - Right motor position vs target, TIMEOUT time shaded
+ * - Flywheel velocity
+ * - Score events from the gamepad 2 counter
+ * - Loop time, with the 40 ms overrun line
+ *
+ * A 2.5-minute match at 100 loops/s is 15,000 points per line. The
+ * screen is only ~1000 pixels wide, so we split the time axis into
+ * one bucket per pixel column and keep just the MIN and the MAX of
+ * each bucket (in the order they happened). Averaging would hide a
+ * 60 ms loop spike or a PID overshoot; min/max keeps every peak and
+ * the plot looks the same as plotting every point. The report stays
+ * a few hundred KB even for hour-long logs.
+ *
+ *   javac -d out Demo41_LogAnalyzer.java Demo42_MatchReport.java
+ *   java -cp out org.firstinspires.ftc.teamcode.Demo42_MatchReport match_123.mlg [options]
+ *
+ * Options:
+ *   --out FILE     report file (default: log name with .html)
+ *   --width N      plot width in pixels = buckets per line (default 1000)
+ */
+public class Demo42_MatchReport {
+
+    private static final int PLOT_HEIGHT = 160;
+    private static final int MARGIN_LEFT = 60;
+    private static final int MARGIN_RIGHT = 10;
+    private static final int MARGIN_TOP = 10;
+    private static final int MARGIN_BOTTOM = 24;
+    private static final double OVERRUN_MS = 40.0;
+
+    // Line indexes
+    private static final int BL_POW = 0, BR_POW = 1, RIGHT_POS = 2, RIGHT_TARGET = 3;
+    private static final int FLY_VELOCITY = 4, LOOP_MS = 5, SCORE = 6;
+    private static final int LINES = 7;
+
+    /**
+     * One line, downsampled to the min and max of each bucket.
+     * Memory is fixed by the bucket count, not the log length.
+     */
+    static class MinMaxSeries {
+        private final double[] minT, minV, maxT, maxV;
+        private final boolean[] used;
+        double low = Double.POSITIVE_INFINITY, high = Double.NEGATIVE_INFINITY;
+
+        MinMaxSeries(int buckets) {
+            minT = new double[buckets];
+            minV = new double[buckets];
+            maxT = new double[buckets];
+            maxV = new double[buckets];
+            used = new boolean[buckets];
+        }
+
+        void add(int bucket, double t, double v) {
+            if (!used[bucket]) {
+                used[bucket] = true;
+                minT[bucket] = maxT[bucket] = t;
+                minV[bucket] = maxV[bucket] = v;
+            } else if (v < minV[bucket]) {
+                minT[bucket] = t;
+                minV[bucket] = v;
+            } else if (v > maxV[bucket]) {
+                maxT[bucket] = t;
+                maxV[bucket] = v;
+            }
+            if (v < low) low = v;
+            if (v > high) high = v;
+        }
+
+        /**
+         * SVG polyline points, min and max of each bucket in time order
+         */
+        String points(Axis axis, double yLow, double yHigh) {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < used.length; i++) {
+                if (!used[i]) continue;
+                boolean minFirst = minT[i] <= maxT[i];
+                appendPoint(sb, axis, yLow, yHigh, minFirst ? minT[i] : maxT[i], minFirst ? minV[i] : maxV[i]);
+                if (minT[i] != maxT[i]) {
+                    appendPoint(sb, axis, yLow, yHigh, minFirst ? maxT[i] : minT[i], minFirst ? maxV[i] : minV[i]);
+                }
+            }
+            return sb.toString();
+        }
+
+        private static void appendPoint(StringBuilder sb, Axis axis, double yLow, double yHigh, double t, double v) {
+            sb.append(String.format(Locale.ROOT, "%.1f,%.1f ", axis.x(t), axis.y(v, yLow, yHigh)));
+        }
+    }
+
+    /**
+     * Maps log time and values to plot pixels
+     */
+    static class Axis {
+        final double t0, t1;
+        final int width;
+
+        Axis(double t0, double t1, int width) {
+            this.t0 = t0;
+            this.t1 = Math.max(t1, t0 + 1e-3);
+            this.width = width;
+        }
+
+        double x(double t) {
+            return MARGIN_LEFT + (t - t0) / (t1 - t0) * width;
+        }
+
+        double y(double v, double low, double high) {
+            double range = high > low ? high - low : 1;
+            return MARGIN_TOP + (1 - (v - low) / range) * PLOT_HEIGHT;
+        }
+    }
+
+    private final int buckets;
+    private final long totalRecords;
+    private final MinMaxSeries[] series = new MinMaxSeries[LINES];
+
+    private long index = 0;
+    private double firstT = 0, lastT = 0;
+    private int lastScore = 0;
+    private final List<double[]> scoreEvents = new ArrayList<>();   // {time, new score}
+    private final List<double[]> timeouts = new ArrayList<>();      // {start, end}
+    private double timeoutStart = -1;
+    private double maxLoopMs = 0;
+    private long overruns = 0;
+
+    Demo42_MatchReport(int buckets, long totalRecords) {
+        this.buckets = buckets;
+        this.totalRecords = Math.max(totalRecords, 1);
+        for (int i = 0; i < LINES; i++) series[i] = new MinMaxSeries(buckets);
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("Usage: Demo42_MatchReport <match log> [--out FILE] [--width N]");
+            return;
+        }
+        File log = new File(args[0]);
+        String outPath = args[0].replaceAll("\\.mlg$", "") + ".html";
+        int width = 1000;
+        for (int i = 1; i < args.length - 1; i += 2) {
+            if (args[i].equals("--out")) outPath = args[i + 1];
+            else if (args[i].equals("--width")) width = Integer.parseInt(args[i + 1]);
+        }
+
+        long records = (log.length() - Demo41_LogAnalyzer.HEADER_BYTES) / Demo41_LogAnalyzer.RECORD_BYTES;
+        Demo42_MatchReport report = new Demo42_MatchReport(width, records);
+        long start = System.nanoTime();
+        Demo41_LogAnalyzer.forEachRecord(log, report::visit);
+        if (report.index == 0) {
+            System.out.println("Match log is empty.");
+            return;
+        }
+        report.finish();
+
+        try (PrintWriter out = new PrintWriter(new FileWriter(outPath))) {
+            report.writeHtml(out, log.getName());
+        }
+        System.out.printf(Locale.ROOT, "Report written to %s (%d records, %d KB) in %.2f s%n",
+                outPath, records, new File(outPath).length() / 1024, (System.nanoTime() - start) * 1e-9);
+    }
+
+    private void visit(ByteBuffer b, int at) {
+        double t = b.getLong(at + Demo41_LogAnalyzer.OFF_TIME_MICROS) * 1e-6;
+        int bucket = (int) (index * buckets / totalRecords);
+        if (index == 0) firstT = t;
+
+        series[BL_POW].add(bucket, t, b.getFloat(at + Demo41_LogAnalyzer.OFF_BL_POW));
+        series[BR_POW].add(bucket, t, b.getFloat(at + Demo41_LogAnalyzer.OFF_BR_POW));
+        series[RIGHT_POS].add(bucket, t, b.getInt(at + Demo41_LogAnalyzer.OFF_RIGHT_POS));
+        series[RIGHT_TARGET].add(bucket, t, b.getInt(at + Demo41_LogAnalyzer.OFF_RIGHT_TARGET));
+        series[FLY_VELOCITY].add(bucket, t, Math.abs(b.getFloat(at + Demo41_LogAnalyzer.OFF_FLY_VELOCITY)));
+
+        int score = b.getShort(at + Demo41_LogAnalyzer.OFF_SCORE);
+        series[SCORE].add(bucket, t, score);
+        if (score != lastScore) scoreEvents.add(new double[]{t, score});
+        lastScore = score;
+
+        // The first period is START → first loop, not a real loop
+        if (index > 0) {
+            double loopMs = b.getInt(at + Demo41_LogAnalyzer.OFF_PERIOD_MICROS) / 1000.0;
+            series[LOOP_MS].add(bucket, t, loopMs);
+            if (loopMs > maxLoopMs) maxLoopMs = loopMs;
+            if (loopMs > OVERRUN_MS) overruns++;
+        }
+
+        boolean timeout = b.get(at + Demo41_LogAnalyzer.OFF_RIGHT_STATE) == Demo41_LogAnalyzer.STATE_TIMEOUT;
+        if (timeout && timeoutStart < 0) timeoutStart = t;
+        if (!timeout && timeoutStart >= 0) {
+            timeouts.add(new double[]{timeoutStart, t});
+            timeoutStart = -1;
+        }
+
+        lastT = t;
+        index++;
+    }
+
+    private void finish() {
+        if (timeoutStart >= 0) timeouts.add(new double[]{timeoutStart, lastT});
+    }
+
+    private void writeHtml(PrintWriter out, String logName) {
+        Axis axis = new Axis(firstT, lastT, buckets);
+        String name = escapeHtml(logName);
+
+        out.println("<!DOCTYPE html><html><head><meta charset=\"utf-8\"><title>Match report - " + name + "</title>");
+        out.println("<style>body{font-family:sans-serif;margin:20px;background:#fafafa}"
+                + "h2{margin:24px 0 4px;font-size:16px}svg{background:#fff;border:1px solid #ddd}"
+                + "text{font-size:11px;fill:#555}table{border-collapse:collapse}"
+                + "td{padding:2px 12px 2px 0}.key span{margin-right:16px}</style></head><body>");
+        out.println("<h1>Match report: " + name + "</h1>");
+        out.println("<table>");
+        out.printf(Locale.ROOT, "<tr><td>Length</td><td>%.1f s (%d records)</td></tr>%n", lastT - firstT, index);
+        out.printf(Locale.ROOT, "<tr><td>Final score</td><td>%d (%d score events)</td></tr>%n",
+                lastScore, scoreEvents.size());
+        out.printf(Locale.ROOT, "<tr><td>Loop time</td><td>max %.1f ms, %d overruns &gt; %.0f ms</td></tr>%n",
+                maxLoopMs, overruns, OVERRUN_MS);
+        out.printf(Locale.ROOT, "<tr><td>Right TIMEOUT</td><td>%d times</td></tr>%n", timeouts.size());
+        out.println("</table>");
+
+        // ═══ Drive powers ═══
+        startPlot(out, "Drive powers", axis, -1, 1);
+        zeroLine(out, axis, -1, 1);
+        line(out, axis, series[BL_POW], -1, 1, "#1f77b4");
+        line(out, axis, series[BR_POW], -1, 1, "#ff7f0e");
+        endPlot(out, "#1f77b4:bl", "#ff7f0e:br");
+
+        // ═══ Right motor position vs target ═══
+        double low = Math.min(series[RIGHT_POS].low, series[RIGHT_TARGET].low);
+        double high = Math.max(series[RIGHT_POS].high, series[RIGHT_TARGET].high);
+        startPlot(out, "Right motor position (ticks)", axis, low, high);
+        for (double[] span : timeouts) {
+            out.printf(Locale.ROOT, "<rect x=\"%.1f\" y=\"%d\" width=\"%.1f\" height=\"%d\" fill=\"#fdd\"/>%n",
+                    axis.x(span[0]), MARGIN_TOP, Math.max(axis.x(span[1]) - axis.x(span[0]), 1.0), PLOT_HEIGHT);
+        }
+        line(out, axis, series[RIGHT_TARGET], low, high, "#999");
+        line(out, axis, series[RIGHT_POS], low, high, "#2ca02c");
+        endPlot(out, "#2ca02c:position", "#999:target", "#fdd:TIMEOUT");
+
+        // ═══ Flywheel ═══
+        high = Math.max(series[FLY_VELOCITY].high, 1);
+        startPlot(out, "Flywheel velocity (ticks/s)", axis, 0, high);
+        line(out, axis, series[FLY_VELOCITY], 0, high, "#d62728");
+        endPlot(out, "#d62728:|velocity|");
+
+        // ═══ Score ═══
+        high = Math.max(series[SCORE].high, 1);
+        startPlot(out, "Score", axis, 0, high);
+        line(out, axis, series[SCORE], 0, high, "#9467bd");
+        for (double[] event : scoreEvents) {
+            out.printf(Locale.ROOT, "<circle cx=\"%.1f\" cy=\"%.1f\" r=\"3\" fill=\"#9467bd\"/>%n",
+                    axis.x(event[0]), axis.y(event[1], 0, high));
+        }
+        endPlot(out, "#9467bd:score (dots = events)");
+
+        // ═══ Loop time ═══
+        high = Math.max(series[LOOP_MS].high, OVERRUN_MS * 1.2);
+        startPlot(out, "Loop time (ms)", axis, 0, high);
+        double overrunY = axis.y(OVERRUN_MS, 0, high);
+        out.printf(Locale.ROOT, "<line x1=\"%d\" y1=\"%.1f\" x2=\"%d\" y2=\"%.1f\" stroke=\"#d62728\" stroke-dasharray=\"4,3\"/>%n",
+                MARGIN_LEFT, overrunY, MARGIN_LEFT + axis.width, overrunY);
+        line(out, axis, series[LOOP_MS], 0, high, "#17becf");
+        endPlot(out, "#17becf:loop time", "#d62728:overrun (40 ms)");
+
+        out.println("</body></html>");
+    }
+
+    private void startPlot(PrintWriter out, String title, Axis axis, double low, double high) {
+        int width = MARGIN_LEFT + axis.width + MARGIN_RIGHT;
+        int height = MARGIN_TOP + PLOT_HEIGHT + MARGIN_BOTTOM;
+        out.println("<h2>" + title + "</h2>");
+        out.printf(Locale.ROOT, "<svg width=\"%d\" height=\"%d\" viewBox=\"0 0 %d %d\">%n", width, height, width, height);
+
+        // Y labels: top and bottom of the range
+        out.printf(Locale.ROOT, "<text x=\"%d\" y=\"%d\" text-anchor=\"end\">%s</text>%n",
+                MARGIN_LEFT - 4, MARGIN_TOP + 10, label(high));
+        out.printf(Locale.ROOT, "<text x=\"%d\" y=\"%d\" text-anchor=\"end\">%s</text>%n",
+                MARGIN_LEFT - 4, MARGIN_TOP + PLOT_HEIGHT, label(low));
+
+        // Time grid: about 10 lines with a "nice" step
+        double span = axis.t1 - axis.t0;
+        double step = Math.pow(10, Math.floor(Math.log10(span / 10)));
+        if (span / step > 50) step *= 5;
+        else if (span / step > 20) step *= 2;
+        for (double t = 0; t <= span; t += step) {
+            double x = axis.x(axis.t0 + t);
+            out.printf(Locale.ROOT, "<line x1=\"%.1f\" y1=\"%d\" x2=\"%.1f\" y2=\"%d\" stroke=\"#eee\"/>%n",
+                    x, MARGIN_TOP, x, MARGIN_TOP + PLOT_HEIGHT);
+            out.printf(Locale.ROOT, "<text x=\"%.1f\" y=\"%d\" text-anchor=\"middle\">%ss</text>%n",
+                    x, MARGIN_TOP + PLOT_HEIGHT + 16, label(t));
+        }
+    }
+
+    private static void zeroLine(PrintWriter out, Axis axis, double low, double high) {
+        double y = axis.y(0, low, high);
+        out.printf(Locale.ROOT, "<line x1=\"%d\" y1=\"%.1f\" x2=\"%d\" y2=\"%.1f\" stroke=\"#ccc\"/>%n",
+                MARGIN_LEFT, y, MARGIN_LEFT + axis.width, y);
+    }
+
+    private static void line(PrintWriter out, Axis axis, MinMaxSeries s, double low, double high, String color) {
+        out.printf(Locale.ROOT, "<polyline fill=\"none\" stroke=\"%s\" stroke-width=\"1\" points=\"%s\"/>%n",
+                color, s.points(axis, low, high));
+    }
+
+    /**
+     * Close the SVG and add a colour key ("#rrggbb:name" entries)
+     */
+    private static void endPlot(PrintWriter out, String... keys) {
+        out.println("</svg>");
+        out.print("<div class=\"key\">");
+        for (String key : keys) {
+            int split = key.indexOf(':');
+            out.print("<span style=\"color:" + key.substring(0, split) + "\">&#9632;</span>"
+                    + key.substring(split + 1) + " &nbsp; ");
+        }
+        out.println("</div>");
+    }
+
+    /**
+     * A file name can contain &, < or quotes - never paste it into HTML raw
+     */
+    private static String escapeHtml(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&': sb.append("&amp;"); break;
+                case '<': sb.append("&lt;"); break;
+                case '>': sb.append("&gt;"); break;
+                case '"': sb.append("&quot;"); break;
+                case '\'': sb.append("&#39;"); break;
+                default: sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String label(double v) {
+        return v == Math.rint(v) && Math.abs(v) < 1e9
+                ? String.valueOf((long) v) : String.format(Locale.ROOT, "%.2f", v);
+    }
+}
@@ -0,0 +1,70 @@
+/**
+ * ------------------------------------------------------------
+ *  FGC Team Australia 2025  |  FIRST Global Challenge
+ * ------------------------------------------------------------
+ *  Project: FGC101 - Java Demo Series
+ *  File:    Demo43_Device.java
+ *
+ *  Description:
+ *  This demo is part of the FGC101 video series created by
+ *  FGC Team Australia 2025. Our goal is to help rookie teams
+ *  understand programming logic and competition strategy
+ *  through short, simple examples.
+ *
+ *  Playlist: https://www.youtube.com/playlist?list=PL-29lId0PJrVEo0yJyprGheyRtR-ReDET
+ *  Author:   Muyao Zhang (from FGC Team Australia)
+ *  Date:     October 2025
+ *
+ *  Notes:
+ *  - We currently provide around 15 demo programs.
+ *  - These Java demos are not continuously updated.
+ *  - For detailed explanations, please refer to the FGC101 videos.
+ *
+ *  © FGC Team Australia 2025 | Educational Use Only
+ * ------------------------------------------------------------
+ */
+
+package org.firstinspires.ftc.teamcode;
+
+import com.qualcomm.robotcore.hardware.DcMotor;
+import com.qualcomm.robotcore.hardware.DcMotorSimple;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Demo 43 (part 1 of 4): @Demo43_Device annotation
+ *
+ * Put it on a field of a robot hardware class to say which
+ * configuration name the device has and how to set it up:
+ *
+ *   &#64;Demo43_Device(value = "right", zeroPower = DcMotor.ZeroPowerBehavior.BRAKE,
+ *                  resetEncoder = true, mode = DcMotor.RunMode.RUN_WITHOUT_ENCODER)
+ *   DcMotorEx right;
+ *
+ * Only the settings you WRITE are applied - leaving one out keeps the
+ * SDK default, exactly like not calling the setter.
+ * Demo43_BindingProcessor reads these at compile time; the annotation
+ * is not kept in the .class files (RetentionPolicy.SOURCE).
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.FIELD)
+public @interface Demo43_Device {
+
+    /** Name in the Robot Controller configuration, e.g. "bl" */
+    String value();
+
+    /** Motors and CR servos only */
+    DcMotorSimple.Direction direction() default DcMotorSimple.Direction.FORWARD;
+
+    /** Motors only */
+    DcMotor.ZeroPowerBehavior zeroPower() default DcMotor.ZeroPowerBehavior.FLOAT;
+
+    /** Motors only: STOP_AND_RESET_ENCODER before setting the mode */
+    boolean resetEncoder() default false;
+
+    /** Motors only */
+    DcMotor.RunMode mode() default DcMotor.RunMode.RUN_WITHOUT_ENCODER;
+}
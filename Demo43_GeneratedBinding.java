@@ -0,0 +1,98 @@
+/**
+ * ------------------------------------------------------------
+ *  FGC Team Australia 2025  |  FIRST Global Challenge
+ * ------------------------------------------------------------
+ *  Project: FGC101 - Java Demo Series
+ *  File:    Demo43_GeneratedBinding.java
+ *
+ *  Description:
+ *  This demo is part of the FGC101 video series created by
+ *  FGC Team Australia 2025. Our goal is to help rookie teams
+ *  understand programming logic and competition strategy
+ *  through short, simple examples.
+ *
+ *  Playlist: https://www.youtube.com/playlist?list=PL-29lId0PJrVEo0yJyprGheyRtR-ReDET
+ *  Author:   Muyao Zhang (from FGC Team Australia)
+ *  Date:     October 2025
+ *
+ *  Notes:
+ *  - We currently provide around 15 demo programs.
+ *  - These Java demos are not continuously updated.
+ *  - For detailed explanations, please refer to the FGC101 videos.
+ *
+ *  © FGC Team Australia 2025 | Educational Use Only
+ * ------------------------------------------------------------
+ */
+
+package org.firstinspires.ftc.teamcode;
+
+import com.qualcomm.robotcore.eventloop.opmode.TeleOp;
+import com.qualcomm.robotcore.eventloop.opmode.LinearOpMode;
+
+/**
+ * Demo 43 (part 4 of 4): Generated Hardware Binding
+ *
+ * Knowledge Point: Compile-time checked hardware setup
+ *
+ * runOpMode() needs ONE call to set up all nine devices:
+ *
+ *   Demo43_RobotHardwareBinder.bind(robot, hardwareMap);
+ *
+ * The binder was generated by Demo43_BindingProcessor from the
+ * annotations in Demo43_RobotHardware. If a device name is misspelled
+ * (and the robot config XML is passed to the compiler), the BUILD
+ * fails instead of the robot at INIT.
+ *
+ * The processor is a separate module (BindingProcessor/, see its
+ * Javadoc for the Gradle lines) and a BUILD REQUIREMENT: the binder is
+ * called directly - no reflection, no hand-written fallback - so if the
+ * processor is not wired in, the build stops with "cannot find symbol
+ * Demo43_RobotHardwareBinder" instead of the robot doing something
+ * different at INIT.
+ *
+ * Hardware Required: same as Demo15
+ *
+ * Controls:
+ * - Left/Right Stick Y: Tank drive (same as Demo01)
+ *
+ * How to Demonstrate:
+ * 1. Wire in BindingProcessor and build - open the generated Demo43_RobotHardwareBinder.java
+ *    (build/generated/...) and read the straight-line code
+ * 2. Press INIT - telemetry shows how long binding took
+ * 3. Change "bl" to "b1" in Demo43_RobotHardware and build again:
+ *    the compiler reports the unknown name
+ */
+@TeleOp(name="Demo43: Generated Binding", group="Demo")
+public class Demo43_GeneratedBinding extends LinearOpMode {
+
+    private final Demo43_RobotHardware robot = new Demo43_RobotHardware();
+
+    @Override
+    public void runOpMode() {
+        long start = System.nanoTime();
+        Demo43_RobotHardwareBinder.bind(robot, hardwareMap);
+        double bindMs = (System.nanoTime() - start) / 1e6;
+
+        telemetry.addData("Status", "Ready - Generated Binding");
+        telemetry.addData("Binder", "generated (%d devices)", Demo43_RobotHardwareBinder.DEVICE_NAMES.length);
+        telemetry.addData("Bind time", "%.2f ms", bindMs);
+        telemetry.update();
+
+        waitForStart();
+
+        while (opModeIsActive()) {
+            double leftPower = -gamepad1.left_stick_y;
+            double rightPower = -gamepad1.right_stick_y;
+            robot.bl.setPower(leftPower);
+            robot.br.setPower(rightPower);
+
+            telemetry.addData("=== GENERATED BINDING ===", "");
+            telemetry.addData("Bind time", "%.2f ms", bindMs);
+            telemetry.addData("Right Encoder", robot.right.getCurrentPosition());
+            telemetry.addData("", "");
+            telemetry.addData("Drive", "L:%.2f R:%.2f", leftPower, rightPower);
+            telemetry.addData("Controls", "Sticks: Tank drive");
+            telemetry.update();
+        }
+    }
+}
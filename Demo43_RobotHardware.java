@@ -0,0 +1,78 @@
+/**
+ * ------------------------------------------------------------
+ *  FGC Team Australia 2025  |  FIRST Global Challenge
+ * ------------------------------------------------------------
+ *  Project: FGC101 - Java Demo Series
+ *  File:    Demo43_RobotHardware.java
+ *
+ *  Description:
+ *  This demo is part of the FGC101 video series created by
+ *  FGC Team Australia 2025. Our goal is to help rookie teams
+ *  understand programming logic and competition strategy
+ *  through short, simple examples.
+ *
+ *  Playlist: https://www.youtube.com/playlist?list=PL-29lId0PJrVEo0yJyprGheyRtR-ReDET
+ *  Author:   Muyao Zhang (from FGC Team Australia)
+ *  Date:     October 2025
+ *
+ *  Notes:
+ *  - We currently provide around 15 demo programs.
+ *  - These Java demos are not continuously updated.
+ *  - For detailed explanations, please refer to the FGC101 videos.
+ *
+ *  © FGC Team Australia 2025 | Educational Use Only
+ * ------------------------------------------------------------
+ */
+
+package org.firstinspires.ftc.teamcode;
+
+import com.qualcomm.robotcore.hardware.CRServo;
+import com.qualcomm.robotcore.hardware.DcMotor;
+import com.qualcomm.robotcore.hardware.DcMotorEx;
+import com.qualcomm.robotcore.hardware.DcMotorSimple;
+
+/**
+ * Demo 43 (part 3 of 4): Robot hardware, declared with annotations
+ *
+ * The same devices and settings as Demo15, but as a list of fields.
+ * Demo43_BindingProcessor turns this into Demo43_RobotHardwareBinder
+ * at compile time - no hardwareMap code to write by hand.
+ *
+ * Fields are package-private so the generated binder (same package)
+ * can assign them.
+ *
+ * These annotations are the ONLY copy of the setup - there is no
+ * hand-written fallback that could drift out of step with them.
+ */
+public class Demo43_RobotHardware {
+
+    @Demo43_Device(value = "bl", direction = DcMotorSimple.Direction.REVERSE)
+    DcMotor bl;
+
+    @Demo43_Device(value = "br", direction = DcMotorSimple.Direction.FORWARD)
+    DcMotor br;
+
+    @Demo43_Device(value = "fly", direction = DcMotorSimple.Direction.REVERSE)
+    DcMotor fly;
+
+    @Demo43_Device(value = "intake", direction = DcMotorSimple.Direction.REVERSE)
+    DcMotor intake;
+
+    @Demo43_Device(value = "climbleft", direction = DcMotorSimple.Direction.FORWARD)
+    DcMotor climbleft;
+
+    @Demo43_Device(value = "climbright", direction = DcMotorSimple.Direction.FORWARD)
+    DcMotor climbright;
+
+    @Demo43_Device(value = "right", direction = DcMotorSimple.Direction.FORWARD,
+            zeroPower = DcMotor.ZeroPowerBehavior.BRAKE,
+            resetEncoder = true, mode = DcMotor.RunMode.RUN_WITHOUT_ENCODER)
+    DcMotorEx right;
+
+    @Demo43_Device(value = "fast", direction = DcMotorSimple.Direction.FORWARD,
+            zeroPower = DcMotor.ZeroPowerBehavior.BRAKE)
+    DcMotor fast;
+
+    @Demo43_Device("block")
+    CRServo block;
+}
@@ -0,0 +1,588 @@
+/**
+ * ------------------------------------------------------------
+ *  FGC Team Australia 2025  |  FIRST Global Challenge
+ * ------------------------------------------------------------
+ *  Project: FGC101 - Java Demo Series
+ *  File:    Demo44_WarmUp.java
+ *
+ *  Description:
+ *  This demo is part of the FGC101 video series created by
+ *  FGC Team Australia 2025. Our goal is to help rookie teams
+ *  understand programming logic and competition strategy
+ *  through short, simple examples.
+ *
+ *  Playlist: https://www.youtube.com/playlist?list=PL-29lId0PJrVEo0yJyprGheyRtR-ReDET
+ *  Author:   Muyao Zhang (from FGC Team Australia)
+ *  Date:     October 2025
+ *
+ *  Notes:
+ *  - We currently provide around 15 demo programs.
+ *  - These Java demos are not continuously updated.
+ *  - For detailed explanations, please refer to the FGC101 videos.
+ *
+ *  © FGC Team Australia 2025 | Educational Use Only
+ * ------------------------------------------------------------
+ */
+
+package org.firstinspires.ftc.teamcode;
+
+import com.qualcomm.robotcore.eventloop.opmode.TeleOp;
+import com.qualcomm.robotcore.eventloop.opmode.LinearOpMode;
+import com.qualcomm.robotcore.hardware.DcMotor;
+import com.qualcomm.robotcore.hardware.DcMotorEx;
+import com.qualcomm.robotcore.hardware.CRServo;
+import com.qualcomm.robotcore.hardware.Gamepad;
+import com.qualcomm.robotcore.util.ElapsedTime;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+
+/**
+ * Demo 44: Warm-Up During INIT
+ *
+ * Knowledge Point: The first loops are slow - run them BEFORE the match
+ *
+ * Right after START, Demo15 is noticeably laggier for a second or two.
+ * Every code path runs for the first time right then: classes load,
+ * String.format builds its parsers, and Android's JIT only compiles a
+ * method to fast machine code after it has run many times.
+ *
+ * This demo runs the exact Demo15 loop body during INIT against
+ * SIMULATED devices (a java.lang.reflect.Proxy that just remembers
+ * the power, like Demo36's wrapper) with scripted gamepads that press
+ * every button, so every branch - drive, L2 hold, PID, flywheel,
+ * intake, climb, fast, block - and the telemetry formatting all run.
+ *
+ * It times every warm-up loop and groups them in windows of 50. When
+ * the median loop time stops changing (3 windows in a row within 10%)
+ * the code is "warm" and we stop. Then all loop state is reset, the
+ * REAL devices are fetched and configured, and their encoders are read
+ * a few times (reading never moves anything).
+ *
+ * After START the first 50 real loops are timed too, so you can see
+ * they run at steady-state speed.
+ *
+ * Note: the real device calls themselves (talking to the hub) can't
+ * be warmed up without moving the robot - only our own code can.
+ *
+ * Hardware Required: ALL motors and servos (same as Demo15)
+ *
+ * Controls: same as Demo15
+ *
+ * How to Demonstrate:
+ * 1. Restart the Robot Controller app (so nothing is compiled yet)
+ * 2. Press INIT - telemetry shows when loop times stabilized
+ * 3. Press START - compare "First 50 loops" with "Loop"
+ * 4. Restart the app, set WARM_UP = false and compare again
+ */
+@TeleOp(name="Demo44: Warm-Up", group="Demo")
+public class Demo44_WarmUp extends LinearOpMode {
+
+    private static final boolean WARM_UP = true;
+    private static final long MAX_WARMUP_MS = 3000;
+    private static final int MAX_WARMUP_LOOPS = 20000;
+    private static final int WINDOW = 50;
+    private static final int STABLE_WINDOWS = 3;
+    private static final double STABLE_TOLERANCE = 0.10;
+    private static final int ENCODER_WARMUP_READS = 20;
+    private static final int FIRST_LOOPS = 50;
+
+    /**
+     * Devices that do nothing: setPower is remembered, getPower and
+     * getCurrentPosition answer from it, everything else returns 0.
+     */
+    static final class SimulatedDevices {
+        private static final double TICKS_PER_POWER = 20.0;
+
+        private SimulatedDevices() { }
+
+        static <T> T create(Class<T> type) {
+            Object proxy = Proxy.newProxyInstance(type.getClassLoader(),
+                    new Class<?>[] {type}, new SimulatedHandler(type.getSimpleName()));
+            return type.cast(proxy);
+        }
+
+        private static final class SimulatedHandler implements InvocationHandler {
+            private final String name;
+            private double power = 0;
+            private int position = 0;
+
+            SimulatedHandler(String name) {
+                this.name = name;
+            }
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                switch (method.getName()) {
+                    case "setPower":
+                        power = (Double) args[0];
+                        position += (int) Math.round(power * TICKS_PER_POWER);
+                        return null;
+                    case "getPower": return power;
+                    case "getCurrentPosition": return position;
+                    case "getVelocity": return power * 2000.0;
+                    case "hashCode": return System.identityHashCode(proxy);
+                    case "equals": return proxy == args[0];
+                    case "toString": return "Simulated " + name;
+                    default: break;
+                }
+                Class<?> type = method.getReturnType();
+                if (type == boolean.class) return false;
+                if (type == int.class) return 0;
+                if (type == long.class) return 0L;
+                if (type == double.class) return 0.0;
+                if (type == float.class) return 0f;
+                if (type == short.class) return (short) 0;
+                if (type == byte.class) return (byte) 0;
+                if (type == char.class) return (char) 0;
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Decides when loop times have stopped improving: the median of
+     * each window of loops is compared with the window before.
+     */
+    static final class StabilityDetector {
+        private final long[] window;
+        private final long[] sorted;
+        private final int windowsNeeded;
+        private final double tolerance;
+        private int count = 0;
+        private int stableWindows = 0;
+        private double lastMedianMs = -1;
+
+        StabilityDetector(int windowSize, int windowsNeeded, double tolerance) {
+            this.window = new long[windowSize];
+            this.sorted = new long[windowSize];
+            this.windowsNeeded = windowsNeeded;
+            this.tolerance = tolerance;
+        }
+
+        /**
+         * Add one loop time. Returns true once loop times are stable.
+         */
+        boolean add(long loopNanos) {
+            window[count++] = loopNanos;
+            if (count < window.length) return false;
+            count = 0;
+
+            System.arraycopy(window, 0, sorted, 0, window.length);
+            Arrays.sort(sorted);
+            double medianMs = sorted[sorted.length / 2] / 1e6;
+            if (lastMedianMs >= 0 && Math.abs(medianMs - lastMedianMs) <= tolerance * lastMedianMs) {
+                stableWindows++;
+            } else {
+                stableWindows = 0;
+            }
+            lastMedianMs = medianMs;
+            return stableWindows >= windowsNeeded;
+        }
+
+        double medianMs() {
+            return lastMedianMs;
+        }
+    }
+
+    // PID Controller class (from Demo15)
+    private class PIDController {
+        private double Kp, Ki, Kd;
+        private double integralSum = 0;
+        private double lastError = 0;
+        private ElapsedTime timer = new ElapsedTime();
+
+        public PIDController(double Kp, double Ki, double Kd) {
+            this.Kp = Kp;
+            this.Ki = Ki;
+            this.Kd = Kd;
+        }
+
+        public double update(double target, double current) {
+            double error = target - current;
+            double derivative = (error - lastError) / timer.seconds();
+            integralSum += error * timer.seconds();
+            double output = (Kp * error) + (Ki * integralSum) + (Kd * derivative);
+            lastError = error;
+            timer.reset();
+            return output;
+        }
+
+        public void resetIntegral() {
+            integralSum = 0;
+            lastError = 0;
+            timer.reset();
+        }
+    }
+
+    private DcMotor bl, br, fly, intake, climbleft, climbright, fast;
+    private DcMotorEx right;
+    private CRServo block;
+
+    // Right motor PID
+    private PIDController rightPIDController = new PIDController(0.1, 0, 0.001);
+    private int rightTargetPosition = 0;
+    private boolean rightPIDEnabled = false;
+    private ElapsedTime rightPIDTimer = new ElapsedTime();
+    private boolean rightPIDTimeout = false;
+
+    // Left wheel hold for L2 mode
+    private PIDController blPIDController = new PIDController(0.1, 0, 0.001);
+    private int blTargetPosition = 0;
+    private boolean blHoldEnabled = false;
+
+    // Speed configuration (same as Demo15)
+    double flyPowerLow = 0.8;
+    double flyPowerHigh = 1.0;
+    double intakePowerForward = 0.8;
+    double intakePowerReverse = 1.0;
+    double rightMotorPower = 0.5;
+    double climbPowerUp = 1.0;
+    double climbPowerDown = -1.0;
+    double fastPowerFull = 1.0;
+
+    double driveSpeedScale = 1.0;
+    boolean lastXState = false;
+
+    int flyState = 0;
+    boolean lastL1FlyState = false;
+
+
+    @Override
+    public void runOpMode() {
+        // ═══ WARM-UP: Demo15 loop on simulated devices ═══
+        String warmUpResult = "OFF";
+        if (WARM_UP) {
+            warmUpResult = warmUp();
+        }
+
+        installRealDevices();
+        for (int i = 0; i < ENCODER_WARMUP_READS; i++) {
+            bl.getCurrentPosition();
+            right.getCurrentPosition();
+        }
+
+        telemetry.addData("Status", "Ready - Warm-Up");
+        telemetry.addData("Warm-up", warmUpResult);
+        telemetry.update();
+
+        waitForStart();
+
+        long lastLoopNanos = System.nanoTime();
+        long loops = 0;
+        double firstLoopsMaxMs = 0, firstLoopsSumMs = 0;
+        double periodMs = 0;
+
+        while (opModeIsActive()) {
+            long now = System.nanoTime();
+            periodMs = (now - lastLoopNanos) / 1e6;
+            lastLoopNanos = now;
+            loops++;
+            // Loop 1's period is START → first loop, not a real loop
+            if (loops > 1 && loops <= FIRST_LOOPS + 1) {
+                firstLoopsSumMs += periodMs;
+                if (periodMs > firstLoopsMaxMs) firstLoopsMaxMs = periodMs;
+            }
+
+            controlStep(gamepad1, gamepad2);
+
+            telemetry.addData("=== WARM-UP ===", "");
+            telemetry.addData("Warm-up", warmUpResult);
+            if (loops > FIRST_LOOPS) {
+                telemetry.addData("First 50 loops", "mean %.1f ms | max %.1f ms",
+                        firstLoopsSumMs / FIRST_LOOPS, firstLoopsMaxMs);
+            }
+            telemetry.addData("Loop", "%.1f ms", periodMs);
+            telemetry.addData("", "");
+            addControlTelemetry();
+            telemetry.update();
+        }
+    }
+
+    /**
+     * Run the loop body until its time stops improving (or INIT ends).
+     * Returns a one-line report for telemetry.
+     */
+    private String warmUp() {
+        installSimulatedDevices();
+        Gamepad g1 = new Gamepad();
+        Gamepad g2 = new Gamepad();
+        StabilityDetector detector = new StabilityDetector(WINDOW, STABLE_WINDOWS, STABLE_TOLERANCE);
+
+        long start = System.nanoTime();
+        double firstLoopMs = 0;
+        int loops = 0;
+        boolean stable = false;
+        while (!isStarted() && !isStopRequested() && loops < MAX_WARMUP_LOOPS
+                && System.nanoTime() - start < MAX_WARMUP_MS * 1_000_000L) {
+            scriptGamepads(g1, g2, loops);
+
+            long loopStart = System.nanoTime();
+            controlStep(g1, g2);
+            addControlTelemetry();
+            telemetry.clear();   // formatted, but never sent
+            long loopNanos = System.nanoTime() - loopStart;
+
+            if (loops == 0) firstLoopMs = loopNanos / 1e6;
+            loops++;
+            if (detector.add(loopNanos)) {
+                stable = true;
+                break;
+            }
+        }
+        double elapsedMs = (System.nanoTime() - start) / 1e6;
+
+        resetControlState();
+        if (!stable) {
+            return String.format("not stable after %d loops (%.0f ms)", loops, elapsedMs);
+        }
+        return String.format("stable after %d loops, %.0f ms (first %.2f ms → %.3f ms)",
+                loops, elapsedMs, firstLoopMs, detector.medianMs());
+    }
+
+    /**
+     * Press every control in turn so every branch of the loop runs
+     */
+    private void scriptGamepads(Gamepad g1, Gamepad g2, int loop) {
+        int phase = (loop / 25) % 16;
+        g1.left_stick_y = (float) Math.sin(loop * 0.05);
+        g1.right_stick_y = (float) Math.cos(loop * 0.05);
+        g1.x = phase == 1;
+        g1.left_trigger = phase == 2 ? 1f : 0f;
+        g1.right_bumper = phase == 3;
+        g1.right_trigger = phase == 4 ? 1f : 0f;
+        g1.left_bumper = phase == 5 || phase == 7;
+        g1.dpad_up = phase == 6;
+        g1.dpad_down = phase == 8;
+        g2.a = phase == 9;
+        g2.b = phase == 10;
+        g2.x = phase == 11;
+        g2.y = phase == 12;
+        g2.dpad_left = phase == 13;
+        g2.dpad_right = phase == 14;
+        // phase 0 and 15: nothing pressed → right motor PID hold
+    }
+
+    private void installSimulatedDevices() {
+        bl = SimulatedDevices.create(DcMotor.class);
+        br = SimulatedDevices.create(DcMotor.class);
+        fly = SimulatedDevices.create(DcMotor.class);
+        intake = SimulatedDevices.create(DcMotor.class);
+        climbleft = SimulatedDevices.create(DcMotor.class);
+        climbright = SimulatedDevices.create(DcMotor.class);
+        right = SimulatedDevices.create(DcMotorEx.class);
+        fast = SimulatedDevices.create(DcMotor.class);
+        block = SimulatedDevices.create(CRServo.class);
+    }
+
+    private void installRealDevices() {
+        bl = hardwareMap.get(DcMotor.class, "bl");
+        br = hardwareMap.get(DcMotor.class, "br");
+        fly = hardwareMap.get(DcMotor.class, "fly");
+        intake = hardwareMap.get(DcMotor.class, "intake");
+        climbleft = hardwareMap.get(DcMotor.class, "climbleft");
+        climbright = hardwareMap.get(DcMotor.class, "climbright");
+        right = hardwareMap.get(DcMotorEx.class, "right");
+        fast = hardwareMap.get(DcMotor.class, "fast");
+        block = hardwareMap.get(CRServo.class, "block");
+
+        bl.setDirection(DcMotor.Direction.REVERSE);
+        br.setDirection(DcMotor.Direction.FORWARD);
+        fly.setDirection(DcMotor.Direction.REVERSE);
+        intake.setDirection(DcMotor.Direction.REVERSE);
+        climbleft.setDirection(DcMotor.Direction.FORWARD);
+        climbright.setDirection(DcMotor.Direction.FORWARD);
+        right.setDirection(DcMotorEx.Direction.FORWARD);
+        fast.setDirection(DcMotor.Direction.FORWARD);
+
+        right.setZeroPowerBehavior(DcMotorEx.ZeroPowerBehavior.BRAKE);
+        fast.setZeroPowerBehavior(DcMotor.ZeroPowerBehavior.BRAKE);
+
+        right.setMode(DcMotorEx.RunMode.STOP_AND_RESET_ENCODER);
+        right.setMode(DcMotorEx.RunMode.RUN_WITHOUT_ENCODER);
+    }
+
+    /**
+     * Back to the values a fresh OpMode starts with - the warm-up
+     * must not leave the flywheel on or a stale PID target behind
+     */
+    private void resetControlState() {
+        rightTargetPosition = 0;
+        rightPIDEnabled = false;
+        rightPIDTimeout = false;
+        rightPIDController.resetIntegral();
+        rightPIDTimer.reset();
+        blTargetPosition = 0;
+        blHoldEnabled = false;
+        blPIDController.resetIntegral();
+        driveSpeedScale = 1.0;
+        lastXState = false;
+        flyState = 0;
+        lastL1FlyState = false;
+    }
+
+    /**
+     * One Demo15 loop, reading the given gamepads
+     */
+    private void controlStep(Gamepad g1, Gamepad g2) {
+        // Tank drive with speed toggle
+        double leftPower = -g1.left_stick_y;
+        double rightPower = -g1.right_stick_y;
+
+        boolean currentXState = g1.x;
+        if (currentXState && !lastXState) {
+            driveSpeedScale = (driveSpeedScale == 1.0) ? 0.5 : 1.0;
+        }
+        lastXState = currentXState;
+
+        bl.setPower(leftPower * driveSpeedScale);
+        br.setPower(rightPower * driveSpeedScale);
+
+        // L2 special mode
+        boolean l2HoldPressed = g1.left_trigger > 0.5;
+        if (l2HoldPressed) {
+            if (!blHoldEnabled) {
+                blTargetPosition = bl.getCurrentPosition();
+                blHoldEnabled = true;
+                blPIDController.resetIntegral();
+            }
+
+            int blCurrentPosition = bl.getCurrentPosition();
+            double blError = blTargetPosition - blCurrentPosition;
+            double raw = blPIDController.update(blTargetPosition, blCurrentPosition);
+
+            double blPower;
+            if (Math.abs(blError) > 5) {
+                blPower = Math.max(-1, Math.min(1, raw));
+            } else if (Math.abs(blError) > 0) {
+                blPower = blError > 0 ? 0.1 : -0.1;
+            } else {
+                blPower = 0;
+            }
+
+            bl.setPower(blPower);
+            br.setPower(-0.7);
+        } else {
+            blHoldEnabled = false;
+        }
+
+        // Intake
+        boolean r1Pressed = g1.right_bumper;
+        boolean r2Pressed = g1.right_trigger > 0.5;
+        if (r1Pressed && !r2Pressed) {
+            intake.setPower(intakePowerForward);
+        } else if (r2Pressed && !r1Pressed) {
+            intake.setPower(-intakePowerReverse);
+        } else {
+            intake.setPower(0);
+        }
+
+        // Flywheel L1
+        boolean currentL1FlyState = g1.left_bumper;
+        if (currentL1FlyState && !lastL1FlyState) {
+            flyState = (flyState + 1) % 3;
+        }
+        lastL1FlyState = currentL1FlyState;
+
+        switch (flyState) {
+            case 0: fly.setPower(0); break;
+            case 1: fly.setPower(flyPowerLow); break;
+            case 2: fly.setPower(flyPowerHigh); break;
+        }
+
+        // Gamepad 2 fast motor
+        if (g2.a && !g2.b) {
+            fast.setPower(fastPowerFull);
+        } else if (g2.b && !g2.a) {
+            fast.setPower(-fastPowerFull);
+        } else {
+            fast.setPower(0);
+        }
+
+        // Gamepad 2 block servo
+        double blockPower = 0.0;
+        if (g2.x && !g2.y) {
+            blockPower = 1.0;
+        } else if (g2.y && !g2.x) {
+            blockPower = -1.0;
+        }
+        block.setPower(blockPower);
+
+        // Climb motors
+        double climbPower = 0.0;
+        if (g1.dpad_up && !g1.dpad_down) {
+            climbPower = climbPowerUp;
+        } else if (g1.dpad_down && !g1.dpad_up) {
+            climbPower = climbPowerDown;
+        }
+        climbleft.setPower(climbPower);
+        climbright.setPower(climbPower);
+
+        // Right motor with SMART PROTECTION (Demo15)
+        boolean dpadLeft = g2.dpad_left;
+        boolean dpadRight = g2.dpad_right;
+
+        if (dpadLeft && !dpadRight) {
+            rightPIDEnabled = false;
+            rightPIDTimeout = false;
+            right.setPower(-rightMotorPower);
+        } else if (dpadRight && !dpadLeft) {
+            rightPIDEnabled = false;
+            rightPIDTimeout = false;
+            right.setPower(rightMotorPower);
+        } else {
+            if (!rightPIDEnabled) {
+                rightTargetPosition = right.getCurrentPosition();
+                rightPIDEnabled = true;
+                rightPIDTimeout = false;
+                rightPIDController.resetIntegral();
+                rightPIDTimer.reset();
+            }
+
+            int currentPosition = right.getCurrentPosition();
+            double error = rightTargetPosition - currentPosition;
+
+            if (!rightPIDTimeout && rightPIDTimer.seconds() > 3.0) {
+                rightTargetPosition = currentPosition;
+                rightPIDTimeout = true;
+                rightPIDController.resetIntegral();
+                rightPIDTimer.reset();
+            }
+
+            double power = 0;
+
+            if (rightPIDTimeout) {
+                if (Math.abs(error) > 3) {
+                    rightPIDTimeout = false;
+                    rightPIDController.resetIntegral();
+                    rightPIDTimer.reset();
+                }
+            }
+
+            if (!rightPIDTimeout) {
+                power = rightPIDController.update(rightTargetPosition, currentPosition);
+
+                if (Math.abs(error) > 5) {
+                    power = Math.max(-1, Math.min(1, power));
+                } else if (Math.abs(error) > 0) {
+                    power = error > 0 ? 0.1 : -0.1;
+                } else {
+                    power = 0;
+                }
+            }
+
+            right.setPower(power);
+        }
+    }
+
+    private void addControlTelemetry() {
+        telemetry.addData("Speed", (int)(driveSpeedScale * 100) + "%");
+        telemetry.addData("Fly", flyState == 0 ? "OFF" : (flyState == 1 ? "80%" : "100%"));
+        telemetry.addData("Right PID", rightPIDEnabled ? (rightPIDTimeout ? "TIMEOUT" : "HOLD") : "Manual");
+        telemetry.addData("Right Target", "%d", rightTargetPosition);
+        telemetry.addData("", "");
+        telemetry.addData("Controls", "Same as Demo15");
+    }
+}